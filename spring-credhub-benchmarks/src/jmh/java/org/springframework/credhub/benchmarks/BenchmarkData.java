@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+import java.util.UUID;
+
+import org.springframework.credhub.support.CredentialType;
+
+/**
+ * Sample CredHub API payloads used by the benchmarks. Key and certificate values are
+ * random data of realistic size, so that parsing and copying costs match real responses.
+ *
+ * @author agent
+ */
+final class BenchmarkData {
+
+	static final String CREDENTIAL_NAME = "/c/example-broker/example-service/binding-id/credentials";
+
+	static final String VERSION_CREATED_AT = "2024-01-31T11:22:33Z";
+
+	private static final String CREDENTIAL_DETAILS = """
+			{
+				"id": "80cbb13f-7562-4e72-92de-f3ccf69eaa59",
+				"name": "%s",
+				"type": "%s",
+				"version_created_at": "%s",
+				"value": %s
+			}
+			""";
+
+	private static final Random random = new Random(42);
+
+	private BenchmarkData() {
+	}
+
+	/**
+	 * Create a credential details document for the provided credential type.
+	 * @param type the credential type
+	 * @return the JSON document
+	 */
+	static String credentialDetails(CredentialType type) {
+		return credentialDetails(CREDENTIAL_NAME, type);
+	}
+
+	/**
+	 * Create a credential details document for the provided name and credential type.
+	 * @param name the credential name
+	 * @param type the credential type
+	 * @return the JSON document
+	 */
+	static String credentialDetails(String name, CredentialType type) {
+		return CREDENTIAL_DETAILS.formatted(name, type.getValueType(), VERSION_CREATED_AT, value(type));
+	}
+
+	/**
+	 * Create a credential summary document with the provided number of entries, as
+	 * returned when finding credentials by name or path.
+	 * @param entries the number of entries
+	 * @return the JSON document
+	 */
+	static byte[] credentialSummaries(int entries) {
+		StringBuilder json = new StringBuilder(entries * 96).append("{\"credentials\":[");
+		for (int i = 0; i < entries; i++) {
+			if (i > 0) {
+				json.append(',');
+			}
+			json.append("{\"name\":\"/c/example-broker/example-service/binding-")
+				.append(i)
+				.append("/credentials\",\"version_created_at\":\"")
+				.append(VERSION_CREATED_AT)
+				.append("\"}");
+		}
+		return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Create a certificate summary document with the provided number of entries, as
+	 * returned when retrieving all certificates.
+	 * @param entries the number of entries
+	 * @return the JSON document
+	 */
+	static byte[] certificateSummaries(int entries) {
+		StringBuilder json = new StringBuilder(entries * 96).append("{\"certificates\":[");
+		for (int i = 0; i < entries; i++) {
+			if (i > 0) {
+				json.append(',');
+			}
+			json.append("{\"id\":\"")
+				.append(new UUID(0, i))
+				.append("\",\"name\":\"/example/certificate-")
+				.append(i)
+				.append("\"}");
+		}
+		return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static String value(CredentialType type) {
+		return switch (type) {
+			case VALUE -> "\"" + base64(32) + "\"";
+			case PASSWORD -> "\"" + base64(24) + "\"";
+			case JSON -> "{\"url\":\"https://example.com\",\"username\":\"user\",\"password\":\"" + base64(24)
+					+ "\",\"port\":8443,\"tls\":true}";
+			case USER -> "{\"username\":\"user\",\"password\":\"" + base64(24) + "\",\"password_hash\":\"$6$"
+					+ base64(64) + "\"}";
+			case RSA -> "{\"public_key\":\"" + pem("PUBLIC KEY", 294) + "\",\"private_key\":\""
+					+ pem("RSA PRIVATE KEY", 1192) + "\"}";
+			case SSH -> "{\"public_key\":\"ssh-rsa " + base64(279) + "\",\"private_key\":\""
+					+ pem("RSA PRIVATE KEY", 1192) + "\",\"public_key_fingerprint\":\"" + base64(32) + "\"}";
+			case CERTIFICATE -> "{\"ca\":\"" + pem("CERTIFICATE", 785) + "\",\"certificate\":\""
+					+ pem("CERTIFICATE", 801) + "\",\"private_key\":\"" + pem("RSA PRIVATE KEY", 1192) + "\"}";
+		};
+	}
+
+	private static String pem(String type, int length) {
+		// line breaks are escaped for embedding in a JSON string
+		String encoded = Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII))
+			.encodeToString(bytes(length))
+			.replace("\n", "\\n");
+		return "-----BEGIN " + type + "-----\\n" + encoded + "\\n-----END " + type + "-----\\n";
+	}
+
+	private static String base64(int length) {
+		return Base64.getEncoder().encodeToString(bytes(length));
+	}
+
+	private static byte[] bytes(int length) {
+		byte[] bytes = new byte[length];
+		random.nextBytes(bytes);
+		return bytes;
+	}
+
+}
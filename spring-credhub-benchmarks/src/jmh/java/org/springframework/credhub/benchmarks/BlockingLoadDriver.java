@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.benchmarks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.IntFunction;
+
+import org.springframework.credhub.core.CredHubOperations;
+
+/**
+ * A {@link LoadDriver} that makes blocking calls through {@link CredHubOperations}, with
+ * one thread for each concurrent call.
+ *
+ * @author agent
+ */
+final class BlockingLoadDriver implements LoadDriver {
+
+	private final CredHubOperations credHub;
+
+	private final IntFunction<ExecutorService> executorFactory;
+
+	/**
+	 * Create a new {@link BlockingLoadDriver}.
+	 * @param credHub the client to call
+	 * @param executorFactory creates the executor that runs the provided number of
+	 * concurrent calls
+	 */
+	BlockingLoadDriver(CredHubOperations credHub, IntFunction<ExecutorService> executorFactory) {
+		this.credHub = credHub;
+		this.executorFactory = executorFactory;
+	}
+
+	@Override
+	public CompletableFuture<Void> start(LoadOperation operation, int concurrency, LoadRecorder recorder) {
+		ExecutorService executor = this.executorFactory.apply(concurrency);
+		CompletableFuture<?>[] workers = new CompletableFuture<?>[concurrency];
+		for (int i = 0; i < concurrency; i++) {
+			workers[i] = CompletableFuture.runAsync(() -> {
+				while (!recorder.isStopped()) {
+					long start = System.nanoTime();
+					try {
+						operation.call(this.credHub);
+						recorder.record(start, true);
+					}
+					catch (RuntimeException ex) {
+						recorder.record(start, false);
+					}
+				}
+			}, executor);
+		}
+		return CompletableFuture.allOf(workers).whenComplete((result, ex) -> executor.shutdown());
+	}
+
+}
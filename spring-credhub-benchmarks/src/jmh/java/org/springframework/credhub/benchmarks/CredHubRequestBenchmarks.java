@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.credhub.support.CredentialName;
+import org.springframework.credhub.support.SimpleCredentialName;
+import org.springframework.credhub.support.WriteMode;
+import org.springframework.credhub.support.certificate.CertificateParameters;
+import org.springframework.credhub.support.certificate.CertificateParametersRequest;
+import org.springframework.credhub.support.certificate.ExtendedKeyUsage;
+import org.springframework.credhub.support.certificate.KeyUsage;
+import org.springframework.credhub.support.password.PasswordParameters;
+import org.springframework.credhub.support.password.PasswordParametersRequest;
+import org.springframework.credhub.support.value.ValueCredentialRequest;
+
+/**
+ * Benchmarks for building {@link org.springframework.credhub.support.CredHubRequest}s
+ * with their builders.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CredHubRequestBenchmarks {
+
+	private final CredentialName name = new SimpleCredentialName("example", "credential");
+
+	@Benchmark
+	public ValueCredentialRequest valueRequest() {
+		return ValueCredentialRequest.builder().name(this.name).value("secret").mode(WriteMode.OVERWRITE).build();
+	}
+
+	@Benchmark
+	public PasswordParametersRequest passwordRequest() {
+		return PasswordParametersRequest.builder()
+			.name(this.name)
+			.parameters(PasswordParameters.builder()
+				.length(32)
+				.excludeUpper(false)
+				.excludeLower(false)
+				.excludeNumber(false)
+				.includeSpecial(true)
+				.build())
+			.build();
+	}
+
+	@Benchmark
+	public CertificateParametersRequest certificateRequest() {
+		return CertificateParametersRequest.builder()
+			.name(this.name)
+			.parameters(CertificateParameters.builder()
+				.commonName("example.com")
+				.alternateNames("www.example.com", "api.example.com")
+				.organization("Example")
+				.duration(365)
+				.certificateAuthorityCredential("/example/ca")
+				.keyUsage(KeyUsage.DIGITAL_SIGNATURE, KeyUsage.KEY_ENCIPHERMENT)
+				.extendedKeyUsage(ExtendedKeyUsage.SERVER_AUTH)
+				.build())
+			.build();
+	}
+
+}
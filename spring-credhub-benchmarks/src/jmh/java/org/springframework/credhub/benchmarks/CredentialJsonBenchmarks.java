@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialType;
+import org.springframework.credhub.support.utils.JsonUtils;
+
+/**
+ * Benchmarks for serializing and deserializing the credential details of every
+ * {@link CredentialType} with the {@link ObjectMapper} used by the templates.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CredentialJsonBenchmarks {
+
+	@Param
+	private CredentialType type;
+
+	private final ObjectMapper objectMapper = JsonUtils.buildObjectMapper();
+
+	private byte[] json;
+
+	private CredentialDetails<?> details;
+
+	@Setup
+	public void setUp() throws IOException {
+		this.json = BenchmarkData.credentialDetails(this.type).getBytes(StandardCharsets.UTF_8);
+		this.details = this.objectMapper.readValue(this.json, CredentialDetails.class);
+	}
+
+	@Benchmark
+	public byte[] serialize() throws JsonProcessingException {
+		return this.objectMapper.writeValueAsBytes(this.details);
+	}
+
+	@Benchmark
+	public CredentialDetails<?> deserialize() throws IOException {
+		return this.objectMapper.readValue(this.json, CredentialDetails.class);
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.benchmarks;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.credhub.support.CredentialName;
+import org.springframework.credhub.support.SimpleCredentialName;
+import org.springframework.credhub.support.utils.JsonUtils;
+
+/**
+ * Benchmarks for creating, parsing, hashing and formatting {@link CredentialName}s.
+ * Parsing uses the same JSON path the templates use for names in responses.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CredentialNameBenchmarks {
+
+	private static final String[] SEGMENTS = { "c", "example-broker", "example-service", "binding-id", "credentials" };
+
+	private final ObjectReader reader = JsonUtils.buildObjectMapper().readerFor(CredentialName.class);
+
+	private final String json = "\"" + BenchmarkData.CREDENTIAL_NAME + "\"";
+
+	private final Map<CredentialName, String> names = new HashMap<>();
+
+	private CredentialName name;
+
+	@Setup
+	public void setUp() {
+		this.name = new SimpleCredentialName(SEGMENTS);
+		this.names.put(this.name, BenchmarkData.CREDENTIAL_NAME);
+	}
+
+	@Benchmark
+	public CredentialName create() {
+		return new SimpleCredentialName("c", "example-broker", "example-service", "binding-id", "credentials");
+	}
+
+	@Benchmark
+	public CredentialName parse() throws IOException {
+		return this.reader.readValue(this.json);
+	}
+
+	@Benchmark
+	public String getName() {
+		return this.name.getName();
+	}
+
+	@Benchmark
+	public int hash() {
+		return this.name.hashCode();
+	}
+
+	@Benchmark
+	public String lookupEqualName() {
+		return this.names
+			.get(new SimpleCredentialName("c", "example-broker", "example-service", "binding-id", "credentials"));
+	}
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.benchmarks;
+
+import java.time.Duration;
+
+import org.springframework.credhub.stub.CredHubStubServer;
+import org.springframework.credhub.stub.Distribution;
+import org.springframework.credhub.stub.FaultInjection;
+
+/**
+ * Scripted scenarios for {@link FaultScenarioBenchmarks}, each reproducing one kind of
+ * unhealthy CredHub server with a {@link CredHubStubServer}.
+ *
+ * @author agent
+ */
+public enum FaultScenario {
+
+	/**
+	 * A healthy server with no added latency.
+	 */
+	HEALTHY,
+
+	/**
+	 * Response latency with a median of 5ms and a long tail, with a p99 of 100ms.
+	 */
+	LATENCY {
+		@Override
+		CredHubStubServer.Builder configure(CredHubStubServer.Builder builder) {
+			return builder.latency(Distribution.logNormal(5, 100));
+		}
+	},
+
+	/**
+	 * One in 50 requests fails with a connection reset.
+	 */
+	CONNECTION_RESETS {
+		@Override
+		CredHubStubServer.Builder configure(CredHubStubServer.Builder builder) {
+			return builder.faults(FaultInjection.builder().connectionResets(0.02).build());
+		}
+	},
+
+	/**
+	 * Bursts of 20 consecutive {@literal 503 Service Unavailable} responses, starting on
+	 * average once every 500 requests.
+	 */
+	SERVER_ERRORS {
+		@Override
+		CredHubStubServer.Builder configure(CredHubStubServer.Builder builder) {
+			return builder.faults(FaultInjection.builder().errorBursts(503, 0.002, 20).build());
+		}
+	},
+
+	/**
+	 * Bursts of 50 consecutive {@literal 429 Too Many Requests} responses, starting on
+	 * average once every 200 requests.
+	 */
+	THROTTLING {
+		@Override
+		CredHubStubServer.Builder configure(CredHubStubServer.Builder builder) {
+			return builder.faults(FaultInjection.builder().errorBursts(429, 0.005, 50).build());
+		}
+	},
+
+	/**
+	 * Response bodies trickle to the client in 64 byte chunks every millisecond.
+	 */
+	SLOW_BODY {
+		@Override
+		CredHubStubServer.Builder configure(CredHubStubServer.Builder builder) {
+			return builder.faults(FaultInjection.builder().slowBody(64, Duration.ofMillis(1)).build());
+		}
+	},
+
+	/**
+	 * A TLS server where the handshake of each new connection is delayed with a median of
+	 * 50ms and a p99 of 500ms.
+	 */
+	TLS_HANDSHAKE {
+		@Override
+		CredHubStubServer.Builder configure(CredHubStubServer.Builder builder) {
+			return builder.tls()
+				.faults(FaultInjection.builder().connectionDelay(Distribution.logNormal(50, 500)).build());
+		}
+	};
+
+	/**
+	 * Configure the stub server for this scenario.
+	 * @param builder the stub server builder
+	 * @return the builder
+	 */
+	CredHubStubServer.Builder configure(CredHubStubServer.Builder builder) {
+		return builder;
+	}
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.benchmarks;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import org.springframework.credhub.configuration.ClientHttpConnectorFactory;
+import org.springframework.credhub.configuration.ClientHttpRequestFactoryFactory;
+import org.springframework.credhub.core.CredHubOperations;
+import org.springframework.credhub.core.CredHubProperties;
+import org.springframework.credhub.core.CredHubTemplate;
+import org.springframework.credhub.core.ReactiveCredHubOperations;
+import org.springframework.credhub.core.ReactiveCredHubTemplate;
+import org.springframework.credhub.stub.CredHubStubServer;
+import org.springframework.credhub.support.ClientOptions;
+import org.springframework.credhub.support.SimpleCredentialName;
+import org.springframework.credhub.support.value.ValueCredential;
+
+/**
+ * Benchmarks for {@link CredHubTemplate} and {@link ReactiveCredHubTemplate} against a
+ * {@link CredHubStubServer} running each {@link FaultScenario}. Throughput mode reports
+ * the rate of completed calls and sample time mode reports the latency percentiles up to
+ * p99.99. Failed calls are not retried and are included in both, and the
+ * {@literal succeeded} and {@literal failed} counters report the outcome of the calls.
+ *
+ * The clients use a connection timeout of 1s and a read timeout of 2s, so that each
+ * scenario reflects the cost of failures with typical timeouts.
+ *
+ * @author agent
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Threads(8)
+public class FaultScenarioBenchmarks {
+
+	private static final Duration CONNECTION_TIMEOUT = Duration.ofSeconds(1);
+
+	private static final Duration READ_TIMEOUT = Duration.ofSeconds(2);
+
+	private final SimpleCredentialName name = new SimpleCredentialName("c", "example-broker", "example-service",
+			"binding-id", "credentials");
+
+	@Param
+	private FaultScenario scenario;
+
+	private CredHubStubServer server;
+
+	private CredHubOperations credHub;
+
+	private ReactiveCredHubOperations reactiveCredHub;
+
+	@Setup
+	public void setUp() {
+		this.server = this.scenario.configure(CredHubStubServer.builder()).start();
+		this.server.putCredential(this.name.getName(), "value", "secret");
+
+		CredHubProperties properties = new CredHubProperties();
+		properties.setUrl(this.server.getUrl());
+		ClientOptions options = new ClientOptions(CONNECTION_TIMEOUT, READ_TIMEOUT,
+				this.server.getUrl().startsWith("https") ? new String[] { this.server.getCaCertificateFile() } : null);
+
+		this.credHub = new CredHubTemplate(properties, ClientHttpRequestFactoryFactory.create(options));
+		this.reactiveCredHub = new ReactiveCredHubTemplate(properties, ClientHttpConnectorFactory.create(options));
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.server.close();
+	}
+
+	@Benchmark
+	public Object getByName(Outcomes outcomes) {
+		try {
+			Object result = this.credHub.credentials().getByName(this.name, ValueCredential.class);
+			outcomes.succeeded++;
+			return result;
+		}
+		catch (RuntimeException ex) {
+			outcomes.failed++;
+			return ex;
+		}
+	}
+
+	@Benchmark
+	public Object reactiveGetByName(Outcomes outcomes) {
+		try {
+			Object result = this.reactiveCredHub.credentials()
+				.getByName(this.name, ValueCredential.class)
+				.block(READ_TIMEOUT);
+			outcomes.succeeded++;
+			return result;
+		}
+		catch (RuntimeException ex) {
+			outcomes.failed++;
+			return ex;
+		}
+	}
+
+	/**
+	 * Counters of the outcome of the calls made by each benchmark thread.
+	 */
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	@State(Scope.Thread)
+	public static class Outcomes {
+
+		/**
+		 * The number of calls that succeeded.
+		 */
+		public long succeeded;
+
+		/**
+		 * The number of calls that failed.
+		 */
+		public long failed;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			this.succeeded = 0;
+			this.failed = 0;
+		}
+
+	}
+
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.credhub.support.CredentialType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StreamUtils;
+
+/**
+ * HTTP transports for the CredHub templates that answer every request in memory with a
+ * canned CredHub API response, so that benchmarks measure the work done by the templates
+ * and the Spring HTTP clients without any network or server cost. Request bodies are
+ * serialized and discarded.
+ *
+ * @author agent
+ */
+final class InMemoryHttpTransport {
+
+	private static final byte[] CREDENTIAL_DETAILS = bytes(BenchmarkData.credentialDetails(CredentialType.VALUE));
+
+	private static final byte[] CREDENTIAL_DETAILS_DATA = bytes(
+			"{\"data\":[" + BenchmarkData.credentialDetails(CredentialType.VALUE) + "]}");
+
+	private static final byte[] CERTIFICATE_DETAILS = bytes(
+			BenchmarkData.credentialDetails(CredentialType.CERTIFICATE));
+
+	private static final byte[] PERMISSION = bytes("{\"uuid\":\"2d0ea5f3-1a6b-4a1c-9b5e-4e3f1a2b3c4d\","
+			+ "\"path\":\"" + BenchmarkData.CREDENTIAL_NAME + "\",\"actor\":\"mtls-app:app-id\","
+			+ "\"operations\":[\"read\"]}");
+
+	private static final byte[] VERSION = bytes("{\"version\":\"2.12.0\"}");
+
+	private static final HttpHeaders RESPONSE_HEADERS = responseHeaders();
+
+	private InMemoryHttpTransport() {
+	}
+
+	/**
+	 * Create a {@link ClientHttpRequestFactory} for the
+	 * {@link org.springframework.credhub.core.CredHubTemplate}.
+	 * @return the request factory
+	 */
+	static ClientHttpRequestFactory requestFactory() {
+		return InMemoryRequest::new;
+	}
+
+	/**
+	 * Create a {@link ClientHttpConnector} for the
+	 * {@link org.springframework.credhub.core.ReactiveCredHubTemplate}.
+	 * @return the connector
+	 */
+	static ClientHttpConnector connector() {
+		return InMemoryHttpTransport::connect;
+	}
+
+	private static Mono<org.springframework.http.client.reactive.ClientHttpResponse> connect(HttpMethod method,
+			URI uri,
+			Function<? super org.springframework.http.client.reactive.ClientHttpRequest, Mono<Void>> callback) {
+		return callback.apply(new InMemoryReactiveRequest(method, uri))
+			.then(Mono.fromSupplier(() -> new InMemoryReactiveResponse(response(method, uri))));
+	}
+
+	private static byte[] response(HttpMethod method, URI uri) {
+		String path = uri.getRawPath();
+		if (path.equals("/version")) {
+			return VERSION;
+		}
+		if (path.startsWith("/api/v1/certificates/")) {
+			return CERTIFICATE_DETAILS;
+		}
+		if (path.startsWith("/api/v2/permissions")) {
+			return PERMISSION;
+		}
+		if (HttpMethod.GET.equals(method) && path.equals("/api/v1/data")) {
+			return CREDENTIAL_DETAILS_DATA;
+		}
+		return CREDENTIAL_DETAILS;
+	}
+
+	private static HttpHeaders responseHeaders() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		return HttpHeaders.readOnlyHttpHeaders(headers);
+	}
+
+	private static byte[] bytes(String json) {
+		return json.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static final class InMemoryRequest extends AbstractClientHttpRequest {
+
+		private final URI uri;
+
+		private final HttpMethod method;
+
+		private InMemoryRequest(URI uri, HttpMethod method) {
+			this.uri = uri;
+			this.method = method;
+		}
+
+		@Override
+		public HttpMethod getMethod() {
+			return this.method;
+		}
+
+		@Override
+		public URI getURI() {
+			return this.uri;
+		}
+
+		@Override
+		protected OutputStream getBodyInternal(HttpHeaders headers) {
+			return StreamUtils.nonClosing(OutputStream.nullOutputStream());
+		}
+
+		@Override
+		protected ClientHttpResponse executeInternal(HttpHeaders headers) {
+			return new InMemoryResponse(response(this.method, this.uri));
+		}
+
+	}
+
+	private static final class InMemoryResponse implements ClientHttpResponse {
+
+		private final byte[] body;
+
+		private InMemoryResponse(byte[] body) {
+			this.body = body;
+		}
+
+		@Override
+		public HttpStatusCode getStatusCode() {
+			return HttpStatus.OK;
+		}
+
+		@Override
+		public String getStatusText() {
+			return HttpStatus.OK.getReasonPhrase();
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return RESPONSE_HEADERS;
+		}
+
+		@Override
+		public InputStream getBody() {
+			return new ByteArrayInputStream(this.body);
+		}
+
+		@Override
+		public void close() {
+		}
+
+	}
+
+	private static final class InMemoryReactiveRequest
+			extends org.springframework.http.client.reactive.AbstractClientHttpRequest {
+
+		private final HttpMethod method;
+
+		private final URI uri;
+
+		private InMemoryReactiveRequest(HttpMethod method, URI uri) {
+			this.method = method;
+			this.uri = uri;
+		}
+
+		@Override
+		public HttpMethod getMethod() {
+			return this.method;
+		}
+
+		@Override
+		public URI getURI() {
+			return this.uri;
+		}
+
+		@Override
+		public DataBufferFactory bufferFactory() {
+			return DefaultDataBufferFactory.sharedInstance;
+		}
+
+		@Override
+		public <T> T getNativeRequest() {
+			throw new UnsupportedOperationException("An in-memory request has no native request");
+		}
+
+		@Override
+		public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+			return doCommit(() -> Flux.from(body).doOnNext(DataBufferUtils::release).then());
+		}
+
+		@Override
+		public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+			return writeWith(Flux.from(body).flatMap(Flux::from));
+		}
+
+		@Override
+		public Mono<Void> setComplete() {
+			return doCommit();
+		}
+
+		@Override
+		protected void applyHeaders() {
+		}
+
+		@Override
+		protected void applyCookies() {
+		}
+
+	}
+
+	private static final class InMemoryReactiveResponse
+			implements org.springframework.http.client.reactive.ClientHttpResponse {
+
+		private static final MultiValueMap<String, ResponseCookie> NO_COOKIES = CollectionUtils
+			.unmodifiableMultiValueMap(CollectionUtils.toMultiValueMap(Collections.emptyMap()));
+
+		private final byte[] body;
+
+		private InMemoryReactiveResponse(byte[] body) {
+			this.body = body;
+		}
+
+		@Override
+		public HttpStatusCode getStatusCode() {
+			return HttpStatus.OK;
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return RESPONSE_HEADERS;
+		}
+
+		@Override
+		public MultiValueMap<String, ResponseCookie> getCookies() {
+			return NO_COOKIES;
+		}
+
+		@Override
+		public Flux<DataBuffer> getBody() {
+			return Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(this.body)));
+		}
+
+	}
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.benchmarks;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of latencies in nanoseconds. Values are counted in buckets that
+ * are linear within each power of two, so that every recorded value is reported within 1%
+ * of its actual value.
+ *
+ * @author agent
+ */
+final class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 7;
+
+	private static final int HALF_SUB_BUCKETS = 1 << (SUB_BUCKET_BITS - 1);
+
+	private final AtomicLongArray counts = new AtomicLongArray(index(Long.MAX_VALUE) + 1);
+
+	/**
+	 * Record a latency.
+	 * @param nanos the latency in nanoseconds
+	 */
+	void record(long nanos) {
+		this.counts.incrementAndGet(index(Math.max(0, nanos)));
+	}
+
+	/**
+	 * Get the number of recorded latencies.
+	 * @return the number of latencies
+	 */
+	long getCount() {
+		long count = 0;
+		for (int i = 0; i < this.counts.length(); i++) {
+			count += this.counts.get(i);
+		}
+		return count;
+	}
+
+	/**
+	 * Get the latency at the provided percentile.
+	 * @param percentile the percentile, between {@literal 0} and {@literal 1}
+	 * @return the latency in nanoseconds, or {@literal 0} if no latency was recorded
+	 */
+	long getValueAtPercentile(double percentile) {
+		long count = getCount();
+		if (count == 0) {
+			return 0;
+		}
+		long target = Math.max(1, (long) Math.ceil(percentile * count));
+		long cumulative = 0;
+		for (int i = 0; i < this.counts.length(); i++) {
+			cumulative += this.counts.get(i);
+			if (cumulative >= target) {
+				return value(i);
+			}
+		}
+		return value(this.counts.length() - 1);
+	}
+
+	private static int index(long value) {
+		if (value < 2 * HALF_SUB_BUCKETS) {
+			return (int) value;
+		}
+		int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+		return shift * HALF_SUB_BUCKETS + (int) (value >>> shift);
+	}
+
+	private static long value(int index) {
+		if (index < 2 * HALF_SUB_BUCKETS) {
+			return index;
+		}
+		int shift = index / HALF_SUB_BUCKETS - 1;
+		long lowest = (long) (index - shift * HALF_SUB_BUCKETS) << shift;
+		return lowest + ((1L << shift) >>> 1);
+	}
+
+}
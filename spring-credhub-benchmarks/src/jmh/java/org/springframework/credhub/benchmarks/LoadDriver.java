@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.benchmarks;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Drives load through one HTTP transport.
+ *
+ * @author agent
+ */
+interface LoadDriver {
+
+	/**
+	 * Start calling an operation with a fixed number of concurrent calls until the
+	 * recorder is stopped.
+	 * @param operation the operation to call
+	 * @param concurrency the number of concurrent calls
+	 * @param recorder the recorder for the outcome of each call
+	 * @return a future that completes when all calls have stopped
+	 */
+	CompletableFuture<Void> start(LoadOperation operation, int concurrency, LoadRecorder recorder);
+
+}
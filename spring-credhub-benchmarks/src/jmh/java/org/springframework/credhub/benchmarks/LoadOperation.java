@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.benchmarks;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.credhub.core.CredHubOperations;
+import org.springframework.credhub.core.ReactiveCredHubOperations;
+import org.springframework.credhub.stub.CredHubStubServer;
+import org.springframework.credhub.support.SimpleCredentialName;
+import org.springframework.credhub.support.value.ValueCredential;
+import org.springframework.credhub.support.value.ValueCredentialRequest;
+
+/**
+ * The operations driven by the {@link TransportLoadHarness}.
+ *
+ * @author agent
+ */
+enum LoadOperation {
+
+	/**
+	 * Retrieve a value credential by name.
+	 */
+	GET_BY_NAME {
+		@Override
+		Object call(CredHubOperations credHub) {
+			return credHub.credentials().getByName(NAME, ValueCredential.class);
+		}
+
+		@Override
+		Mono<?> call(ReactiveCredHubOperations credHub) {
+			return credHub.credentials().getByName(NAME, ValueCredential.class);
+		}
+	},
+
+	/**
+	 * Write a new version of a value credential.
+	 */
+	WRITE {
+		@Override
+		Object call(CredHubOperations credHub) {
+			return credHub.credentials().write(REQUEST);
+		}
+
+		@Override
+		Mono<?> call(ReactiveCredHubOperations credHub) {
+			return credHub.credentials().write(REQUEST);
+		}
+	},
+
+	/**
+	 * Find the ten credentials seeded in the stub server by path.
+	 */
+	FIND_BY_PATH {
+		@Override
+		Object call(CredHubOperations credHub) {
+			return credHub.credentials().findByPath(CredHubStubServer.Builder.SEEDED_CREDENTIAL_PATH);
+		}
+
+		@Override
+		Mono<?> call(ReactiveCredHubOperations credHub) {
+			return credHub.credentials().findByPath(CredHubStubServer.Builder.SEEDED_CREDENTIAL_PATH).collectList();
+		}
+	};
+
+	/**
+	 * The name of the credential retrieved and written.
+	 */
+	static final SimpleCredentialName NAME = new SimpleCredentialName("c", "example-broker", "example-service",
+			"binding-id", "credentials");
+
+	/**
+	 * The number of credentials to seed in the stub server.
+	 */
+	static final int SEEDED_CREDENTIALS = 10;
+
+	private static final ValueCredentialRequest REQUEST = ValueCredentialRequest.builder()
+		.name(NAME)
+		.value("secret")
+		.build();
+
+	abstract Object call(CredHubOperations credHub);
+
+	abstract Mono<?> call(ReactiveCredHubOperations credHub);
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.benchmarks;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the outcome of the calls made by a {@link LoadDriver}. Calls made before
+ * {@link #startMeasuring()} is called are not recorded, so that the measurement excludes
+ * the warmup.
+ *
+ * @author agent
+ */
+final class LoadRecorder {
+
+	private final LatencyHistogram latencies = new LatencyHistogram();
+
+	private final LongAdder errors = new LongAdder();
+
+	private volatile boolean measuring;
+
+	private volatile boolean stopped;
+
+	/**
+	 * Record the outcome of a call.
+	 * @param startNanos the {@link System#nanoTime()} when the call started
+	 * @param succeeded whether the call succeeded
+	 */
+	void record(long startNanos, boolean succeeded) {
+		if (!this.measuring) {
+			return;
+		}
+		if (succeeded) {
+			this.latencies.record(System.nanoTime() - startNanos);
+		}
+		else {
+			this.errors.increment();
+		}
+	}
+
+	void startMeasuring() {
+		this.measuring = true;
+	}
+
+	void stop() {
+		this.measuring = false;
+		this.stopped = true;
+	}
+
+	boolean isStopped() {
+		return this.stopped;
+	}
+
+	LatencyHistogram getLatencies() {
+		return this.latencies;
+	}
+
+	long getErrors() {
+		return this.errors.sum();
+	}
+
+}
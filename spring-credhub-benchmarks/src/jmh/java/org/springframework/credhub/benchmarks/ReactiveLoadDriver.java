@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.benchmarks;
+
+import java.util.concurrent.CompletableFuture;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.credhub.core.ReactiveCredHubOperations;
+
+/**
+ * A {@link LoadDriver} that makes non-blocking calls through
+ * {@link ReactiveCredHubOperations}, with a fixed number of calls in flight.
+ *
+ * @author agent
+ */
+final class ReactiveLoadDriver implements LoadDriver {
+
+	private final ReactiveCredHubOperations credHub;
+
+	/**
+	 * Create a new {@link ReactiveLoadDriver}.
+	 * @param credHub the client to call
+	 */
+	ReactiveLoadDriver(ReactiveCredHubOperations credHub) {
+		this.credHub = credHub;
+	}
+
+	@Override
+	public CompletableFuture<Void> start(LoadOperation operation, int concurrency, LoadRecorder recorder) {
+		Mono<Void> call = Mono.defer(() -> {
+			long start = System.nanoTime();
+			return operation.call(this.credHub)
+				.doOnSuccess((result) -> recorder.record(start, true))
+				.doOnError((ex) -> recorder.record(start, false))
+				.onErrorResume((ex) -> Mono.empty())
+				.then();
+		});
+		return Flux.range(0, concurrency)
+			.flatMap((worker) -> call.repeat(() -> !recorder.isStopped()), concurrency)
+			.then()
+			.toFuture();
+	}
+
+}
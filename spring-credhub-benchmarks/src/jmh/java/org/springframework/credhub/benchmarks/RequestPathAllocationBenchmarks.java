@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.credhub.core.CredHubOperations;
+import org.springframework.credhub.core.CredHubProperties;
+import org.springframework.credhub.core.CredHubTemplate;
+import org.springframework.credhub.core.ReactiveCredHubOperations;
+import org.springframework.credhub.core.ReactiveCredHubTemplate;
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialPermission;
+import org.springframework.credhub.support.SimpleCredentialName;
+import org.springframework.credhub.support.certificate.CertificateCredentialDetails;
+import org.springframework.credhub.support.info.VersionInfo;
+import org.springframework.credhub.support.permissions.Operation;
+import org.springframework.credhub.support.permissions.Permission;
+import org.springframework.credhub.support.value.ValueCredential;
+import org.springframework.credhub.support.value.ValueCredentialRequest;
+
+/**
+ * Benchmarks for the client-side cost of single {@link CredHubTemplate} and
+ * {@link ReactiveCredHubTemplate} operations, using a transport that answers in memory
+ * so that only the work done by the templates, the Spring HTTP clients and JSON mapping
+ * is measured. Run with the {@literal gc} profiler and compare the
+ * {@literal gc.alloc.rate.norm} result, the number of bytes allocated per operation:
+ *
+ * <pre class="code">
+ * ./gradlew :spring-credhub-benchmarks:jmh -PjmhIncludes=RequestPathAllocationBenchmarks
+ * </pre>
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class RequestPathAllocationBenchmarks {
+
+	private static final String CERTIFICATE_ID = "80cbb13f-7562-4e72-92de-f3ccf69eaa59";
+
+	private final SimpleCredentialName name = new SimpleCredentialName("c", "example-broker", "example-service",
+			"binding-id", "credentials");
+
+	private final ValueCredentialRequest request = ValueCredentialRequest.builder()
+		.name(this.name)
+		.value("secret")
+		.build();
+
+	private final Permission permission = Permission.builder().app("app-id").operation(Operation.READ).build();
+
+	private final CredHubOperations credHub;
+
+	private final ReactiveCredHubOperations reactiveCredHub;
+
+	public RequestPathAllocationBenchmarks() {
+		CredHubProperties properties = new CredHubProperties();
+		properties.setUrl("https://credhub.example.com:8844");
+
+		this.credHub = new CredHubTemplate(properties, InMemoryHttpTransport.requestFactory());
+		this.reactiveCredHub = new ReactiveCredHubTemplate(properties, InMemoryHttpTransport.connector());
+	}
+
+	@Benchmark
+	public CredentialDetails<ValueCredential> getByName() {
+		return this.credHub.credentials().getByName(this.name, ValueCredential.class);
+	}
+
+	@Benchmark
+	public CredentialDetails<ValueCredential> write() {
+		return this.credHub.credentials().write(this.request);
+	}
+
+	@Benchmark
+	public CredentialDetails<ValueCredential> regenerate() {
+		return this.credHub.credentials().regenerate(this.name, ValueCredential.class);
+	}
+
+	@Benchmark
+	public CertificateCredentialDetails regenerateCertificate() {
+		return this.credHub.certificates().regenerate(CERTIFICATE_ID, true);
+	}
+
+	@Benchmark
+	public CredentialPermission addPermission() {
+		return this.credHub.permissionsV2().addPermissions(this.name, this.permission);
+	}
+
+	@Benchmark
+	public VersionInfo version() {
+		return this.credHub.info().version();
+	}
+
+	@Benchmark
+	public CredentialDetails<ValueCredential> reactiveGetByName() {
+		return this.reactiveCredHub.credentials().getByName(this.name, ValueCredential.class).block();
+	}
+
+	@Benchmark
+	public CredentialDetails<ValueCredential> reactiveWrite() {
+		return this.reactiveCredHub.credentials().write(this.request).block();
+	}
+
+	@Benchmark
+	public CertificateCredentialDetails reactiveRegenerateCertificate() {
+		return this.reactiveCredHub.certificates().regenerate(CERTIFICATE_ID, true).block();
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.credhub.support.CredentialSummaryData;
+import org.springframework.credhub.support.certificate.CertificateSummaryData;
+import org.springframework.credhub.support.utils.JsonUtils;
+
+/**
+ * Benchmarks for decoding credential and certificate summary responses of increasing
+ * size.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SummaryDecodingBenchmarks {
+
+	@Param({ "10", "1000", "100000" })
+	private int entries;
+
+	private final ObjectMapper objectMapper = JsonUtils.buildObjectMapper();
+
+	private byte[] credentialSummaries;
+
+	private byte[] certificateSummaries;
+
+	@Setup
+	public void setUp() {
+		this.credentialSummaries = BenchmarkData.credentialSummaries(this.entries);
+		this.certificateSummaries = BenchmarkData.certificateSummaries(this.entries);
+	}
+
+	@Benchmark
+	public CredentialSummaryData credentialSummaries() throws IOException {
+		return this.objectMapper.readValue(this.credentialSummaries, CredentialSummaryData.class);
+	}
+
+	@Benchmark
+	public CertificateSummaryData certificateSummaries() throws IOException {
+		return this.objectMapper.readValue(this.certificateSummaries, CertificateSummaryData.class);
+	}
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.credhub.configuration.ClientHttpConnectorFactory;
+import org.springframework.credhub.configuration.ClientHttpRequestFactoryFactory;
+import org.springframework.credhub.core.CredHubOperations;
+import org.springframework.credhub.core.CredHubProperties;
+import org.springframework.credhub.core.CredHubTemplate;
+import org.springframework.credhub.core.ReactiveCredHubOperations;
+import org.springframework.credhub.core.ReactiveCredHubTemplate;
+import org.springframework.credhub.stub.CredHubStubServer;
+import org.springframework.credhub.support.ClientOptions;
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialSummary;
+import org.springframework.credhub.support.SimpleCredentialName;
+import org.springframework.credhub.support.value.ValueCredential;
+import org.springframework.credhub.support.value.ValueCredentialRequest;
+
+/**
+ * Benchmarks for full request round trips through {@link CredHubTemplate} and
+ * {@link ReactiveCredHubTemplate} against a {@link CredHubStubServer} with no added
+ * latency, including request serialization, the HTTP transport and response
+ * deserialization.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TemplateRoundTripBenchmarks {
+
+	private final SimpleCredentialName name = new SimpleCredentialName("c", "example-broker", "example-service",
+			"binding-id", "credentials");
+
+	private final ValueCredentialRequest request = ValueCredentialRequest.builder()
+		.name(this.name)
+		.value("secret")
+		.build();
+
+	private CredHubStubServer server;
+
+	private CredHubOperations credHub;
+
+	private ReactiveCredHubOperations reactiveCredHub;
+
+	@Setup
+	public void setUp() {
+		this.server = CredHubStubServer.builder().credentials(10).start();
+		this.server.putCredential(this.name.getName(), "value", "secret");
+
+		CredHubProperties properties = new CredHubProperties();
+		properties.setUrl(this.server.getUrl());
+		ClientOptions options = new ClientOptions();
+
+		this.credHub = new CredHubTemplate(properties, ClientHttpRequestFactoryFactory.create(options));
+		this.reactiveCredHub = new ReactiveCredHubTemplate(properties, ClientHttpConnectorFactory.create(options));
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.server.close();
+	}
+
+	@Benchmark
+	public CredentialDetails<ValueCredential> getByName() {
+		return this.credHub.credentials().getByName(this.name, ValueCredential.class);
+	}
+
+	@Benchmark
+	public CredentialDetails<ValueCredential> write() {
+		return this.credHub.credentials().write(this.request);
+	}
+
+	@Benchmark
+	public List<CredentialSummary> findByPath() {
+		return this.credHub.credentials().findByPath(CredHubStubServer.Builder.SEEDED_CREDENTIAL_PATH);
+	}
+
+	@Benchmark
+	public CredentialDetails<ValueCredential> reactiveGetByName() {
+		return this.reactiveCredHub.credentials().getByName(this.name, ValueCredential.class).block();
+	}
+
+	@Benchmark
+	public CredentialDetails<ValueCredential> reactiveWrite() {
+		return this.reactiveCredHub.credentials().write(this.request).block();
+	}
+
+	@Benchmark
+	public List<CredentialSummary> reactiveFindByPath() {
+		return this.reactiveCredHub.credentials()
+			.findByPath(CredHubStubServer.Builder.SEEDED_CREDENTIAL_PATH)
+			.collectList()
+			.block();
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.benchmarks;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.credhub.configuration.ClientHttpConnectorFactory;
+import org.springframework.credhub.configuration.ClientHttpRequestFactoryFactory;
+import org.springframework.credhub.core.CredHubProperties;
+import org.springframework.credhub.core.CredHubTemplate;
+import org.springframework.credhub.core.ReactiveCredHubTemplate;
+import org.springframework.credhub.support.ClientOptions;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * The HTTP transports compared by the {@link TransportLoadHarness}.
+ *
+ * @author agent
+ */
+enum Transport {
+
+	/**
+	 * Blocking calls through {@link CredHubTemplate} using the pooled Apache
+	 * HttpComponents client created by {@link ClientHttpRequestFactoryFactory}, on one
+	 * platform thread for each concurrent call.
+	 */
+	HTTP_COMPONENTS {
+		@Override
+		LoadDriver createDriver(CredHubProperties properties) {
+			return new BlockingLoadDriver(
+					new CredHubTemplate(properties, ClientHttpRequestFactoryFactory.create(new ClientOptions())),
+					Executors::newFixedThreadPool);
+		}
+	},
+
+	/**
+	 * Blocking calls through {@link CredHubTemplate} using
+	 * {@link java.net.HttpURLConnection}, on one platform thread for each concurrent
+	 * call.
+	 */
+	JDK {
+		@Override
+		LoadDriver createDriver(CredHubProperties properties) {
+			return new BlockingLoadDriver(new CredHubTemplate(properties, new SimpleClientHttpRequestFactory()),
+					Executors::newFixedThreadPool);
+		}
+	},
+
+	/**
+	 * Non-blocking calls through {@link ReactiveCredHubTemplate} using the Reactor Netty
+	 * connector created by {@link ClientHttpConnectorFactory}.
+	 */
+	REACTOR_NETTY {
+		@Override
+		LoadDriver createDriver(CredHubProperties properties) {
+			return new ReactiveLoadDriver(
+					new ReactiveCredHubTemplate(properties, ClientHttpConnectorFactory.create(new ClientOptions())));
+		}
+	},
+
+	/**
+	 * Blocking calls through {@link CredHubTemplate} using the pooled Apache
+	 * HttpComponents client, on one virtual thread for each concurrent call. Requires
+	 * Java 21 or later.
+	 */
+	VIRTUAL_THREADS {
+		@Override
+		LoadDriver createDriver(CredHubProperties properties) {
+			if (!ClassUtils.hasMethod(Executors.class, VIRTUAL_THREAD_EXECUTOR_METHOD)) {
+				return null;
+			}
+			return new BlockingLoadDriver(
+					new CredHubTemplate(properties, ClientHttpRequestFactoryFactory.create(new ClientOptions())),
+					(concurrency) -> newVirtualThreadPerTaskExecutor());
+		}
+	};
+
+	private static final String VIRTUAL_THREAD_EXECUTOR_METHOD = "newVirtualThreadPerTaskExecutor";
+
+	/**
+	 * Create a {@link LoadDriver} for this transport.
+	 * @param properties the properties of the CredHub server to call
+	 * @return the driver, or {@literal null} if the transport is not available on the
+	 * running JVM
+	 */
+	abstract LoadDriver createDriver(CredHubProperties properties);
+
+	/**
+	 * Create an executor that runs each task on a new virtual thread, looked up
+	 * reflectively because the project is compiled for Java 17.
+	 * @return the executor
+	 */
+	private static ExecutorService newVirtualThreadPerTaskExecutor() {
+		return (ExecutorService) ReflectionUtils
+			.invokeMethod(ClassUtils.getMethod(Executors.class, VIRTUAL_THREAD_EXECUTOR_METHOD), null);
+	}
+
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.benchmarks;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.sun.management.ThreadMXBean;
+
+import org.springframework.credhub.core.CredHubProperties;
+import org.springframework.credhub.stub.CredHubStubServer;
+
+/**
+ * A load harness that compares the HTTP transports supported by Spring CredHub. Each
+ * {@link LoadOperation} is called through each {@link Transport} at fixed concurrency
+ * levels against a {@link CredHubStubServer} with no added latency, and the throughput,
+ * latency percentiles and allocation rate are reported.
+ *
+ * The allocation rate is measured for all threads except the event loop threads of the
+ * stub server. Allocations made by virtual threads are attributed to their carrier
+ * threads.
+ *
+ * Arguments are given as {@literal name=value} pairs:
+ * <ul>
+ * <li>{@literal transports}: comma-separated {@link Transport} names, all by default</li>
+ * <li>{@literal operations}: comma-separated {@link LoadOperation} names, all by
+ * default</li>
+ * <li>{@literal concurrency}: comma-separated concurrency levels, {@literal 1,16,64} by
+ * default</li>
+ * <li>{@literal warmup}: the warmup time for each run in seconds, {@literal 5} by
+ * default</li>
+ * <li>{@literal duration}: the measurement time for each run in seconds, {@literal 10} by
+ * default</li>
+ * <li>{@literal output}: a CSV file to write the results to, optional</li>
+ * </ul>
+ *
+ * @author agent
+ */
+public final class TransportLoadHarness {
+
+	private static final String ROW_FORMAT = "%-16s %-13s %11s %12s %10s %10s %10s %8s %12s %10s%n";
+
+	private static final String CSV_HEADER = "transport,operation,concurrency,throughput_ops_per_s,p50_us,p99_us,p999_us,"
+			+ "errors,allocation_mb_per_s,allocation_bytes_per_op";
+
+	private TransportLoadHarness() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		Map<String, String> arguments = parseArguments(args);
+		List<Transport> transports = parseList(arguments.get("transports"), Transport::valueOf,
+				Arrays.asList(Transport.values()));
+		List<LoadOperation> operations = parseList(arguments.get("operations"), LoadOperation::valueOf,
+				Arrays.asList(LoadOperation.values()));
+		List<Integer> concurrencyLevels = parseList(arguments.get("concurrency"), Integer::valueOf, List.of(1, 16, 64));
+		long warmupSeconds = Long.parseLong(arguments.getOrDefault("warmup", "5"));
+		long durationSeconds = Long.parseLong(arguments.getOrDefault("duration", "10"));
+
+		List<String> results = new ArrayList<>();
+		try (CredHubStubServer server = CredHubStubServer.builder()
+			.credentials(LoadOperation.SEEDED_CREDENTIALS)
+			.start()) {
+			server.putCredential(LoadOperation.NAME.getName(), "value", "secret");
+			CredHubProperties properties = new CredHubProperties();
+			properties.setUrl(server.getUrl());
+
+			System.out.printf(ROW_FORMAT, "transport", "operation", "concurrency", "ops/s", "p50 us", "p99 us",
+					"p999 us", "errors", "alloc MB/s", "alloc B/op");
+			for (Transport transport : transports) {
+				LoadDriver driver = transport.createDriver(properties);
+				if (driver == null) {
+					System.out.println(transport + " is not available on Java " + Runtime.version().feature());
+					continue;
+				}
+				for (LoadOperation operation : operations) {
+					for (int concurrency : concurrencyLevels) {
+						Result result = run(driver, operation, concurrency, warmupSeconds, durationSeconds);
+						System.out.printf(Locale.ROOT, ROW_FORMAT, transport, operation, concurrency,
+								String.format(Locale.ROOT, "%.0f", result.throughput()), micros(result.p50),
+								micros(result.p99), micros(result.p999), result.errors,
+								String.format(Locale.ROOT, "%.1f", result.allocationRate()),
+								String.format(Locale.ROOT, "%.0f", result.allocationPerOperation()));
+						results.add(String.format(Locale.ROOT, "%s,%s,%d,%.1f,%s,%s,%s,%d,%.2f,%.0f", transport,
+								operation, concurrency, result.throughput(), micros(result.p50), micros(result.p99),
+								micros(result.p999), result.errors, result.allocationRate(),
+								result.allocationPerOperation()));
+					}
+				}
+			}
+		}
+
+		if (arguments.containsKey("output")) {
+			writeCsv(Path.of(arguments.get("output")), results);
+		}
+		System.exit(0);
+	}
+
+	private static Result run(LoadDriver driver, LoadOperation operation, int concurrency, long warmupSeconds,
+			long durationSeconds) throws Exception {
+		LoadRecorder recorder = new LoadRecorder();
+		CompletableFuture<Void> load = driver.start(operation, concurrency, recorder);
+		TimeUnit.SECONDS.sleep(warmupSeconds);
+
+		Map<Long, Long> allocatedBefore = allocatedBytes();
+		long start = System.nanoTime();
+		recorder.startMeasuring();
+		TimeUnit.SECONDS.sleep(durationSeconds);
+		recorder.stop();
+		long elapsed = System.nanoTime() - start;
+		long allocated = allocatedSince(allocatedBefore);
+
+		load.get(1, TimeUnit.MINUTES);
+		LatencyHistogram latencies = recorder.getLatencies();
+		return new Result(latencies.getCount(), recorder.getErrors(), elapsed, allocated,
+				latencies.getValueAtPercentile(0.5), latencies.getValueAtPercentile(0.99),
+				latencies.getValueAtPercentile(0.999));
+	}
+
+	/**
+	 * Get the number of bytes allocated by each live thread, excluding the event loop
+	 * threads of the stub server.
+	 * @return the allocated bytes by thread id
+	 */
+	private static Map<Long, Long> allocatedBytes() {
+		ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		Map<Long, Long> allocated = new HashMap<>();
+		for (ThreadInfo thread : threads.getThreadInfo(threads.getAllThreadIds())) {
+			if (thread != null && !thread.getThreadName().startsWith(CredHubStubServer.THREAD_NAME_PREFIX)) {
+				long bytes = threads.getThreadAllocatedBytes(thread.getThreadId());
+				if (bytes >= 0) {
+					allocated.put(thread.getThreadId(), bytes);
+				}
+			}
+		}
+		return allocated;
+	}
+
+	private static long allocatedSince(Map<Long, Long> before) {
+		long total = 0;
+		for (Map.Entry<Long, Long> entry : allocatedBytes().entrySet()) {
+			total += entry.getValue() - before.getOrDefault(entry.getKey(), 0L);
+		}
+		return total;
+	}
+
+	private static Map<String, String> parseArguments(String[] args) {
+		Map<String, String> arguments = new LinkedHashMap<>();
+		for (String arg : args) {
+			int separator = arg.indexOf('=');
+			if (separator <= 0) {
+				throw new IllegalArgumentException("Arguments must be given as name=value, but got '" + arg + "'");
+			}
+			arguments.put(arg.substring(0, separator), arg.substring(separator + 1));
+		}
+		return arguments;
+	}
+
+	private static <T> List<T> parseList(String value, Function<String, T> parser, List<T> defaultValue) {
+		if (value == null || value.isBlank()) {
+			return defaultValue;
+		}
+		List<T> result = new ArrayList<>();
+		for (String element : value.split(",")) {
+			result.add(parser.apply(element.trim().toUpperCase(Locale.ROOT)));
+		}
+		return result;
+	}
+
+	private static String micros(long nanos) {
+		return String.format(Locale.ROOT, "%.1f", nanos / 1_000.0);
+	}
+
+	private static void writeCsv(Path file, List<String> results) throws IOException {
+		if (file.getParent() != null) {
+			Files.createDirectories(file.getParent());
+		}
+		try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file))) {
+			writer.println(CSV_HEADER);
+			results.forEach(writer::println);
+		}
+		System.out.println("Results written to " + file);
+	}
+
+	private static final class Result {
+
+		private final long operations;
+
+		private final long errors;
+
+		private final long elapsedNanos;
+
+		private final long allocatedBytes;
+
+		private final long p50;
+
+		private final long p99;
+
+		private final long p999;
+
+		private Result(long operations, long errors, long elapsedNanos, long allocatedBytes, long p50, long p99,
+				long p999) {
+			this.operations = operations;
+			this.errors = errors;
+			this.elapsedNanos = elapsedNanos;
+			this.allocatedBytes = allocatedBytes;
+			this.p50 = p50;
+			this.p99 = p99;
+			this.p999 = p999;
+		}
+
+		double throughput() {
+			return this.operations * 1e9 / this.elapsedNanos;
+		}
+
+		double allocationRate() {
+			return this.allocatedBytes * 1e9 / this.elapsedNanos / (1024 * 1024);
+		}
+
+		double allocationPerOperation() {
+			return (this.operations > 0) ? (double) this.allocatedBytes / this.operations : 0;
+		}
+
+	}
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.aot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.credhub.core.certificate.CertificateRotationCheckpoint;
+import org.springframework.credhub.core.certificate.CertificateRotationPhase;
+import org.springframework.credhub.core.certificate.CredHubCertificateOperations;
+import org.springframework.credhub.core.credential.CredHubCredentialOperations;
+import org.springframework.credhub.core.info.CredHubInfoOperations;
+import org.springframework.credhub.core.interpolation.CredHubInterpolationOperations;
+import org.springframework.credhub.core.permission.CredHubPermissionOperations;
+import org.springframework.credhub.core.permissionV2.CredHubPermissionV2Operations;
+import org.springframework.credhub.support.CredHubRequest;
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialDetailsData;
+import org.springframework.credhub.support.CredentialName;
+import org.springframework.credhub.support.CredentialPermission;
+import org.springframework.credhub.support.CredentialPermissions;
+import org.springframework.credhub.support.CredentialRequest;
+import org.springframework.credhub.support.CredentialSummary;
+import org.springframework.credhub.support.CredentialSummaryData;
+import org.springframework.credhub.support.CredentialType;
+import org.springframework.credhub.support.KeyLength;
+import org.springframework.credhub.support.KeyPairCredential;
+import org.springframework.credhub.support.KeyParameters;
+import org.springframework.credhub.support.ParametersRequest;
+import org.springframework.credhub.support.ServiceInstanceCredentialName;
+import org.springframework.credhub.support.ServicesData;
+import org.springframework.credhub.support.SimpleCredentialName;
+import org.springframework.credhub.support.StringCredential;
+import org.springframework.credhub.support.WriteMode;
+import org.springframework.credhub.support.certificate.CertificateCredential;
+import org.springframework.credhub.support.certificate.CertificateCredentialDetails;
+import org.springframework.credhub.support.certificate.CertificateCredentialRequest;
+import org.springframework.credhub.support.certificate.CertificateParameters;
+import org.springframework.credhub.support.certificate.CertificateParametersRequest;
+import org.springframework.credhub.support.certificate.CertificateSummary;
+import org.springframework.credhub.support.certificate.CertificateSummaryData;
+import org.springframework.credhub.support.certificate.ExtendedKeyUsage;
+import org.springframework.credhub.support.certificate.KeyUsage;
+import org.springframework.credhub.support.info.VersionInfo;
+import org.springframework.credhub.support.json.JsonCredential;
+import org.springframework.credhub.support.json.JsonCredentialRequest;
+import org.springframework.credhub.support.password.PasswordCredential;
+import org.springframework.credhub.support.password.PasswordCredentialRequest;
+import org.springframework.credhub.support.password.PasswordParameters;
+import org.springframework.credhub.support.password.PasswordParametersRequest;
+import org.springframework.credhub.support.permissions.Actor;
+import org.springframework.credhub.support.permissions.ActorType;
+import org.springframework.credhub.support.permissions.Operation;
+import org.springframework.credhub.support.permissions.Permission;
+import org.springframework.credhub.support.rsa.RsaCredential;
+import org.springframework.credhub.support.rsa.RsaCredentialRequest;
+import org.springframework.credhub.support.rsa.RsaParameters;
+import org.springframework.credhub.support.rsa.RsaParametersRequest;
+import org.springframework.credhub.support.ssh.SshCredential;
+import org.springframework.credhub.support.ssh.SshCredentialRequest;
+import org.springframework.credhub.support.ssh.SshParameters;
+import org.springframework.credhub.support.ssh.SshParametersRequest;
+import org.springframework.credhub.support.user.UserCredential;
+import org.springframework.credhub.support.user.UserCredentialRequest;
+import org.springframework.credhub.support.user.UserParametersRequest;
+import org.springframework.credhub.support.value.ValueCredential;
+import org.springframework.credhub.support.value.ValueCredentialRequest;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link RuntimeHintsRegistrar} for the CredHub request and response models that are
+ * bound to JSON with Jackson, so that the CredHub templates can read and write
+ * credentials in a GraalVM native image. The credential value types that
+ * {@link org.springframework.credhub.support.utils.JsonUtils} registers as polymorphic
+ * subtypes are derived from {@link CredentialType}, so that new credential types are
+ * included without changes to this class. JDK proxy hints are registered for the
+ * operations interfaces that {@link org.springframework.credhub.core.LazyCredHubOperations}
+ * and {@link org.springframework.credhub.core.LazyReactiveCredHubOperations} proxy.
+ *
+ * @author agent
+ */
+class CredHubRuntimeHints implements RuntimeHintsRegistrar {
+
+	private static final List<Class<?>> RESPONSE_TYPES = Arrays.asList(CredentialDetails.class,
+			CredentialDetailsData.class, CredentialSummary.class, CredentialSummaryData.class,
+			CredentialPermission.class, CredentialPermissions.class, CertificateCredentialDetails.class,
+			CertificateSummary.class, CertificateSummaryData.class, ServicesData.class, VersionInfo.class);
+
+	private static final List<Class<?>> CREDENTIAL_TYPES = Arrays.asList(StringCredential.class,
+			KeyPairCredential.class, CertificateCredential.class, JsonCredential.class, PasswordCredential.class,
+			RsaCredential.class, SshCredential.class, UserCredential.class, ValueCredential.class);
+
+	private static final List<Class<?>> REQUEST_TYPES = Arrays.asList(CredHubRequest.class, CredentialRequest.class,
+			ParametersRequest.class, KeyParameters.class, CertificateCredentialRequest.class,
+			CertificateParameters.class, CertificateParametersRequest.class, JsonCredentialRequest.class,
+			PasswordCredentialRequest.class, PasswordParameters.class, PasswordParametersRequest.class,
+			RsaCredentialRequest.class, RsaParameters.class, RsaParametersRequest.class, SshCredentialRequest.class,
+			SshParameters.class, SshParametersRequest.class, UserCredentialRequest.class,
+			UserParametersRequest.class, UserParametersRequest.UserValue.class, ValueCredentialRequest.class);
+
+	private static final List<Class<?>> SHARED_TYPES = Arrays.asList(CredentialName.class,
+			SimpleCredentialName.class, ServiceInstanceCredentialName.class, CredentialType.class, WriteMode.class,
+			KeyLength.class, KeyUsage.class, ExtendedKeyUsage.class, Permission.class, Actor.class, ActorType.class,
+			Operation.class, CertificateRotationCheckpoint.class, CertificateRotationPhase.class);
+
+	private static final List<Class<?>> OPERATIONS_TYPES = Arrays.asList(CredHubCredentialOperations.class,
+			CredHubPermissionOperations.class, CredHubPermissionV2Operations.class, CredHubCertificateOperations.class,
+			CredHubInterpolationOperations.class, CredHubInfoOperations.class);
+
+	private static final List<String> REACTIVE_OPERATIONS_TYPES = Arrays.asList(
+			"org.springframework.credhub.core.credential.ReactiveCredHubCredentialOperations",
+			"org.springframework.credhub.core.permission.ReactiveCredHubPermissionOperations",
+			"org.springframework.credhub.core.permissionV2.ReactiveCredHubPermissionV2Operations",
+			"org.springframework.credhub.core.certificate.ReactiveCredHubCertificateOperations",
+			"org.springframework.credhub.core.interpolation.ReactiveCredHubInterpolationOperations",
+			"org.springframework.credhub.core.info.ReactiveCredHubInfoOperations");
+
+	private static final String WEB_CLIENT_CLASS = "org.springframework.web.reactive.function.client.WebClient";
+
+	private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+	@Override
+	public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+		this.bindingRegistrar.registerReflectionHints(hints.reflection(), bindingTypes().toArray(new Class<?>[0]));
+
+		for (Class<?> type : OPERATIONS_TYPES) {
+			hints.proxies().registerJdkProxy(type);
+		}
+		if (ClassUtils.isPresent(WEB_CLIENT_CLASS, classLoader)) {
+			for (String type : REACTIVE_OPERATIONS_TYPES) {
+				hints.proxies().registerJdkProxy(TypeReference.of(type));
+			}
+		}
+	}
+
+	static List<Class<?>> bindingTypes() {
+		List<Class<?>> types = new ArrayList<>(RESPONSE_TYPES);
+		types.addAll(CREDENTIAL_TYPES);
+		for (CredentialType type : CredentialType.values()) {
+			if (!types.contains(type.getModelClass())) {
+				types.add(type.getModelClass());
+			}
+		}
+		types.addAll(REQUEST_TYPES);
+		types.addAll(SHARED_TYPES);
+		return types;
+	}
+
+}
@@ -26,7 +26,6 @@ import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
-import org.apache.hc.client5.http.impl.io.BasicHttpClientConnectionManager;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
@@ -131,6 +130,12 @@ public final class ClientHttpRequestFactoryFactory {
 			}
 			SocketConfig socketConfig = socketConfigBuilder.build();
 
+			ConnectionConfig.Builder connectionConfigBuilder = ConnectionConfig.custom();
+			if (options.getConnectionTimeout() != null) {
+				connectionConfigBuilder.setConnectTimeout(Timeout.ofMilliseconds(options.getConnectionTimeoutMillis()));
+			}
+			ConnectionConfig connectionConfig = connectionConfigBuilder.build();
+
 			HttpClientBuilder httpClientBuilder = HttpClients.custom();
 
 			if (usingCustomCerts(options)) {
@@ -140,6 +145,7 @@ public final class ClientHttpRequestFactoryFactory {
 					.create()
 					.setSSLSocketFactory(sslSocketFactory)
 					.setDefaultSocketConfig(socketConfig)
+					.setDefaultConnectionConfig(connectionConfig)
 					.build();
 				httpClientBuilder.setConnectionManager(connectionManager);
 			}
@@ -151,19 +157,12 @@ public final class ClientHttpRequestFactoryFactory {
 					.useSystemProperties()
 					.setSSLSocketFactory(sslSocketFactory)
 					.setDefaultSocketConfig(socketConfig)
+					.setDefaultConnectionConfig(connectionConfig)
 					.build();
 				httpClientBuilder.setConnectionManager(connectionManager);
 			}
 
 			RequestConfig.Builder requestConfigBuilder = RequestConfig.custom().setAuthenticationEnabled(true);
-
-			if (options.getConnectionTimeout() != null) {
-				BasicHttpClientConnectionManager basicHttpClientConnectionManager = new BasicHttpClientConnectionManager();
-				Timeout connectTimeout = Timeout.ofMilliseconds(options.getConnectionTimeout().toMillis());
-				ConnectionConfig.Builder connectionConfig = ConnectionConfig.custom().setConnectTimeout(connectTimeout);
-				basicHttpClientConnectionManager.setConnectionConfig(connectionConfig.build());
-				httpClientBuilder.setConnectionManager(basicHttpClientConnectionManager);
-			}
 			httpClientBuilder.setDefaultRequestConfig(requestConfigBuilder.build());
 
 			return new HttpComponentsClientHttpRequestFactory(httpClientBuilder.build());
@@ -24,7 +24,6 @@ import org.springframework.http.HttpRequest;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
-import org.springframework.http.client.support.HttpRequestWrapper;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.oauth2.client.OAuth2AuthorizeRequest;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
@@ -39,14 +38,17 @@ import org.springframework.security.oauth2.client.registration.ClientRegistratio
  */
 class CredHubOAuth2RequestInterceptor implements ClientHttpRequestInterceptor {
 
-	private final ClientRegistration clientRegistration;
-
 	private final OAuth2AuthorizedClientManager clientManager;
 
+	private final OAuth2AuthorizeRequest authorizeRequest;
+
 	CredHubOAuth2RequestInterceptor(ClientRegistration clientRegistration,
 			OAuth2AuthorizedClientManager clientManager) {
-		this.clientRegistration = clientRegistration;
 		this.clientManager = clientManager;
+		this.authorizeRequest = OAuth2AuthorizeRequest
+			.withClientRegistrationId(clientRegistration.getRegistrationId())
+			.principal(new OAuth2ClientCredentialsGrantAuthenticationToken(clientRegistration))
+			.build();
 	}
 
 	/**
@@ -57,20 +59,14 @@ class CredHubOAuth2RequestInterceptor implements ClientHttpRequestInterceptor {
 	@Override
 	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
 			throws IOException {
-		HttpRequestWrapper requestWrapper = new HttpRequestWrapper(request);
-
-		HttpHeaders headers = requestWrapper.getHeaders();
+		HttpHeaders headers = request.getHeaders();
 		headers.setBearerAuth(authorizeClient().getAccessToken().getTokenValue());
 
-		return execution.execute(requestWrapper, body);
+		return execution.execute(request, body);
 	}
 
 	private OAuth2AuthorizedClient authorizeClient() {
-		OAuth2AuthorizeRequest authorizeRequest = OAuth2AuthorizeRequest
-			.withClientRegistrationId(this.clientRegistration.getRegistrationId())
-			.principal(new OAuth2ClientCredentialsGrantAuthenticationToken(this.clientRegistration))
-			.build();
-		return this.clientManager.authorize(authorizeRequest);
+		return this.clientManager.authorize(this.authorizeRequest);
 	}
 
 	private static class OAuth2ClientCredentialsGrantAuthenticationToken extends AbstractAuthenticationToken {
@@ -19,6 +19,7 @@ package org.springframework.credhub.core;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.springframework.credhub.support.utils.JsonUtils;
 import org.springframework.http.HttpHeaders;
@@ -28,7 +29,6 @@ import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
-import org.springframework.http.client.support.HttpRequestWrapper;
 import org.springframework.http.converter.ByteArrayHttpMessageConverter;
 import org.springframework.http.converter.FormHttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
@@ -46,7 +46,6 @@ import org.springframework.security.oauth2.client.web.DefaultOAuth2AuthorizedCli
 import org.springframework.security.oauth2.client.web.OAuth2AuthorizedClientRepository;
 import org.springframework.security.oauth2.core.http.converter.OAuth2AccessTokenResponseHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.DefaultUriBuilderFactory;
 
 /**
  * Factory for creating a {@link RestTemplate} configured for communication with a CredHub
@@ -129,7 +128,7 @@ final class CredHubRestTemplateFactory {
 	private static void configureRestTemplate(RestTemplate restTemplate, String baseUri,
 			ClientHttpRequestFactory clientHttpRequestFactory) {
 		restTemplate.setRequestFactory(clientHttpRequestFactory);
-		restTemplate.setUriTemplateHandler(new DefaultUriBuilderFactory(baseUri));
+		restTemplate.setUriTemplateHandler(new CredHubUriBuilderFactory(baseUri));
 		restTemplate.getInterceptors().add(new CredHubRequestInterceptor());
 		restTemplate
 			.setMessageConverters(Arrays.asList(new ByteArrayHttpMessageConverter(), new StringHttpMessageConverter(),
@@ -199,16 +198,22 @@ final class CredHubRestTemplateFactory {
 	 */
 	private static class CredHubRequestInterceptor implements ClientHttpRequestInterceptor {
 
+		private static final List<MediaType> ACCEPT = Collections.singletonList(MediaType.APPLICATION_JSON);
+
+		/**
+		 * Set the headers on the intercepted request, whose headers are writable, rather
+		 * than on a wrapper of the request.
+		 *
+		 * {@inheritDoc}
+		 */
 		@Override
 		public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
 				throws IOException {
-			HttpRequestWrapper requestWrapper = new HttpRequestWrapper(request);
-
-			HttpHeaders headers = requestWrapper.getHeaders();
-			headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+			HttpHeaders headers = request.getHeaders();
+			headers.setAccept(ACCEPT);
 			headers.setContentType(MediaType.APPLICATION_JSON);
 
-			return execution.execute(requestWrapper, body);
+			return execution.execute(request, body);
 		}
 
 	}
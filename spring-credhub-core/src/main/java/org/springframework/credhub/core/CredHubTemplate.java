@@ -47,6 +47,18 @@ public class CredHubTemplate implements CredHubOperations {
 
 	private final boolean usingOAuth2;
 
+	private final CredHubCredentialOperations credentialOperations = new CredHubCredentialTemplate(this);
+
+	private final CredHubPermissionOperations permissionOperations = new CredHubPermissionTemplate(this);
+
+	private final CredHubPermissionV2Operations permissionV2Operations = new CredHubPermissionV2Template(this);
+
+	private final CredHubCertificateOperations certificateOperations = new CredHubCertificateTemplate(this);
+
+	private final CredHubInterpolationOperations interpolationOperations = new CredHubInterpolationTemplate(this);
+
+	private final CredHubInfoOperations infoOperations = new CredHubInfoTemplate(this);
+
 	/**
 	 * Create a new {@link CredHubTemplate} using the provided {@link RestTemplate}.
 	 * Intended for internal testing only.
@@ -121,7 +133,7 @@ public class CredHubTemplate implements CredHubOperations {
 	 */
 	@Override
 	public CredHubCredentialOperations credentials() {
-		return new CredHubCredentialTemplate(this);
+		return this.credentialOperations;
 	}
 
 	/**
@@ -131,7 +143,7 @@ public class CredHubTemplate implements CredHubOperations {
 	 */
 	@Override
 	public CredHubPermissionOperations permissions() {
-		return new CredHubPermissionTemplate(this);
+		return this.permissionOperations;
 	}
 
 	/**
@@ -141,7 +153,7 @@ public class CredHubTemplate implements CredHubOperations {
 	 */
 	@Override
 	public CredHubPermissionV2Operations permissionsV2() {
-		return new CredHubPermissionV2Template(this);
+		return this.permissionV2Operations;
 	}
 
 	/**
@@ -150,7 +162,7 @@ public class CredHubTemplate implements CredHubOperations {
 	 */
 	@Override
 	public CredHubCertificateOperations certificates() {
-		return new CredHubCertificateTemplate(this);
+		return this.certificateOperations;
 	}
 
 	/**
@@ -159,7 +171,7 @@ public class CredHubTemplate implements CredHubOperations {
 	 */
 	@Override
 	public CredHubInterpolationOperations interpolation() {
-		return new CredHubInterpolationTemplate(this);
+		return this.interpolationOperations;
 	}
 
 	/**
@@ -168,7 +180,7 @@ public class CredHubTemplate implements CredHubOperations {
 	 */
 	@Override
 	public CredHubInfoOperations info() {
-		return new CredHubInfoTemplate(this);
+		return this.infoOperations;
 	}
 
 	/**
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.util.UriBuilder;
+import org.springframework.web.util.UriBuilderFactory;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * A {@link UriBuilderFactory} for the fixed CredHub API endpoints. Each URI template is
+ * parsed once into its literal parts and the base URI is prepended to the first part, so
+ * that expanding a template only concatenates the literal parts with the encoded
+ * variable values. Variable values, such as credential names, are percent-encoded once
+ * and the encoded value is reused on later calls. Templates without variables are
+ * expanded to a single {@link URI} that is reused on every call.
+ * <p>
+ * The expanded URIs are the same as those created by a {@link DefaultUriBuilderFactory}
+ * with the same base URI, which is used for templates that can not be precompiled, for
+ * named variables, and for building URIs with a {@link UriBuilder}. The compiled
+ * templates and encoded values are kept in bounded least-recently-used caches, so that
+ * callers building URIs by concatenation, or expanding many distinct credential ids, can
+ * not grow the caches without limit or push out the values that are used repeatedly.
+ *
+ * @author agent
+ */
+class CredHubUriBuilderFactory implements UriBuilderFactory {
+
+	static final int MAX_CACHED_TEMPLATES = 64;
+
+	static final int MAX_CACHED_VALUES = 1024;
+
+	private static final String ALLOWED_LITERAL_CHARACTERS = "-._~/?&=:@!$'()*+,;";
+
+	private static final CompiledTemplate NOT_COMPILABLE = new CompiledTemplate(new String[0], null);
+
+	private final DefaultUriBuilderFactory delegate;
+
+	private final String baseUri;
+
+	private final ConcurrentLruCache<String, CompiledTemplate> templates = new ConcurrentLruCache<>(
+			MAX_CACHED_TEMPLATES, this::compile);
+
+	private final ConcurrentLruCache<String, String> encodedValues = new ConcurrentLruCache<>(MAX_CACHED_VALUES,
+			(value) -> UriUtils.encode(value, StandardCharsets.UTF_8));
+
+	/**
+	 * Create a new {@link CredHubUriBuilderFactory}.
+	 * @param baseUri the base URI for the CredHub server; can be {@literal null}
+	 */
+	CredHubUriBuilderFactory(String baseUri) {
+		this.delegate = (baseUri != null) ? new DefaultUriBuilderFactory(baseUri) : new DefaultUriBuilderFactory();
+		this.baseUri = compilableBaseUri(baseUri);
+	}
+
+	@Override
+	public URI expand(String uriTemplate, Map<String, ?> uriVariables) {
+		if (uriVariables.isEmpty()) {
+			CompiledTemplate template = compiled(uriTemplate);
+			if (template.variableCount() == 0) {
+				return template.uri;
+			}
+		}
+		return this.delegate.expand(uriTemplate, uriVariables);
+	}
+
+	@Override
+	public URI expand(String uriTemplate, Object... uriVariables) {
+		CompiledTemplate template = compiled(uriTemplate);
+		if (template == NOT_COMPILABLE || template.variableCount() != uriVariables.length) {
+			return this.delegate.expand(uriTemplate, uriVariables);
+		}
+		if (uriVariables.length == 0) {
+			return template.uri;
+		}
+
+		String[] parts = template.parts;
+		StringBuilder uri = new StringBuilder(template.length + uriVariables.length * 32);
+		for (int i = 0; i < uriVariables.length; i++) {
+			uri.append(parts[i]).append(encode(uriVariables[i]));
+		}
+		return URI.create(uri.append(parts[uriVariables.length]).toString());
+	}
+
+	@Override
+	public UriBuilder uriString(String uriTemplate) {
+		return this.delegate.uriString(uriTemplate);
+	}
+
+	@Override
+	public UriBuilder builder() {
+		return this.delegate.builder();
+	}
+
+	/**
+	 * Determine whether a variable value is held in encoded form.
+	 * @param value the variable value
+	 * @return {@literal true} if the encoded value is cached
+	 */
+	boolean isEncodedValueCached(String value) {
+		return this.encodedValues.contains(value);
+	}
+
+	private CompiledTemplate compiled(String uriTemplate) {
+		return this.templates.get(uriTemplate);
+	}
+
+	private CompiledTemplate compile(String uriTemplate) {
+		if (this.baseUri == null || !uriTemplate.startsWith("/")) {
+			return NOT_COMPILABLE;
+		}
+
+		List<String> parts = new ArrayList<>();
+		StringBuilder part = new StringBuilder(this.baseUri);
+		int index = 0;
+		while (index < uriTemplate.length()) {
+			char c = uriTemplate.charAt(index);
+			if (c == '{') {
+				int end = uriTemplate.indexOf('}', index);
+				if (end == -1 || !isVariableName(uriTemplate.substring(index + 1, end))) {
+					return NOT_COMPILABLE;
+				}
+				parts.add(part.toString());
+				part.setLength(0);
+				index = end + 1;
+			}
+			else if (isAllowedLiteral(c)) {
+				part.append(c);
+				index++;
+			}
+			else {
+				return NOT_COMPILABLE;
+			}
+		}
+		parts.add(part.toString());
+
+		String[] compiled = parts.toArray(new String[0]);
+		return new CompiledTemplate(compiled, (compiled.length == 1) ? URI.create(compiled[0]) : null);
+	}
+
+	private String encode(Object uriVariable) {
+		String value = (uriVariable != null) ? uriVariable.toString() : "";
+		return this.encodedValues.get(value);
+	}
+
+	private static String compilableBaseUri(String baseUri) {
+		if (baseUri == null) {
+			return null;
+		}
+
+		String base = baseUri;
+		while (base.endsWith("/")) {
+			base = base.substring(0, base.length() - 1);
+		}
+		for (int i = 0; i < base.length(); i++) {
+			if (!isAllowedLiteral(base.charAt(i)) || base.charAt(i) == '?') {
+				return null;
+			}
+		}
+
+		try {
+			URI uri = new URI(base);
+			return (uri.getHost() != null) ? base : null;
+		}
+		catch (URISyntaxException ex) {
+			return null;
+		}
+	}
+
+	private static boolean isVariableName(String name) {
+		if (name.isEmpty()) {
+			return false;
+		}
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (!Character.isLetterOrDigit(c) && c != '_' && c != '-' && c != '.') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isAllowedLiteral(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+				|| ALLOWED_LITERAL_CHARACTERS.indexOf(c) != -1;
+	}
+
+	private static final class CompiledTemplate {
+
+		private final String[] parts;
+
+		private final URI uri;
+
+		private final int length;
+
+		private CompiledTemplate(String[] parts, URI uri) {
+			this.parts = parts;
+			this.uri = uri;
+			int length = 0;
+			for (String part : parts) {
+				length += part.length();
+			}
+			this.length = length;
+		}
+
+		private int variableCount() {
+			return this.parts.length - 1;
+		}
+
+	}
+
+}
@@ -135,7 +135,7 @@ final class CredHubWebClientFactory {
 
 		return WebClient.builder()
 			.clientConnector(clientHttpConnector)
-			.baseUrl(baseUri)
+			.uriBuilderFactory(new CredHubUriBuilderFactory(baseUri))
 			.defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
 			.defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
 			.exchangeStrategies(strategies);
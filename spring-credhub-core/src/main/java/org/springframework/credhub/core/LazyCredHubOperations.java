@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core;
+
+import java.util.function.Supplier;
+
+import org.springframework.credhub.core.certificate.CredHubCertificateOperations;
+import org.springframework.credhub.core.credential.CredHubCredentialOperations;
+import org.springframework.credhub.core.info.CredHubInfoOperations;
+import org.springframework.credhub.core.interpolation.CredHubInterpolationOperations;
+import org.springframework.credhub.core.permission.CredHubPermissionOperations;
+import org.springframework.credhub.core.permissionV2.CredHubPermissionV2Operations;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link CredHubOperations} that creates the CredHub client it delegates to on first
+ * use, so that building the SSL context, HTTP connection pool, and OAuth2 support is
+ * not part of application startup. The client is created at most once, by the first
+ * thread that needs it; if creating the client fails, the exception is thrown to the
+ * caller and the client is created again on the next use.
+ * <p>
+ * The operations returned from {@link #credentials()} and similar methods do not
+ * create the client until one of their methods is called.
+ *
+ * @author agent
+ */
+public class LazyCredHubOperations implements CredHubOperations {
+
+	private final Supplier<? extends CredHubOperations> factory;
+
+	private final Object monitor = new Object();
+
+	private volatile CredHubOperations delegate;
+
+	private final CredHubCredentialOperations credentialOperations;
+
+	private final CredHubPermissionOperations permissionOperations;
+
+	private final CredHubPermissionV2Operations permissionV2Operations;
+
+	private final CredHubCertificateOperations certificateOperations;
+
+	private final CredHubInterpolationOperations interpolationOperations;
+
+	private final CredHubInfoOperations infoOperations;
+
+	/**
+	 * Create a new {@link LazyCredHubOperations}.
+	 * @param factory creates the {@link CredHubOperations} to delegate to; must not be
+	 * {@literal null}
+	 */
+	public LazyCredHubOperations(Supplier<? extends CredHubOperations> factory) {
+		Assert.notNull(factory, "factory must not be null");
+
+		this.factory = factory;
+		this.credentialOperations = LazyOperationsProxy.create(CredHubCredentialOperations.class,
+				() -> getDelegate().credentials());
+		this.permissionOperations = LazyOperationsProxy.create(CredHubPermissionOperations.class,
+				() -> getDelegate().permissions());
+		this.permissionV2Operations = LazyOperationsProxy.create(CredHubPermissionV2Operations.class,
+				() -> getDelegate().permissionsV2());
+		this.certificateOperations = LazyOperationsProxy.create(CredHubCertificateOperations.class,
+				() -> getDelegate().certificates());
+		this.interpolationOperations = LazyOperationsProxy.create(CredHubInterpolationOperations.class,
+				() -> getDelegate().interpolation());
+		this.infoOperations = LazyOperationsProxy.create(CredHubInfoOperations.class, () -> getDelegate().info());
+	}
+
+	/**
+	 * Create the CredHub client if it has not been created yet.
+	 */
+	public void initialize() {
+		getDelegate();
+	}
+
+	/**
+	 * Determine whether the CredHub client has been created.
+	 * @return {@literal true} if the client has been created
+	 */
+	public boolean isInitialized() {
+		return this.delegate != null;
+	}
+
+	/**
+	 * Get the CredHub client, creating it if it has not been created yet.
+	 * @return the {@link CredHubOperations} this instance delegates to
+	 */
+	public CredHubOperations getDelegate() {
+		CredHubOperations delegate = this.delegate;
+		if (delegate == null) {
+			synchronized (this.monitor) {
+				delegate = this.delegate;
+				if (delegate == null) {
+					delegate = this.factory.get();
+					Assert.state(delegate != null, "factory must not return null");
+					this.delegate = delegate;
+				}
+			}
+		}
+		return delegate;
+	}
+
+	@Override
+	public CredHubCredentialOperations credentials() {
+		return this.credentialOperations;
+	}
+
+	@Override
+	public CredHubPermissionOperations permissions() {
+		return this.permissionOperations;
+	}
+
+	@Override
+	public CredHubPermissionV2Operations permissionsV2() {
+		return this.permissionV2Operations;
+	}
+
+	@Override
+	public CredHubCertificateOperations certificates() {
+		return this.certificateOperations;
+	}
+
+	@Override
+	public CredHubInterpolationOperations interpolation() {
+		return this.interpolationOperations;
+	}
+
+	@Override
+	public CredHubInfoOperations info() {
+		return this.infoOperations;
+	}
+
+	@Override
+	public <T> T doWithRest(RestOperationsCallback<T> callback) {
+		return getDelegate().doWithRest(callback);
+	}
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.Supplier;
+
+/**
+ * Creates JDK proxies for the operations interfaces of a lazily initialized CredHub
+ * client, so that callers can hold on to the operations returned from
+ * {@code credentials()} and similar methods without initializing the client. Each call
+ * on a proxy looks up the operations of the initialized client and invokes them.
+ *
+ * @author agent
+ */
+final class LazyOperationsProxy implements InvocationHandler {
+
+	private final Class<?> type;
+
+	private final Supplier<?> target;
+
+	private LazyOperationsProxy(Class<?> type, Supplier<?> target) {
+		this.type = type;
+		this.target = target;
+	}
+
+	/**
+	 * Create a proxy for an operations interface.
+	 * @param type the operations interface
+	 * @param target supplies the operations of the initialized client
+	 * @param <T> the type of operations
+	 * @return the proxy
+	 */
+	static <T> T create(Class<T> type, Supplier<? extends T> target) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+				new LazyOperationsProxy(type, target)));
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		if (method.getDeclaringClass() == Object.class) {
+			switch (method.getName()) {
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				default:
+					return "Lazy" + this.type.getSimpleName();
+			}
+		}
+
+		try {
+			return method.invoke(this.target.get(), args);
+		}
+		catch (InvocationTargetException ex) {
+			throw ex.getTargetException();
+		}
+	}
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.reactivestreams.Publisher;
+
+import org.springframework.credhub.core.certificate.ReactiveCredHubCertificateOperations;
+import org.springframework.credhub.core.credential.ReactiveCredHubCredentialOperations;
+import org.springframework.credhub.core.info.ReactiveCredHubInfoOperations;
+import org.springframework.credhub.core.interpolation.ReactiveCredHubInterpolationOperations;
+import org.springframework.credhub.core.permission.ReactiveCredHubPermissionOperations;
+import org.springframework.credhub.core.permissionV2.ReactiveCredHubPermissionV2Operations;
+import org.springframework.util.Assert;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * A {@link ReactiveCredHubOperations} that creates the CredHub client it delegates to
+ * on first use, so that building the SSL context, HTTP connector, and OAuth2 support is
+ * not part of application startup. The client is created at most once, by the first
+ * thread that needs it; if creating the client fails, the exception is thrown to the
+ * caller and the client is created again on the next use.
+ * <p>
+ * The operations returned from {@link #credentials()} and similar methods do not
+ * create the client until one of their methods is called. The client is created on the
+ * calling thread when the publisher is assembled, not when it is subscribed to.
+ *
+ * @author agent
+ */
+public class LazyReactiveCredHubOperations implements ReactiveCredHubOperations {
+
+	private final Supplier<? extends ReactiveCredHubOperations> factory;
+
+	private final Object monitor = new Object();
+
+	private volatile ReactiveCredHubOperations delegate;
+
+	private final ReactiveCredHubCredentialOperations credentialOperations;
+
+	private final ReactiveCredHubPermissionOperations permissionOperations;
+
+	private final ReactiveCredHubPermissionV2Operations permissionV2Operations;
+
+	private final ReactiveCredHubCertificateOperations certificateOperations;
+
+	private final ReactiveCredHubInterpolationOperations interpolationOperations;
+
+	private final ReactiveCredHubInfoOperations infoOperations;
+
+	/**
+	 * Create a new {@link LazyReactiveCredHubOperations}.
+	 * @param factory creates the {@link ReactiveCredHubOperations} to delegate to; must
+	 * not be {@literal null}
+	 */
+	public LazyReactiveCredHubOperations(Supplier<? extends ReactiveCredHubOperations> factory) {
+		Assert.notNull(factory, "factory must not be null");
+
+		this.factory = factory;
+		this.credentialOperations = LazyOperationsProxy.create(ReactiveCredHubCredentialOperations.class,
+				() -> getDelegate().credentials());
+		this.permissionOperations = LazyOperationsProxy.create(ReactiveCredHubPermissionOperations.class,
+				() -> getDelegate().permissions());
+		this.permissionV2Operations = LazyOperationsProxy.create(ReactiveCredHubPermissionV2Operations.class,
+				() -> getDelegate().permissionsV2());
+		this.certificateOperations = LazyOperationsProxy.create(ReactiveCredHubCertificateOperations.class,
+				() -> getDelegate().certificates());
+		this.interpolationOperations = LazyOperationsProxy.create(ReactiveCredHubInterpolationOperations.class,
+				() -> getDelegate().interpolation());
+		this.infoOperations = LazyOperationsProxy.create(ReactiveCredHubInfoOperations.class,
+				() -> getDelegate().info());
+	}
+
+	/**
+	 * Create the CredHub client if it has not been created yet.
+	 */
+	public void initialize() {
+		getDelegate();
+	}
+
+	/**
+	 * Determine whether the CredHub client has been created.
+	 * @return {@literal true} if the client has been created
+	 */
+	public boolean isInitialized() {
+		return this.delegate != null;
+	}
+
+	/**
+	 * Get the CredHub client, creating it if it has not been created yet.
+	 * @return the {@link ReactiveCredHubOperations} this instance delegates to
+	 */
+	public ReactiveCredHubOperations getDelegate() {
+		ReactiveCredHubOperations delegate = this.delegate;
+		if (delegate == null) {
+			synchronized (this.monitor) {
+				delegate = this.delegate;
+				if (delegate == null) {
+					delegate = this.factory.get();
+					Assert.state(delegate != null, "factory must not return null");
+					this.delegate = delegate;
+				}
+			}
+		}
+		return delegate;
+	}
+
+	@Override
+	public ReactiveCredHubCredentialOperations credentials() {
+		return this.credentialOperations;
+	}
+
+	@Override
+	public ReactiveCredHubPermissionOperations permissions() {
+		return this.permissionOperations;
+	}
+
+	@Override
+	public ReactiveCredHubPermissionV2Operations permissionsV2() {
+		return this.permissionV2Operations;
+	}
+
+	@Override
+	public ReactiveCredHubCertificateOperations certificates() {
+		return this.certificateOperations;
+	}
+
+	@Override
+	public ReactiveCredHubInterpolationOperations interpolation() {
+		return this.interpolationOperations;
+	}
+
+	@Override
+	public ReactiveCredHubInfoOperations info() {
+		return this.infoOperations;
+	}
+
+	@Override
+	public <V, T extends Publisher<V>> T doWithWebClient(Function<WebClient, ? extends T> callback) {
+		return getDelegate().doWithWebClient(callback);
+	}
+
+}
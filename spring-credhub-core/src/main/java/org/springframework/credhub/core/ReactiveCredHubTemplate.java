@@ -52,6 +52,23 @@ public class ReactiveCredHubTemplate implements ReactiveCredHubOperations {
 
 	private final boolean usingOAuth2;
 
+	private final ReactiveCredHubCredentialOperations credentialOperations = new ReactiveCredHubCredentialTemplate(
+			this);
+
+	private final ReactiveCredHubPermissionOperations permissionOperations = new ReactiveCredHubPermissionTemplate(
+			this);
+
+	private final ReactiveCredHubPermissionV2Operations permissionV2Operations = new ReactiveCredHubPermissionV2Template(
+			this);
+
+	private final ReactiveCredHubCertificateOperations certificateOperations = new ReactiveCredHubCertificateTemplate(
+			this);
+
+	private final ReactiveCredHubInterpolationOperations interpolationOperations = new ReactiveCredHubInterpolationTemplate(
+			this);
+
+	private final ReactiveCredHubInfoOperations infoOperations = new ReactiveCredHubInfoTemplate(this);
+
 	/**
 	 * Create a new {@link ReactiveCredHubTemplate} using the provided {@link WebClient}.
 	 * Intended for internal testing only.
@@ -125,7 +142,7 @@ public class ReactiveCredHubTemplate implements ReactiveCredHubOperations {
 	 */
 	@Override
 	public ReactiveCredHubCredentialOperations credentials() {
-		return new ReactiveCredHubCredentialTemplate(this);
+		return this.credentialOperations;
 	}
 
 	/**
@@ -135,7 +152,7 @@ public class ReactiveCredHubTemplate implements ReactiveCredHubOperations {
 	 */
 	@Override
 	public ReactiveCredHubPermissionOperations permissions() {
-		return new ReactiveCredHubPermissionTemplate(this);
+		return this.permissionOperations;
 	}
 
 	/**
@@ -145,7 +162,7 @@ public class ReactiveCredHubTemplate implements ReactiveCredHubOperations {
 	 */
 	@Override
 	public ReactiveCredHubPermissionV2Operations permissionsV2() {
-		return new ReactiveCredHubPermissionV2Template(this);
+		return this.permissionV2Operations;
 	}
 
 	/**
@@ -154,7 +171,7 @@ public class ReactiveCredHubTemplate implements ReactiveCredHubOperations {
 	 */
 	@Override
 	public ReactiveCredHubCertificateOperations certificates() {
-		return new ReactiveCredHubCertificateTemplate(this);
+		return this.certificateOperations;
 	}
 
 	/**
@@ -163,7 +180,7 @@ public class ReactiveCredHubTemplate implements ReactiveCredHubOperations {
 	 */
 	@Override
 	public ReactiveCredHubInterpolationOperations interpolation() {
-		return new ReactiveCredHubInterpolationTemplate(this);
+		return this.interpolationOperations;
 	}
 
 	/**
@@ -172,7 +189,7 @@ public class ReactiveCredHubTemplate implements ReactiveCredHubOperations {
 	 */
 	@Override
 	public ReactiveCredHubInfoOperations info() {
-		return new ReactiveCredHubInfoTemplate(this);
+		return this.infoOperations;
 	}
 
 	/**
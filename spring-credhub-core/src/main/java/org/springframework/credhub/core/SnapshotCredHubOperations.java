@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+import org.springframework.credhub.core.certificate.CredHubCertificateOperations;
+import org.springframework.credhub.core.credential.CredHubCredentialOperations;
+import org.springframework.credhub.core.credential.CredentialSnapshotStore;
+import org.springframework.credhub.core.credential.SnapshotCredHubCredentialTemplate;
+import org.springframework.credhub.core.info.CredHubInfoOperations;
+import org.springframework.credhub.core.interpolation.CredHubInterpolationOperations;
+import org.springframework.credhub.core.permission.CredHubPermissionOperations;
+import org.springframework.credhub.core.permissionV2.CredHubPermissionV2Operations;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link CredHubOperations} that serves credentials from a
+ * {@link CredentialSnapshotStore} while CredHub is slow or unavailable. The operations
+ * returned from {@link #credentials()} are a {@link SnapshotCredHubCredentialTemplate};
+ * all other operations are those of the {@link CredHubOperations} this instance
+ * delegates to.
+ *
+ * @author agent
+ */
+public class SnapshotCredHubOperations implements CredHubOperations {
+
+	private final CredHubOperations delegate;
+
+	private final CredHubCredentialOperations credentialOperations;
+
+	/**
+	 * Create a new {@link SnapshotCredHubOperations}.
+	 * @param delegate the {@link CredHubOperations} used to interact with CredHub; must
+	 * not be {@literal null}
+	 * @param store the store of credential snapshots; must not be {@literal null}
+	 * @param maxStaleness the maximum age of a snapshot that will be returned instead of
+	 * a response from CredHub; must not be {@literal null} or negative
+	 * @param executor the {@link Executor} used to revalidate snapshots in the
+	 * background; must not be {@literal null}
+	 */
+	public SnapshotCredHubOperations(CredHubOperations delegate, CredentialSnapshotStore store, Duration maxStaleness,
+			Executor executor) {
+		Assert.notNull(delegate, "delegate must not be null");
+
+		this.delegate = delegate;
+		this.credentialOperations = new SnapshotCredHubCredentialTemplate(delegate.credentials(), store,
+				maxStaleness, executor);
+	}
+
+	/**
+	 * Get the {@link CredHubOperations} this instance delegates to.
+	 * @return the delegate
+	 */
+	public CredHubOperations getDelegate() {
+		return this.delegate;
+	}
+
+	@Override
+	public CredHubCredentialOperations credentials() {
+		return this.credentialOperations;
+	}
+
+	@Override
+	public CredHubPermissionOperations permissions() {
+		return this.delegate.permissions();
+	}
+
+	@Override
+	public CredHubPermissionV2Operations permissionsV2() {
+		return this.delegate.permissionsV2();
+	}
+
+	@Override
+	public CredHubCertificateOperations certificates() {
+		return this.delegate.certificates();
+	}
+
+	@Override
+	public CredHubInterpolationOperations interpolation() {
+		return this.delegate.interpolation();
+	}
+
+	@Override
+	public CredHubInfoOperations info() {
+		return this.delegate.info();
+	}
+
+	@Override
+	public <T> T doWithRest(RestOperationsCallback<T> callback) {
+		return this.delegate.doWithRest(callback);
+	}
+
+}
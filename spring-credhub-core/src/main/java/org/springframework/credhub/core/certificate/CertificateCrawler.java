@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.certificate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.certificate.CertificateCredential;
+
+/**
+ * Retrieves certificate names, versions, and values from CredHub on behalf of a
+ * {@link CertificateInventory}.
+ *
+ * @author agent
+ */
+interface CertificateCrawler {
+
+	/**
+	 * Get the names of all certificates.
+	 * @return the certificate names
+	 */
+	List<String> getCertificateNames();
+
+	/**
+	 * Get the creation time of the current version of all credentials, in a single
+	 * request.
+	 * @return the credential version creation times, keyed by credential name
+	 */
+	Map<String, Instant> getVersions();
+
+	/**
+	 * Retrieve the current version of the named certificates. Certificates that can not
+	 * be retrieved are omitted from the result.
+	 * @param names the names of the certificates to retrieve
+	 * @return the retrieved certificates
+	 */
+	List<CredentialDetails<CertificateCredential>> fetch(List<String> names);
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.certificate;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.credhub.support.certificate.CertificateSummary;
+
+/**
+ * A local index of certificate IDs by certificate name, used to avoid looking up the ID
+ * of a certificate before each operation that requires one. The index is seeded with the
+ * certificates returned from a single request for all certificates and updated with the
+ * certificates returned from later requests, including the responses to operations that
+ * modify a certificate by ID. Certificates deleted through other operations are removed
+ * when CredHub reports that an indexed ID no longer exists.
+ *
+ * @author agent
+ */
+final class CertificateIdIndex {
+
+	private volatile Map<String, String> ids = new ConcurrentHashMap<>();
+
+	/**
+	 * Replace the contents of the index.
+	 * @param certificates all certificates
+	 */
+	void seed(Collection<CertificateSummary> certificates) {
+		Map<String, String> ids = new ConcurrentHashMap<>(certificates.size());
+		for (CertificateSummary certificate : certificates) {
+			if (certificate.getName() != null && certificate.getId() != null) {
+				ids.put(key(certificate.getName()), certificate.getId());
+			}
+		}
+		this.ids = ids;
+	}
+
+	/**
+	 * Add or replace a certificate in the index.
+	 * @param certificate the certificate
+	 */
+	void put(CertificateSummary certificate) {
+		if (certificate != null && certificate.getName() != null && certificate.getId() != null) {
+			this.ids.put(key(certificate.getName()), certificate.getId());
+		}
+	}
+
+	/**
+	 * Get the ID of a certificate.
+	 * @param name the certificate name
+	 * @return the certificate ID, or {@literal null} if the certificate is not in the
+	 * index
+	 */
+	String get(String name) {
+		return this.ids.get(key(name));
+	}
+
+	/**
+	 * Remove a certificate from the index.
+	 * @param name the certificate name
+	 */
+	void remove(String name) {
+		this.ids.remove(key(name));
+	}
+
+	/**
+	 * Normalize a certificate name. CredHub stores all names with a leading slash, and
+	 * accepts names without one.
+	 * @param name the certificate name
+	 * @return the normalized name
+	 */
+	private static String key(String name) {
+		return name.startsWith("/") ? name : "/" + name;
+	}
+
+}
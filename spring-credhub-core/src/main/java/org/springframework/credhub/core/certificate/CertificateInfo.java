@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.certificate;
+
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+
+import org.springframework.util.Assert;
+
+/**
+ * The properties of the current version of a certificate credential that are indexed by a
+ * {@link CertificateInventory}.
+ *
+ * @author agent
+ */
+public class CertificateInfo {
+
+	private final String name;
+
+	private final String versionId;
+
+	private final Instant versionCreatedAt;
+
+	private final String subject;
+
+	private final String issuer;
+
+	private final String serialNumber;
+
+	private final Instant notBefore;
+
+	private final Instant notAfter;
+
+	private final boolean certificateAuthority;
+
+	/**
+	 * Create a {@link CertificateInfo} from a parsed certificate.
+	 * @param name the name of the certificate credential; must not be {@literal null}
+	 * @param versionId the ID of the certificate credential version; may be
+	 * {@literal null}
+	 * @param versionCreatedAt the creation time of the certificate credential version;
+	 * may be {@literal null}
+	 * @param certificate the parsed certificate; must not be {@literal null}
+	 */
+	public CertificateInfo(String name, String versionId, Instant versionCreatedAt, X509Certificate certificate) {
+		Assert.notNull(name, "name must not be null");
+		Assert.notNull(certificate, "certificate must not be null");
+		this.name = name;
+		this.versionId = versionId;
+		this.versionCreatedAt = versionCreatedAt;
+		this.subject = certificate.getSubjectX500Principal().getName();
+		this.issuer = certificate.getIssuerX500Principal().getName();
+		this.serialNumber = certificate.getSerialNumber().toString(16);
+		this.notBefore = certificate.getNotBefore().toInstant();
+		this.notAfter = certificate.getNotAfter().toInstant();
+		this.certificateAuthority = certificate.getBasicConstraints() != -1;
+	}
+
+	/**
+	 * Get the name of the certificate credential.
+	 * @return the credential name
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Get the ID of the certificate credential version.
+	 * @return the version ID
+	 */
+	public String getVersionId() {
+		return this.versionId;
+	}
+
+	/**
+	 * Get the creation time of the certificate credential version.
+	 * @return the version creation time
+	 */
+	public Instant getVersionCreatedAt() {
+		return this.versionCreatedAt;
+	}
+
+	/**
+	 * Get the subject distinguished name of the certificate.
+	 * @return the subject
+	 */
+	public String getSubject() {
+		return this.subject;
+	}
+
+	/**
+	 * Get the issuer distinguished name of the certificate.
+	 * @return the issuer
+	 */
+	public String getIssuer() {
+		return this.issuer;
+	}
+
+	/**
+	 * Get the serial number of the certificate, in hexadecimal.
+	 * @return the serial number
+	 */
+	public String getSerialNumber() {
+		return this.serialNumber;
+	}
+
+	/**
+	 * Get the start of the certificate validity period.
+	 * @return the validity start
+	 */
+	public Instant getNotBefore() {
+		return this.notBefore;
+	}
+
+	/**
+	 * Get the end of the certificate validity period.
+	 * @return the expiry time
+	 */
+	public Instant getNotAfter() {
+		return this.notAfter;
+	}
+
+	/**
+	 * Determine whether the certificate is a certificate authority.
+	 * @return {@literal true} if the certificate can sign other certificates
+	 */
+	public boolean isCertificateAuthority() {
+		return this.certificateAuthority;
+	}
+
+	/**
+	 * Determine whether the certificate is self-signed.
+	 * @return {@literal true} if the subject and issuer are the same
+	 */
+	public boolean isSelfSigned() {
+		return this.subject.equals(this.issuer);
+	}
+
+	@Override
+	public String toString() {
+		return "CertificateInfo{" + "name='" + this.name + '\'' + ", versionId='" + this.versionId + '\''
+				+ ", subject='" + this.subject + '\'' + ", issuer='" + this.issuer + '\'' + ", notAfter="
+				+ this.notAfter + ", certificateAuthority=" + this.certificateAuthority + '}';
+	}
+
+}
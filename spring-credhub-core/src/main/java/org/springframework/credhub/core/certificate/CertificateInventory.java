@@ -0,0 +1,386 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.certificate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.credhub.core.CredHubOperations;
+import org.springframework.credhub.core.ReactiveCredHubOperations;
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.certificate.CertificateCredential;
+import org.springframework.util.Assert;
+
+/**
+ * An in-memory inventory of the certificates stored in CredHub, indexed by expiry time,
+ * issuer, and certificate authority.
+ *
+ * Calling {@link #refresh()} retrieves the names of all certificates and the current
+ * version of all credentials, then retrieves only the certificates that are new or have a
+ * new version since the previous refresh, with a bounded number of concurrent requests.
+ * The retrieved certificates are parsed in parallel on a {@link ForkJoinPool} and the
+ * indexes are rebuilt and published atomically, so queries never block and always see a
+ * consistent inventory.
+ *
+ * A certificate is considered to be issued by a certificate authority in the inventory
+ * when the issuer of the certificate matches the subject of the certificate authority.
+ *
+ * @author agent
+ */
+public class CertificateInventory {
+
+	private static final Log logger = LogFactory.getLog(CertificateInventory.class);
+
+	private final CertificateCrawler crawler;
+
+	private final ForkJoinPool parsingPool;
+
+	private final Clock clock;
+
+	private final Object refreshMonitor = new Object();
+
+	private volatile Index index = Index.EMPTY;
+
+	/**
+	 * Create a new {@link CertificateInventory} that parses certificates on the common
+	 * {@link ForkJoinPool}.
+	 * @param credHubOperations the {@link CredHubOperations} to use for interactions with
+	 * CredHub; must not be {@literal null}
+	 * @param executor the {@link Executor} used to retrieve certificates concurrently;
+	 * must not be {@literal null}
+	 * @param maxConcurrency the maximum number of concurrent requests; must be greater
+	 * than {@literal 0}
+	 */
+	public CertificateInventory(CredHubOperations credHubOperations, Executor executor, int maxConcurrency) {
+		this(credHubOperations, executor, maxConcurrency, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Create a new {@link CertificateInventory}.
+	 * @param credHubOperations the {@link CredHubOperations} to use for interactions with
+	 * CredHub; must not be {@literal null}
+	 * @param executor the {@link Executor} used to retrieve certificates concurrently;
+	 * must not be {@literal null}
+	 * @param maxConcurrency the maximum number of concurrent requests; must be greater
+	 * than {@literal 0}
+	 * @param parsingPool the {@link ForkJoinPool} used to parse certificates; must not be
+	 * {@literal null}
+	 */
+	public CertificateInventory(CredHubOperations credHubOperations, Executor executor, int maxConcurrency,
+			ForkJoinPool parsingPool) {
+		this(crawler(credHubOperations, executor, maxConcurrency), parsingPool, Clock.systemUTC());
+	}
+
+	/**
+	 * Create a new {@link CertificateInventory} that retrieves certificates using the
+	 * reactive client. {@link #refresh()} blocks until all certificates have been
+	 * retrieved and must not be called from a non-blocking thread.
+	 * @param credHubOperations the {@link ReactiveCredHubOperations} to use for
+	 * interactions with CredHub; must not be {@literal null}
+	 * @param maxConcurrency the maximum number of concurrent requests; must be greater
+	 * than {@literal 0}
+	 * @param parsingPool the {@link ForkJoinPool} used to parse certificates; must not be
+	 * {@literal null}
+	 */
+	public CertificateInventory(ReactiveCredHubOperations credHubOperations, int maxConcurrency,
+			ForkJoinPool parsingPool) {
+		this(crawler(credHubOperations, maxConcurrency), parsingPool, Clock.systemUTC());
+	}
+
+	CertificateInventory(CertificateCrawler crawler, ForkJoinPool parsingPool, Clock clock) {
+		Assert.notNull(parsingPool, "parsingPool must not be null");
+		this.crawler = crawler;
+		this.parsingPool = parsingPool;
+		this.clock = clock;
+	}
+
+	private static CertificateCrawler crawler(CredHubOperations credHubOperations, Executor executor,
+			int maxConcurrency) {
+		Assert.notNull(credHubOperations, "credHubOperations must not be null");
+		Assert.notNull(executor, "executor must not be null");
+		Assert.isTrue(maxConcurrency > 0, "maxConcurrency must be greater than 0");
+		return new CredHubCertificateCrawler(credHubOperations, executor, maxConcurrency);
+	}
+
+	private static CertificateCrawler crawler(ReactiveCredHubOperations credHubOperations, int maxConcurrency) {
+		Assert.notNull(credHubOperations, "credHubOperations must not be null");
+		Assert.isTrue(maxConcurrency > 0, "maxConcurrency must be greater than 0");
+		return new ReactiveCredHubCertificateCrawler(credHubOperations, maxConcurrency);
+	}
+
+	/**
+	 * Bring the inventory up to date with CredHub, retrieving only certificates that are
+	 * new or have changed since the previous refresh. Certificates that no longer exist
+	 * are removed from the inventory. A changed certificate that can not be retrieved or
+	 * parsed keeps its previous entry and is retried on the next refresh. Concurrent calls
+	 * are serialized.
+	 * @return the number of certificates that were retrieved
+	 */
+	public int refresh() {
+		synchronized (this.refreshMonitor) {
+			Index previous = this.index;
+
+			List<String> names = this.crawler.getCertificateNames();
+			Map<String, Instant> versions = this.crawler.getVersions();
+
+			List<String> changed = new ArrayList<>();
+			Map<String, Entry> entries = new HashMap<>(names.size());
+			for (String name : names) {
+				Entry entry = previous.entries.get(name);
+				Instant version = versions.get(name);
+				if (entry != null && version != null && version.equals(entry.version)) {
+					entries.put(name, entry);
+				}
+				else {
+					changed.add(name);
+				}
+			}
+
+			if (!changed.isEmpty()) {
+				List<CredentialDetails<CertificateCredential>> fetched = this.crawler.fetch(changed);
+				for (Entry entry : parse(fetched)) {
+					entries.put(entry.name, entry);
+				}
+				for (String name : changed) {
+					Entry entry = previous.entries.get(name);
+					if (entry != null) {
+						entries.putIfAbsent(name, entry);
+					}
+				}
+			}
+
+			this.index = new Index(entries, this.clock.instant());
+
+			if (logger.isDebugEnabled()) {
+				logger.debug("Refreshed certificate inventory of " + entries.size() + " certificates, retrieved "
+						+ changed.size());
+			}
+
+			return changed.size();
+		}
+	}
+
+	private List<Entry> parse(List<CredentialDetails<CertificateCredential>> fetched) {
+		return this.parsingPool
+			.submit(() -> fetched.parallelStream().map(CertificateInventory::parse).filter(Objects::nonNull).toList())
+			.join();
+	}
+
+	private static Entry parse(CredentialDetails<CertificateCredential> details) {
+		String name = details.getName().getName();
+		Instant version = (details.getVersionCreatedAt() != null) ? details.getVersionCreatedAt().toInstant() : null;
+		String pem = (details.getValue() != null) ? details.getValue().getCertificate() : null;
+		if (pem == null) {
+			return new Entry(name, version, null);
+		}
+
+		try {
+			CertificateFactory factory = CertificateFactory.getInstance("X.509");
+			X509Certificate certificate = (X509Certificate) factory
+				.generateCertificate(new ByteArrayInputStream(pem.getBytes(StandardCharsets.US_ASCII)));
+			return new Entry(name, version, new CertificateInfo(name, details.getId(), version, certificate));
+		}
+		catch (CertificateException | ClassCastException ex) {
+			logger.warn("Unable to parse certificate " + name, ex);
+			return null;
+		}
+	}
+
+	/**
+	 * Get the time of the last successful refresh.
+	 * @return the last refresh time, or {@literal null} if the inventory has not been
+	 * refreshed
+	 */
+	public Instant getLastRefreshed() {
+		return this.index.refreshed;
+	}
+
+	/**
+	 * Get a certificate by credential name.
+	 * @param name the credential name
+	 * @return the certificate, or {@literal null} if the certificate is not in the
+	 * inventory
+	 */
+	public CertificateInfo getCertificate(String name) {
+		return this.index.certificates.get(name);
+	}
+
+	/**
+	 * Get all certificates in the inventory, ordered by expiry time.
+	 * @return the certificates
+	 */
+	public List<CertificateInfo> getCertificates() {
+		return flatten(this.index.byExpiry.values());
+	}
+
+	/**
+	 * Get the certificates that have expired or will expire within the provided period,
+	 * ordered by expiry time.
+	 * @param period the period from now; must not be {@literal null}
+	 * @return the certificates expiring before the end of the period
+	 */
+	public List<CertificateInfo> getExpiringWithin(Duration period) {
+		Assert.notNull(period, "period must not be null");
+		return flatten(this.index.byExpiry.headMap(this.clock.instant().plus(period), true).values());
+	}
+
+	/**
+	 * Get the certificate with the earliest expiry time.
+	 * @return the certificate, or {@literal null} if the inventory is empty
+	 */
+	public CertificateInfo getEarliestExpiring() {
+		Map.Entry<Instant, List<CertificateInfo>> earliest = this.index.byExpiry.firstEntry();
+		return (earliest != null) ? earliest.getValue().get(0) : null;
+	}
+
+	/**
+	 * Get the certificates that have expired, ordered by expiry time.
+	 * @return the expired certificates
+	 */
+	public List<CertificateInfo> getExpired() {
+		return flatten(this.index.byExpiry.headMap(this.clock.instant(), false).values());
+	}
+
+	/**
+	 * Get the certificate authorities in the inventory.
+	 * @return the certificate authorities
+	 */
+	public List<CertificateInfo> getCertificateAuthorities() {
+		return Collections.unmodifiableList(this.index.certificateAuthorities);
+	}
+
+	/**
+	 * Get the certificates in the inventory issued by a certificate authority.
+	 * @param certificateAuthorityName the credential name of the certificate authority
+	 * @return the issued certificates, excluding the certificate authority itself; empty
+	 * if the named certificate is not a certificate authority in the inventory
+	 */
+	public List<CertificateInfo> getIssuedBy(String certificateAuthorityName) {
+		Index index = this.index;
+		CertificateInfo certificateAuthority = index.certificates.get(certificateAuthorityName);
+		if (certificateAuthority == null || !certificateAuthority.isCertificateAuthority()) {
+			return Collections.emptyList();
+		}
+		return index.byIssuer.getOrDefault(certificateAuthority.getSubject(), Collections.emptyList())
+			.stream()
+			.filter((certificate) -> !certificate.getName().equals(certificateAuthorityName))
+			.toList();
+	}
+
+	/**
+	 * Get the certificate authority in the inventory that issued a certificate.
+	 * @param name the credential name of the certificate
+	 * @return the issuing certificate authority, or {@literal null} if the certificate is
+	 * self-signed or the issuer is not in the inventory
+	 */
+	public CertificateInfo getIssuer(String name) {
+		Index index = this.index;
+		CertificateInfo certificate = index.certificates.get(name);
+		if (certificate == null || certificate.isSelfSigned()) {
+			return null;
+		}
+		return index.certificateAuthorities.stream()
+			.filter((certificateAuthority) -> certificateAuthority.getSubject().equals(certificate.getIssuer()))
+			.findFirst()
+			.orElse(null);
+	}
+
+	Clock getClock() {
+		return this.clock;
+	}
+
+	private static List<CertificateInfo> flatten(Collection<List<CertificateInfo>> values) {
+		List<CertificateInfo> result = new ArrayList<>();
+		values.forEach(result::addAll);
+		return result;
+	}
+
+	private static final class Entry {
+
+		private final String name;
+
+		private final Instant version;
+
+		private final CertificateInfo certificate;
+
+		private Entry(String name, Instant version, CertificateInfo certificate) {
+			this.name = name;
+			this.version = version;
+			this.certificate = certificate;
+		}
+
+	}
+
+	/**
+	 * An immutable snapshot of the inventory indexes.
+	 */
+	private static final class Index {
+
+		static final Index EMPTY = new Index(Collections.emptyMap(), null);
+
+		private final Map<String, Entry> entries;
+
+		private final Instant refreshed;
+
+		private final Map<String, CertificateInfo> certificates = new HashMap<>();
+
+		private final NavigableMap<Instant, List<CertificateInfo>> byExpiry = new TreeMap<>();
+
+		private final Map<String, List<CertificateInfo>> byIssuer = new HashMap<>();
+
+		private final List<CertificateInfo> certificateAuthorities = new ArrayList<>();
+
+		private Index(Map<String, Entry> entries, Instant refreshed) {
+			this.entries = entries;
+			this.refreshed = refreshed;
+			for (Entry entry : entries.values()) {
+				CertificateInfo certificate = entry.certificate;
+				if (certificate == null) {
+					continue;
+				}
+				this.certificates.put(certificate.getName(), certificate);
+				this.byExpiry.computeIfAbsent(certificate.getNotAfter(), (key) -> new ArrayList<>()).add(certificate);
+				this.byIssuer.computeIfAbsent(certificate.getIssuer(), (key) -> new ArrayList<>()).add(certificate);
+				if (certificate.isCertificateAuthority()) {
+					this.certificateAuthorities.add(certificate);
+				}
+			}
+		}
+
+	}
+
+}
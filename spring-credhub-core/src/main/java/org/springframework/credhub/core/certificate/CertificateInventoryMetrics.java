@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.certificate;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.util.Assert;
+
+/**
+ * A Micrometer {@link MeterBinder} that exposes gauges for the certificates in a
+ * {@link CertificateInventory}. Gauge values are computed from the most recent refresh of
+ * the inventory when they are sampled.
+ *
+ * @author agent
+ */
+public class CertificateInventoryMetrics implements MeterBinder {
+
+	/**
+	 * The default period used for the number of certificates expiring soon.
+	 */
+	public static final Duration DEFAULT_EXPIRING_WITHIN = Duration.ofDays(30);
+
+	private final CertificateInventory inventory;
+
+	private final Duration expiringWithin;
+
+	/**
+	 * Create a new {@link CertificateInventoryMetrics} that counts certificates expiring
+	 * within {@link #DEFAULT_EXPIRING_WITHIN}.
+	 * @param inventory the inventory to expose; must not be {@literal null}
+	 */
+	public CertificateInventoryMetrics(CertificateInventory inventory) {
+		this(inventory, DEFAULT_EXPIRING_WITHIN);
+	}
+
+	/**
+	 * Create a new {@link CertificateInventoryMetrics}.
+	 * @param inventory the inventory to expose; must not be {@literal null}
+	 * @param expiringWithin the period used for the number of certificates expiring soon;
+	 * must not be {@literal null}
+	 */
+	public CertificateInventoryMetrics(CertificateInventory inventory, Duration expiringWithin) {
+		Assert.notNull(inventory, "inventory must not be null");
+		Assert.notNull(expiringWithin, "expiringWithin must not be null");
+		this.inventory = inventory;
+		this.expiringWithin = expiringWithin;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("credhub.certificates", this.inventory, (inventory) -> inventory.getCertificates().size())
+			.description("The number of certificates in the inventory")
+			.register(registry);
+		Gauge
+			.builder("credhub.certificates.authorities", this.inventory,
+					(inventory) -> inventory.getCertificateAuthorities().size())
+			.description("The number of certificate authorities in the inventory")
+			.register(registry);
+		Gauge.builder("credhub.certificates.expired", this.inventory, (inventory) -> inventory.getExpired().size())
+			.description("The number of expired certificates")
+			.register(registry);
+		Gauge
+			.builder("credhub.certificates.expiring", this.inventory,
+					(inventory) -> inventory.getExpiringWithin(this.expiringWithin).size())
+			.tag("within", this.expiringWithin.toString())
+			.description("The number of certificates that have expired or will expire within the period")
+			.register(registry);
+		TimeGauge
+			.builder("credhub.certificates.earliest.expiry", this.inventory, TimeUnit.SECONDS,
+					CertificateInventoryMetrics::secondsUntilEarliestExpiry)
+			.description("The time until the earliest certificate expiry, negative if a certificate has expired")
+			.register(registry);
+	}
+
+	private static double secondsUntilEarliestExpiry(CertificateInventory inventory) {
+		CertificateInfo earliest = inventory.getEarliestExpiring();
+		if (earliest == null) {
+			return Double.NaN;
+		}
+		return Duration.between(inventory.getClock().instant(), earliest.getNotAfter()).toSeconds();
+	}
+
+}
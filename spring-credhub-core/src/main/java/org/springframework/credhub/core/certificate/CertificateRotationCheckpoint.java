@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.certificate;
+
+import org.springframework.util.Assert;
+
+/**
+ * The progress of the rotation of a single certificate authority, recorded by a
+ * {@link CertificateRotationOrchestrator} after each completed phase so that an
+ * interrupted rotation can be resumed.
+ *
+ * @author agent
+ */
+public class CertificateRotationCheckpoint {
+
+	private final String certificateAuthorityName;
+
+	private final String certificateId;
+
+	private final String previousVersionId;
+
+	private final CertificateRotationPhase completedPhase;
+
+	/**
+	 * Create an empty {@link CertificateRotationCheckpoint}. Intended to be used
+	 * internally for deserialization of stored checkpoints.
+	 */
+	private CertificateRotationCheckpoint() {
+		this.certificateAuthorityName = null;
+		this.certificateId = null;
+		this.previousVersionId = null;
+		this.completedPhase = null;
+	}
+
+	/**
+	 * Create a new {@link CertificateRotationCheckpoint}.
+	 * @param certificateAuthorityName the name of the certificate authority; must not be
+	 * {@literal null}
+	 * @param certificateId the ID of the certificate authority; must not be
+	 * {@literal null}
+	 * @param previousVersionId the ID of the version of the certificate authority that
+	 * was current before the rotation started; must not be {@literal null}
+	 * @param completedPhase the last completed phase; {@literal null} if no phase has
+	 * been completed
+	 */
+	public CertificateRotationCheckpoint(String certificateAuthorityName, String certificateId,
+			String previousVersionId, CertificateRotationPhase completedPhase) {
+		Assert.notNull(certificateAuthorityName, "certificateAuthorityName must not be null");
+		Assert.notNull(certificateId, "certificateId must not be null");
+		Assert.notNull(previousVersionId, "previousVersionId must not be null");
+		this.certificateAuthorityName = certificateAuthorityName;
+		this.certificateId = certificateId;
+		this.previousVersionId = previousVersionId;
+		this.completedPhase = completedPhase;
+	}
+
+	/**
+	 * Get the name of the certificate authority.
+	 * @return the certificate authority name
+	 */
+	public String getCertificateAuthorityName() {
+		return this.certificateAuthorityName;
+	}
+
+	/**
+	 * Get the ID of the certificate authority.
+	 * @return the certificate ID
+	 */
+	public String getCertificateId() {
+		return this.certificateId;
+	}
+
+	/**
+	 * Get the ID of the version of the certificate authority that was current before the
+	 * rotation started.
+	 * @return the previous version ID
+	 */
+	public String getPreviousVersionId() {
+		return this.previousVersionId;
+	}
+
+	/**
+	 * Get the last completed phase.
+	 * @return the completed phase, or {@literal null} if no phase has been completed
+	 */
+	public CertificateRotationPhase getCompletedPhase() {
+		return this.completedPhase;
+	}
+
+	/**
+	 * Create a copy of this checkpoint with a new completed phase.
+	 * @param phase the completed phase
+	 * @return the new checkpoint
+	 */
+	public CertificateRotationCheckpoint completed(CertificateRotationPhase phase) {
+		return new CertificateRotationCheckpoint(this.certificateAuthorityName, this.certificateId,
+				this.previousVersionId, phase);
+	}
+
+	@Override
+	public String toString() {
+		return "CertificateRotationCheckpoint{" + "certificateAuthorityName='" + this.certificateAuthorityName + '\''
+				+ ", certificateId='" + this.certificateId + '\'' + ", previousVersionId='" + this.previousVersionId
+				+ '\'' + ", completedPhase=" + this.completedPhase + '}';
+	}
+
+}
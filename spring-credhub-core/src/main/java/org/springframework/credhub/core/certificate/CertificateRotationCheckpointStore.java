@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.certificate;
+
+/**
+ * Stores the progress of certificate authority rotations performed by a
+ * {@link CertificateRotationOrchestrator}. Implementations must be safe for concurrent
+ * use.
+ *
+ * @author agent
+ */
+public interface CertificateRotationCheckpointStore {
+
+	/**
+	 * Load the progress of the rotation of a certificate authority.
+	 * @param certificateAuthorityName the name of the certificate authority
+	 * @return the stored checkpoint, or {@literal null} if no rotation is in progress
+	 */
+	CertificateRotationCheckpoint load(String certificateAuthorityName);
+
+	/**
+	 * Store the progress of the rotation of a certificate authority, replacing any
+	 * previously stored progress.
+	 * @param checkpoint the checkpoint to store
+	 */
+	void save(CertificateRotationCheckpoint checkpoint);
+
+	/**
+	 * Remove the progress of a completed rotation of a certificate authority.
+	 * @param certificateAuthorityName the name of the certificate authority
+	 */
+	void remove(String certificateAuthorityName);
+
+}
@@ -0,0 +1,436 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.certificate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.credhub.core.CredHubOperations;
+import org.springframework.credhub.support.SimpleCredentialName;
+import org.springframework.credhub.support.certificate.CertificateCredential;
+import org.springframework.util.Assert;
+
+/**
+ * Rotates certificate authorities and the certificates they sign using the CredHub
+ * transitional version workflow. Each certificate authority is taken through the
+ * {@link CertificateRotationPhase phases} in order:
+ * <ol>
+ * <li>{@link CertificateRotationPhase#PREPARE}: regenerate the certificate authority as a
+ * transitional version, unless a version newer than the one recorded when the rotation
+ * started already exists</li>
+ * <li>{@link CertificateRotationPhase#ACTIVATE}: make the new version the signing version
+ * and mark the previous version as transitional</li>
+ * <li>{@link CertificateRotationPhase#REGENERATE}: bulk-regenerate all certificates
+ * signed by the certificate authority. When certificate authorities it issued are also
+ * being rotated, the other certificates it issued are regenerated individually instead,
+ * so that the issued certificate authorities are not reissued without a transitional
+ * version</li>
+ * <li>{@link CertificateRotationPhase#CLEANUP}: clear the transitional version</li>
+ * </ol>
+ *
+ * The certificate authority dependency graph is built from a
+ * {@link CertificateInventory}. A certificate authority is rotated only after the
+ * certificate authority that issued it, if that is also being rotated. Independent
+ * subtrees of the graph are rotated concurrently, with no more than the configured number
+ * of certificate authorities in progress at any time.
+ *
+ * Progress is recorded in a {@link CertificateRotationCheckpointStore} after every
+ * completed phase. Requesting the rotation of a certificate authority with a stored
+ * checkpoint resumes the rotation after the last completed phase. Deployments that need
+ * to roll out trusted certificate authorities between phases can rotate up to a given
+ * phase, deploy, and then request the rotation again to continue.
+ *
+ * @author agent
+ */
+public class CertificateRotationOrchestrator {
+
+	private static final Log logger = LogFactory.getLog(CertificateRotationOrchestrator.class);
+
+	private final CredHubOperations credHubOperations;
+
+	private final CertificateInventory inventory;
+
+	private final Executor executor;
+
+	private final int parallelism;
+
+	private final CertificateRotationCheckpointStore checkpointStore;
+
+	/**
+	 * Create a new {@link CertificateRotationOrchestrator} that keeps progress in memory.
+	 * @param credHubOperations the {@link CredHubOperations} to use for interactions with
+	 * CredHub; must not be {@literal null}
+	 * @param inventory the {@link CertificateInventory} used to build the dependency
+	 * graph; must not be {@literal null}
+	 * @param executor the {@link Executor} used to rotate certificate authorities
+	 * concurrently; must not be {@literal null}
+	 * @param parallelism the maximum number of certificate authorities rotated
+	 * concurrently; must be greater than {@literal 0}
+	 */
+	public CertificateRotationOrchestrator(CredHubOperations credHubOperations, CertificateInventory inventory,
+			Executor executor, int parallelism) {
+		this(credHubOperations, inventory, executor, parallelism, new InMemoryCertificateRotationCheckpointStore());
+	}
+
+	/**
+	 * Create a new {@link CertificateRotationOrchestrator}.
+	 * @param credHubOperations the {@link CredHubOperations} to use for interactions with
+	 * CredHub; must not be {@literal null}
+	 * @param inventory the {@link CertificateInventory} used to build the dependency
+	 * graph; must not be {@literal null}
+	 * @param executor the {@link Executor} used to rotate certificate authorities
+	 * concurrently; must not be {@literal null}
+	 * @param parallelism the maximum number of certificate authorities rotated
+	 * concurrently; must be greater than {@literal 0}
+	 * @param checkpointStore the store for rotation progress; must not be {@literal null}
+	 */
+	public CertificateRotationOrchestrator(CredHubOperations credHubOperations, CertificateInventory inventory,
+			Executor executor, int parallelism, CertificateRotationCheckpointStore checkpointStore) {
+		Assert.notNull(credHubOperations, "credHubOperations must not be null");
+		Assert.notNull(inventory, "inventory must not be null");
+		Assert.notNull(executor, "executor must not be null");
+		Assert.isTrue(parallelism > 0, "parallelism must be greater than 0");
+		Assert.notNull(checkpointStore, "checkpointStore must not be null");
+
+		this.credHubOperations = credHubOperations;
+		this.inventory = inventory;
+		this.executor = executor;
+		this.parallelism = parallelism;
+		this.checkpointStore = checkpointStore;
+	}
+
+	/**
+	 * Rotate certificate authorities through all phases.
+	 * @param certificateAuthorityNames the names of the certificate authorities to
+	 * rotate; must not be {@literal null}
+	 * @return the rotation report
+	 */
+	public CertificateRotationReport rotate(Collection<String> certificateAuthorityNames) {
+		return rotate(certificateAuthorityNames, CertificateRotationPhase.CLEANUP);
+	}
+
+	/**
+	 * Rotate certificate authorities up to and including a phase. Checkpoints are kept
+	 * unless the last phase is {@link CertificateRotationPhase#CLEANUP}, so that a later
+	 * call continues the rotation with the next phase.
+	 * @param certificateAuthorityNames the names of the certificate authorities to
+	 * rotate; must not be {@literal null}
+	 * @param lastPhase the last phase to apply; must not be {@literal null}
+	 * @return the rotation report
+	 */
+	public CertificateRotationReport rotate(Collection<String> certificateAuthorityNames,
+			CertificateRotationPhase lastPhase) {
+		Assert.notNull(certificateAuthorityNames, "certificateAuthorityNames must not be null");
+		Assert.notNull(lastPhase, "lastPhase must not be null");
+
+		long start = System.nanoTime();
+
+		this.inventory.refresh();
+		Graph graph = buildGraph(certificateAuthorityNames);
+
+		Rotation rotation = new Rotation(lastPhase);
+		Executor boundedExecutor = new BoundedExecutor(this.executor, this.parallelism);
+
+		List<CompletableFuture<Void>> subtrees = new ArrayList<>();
+		for (String root : graph.roots) {
+			subtrees.add(rotateSubtree(root, graph, rotation, boundedExecutor));
+		}
+		CompletableFuture.allOf(subtrees.toArray(new CompletableFuture<?>[0])).join();
+
+		return rotation.report(Duration.ofNanos(System.nanoTime() - start));
+	}
+
+	private Graph buildGraph(Collection<String> certificateAuthorityNames) {
+		Set<String> names = new LinkedHashSet<>(certificateAuthorityNames);
+		Graph graph = new Graph();
+
+		for (String name : names) {
+			CertificateInfo certificate = this.inventory.getCertificate(name);
+			Assert.isTrue(certificate != null && certificate.isCertificateAuthority(),
+					() -> "'" + name + "' is not a certificate authority");
+
+			CertificateInfo issuer = this.inventory.getIssuer(name);
+			if (issuer != null && names.contains(issuer.getName())) {
+				graph.children.computeIfAbsent(issuer.getName(), (key) -> new ArrayList<>()).add(name);
+			}
+			else {
+				graph.roots.add(name);
+			}
+		}
+
+		return graph;
+	}
+
+	private CompletableFuture<Void> rotateSubtree(String name, Graph graph, Rotation rotation, Executor executor) {
+		List<String> children = graph.children.getOrDefault(name, Collections.emptyList());
+		return CompletableFuture.supplyAsync(() -> rotate(name, children, rotation), executor)
+			.thenCompose((rotated) -> {
+				if (!rotated) {
+					children.forEach((child) -> skip(child, graph, rotation));
+					return CompletableFuture.completedFuture(null);
+				}
+				return CompletableFuture.allOf(children.stream()
+					.map((child) -> rotateSubtree(child, graph, rotation, executor))
+					.toArray(CompletableFuture<?>[]::new));
+			});
+	}
+
+	private void skip(String name, Graph graph, Rotation rotation) {
+		rotation.skipped.add(name);
+		graph.children.getOrDefault(name, Collections.emptyList()).forEach((child) -> skip(child, graph, rotation));
+	}
+
+	private boolean rotate(String name, List<String> rotatedChildren, Rotation rotation) {
+		try {
+			CertificateRotationCheckpoint checkpoint = this.checkpointStore.load(name);
+			if (checkpoint == null) {
+				checkpoint = startRotation(name);
+			}
+
+			for (CertificateRotationPhase phase : CertificateRotationPhase.values()) {
+				if (phase.compareTo(rotation.lastPhase) > 0) {
+					break;
+				}
+				if (checkpoint.getCompletedPhase() != null && phase.compareTo(checkpoint.getCompletedPhase()) <= 0) {
+					continue;
+				}
+
+				long phaseStart = System.nanoTime();
+				int certificates = apply(phase, checkpoint, rotatedChildren);
+				rotation.phase(phase).record(phaseStart, System.nanoTime(), certificates);
+
+				checkpoint = checkpoint.completed(phase);
+				this.checkpointStore.save(checkpoint);
+			}
+
+			if (rotation.lastPhase == CertificateRotationPhase.CLEANUP) {
+				this.checkpointStore.remove(name);
+			}
+			rotation.completed.add(name);
+			return true;
+		}
+		catch (RuntimeException ex) {
+			logger.warn("Rotation of certificate authority " + name + " failed", ex);
+			rotation.failed.put(name, ex);
+			return false;
+		}
+	}
+
+	private CertificateRotationCheckpoint startRotation(String name) {
+		SimpleCredentialName credentialName = new SimpleCredentialName(name);
+		String certificateId = this.credHubOperations.certificates().getByName(credentialName).getId();
+		String versionId = this.credHubOperations.credentials()
+			.getByName(credentialName, CertificateCredential.class)
+			.getId();
+
+		CertificateRotationCheckpoint checkpoint = new CertificateRotationCheckpoint(name, certificateId, versionId,
+				null);
+		this.checkpointStore.save(checkpoint);
+		return checkpoint;
+	}
+
+	private int apply(CertificateRotationPhase phase, CertificateRotationCheckpoint checkpoint,
+			List<String> rotatedChildren) {
+		CredHubCertificateOperations certificates = this.credHubOperations.certificates();
+		return switch (phase) {
+			case PREPARE -> {
+				// a previous attempt may have created the transitional version without
+				// recording the completed phase
+				if (isPrepared(checkpoint)) {
+					yield 0;
+				}
+				certificates.regenerate(checkpoint.getCertificateId(), true);
+				yield 1;
+			}
+			case ACTIVATE -> {
+				certificates.updateTransitionalVersion(checkpoint.getCertificateId(),
+						checkpoint.getPreviousVersionId());
+				yield 1;
+			}
+			case REGENERATE -> regenerateIssued(checkpoint.getCertificateAuthorityName(), rotatedChildren);
+			case CLEANUP -> {
+				certificates.updateTransitionalVersion(checkpoint.getCertificateId(), null);
+				yield 1;
+			}
+		};
+	}
+
+	private boolean isPrepared(CertificateRotationCheckpoint checkpoint) {
+		String versionId = this.credHubOperations.credentials()
+			.getByName(new SimpleCredentialName(checkpoint.getCertificateAuthorityName()), CertificateCredential.class)
+			.getId();
+		return !versionId.equals(checkpoint.getPreviousVersionId());
+	}
+
+	private int regenerateIssued(String name, List<String> rotatedChildren) {
+		CredHubCertificateOperations certificates = this.credHubOperations.certificates();
+		if (rotatedChildren.isEmpty()) {
+			return certificates.regenerate(new SimpleCredentialName(name)).size();
+		}
+		int regenerated = 0;
+		for (CertificateInfo issued : this.inventory.getIssuedBy(name)) {
+			if (!rotatedChildren.contains(issued.getName())) {
+				certificates.regenerate(new SimpleCredentialName(issued.getName()), false);
+				regenerated++;
+			}
+		}
+		return regenerated;
+	}
+
+	private static final class Graph {
+
+		private final List<String> roots = new ArrayList<>();
+
+		private final Map<String, List<String>> children = new LinkedHashMap<>();
+
+	}
+
+	/**
+	 * The mutable state of a single call to rotate certificate authorities.
+	 */
+	private static final class Rotation {
+
+		private final CertificateRotationPhase lastPhase;
+
+		private final Queue<String> completed = new ConcurrentLinkedQueue<>();
+
+		private final Map<String, RuntimeException> failed = new ConcurrentHashMap<>();
+
+		private final Queue<String> skipped = new ConcurrentLinkedQueue<>();
+
+		private final Map<CertificateRotationPhase, PhaseRecorder> phases = new EnumMap<>(
+				CertificateRotationPhase.class);
+
+		private Rotation(CertificateRotationPhase lastPhase) {
+			this.lastPhase = lastPhase;
+			for (CertificateRotationPhase phase : CertificateRotationPhase.values()) {
+				this.phases.put(phase, new PhaseRecorder());
+			}
+		}
+
+		PhaseRecorder phase(CertificateRotationPhase phase) {
+			return this.phases.get(phase);
+		}
+
+		CertificateRotationReport report(Duration elapsed) {
+			Map<CertificateRotationPhase, CertificateRotationReport.PhaseStatistics> statistics = new EnumMap<>(
+					CertificateRotationPhase.class);
+			this.phases.forEach((phase, recorder) -> statistics.put(phase, recorder.statistics()));
+			return new CertificateRotationReport(new ArrayList<>(this.completed), new LinkedHashMap<>(this.failed),
+					new ArrayList<>(this.skipped), statistics, elapsed);
+		}
+
+	}
+
+	private static final class PhaseRecorder {
+
+		private final AtomicInteger operations = new AtomicInteger();
+
+		private final AtomicInteger certificates = new AtomicInteger();
+
+		private final AtomicLong firstStart = new AtomicLong(Long.MAX_VALUE);
+
+		private final AtomicLong lastEnd = new AtomicLong(Long.MIN_VALUE);
+
+		void record(long start, long end, int certificates) {
+			this.operations.incrementAndGet();
+			this.certificates.addAndGet(certificates);
+			this.firstStart.accumulateAndGet(start, Math::min);
+			this.lastEnd.accumulateAndGet(end, Math::max);
+		}
+
+		CertificateRotationReport.PhaseStatistics statistics() {
+			int operations = this.operations.get();
+			Duration elapsed = (operations > 0) ? Duration.ofNanos(this.lastEnd.get() - this.firstStart.get())
+					: Duration.ZERO;
+			return new CertificateRotationReport.PhaseStatistics(operations, this.certificates.get(), elapsed);
+		}
+
+	}
+
+	/**
+	 * An {@link Executor} that runs no more than a fixed number of tasks on a delegate
+	 * executor at any time, queueing the remaining tasks.
+	 */
+	private static final class BoundedExecutor implements Executor {
+
+		private final Executor delegate;
+
+		private final int limit;
+
+		private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+
+		private final AtomicInteger active = new AtomicInteger();
+
+		private BoundedExecutor(Executor delegate, int limit) {
+			this.delegate = delegate;
+			this.limit = limit;
+		}
+
+		@Override
+		public void execute(Runnable task) {
+			this.queue.add(task);
+			drain();
+		}
+
+		private void drain() {
+			while (!this.queue.isEmpty()) {
+				int active = this.active.get();
+				if (active >= this.limit) {
+					return;
+				}
+				if (!this.active.compareAndSet(active, active + 1)) {
+					continue;
+				}
+				Runnable task = this.queue.poll();
+				if (task == null) {
+					this.active.decrementAndGet();
+					continue;
+				}
+				this.delegate.execute(() -> {
+					try {
+						task.run();
+					}
+					finally {
+						this.active.decrementAndGet();
+						drain();
+					}
+				});
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.certificate;
+
+/**
+ * The phases of rotating a certificate authority, in the order they are applied by a
+ * {@link CertificateRotationOrchestrator}.
+ *
+ * @author agent
+ */
+public enum CertificateRotationPhase {
+
+	/**
+	 * A new version of the certificate authority is generated and marked as transitional,
+	 * so that it is trusted alongside the current version but not yet used for signing.
+	 */
+	PREPARE,
+
+	/**
+	 * The new version of the certificate authority becomes the signing version, and the
+	 * previous version is marked as transitional so that it remains trusted.
+	 */
+	ACTIVATE,
+
+	/**
+	 * All certificates signed by the certificate authority are regenerated, so that they
+	 * are signed by the new version.
+	 */
+	REGENERATE,
+
+	/**
+	 * The previous version of the certificate authority is no longer marked as
+	 * transitional, so that it is no longer trusted.
+	 */
+	CLEANUP
+
+}
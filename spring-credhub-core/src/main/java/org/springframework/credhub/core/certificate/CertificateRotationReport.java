@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.certificate;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The outcome of a rotation performed by a {@link CertificateRotationOrchestrator}.
+ *
+ * @author agent
+ */
+public class CertificateRotationReport {
+
+	private final List<String> completed;
+
+	private final Map<String, RuntimeException> failed;
+
+	private final List<String> skipped;
+
+	private final Map<CertificateRotationPhase, PhaseStatistics> phases;
+
+	private final Duration elapsed;
+
+	CertificateRotationReport(List<String> completed, Map<String, RuntimeException> failed, List<String> skipped,
+			Map<CertificateRotationPhase, PhaseStatistics> phases, Duration elapsed) {
+		this.completed = Collections.unmodifiableList(completed);
+		this.failed = Collections.unmodifiableMap(failed);
+		this.skipped = Collections.unmodifiableList(skipped);
+		this.phases = Collections.unmodifiableMap(new EnumMap<>(phases));
+		this.elapsed = elapsed;
+	}
+
+	/**
+	 * Get the names of the certificate authorities that completed all requested phases.
+	 * @return the completed certificate authority names
+	 */
+	public List<String> getCompleted() {
+		return this.completed;
+	}
+
+	/**
+	 * Get the certificate authorities whose rotation failed, with the cause of each
+	 * failure. The progress of these rotations is kept so that they can be resumed.
+	 * @return the failures, keyed by certificate authority name
+	 */
+	public Map<String, RuntimeException> getFailed() {
+		return this.failed;
+	}
+
+	/**
+	 * Get the names of the certificate authorities that were not rotated because the
+	 * rotation of a certificate authority that issued them failed.
+	 * @return the skipped certificate authority names
+	 */
+	public List<String> getSkipped() {
+		return this.skipped;
+	}
+
+	/**
+	 * Determine whether all requested rotations completed.
+	 * @return {@literal true} if no rotation failed or was skipped
+	 */
+	public boolean isSuccessful() {
+		return this.failed.isEmpty() && this.skipped.isEmpty();
+	}
+
+	/**
+	 * Get the statistics for a phase.
+	 * @param phase the phase
+	 * @return the statistics for the phase
+	 */
+	public PhaseStatistics getPhaseStatistics(CertificateRotationPhase phase) {
+		return this.phases.getOrDefault(phase, PhaseStatistics.EMPTY);
+	}
+
+	/**
+	 * Get the total time taken by the rotation.
+	 * @return the elapsed time
+	 */
+	public Duration getElapsed() {
+		return this.elapsed;
+	}
+
+	@Override
+	public String toString() {
+		return "CertificateRotationReport{" + "completed=" + this.completed + ", failed=" + this.failed.keySet()
+				+ ", skipped=" + this.skipped + ", phases=" + this.phases + ", elapsed=" + this.elapsed + '}';
+	}
+
+	/**
+	 * The work done in a single rotation phase across all certificate authorities.
+	 */
+	public static class PhaseStatistics {
+
+		static final PhaseStatistics EMPTY = new PhaseStatistics(0, 0, Duration.ZERO);
+
+		private final int operations;
+
+		private final int certificates;
+
+		private final Duration elapsed;
+
+		PhaseStatistics(int operations, int certificates, Duration elapsed) {
+			this.operations = operations;
+			this.certificates = certificates;
+			this.elapsed = elapsed;
+		}
+
+		/**
+		 * Get the number of requests sent to CredHub in the phase.
+		 * @return the number of operations
+		 */
+		public int getOperations() {
+			return this.operations;
+		}
+
+		/**
+		 * Get the number of certificates changed in the phase.
+		 * @return the number of certificates
+		 */
+		public int getCertificates() {
+			return this.certificates;
+		}
+
+		/**
+		 * Get the wall clock time between the start of the first operation and the end of
+		 * the last operation in the phase.
+		 * @return the elapsed time
+		 */
+		public Duration getElapsed() {
+			return this.elapsed;
+		}
+
+		/**
+		 * Get the number of certificates changed per second in the phase.
+		 * @return the throughput, or {@literal 0} if no time elapsed
+		 */
+		public double getThroughput() {
+			long nanos = this.elapsed.toNanos();
+			return (nanos > 0) ? this.certificates * 1_000_000_000.0 / nanos : 0;
+		}
+
+		@Override
+		public String toString() {
+			return "PhaseStatistics{" + "operations=" + this.operations + ", certificates=" + this.certificates
+					+ ", elapsed=" + this.elapsed + ", throughput=" + getThroughput() + '}';
+		}
+
+	}
+
+}
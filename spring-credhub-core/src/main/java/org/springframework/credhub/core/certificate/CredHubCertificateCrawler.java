@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.certificate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.credhub.core.CredHubOperations;
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialSummary;
+import org.springframework.credhub.support.SimpleCredentialName;
+import org.springframework.credhub.support.certificate.CertificateCredential;
+import org.springframework.credhub.support.certificate.CertificateSummary;
+
+/**
+ * A {@link CertificateCrawler} that uses the blocking {@link CredHubOperations}. A fixed
+ * number of workers submitted to an {@link Executor} retrieve certificates from a shared
+ * list, so no more than the configured number of requests are in flight at any time.
+ *
+ * @author agent
+ */
+final class CredHubCertificateCrawler implements CertificateCrawler {
+
+	private static final Log logger = LogFactory.getLog(CredHubCertificateCrawler.class);
+
+	private final CredHubOperations credHubOperations;
+
+	private final Executor executor;
+
+	private final int maxConcurrency;
+
+	CredHubCertificateCrawler(CredHubOperations credHubOperations, Executor executor, int maxConcurrency) {
+		this.credHubOperations = credHubOperations;
+		this.executor = executor;
+		this.maxConcurrency = maxConcurrency;
+	}
+
+	@Override
+	public List<String> getCertificateNames() {
+		return this.credHubOperations.certificates().getAll().stream().map(CertificateSummary::getName).toList();
+	}
+
+	@Override
+	public Map<String, Instant> getVersions() {
+		List<CredentialSummary> summaries = this.credHubOperations.credentials().findByPath("/");
+		Map<String, Instant> versions = new HashMap<>(summaries.size());
+		for (CredentialSummary summary : summaries) {
+			if (summary.getVersionCreatedAt() != null) {
+				versions.put(summary.getName().getName(), summary.getVersionCreatedAt().toInstant());
+			}
+		}
+		return versions;
+	}
+
+	@Override
+	public List<CredentialDetails<CertificateCredential>> fetch(List<String> names) {
+		List<CredentialDetails<CertificateCredential>> results = Collections.synchronizedList(new ArrayList<>());
+		AtomicInteger next = new AtomicInteger();
+
+		int workers = Math.min(this.maxConcurrency, names.size());
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[workers];
+		for (int i = 0; i < workers; i++) {
+			futures[i] = CompletableFuture.runAsync(() -> {
+				int index;
+				while ((index = next.getAndIncrement()) < names.size()) {
+					CredentialDetails<CertificateCredential> details = fetch(names.get(index));
+					if (details != null) {
+						results.add(details);
+					}
+				}
+			}, this.executor);
+		}
+		CompletableFuture.allOf(futures).join();
+
+		return results;
+	}
+
+	private CredentialDetails<CertificateCredential> fetch(String name) {
+		try {
+			return this.credHubOperations.credentials()
+				.getByName(new SimpleCredentialName(name), CertificateCredential.class);
+		}
+		catch (RuntimeException ex) {
+			logger.warn("Unable to retrieve certificate " + name, ex);
+			return null;
+		}
+	}
+
+}
@@ -54,6 +54,17 @@ public interface CredHubCertificateOperations {
 	 */
 	CertificateCredentialDetails regenerate(String id, boolean setAsTransitional);
 
+	/**
+	 * Regenerate a certificate, using a locally maintained index to find the ID of the
+	 * certificate instead of retrieving it from CredHub. If the indexed ID is no longer
+	 * valid, the index is refreshed and the operation is retried once.
+	 * @param name the name of the certificate credential; must not be {@literal null}
+	 * @param setAsTransitional {@code true} to mark the certificate version transitional;
+	 * {@code false} otherwise
+	 * @return the details of the certificate credential
+	 */
+	CertificateCredentialDetails regenerate(CredentialName name, boolean setAsTransitional);
+
 	/**
 	 * Regenerate all certificates in CredHub that were signed by the specified
 	 * certificate.
@@ -75,4 +86,17 @@ public interface CredHubCertificateOperations {
 	 */
 	List<CertificateCredentialDetails> updateTransitionalVersion(String id, String versionId);
 
+	/**
+	 * Make the specified version of a certificate the {@literal transitional} version,
+	 * using a locally maintained index to find the ID of the certificate instead of
+	 * retrieving it from CredHub. If the indexed ID is no longer valid, the index is
+	 * refreshed and the operation is retried once.
+	 * @param name the name of the certificate credential; must not be {@literal null}
+	 * @param versionId the CredHub-generated ID of the version of the certificate
+	 * credential that should be marked {@literal transitional}, or {@literal null} to
+	 * indicate that no version is {@literal transitional}
+	 * @return the details of the certificate credential, including all versions
+	 */
+	List<CertificateCredentialDetails> updateTransitionalVersion(CredentialName name, String versionId);
+
 }
@@ -16,11 +16,13 @@
 
 package org.springframework.credhub.core.certificate;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.credhub.core.CredHubException;
 import org.springframework.credhub.core.CredHubOperations;
 import org.springframework.credhub.core.ExceptionUtils;
 import org.springframework.credhub.support.CredentialName;
@@ -29,6 +31,7 @@ import org.springframework.credhub.support.certificate.CertificateSummary;
 import org.springframework.credhub.support.certificate.CertificateSummaryData;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
 
@@ -58,8 +61,25 @@ public class CredHubCertificateTemplate implements CredHubCertificateOperations
 
 	static final String REGENERATED_CREDENTIALS_RESPONSE_FIELD = "regenerated_credentials";
 
+	private static final HttpEntity<Object> TRANSITIONAL_REQUEST = new HttpEntity<>(
+			Collections.singletonMap(TRANSITIONAL_REQUEST_FIELD, true));
+
+	private static final HttpEntity<Object> NON_TRANSITIONAL_REQUEST = new HttpEntity<>(
+			Collections.singletonMap(TRANSITIONAL_REQUEST_FIELD, false));
+
+	private static final ParameterizedTypeReference<CertificateCredentialDetails> CERTIFICATE_DETAILS_TYPE = new ParameterizedTypeReference<>() {
+	};
+
+	private static final ParameterizedTypeReference<List<CertificateCredentialDetails>> CERTIFICATE_DETAILS_LIST_TYPE = new ParameterizedTypeReference<>() {
+	};
+
+	private static final ParameterizedTypeReference<Map<String, List<CredentialName>>> REGENERATED_TYPE = new ParameterizedTypeReference<>() {
+	};
+
 	private final CredHubOperations credHubOperations;
 
+	private final CertificateIdIndex idIndex = new CertificateIdIndex();
+
 	/**
 	 * Create a new {@link CredHubCertificateTemplate}.
 	 * @param credHubOperations the {@link CredHubOperations} to use for interactions with
@@ -77,7 +97,9 @@ public class CredHubCertificateTemplate implements CredHubCertificateOperations
 
 			ExceptionUtils.throwExceptionOnError(response);
 
-			return response.getBody().getCertificates();
+			List<CertificateSummary> certificates = response.getBody().getCertificates();
+			this.idIndex.seed(certificates);
+			return certificates;
 		});
 	}
 
@@ -91,7 +113,9 @@ public class CredHubCertificateTemplate implements CredHubCertificateOperations
 
 			ExceptionUtils.throwExceptionOnError(response);
 
-			return response.getBody().getCertificates().get(0);
+			CertificateSummary certificate = response.getBody().getCertificates().get(0);
+			this.idIndex.put(certificate);
+			return certificate;
 		});
 	}
 
@@ -99,35 +123,35 @@ public class CredHubCertificateTemplate implements CredHubCertificateOperations
 	public CertificateCredentialDetails regenerate(final String id, final boolean setAsTransitional) {
 		Assert.notNull(id, "credential ID must not be null");
 
-		final ParameterizedTypeReference<CertificateCredentialDetails> ref = new ParameterizedTypeReference<CertificateCredentialDetails>() {
-		};
-
 		return this.credHubOperations.doWithRest((restOperations) -> {
-			Map<String, Boolean> request = new HashMap<>(1);
-			request.put(TRANSITIONAL_REQUEST_FIELD, setAsTransitional);
+			HttpEntity<Object> request = setAsTransitional ? TRANSITIONAL_REQUEST : NON_TRANSITIONAL_REQUEST;
 
 			ResponseEntity<CertificateCredentialDetails> response = restOperations.exchange(REGENERATE_URL_PATH,
-					HttpMethod.POST, new HttpEntity<Object>(request), ref, id);
+					HttpMethod.POST, request, CERTIFICATE_DETAILS_TYPE, id);
 
 			ExceptionUtils.throwExceptionOnError(response);
 
+			index(id, response.getBody());
 			return response.getBody();
 		});
 	}
 
+	@Override
+	public CertificateCredentialDetails regenerate(final CredentialName name, final boolean setAsTransitional) {
+		Assert.notNull(name, "certificate name must not be null");
+
+		return withCertificateId(name, (id) -> regenerate(id, setAsTransitional));
+	}
+
 	@Override
 	public List<CredentialName> regenerate(final CredentialName certificateName) {
 		Assert.notNull(certificateName, "certificate name must not be null");
 
-		final ParameterizedTypeReference<Map<String, List<CredentialName>>> ref = new ParameterizedTypeReference<Map<String, List<CredentialName>>>() {
-		};
-
 		return this.credHubOperations.doWithRest((restOperations) -> {
-			Map<String, Object> request = new HashMap<>(1);
-			request.put(SIGNED_BY_REQUEST_FIELD, certificateName.getName());
+			Map<String, Object> request = Collections.singletonMap(SIGNED_BY_REQUEST_FIELD, certificateName.getName());
 
 			ResponseEntity<Map<String, List<CredentialName>>> response = restOperations
-				.exchange(BULK_REGENERATE_URL_PATH, HttpMethod.POST, new HttpEntity<>(request), ref);
+				.exchange(BULK_REGENERATE_URL_PATH, HttpMethod.POST, new HttpEntity<>(request), REGENERATED_TYPE);
 
 			ExceptionUtils.throwExceptionOnError(response);
 
@@ -138,20 +162,70 @@ public class CredHubCertificateTemplate implements CredHubCertificateOperations
 	public List<CertificateCredentialDetails> updateTransitionalVersion(final String id, final String versionId) {
 		Assert.notNull(id, "credential ID must not be null");
 
-		final ParameterizedTypeReference<List<CertificateCredentialDetails>> ref = new ParameterizedTypeReference<List<CertificateCredentialDetails>>() {
-		};
-
 		return this.credHubOperations.doWithRest((restOperations) -> {
-			Map<String, String> request = new HashMap<>(1);
-			request.put(VERSION_REQUEST_FIELD, versionId);
+			Map<String, String> request = Collections.singletonMap(VERSION_REQUEST_FIELD, versionId);
 
-			ResponseEntity<List<CertificateCredentialDetails>> response = restOperations
-				.exchange(UPDATE_TRANSITIONAL_URL_PATH, HttpMethod.PUT, new HttpEntity<Object>(request), ref, id);
+			ResponseEntity<List<CertificateCredentialDetails>> response = restOperations.exchange(
+					UPDATE_TRANSITIONAL_URL_PATH, HttpMethod.PUT, new HttpEntity<Object>(request),
+					CERTIFICATE_DETAILS_LIST_TYPE, id);
 
 			ExceptionUtils.throwExceptionOnError(response);
 
+			if (response.getBody() != null && !response.getBody().isEmpty()) {
+				index(id, response.getBody().get(0));
+			}
 			return response.getBody();
 		});
 	}
 
+	@Override
+	public List<CertificateCredentialDetails> updateTransitionalVersion(final CredentialName name,
+			final String versionId) {
+		Assert.notNull(name, "certificate name must not be null");
+
+		return withCertificateId(name, (id) -> updateTransitionalVersion(id, versionId));
+	}
+
+	/**
+	 * Apply an operation to the ID of a certificate found in the index. If the
+	 * certificate is not indexed, or CredHub reports that the indexed ID does not exist,
+	 * the index is refreshed once.
+	 * @param <T> the operation result type
+	 * @param name the certificate name
+	 * @param operation the operation to apply to the certificate ID
+	 * @return the result of the operation
+	 */
+	private <T> T withCertificateId(CredentialName name, Function<String, T> operation) {
+		String id = this.idIndex.get(name.getName());
+		if (id == null) {
+			return operation.apply(refreshCertificateId(name));
+		}
+
+		try {
+			return operation.apply(id);
+		}
+		catch (CredHubException ex) {
+			if (ex.getStatusCode().value() != HttpStatus.NOT_FOUND.value()) {
+				throw ex;
+			}
+			this.idIndex.remove(name.getName());
+			return operation.apply(refreshCertificateId(name));
+		}
+	}
+
+	private void index(String id, CertificateCredentialDetails details) {
+		if (details != null && details.getName() != null) {
+			this.idIndex.put(new CertificateSummary(id, details.getName().getName()));
+		}
+	}
+
+	private String refreshCertificateId(CredentialName name) {
+		getAll();
+		String id = this.idIndex.get(name.getName());
+		if (id == null) {
+			throw new CredHubException(HttpStatus.NOT_FOUND);
+		}
+		return id;
+	}
+
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.certificate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.credhub.support.utils.JsonUtils;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link CertificateRotationCheckpointStore} that keeps checkpoints in a JSON file, so
+ * that a rotation interrupted by a process restart can be resumed. The file is replaced
+ * atomically on each change, so it always contains a consistent set of checkpoints.
+ *
+ * @author agent
+ */
+public class FileCertificateRotationCheckpointStore implements CertificateRotationCheckpointStore {
+
+	private static final TypeReference<Map<String, CertificateRotationCheckpoint>> CHECKPOINTS_TYPE = new TypeReference<>() {
+	};
+
+	private final ObjectMapper objectMapper = JsonUtils.buildObjectMapper();
+
+	private final Path file;
+
+	private final Map<String, CertificateRotationCheckpoint> checkpoints;
+
+	/**
+	 * Create a new {@link FileCertificateRotationCheckpointStore}, loading any
+	 * checkpoints previously stored in the file.
+	 * @param file the checkpoint file; must not be {@literal null}
+	 */
+	public FileCertificateRotationCheckpointStore(Path file) {
+		Assert.notNull(file, "file must not be null");
+		this.file = file;
+		this.checkpoints = read(file);
+	}
+
+	private Map<String, CertificateRotationCheckpoint> read(Path file) {
+		if (!Files.exists(file)) {
+			return new LinkedHashMap<>();
+		}
+		try {
+			return new LinkedHashMap<>(this.objectMapper.readValue(file.toFile(), CHECKPOINTS_TYPE));
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Unable to read certificate rotation checkpoint file " + file, ex);
+		}
+	}
+
+	@Override
+	public synchronized CertificateRotationCheckpoint load(String certificateAuthorityName) {
+		return this.checkpoints.get(certificateAuthorityName);
+	}
+
+	@Override
+	public synchronized void save(CertificateRotationCheckpoint checkpoint) {
+		this.checkpoints.put(checkpoint.getCertificateAuthorityName(), checkpoint);
+		write();
+	}
+
+	@Override
+	public synchronized void remove(String certificateAuthorityName) {
+		if (this.checkpoints.remove(certificateAuthorityName) != null) {
+			write();
+		}
+	}
+
+	private void write() {
+		Path temp = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+		try {
+			this.objectMapper.writeValue(temp.toFile(), this.checkpoints);
+			Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Unable to write certificate rotation checkpoint file " + this.file, ex);
+		}
+	}
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.certificate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link CertificateRotationCheckpointStore} that keeps checkpoints in memory, allowing
+ * a rotation to be resumed within the same process only.
+ *
+ * @author agent
+ */
+final class InMemoryCertificateRotationCheckpointStore implements CertificateRotationCheckpointStore {
+
+	private final Map<String, CertificateRotationCheckpoint> checkpoints = new ConcurrentHashMap<>();
+
+	@Override
+	public CertificateRotationCheckpoint load(String certificateAuthorityName) {
+		return this.checkpoints.get(certificateAuthorityName);
+	}
+
+	@Override
+	public void save(CertificateRotationCheckpoint checkpoint) {
+		this.checkpoints.put(checkpoint.getCertificateAuthorityName(), checkpoint);
+	}
+
+	@Override
+	public void remove(String certificateAuthorityName) {
+		this.checkpoints.remove(certificateAuthorityName);
+	}
+
+}
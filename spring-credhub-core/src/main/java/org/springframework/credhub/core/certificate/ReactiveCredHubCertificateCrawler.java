@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.certificate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.credhub.core.ReactiveCredHubOperations;
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.SimpleCredentialName;
+import org.springframework.credhub.support.certificate.CertificateCredential;
+import org.springframework.credhub.support.certificate.CertificateSummary;
+
+/**
+ * A {@link CertificateCrawler} that uses the {@link ReactiveCredHubOperations}, limiting
+ * the number of concurrent requests with
+ * {@link Flux#flatMap(java.util.function.Function, int)}. Each method blocks until all
+ * responses have been received.
+ *
+ * @author agent
+ */
+final class ReactiveCredHubCertificateCrawler implements CertificateCrawler {
+
+	private static final Log logger = LogFactory.getLog(ReactiveCredHubCertificateCrawler.class);
+
+	private final ReactiveCredHubOperations credHubOperations;
+
+	private final int maxConcurrency;
+
+	ReactiveCredHubCertificateCrawler(ReactiveCredHubOperations credHubOperations, int maxConcurrency) {
+		this.credHubOperations = credHubOperations;
+		this.maxConcurrency = maxConcurrency;
+	}
+
+	@Override
+	public List<String> getCertificateNames() {
+		return this.credHubOperations.certificates().getAll().map(CertificateSummary::getName).collectList().block();
+	}
+
+	@Override
+	public Map<String, Instant> getVersions() {
+		return this.credHubOperations.credentials()
+			.findByPath("/")
+			.filter((summary) -> summary.getVersionCreatedAt() != null)
+			.collectMap((summary) -> summary.getName().getName(),
+					(summary) -> summary.getVersionCreatedAt().toInstant())
+			.block();
+	}
+
+	@Override
+	public List<CredentialDetails<CertificateCredential>> fetch(List<String> names) {
+		return Flux.fromIterable(names).flatMap(this::fetch, this.maxConcurrency).collectList().block();
+	}
+
+	private Mono<CredentialDetails<CertificateCredential>> fetch(String name) {
+		return this.credHubOperations.credentials()
+			.getByName(new SimpleCredentialName(name), CertificateCredential.class)
+			.onErrorResume((ex) -> {
+				logger.warn("Unable to retrieve certificate " + name, ex);
+				return Mono.empty();
+			});
+	}
+
+}
@@ -16,20 +16,23 @@
 
 package org.springframework.credhub.core.certificate;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.credhub.core.CredHubException;
 import org.springframework.credhub.core.ExceptionUtils;
 import org.springframework.credhub.core.ReactiveCredHubOperations;
 import org.springframework.credhub.support.CredentialName;
 import org.springframework.credhub.support.certificate.CertificateCredentialDetails;
 import org.springframework.credhub.support.certificate.CertificateSummary;
 import org.springframework.credhub.support.certificate.CertificateSummaryData;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.util.Assert;
 
@@ -59,8 +62,19 @@ public class ReactiveCredHubCertificateTemplate implements ReactiveCredHubCertif
 
 	private static final String REGENERATED_CREDENTIALS_RESPONSE_FIELD = "regenerated_credentials";
 
+	private static final Map<String, Boolean> TRANSITIONAL_REQUEST = Collections
+		.singletonMap(TRANSITIONAL_REQUEST_FIELD, true);
+
+	private static final Map<String, Boolean> NON_TRANSITIONAL_REQUEST = Collections
+		.singletonMap(TRANSITIONAL_REQUEST_FIELD, false);
+
+	private static final ParameterizedTypeReference<Map<String, List<CredentialName>>> REGENERATED_TYPE = new ParameterizedTypeReference<>() {
+	};
+
 	private final ReactiveCredHubOperations credHubOperations;
 
+	private final CertificateIdIndex idIndex = new CertificateIdIndex();
+
 	/**
 	 * Create a new {@link ReactiveCredHubCertificateTemplate}.
 	 * @param credHubOperations the {@link ReactiveCredHubOperations} to use for
@@ -77,6 +91,7 @@ public class ReactiveCredHubCertificateTemplate implements ReactiveCredHubCertif
 			.retrieve()
 			.onStatus(HttpStatusCode::isError, ExceptionUtils::buildError)
 			.bodyToMono(CertificateSummaryData.class)
+			.doOnNext((data) -> this.idIndex.seed(data.getCertificates()))
 			.flatMapMany((data) -> Flux.fromIterable(data.getCertificates())));
 	}
 
@@ -91,58 +106,105 @@ public class ReactiveCredHubCertificateTemplate implements ReactiveCredHubCertif
 				.onStatus(HttpStatusCode::isError, ExceptionUtils::buildError)
 				.bodyToMono(CertificateSummaryData.class)
 				.flatMapMany((data) -> Flux.fromIterable(data.getCertificates())))
-			.single();
+			.single()
+			.doOnNext(this.idIndex::put);
 	}
 
 	@Override
 	public Mono<CertificateCredentialDetails> regenerate(final String id, final boolean setAsTransitional) {
 		Assert.notNull(id, "credential ID must not be null");
 
-		final ParameterizedTypeReference<CertificateCredentialDetails> ref = new ParameterizedTypeReference<CertificateCredentialDetails>() {
-		};
-
-		Map<String, Boolean> request = new HashMap<>(1);
-		request.put(TRANSITIONAL_REQUEST_FIELD, setAsTransitional);
+		Map<String, Boolean> request = setAsTransitional ? TRANSITIONAL_REQUEST : NON_TRANSITIONAL_REQUEST;
 
 		return this.credHubOperations.doWithWebClient((webClient) -> webClient.post()
 			.uri(REGENERATE_URL_PATH, id)
 			.bodyValue(request)
 			.retrieve()
 			.onStatus(HttpStatusCode::isError, ExceptionUtils::buildError)
-			.bodyToMono(ref));
+			.bodyToMono(CertificateCredentialDetails.class)
+			.doOnNext((details) -> index(id, details)));
+	}
+
+	@Override
+	public Mono<CertificateCredentialDetails> regenerate(final CredentialName name, final boolean setAsTransitional) {
+		Assert.notNull(name, "certificate name must not be null");
+
+		return withCertificateId(name, (id) -> regenerate(id, setAsTransitional).flux()).next();
 	}
 
 	@Override
 	public Flux<CredentialName> regenerate(final CredentialName certificateName) {
 		Assert.notNull(certificateName, "certificate name must not be null");
 
-		final ParameterizedTypeReference<Map<String, List<CredentialName>>> ref = new ParameterizedTypeReference<Map<String, List<CredentialName>>>() {
-		};
-
-		Map<String, Object> request = new HashMap<>(1);
-		request.put(SIGNED_BY_REQUEST_FIELD, certificateName.getName());
+		Map<String, Object> request = Collections.singletonMap(SIGNED_BY_REQUEST_FIELD, certificateName.getName());
 
 		return this.credHubOperations.doWithWebClient((webClient) -> webClient.post()
 			.uri(BULK_REGENERATE_URL_PATH)
 			.bodyValue(request)
 			.retrieve()
 			.onStatus(HttpStatusCode::isError, ExceptionUtils::buildError)
-			.bodyToFlux(ref)
+			.bodyToFlux(REGENERATED_TYPE)
 			.flatMap((body) -> Flux.fromIterable(body.get(REGENERATED_CREDENTIALS_RESPONSE_FIELD))));
 	}
 
+	@Override
 	public Flux<CertificateCredentialDetails> updateTransitionalVersion(final String id, final String versionId) {
 		Assert.notNull(id, "credential ID must not be null");
 
-		Map<String, String> request = new HashMap<>(1);
-		request.put(VERSION_REQUEST_FIELD, versionId);
+		Map<String, String> request = Collections.singletonMap(VERSION_REQUEST_FIELD, versionId);
 
 		return this.credHubOperations.doWithWebClient((webClient) -> webClient.put()
 			.uri(UPDATE_TRANSITIONAL_URL_PATH, id)
 			.bodyValue(request)
 			.retrieve()
 			.onStatus(HttpStatusCode::isError, ExceptionUtils::buildError)
-			.bodyToFlux(CertificateCredentialDetails.class));
+			.bodyToFlux(CertificateCredentialDetails.class)
+			.doOnNext((details) -> index(id, details)));
+	}
+
+	@Override
+	public Flux<CertificateCredentialDetails> updateTransitionalVersion(final CredentialName name,
+			final String versionId) {
+		Assert.notNull(name, "certificate name must not be null");
+
+		return withCertificateId(name, (id) -> updateTransitionalVersion(id, versionId));
+	}
+
+	/**
+	 * Apply an operation to the ID of a certificate found in the index. If the
+	 * certificate is not indexed, or CredHub reports that the indexed ID does not exist,
+	 * the index is refreshed once.
+	 * @param <T> the operation result type
+	 * @param name the certificate name
+	 * @param operation the operation to apply to the certificate ID
+	 * @return the result of the operation
+	 */
+	private <T> Flux<T> withCertificateId(CredentialName name, Function<String, Flux<T>> operation) {
+		return Flux.defer(() -> {
+			String id = this.idIndex.get(name.getName());
+			if (id == null) {
+				return refreshCertificateId(name).flatMapMany(operation);
+			}
+			return operation.apply(id)
+				.onErrorResume((ex) -> ex instanceof CredHubException credHubException
+						&& credHubException.getStatusCode().value() == HttpStatus.NOT_FOUND.value(), (ex) -> {
+							this.idIndex.remove(name.getName());
+							return refreshCertificateId(name).flatMapMany(operation);
+						});
+		});
+	}
+
+	private void index(String id, CertificateCredentialDetails details) {
+		if (details.getName() != null) {
+			this.idIndex.put(new CertificateSummary(id, details.getName().getName()));
+		}
+	}
+
+	private Mono<String> refreshCertificateId(CredentialName name) {
+		return getAll().then(Mono.defer(() -> {
+			String id = this.idIndex.get(name.getName());
+			return (id != null) ? Mono.just(id) : Mono.error(new CredHubException(HttpStatus.NOT_FOUND));
+		}));
 	}
 
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.credential;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.util.Assert;
+
+/**
+ * Calculates the delay between polls of CredHub. The delay starts at a minimum interval,
+ * doubles after each poll that finds no changes up to a maximum interval, and returns to
+ * the minimum interval when a change is found. Each delay is adjusted by a random jitter
+ * so that many clients started together spread their polls over time.
+ *
+ * @author agent
+ */
+final class AdaptivePollInterval {
+
+	static final double JITTER = 0.2;
+
+	private final long minIntervalMillis;
+
+	private final long maxIntervalMillis;
+
+	private long currentIntervalMillis;
+
+	AdaptivePollInterval(Duration minInterval, Duration maxInterval) {
+		Assert.notNull(minInterval, "minInterval must not be null");
+		Assert.notNull(maxInterval, "maxInterval must not be null");
+		Assert.isTrue(!minInterval.isNegative() && !minInterval.isZero(), "minInterval must be positive");
+		Assert.isTrue(maxInterval.compareTo(minInterval) >= 0, "maxInterval must not be less than minInterval");
+
+		this.minIntervalMillis = minInterval.toMillis();
+		this.maxIntervalMillis = maxInterval.toMillis();
+		this.currentIntervalMillis = this.minIntervalMillis;
+	}
+
+	/**
+	 * Calculate the delay before the next poll.
+	 * @param changed whether the previous poll found changes
+	 * @return the delay in milliseconds
+	 */
+	synchronized long nextDelayMillis(boolean changed) {
+		if (changed) {
+			this.currentIntervalMillis = this.minIntervalMillis;
+		}
+		else {
+			this.currentIntervalMillis = Math.min(this.maxIntervalMillis, this.currentIntervalMillis * 2);
+		}
+
+		double jitter = ThreadLocalRandom.current().nextDouble(-JITTER, JITTER);
+		return Math.max(1, Math.round(this.currentIntervalMillis * (1 + jitter)));
+	}
+
+	synchronized long getCurrentIntervalMillis() {
+		return this.currentIntervalMillis;
+	}
+
+}
@@ -0,0 +1,484 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.credential;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialName;
+import org.springframework.credhub.support.CredentialRequest;
+import org.springframework.credhub.support.CredentialSummary;
+import org.springframework.credhub.support.ParametersRequest;
+import org.springframework.credhub.support.utils.JsonUtils;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link CredHubCredentialOperations} decorator that caches the current version of
+ * credentials retrieved by name for a fixed time-to-live. Concurrent requests for a
+ * credential that is not cached result in a single request to CredHub. Writing,
+ * generating, regenerating, or deleting a credential through this template evicts the
+ * credential from the cache; changes made by other CredHub clients become visible when
+ * the cached entry expires.
+ *
+ * Cached credentials can optionally be kept in an {@link OffHeapSecretStore} rather than
+ * on the heap. In that case each cached credential is held off-heap in serialized form
+ * and deserialized on every read, and credentials evicted from the cache are overwritten
+ * with zeros.
+ *
+ * The number of cached credentials is unbounded unless a maximum size is set. A bounded
+ * cache uses a W-TinyLFU policy: a newly cached credential replaces an existing one only
+ * if it is estimated to have been requested more often recently, so that credentials
+ * requested once, for example while provisioning, do not displace frequently requested
+ * credentials. The most frequently requested credentials can be reported by
+ * {@link #getHotKeys(int)} for tuning.
+ *
+ * @author agent
+ */
+public class CachingCredHubCredentialTemplate implements CredHubCredentialOperations {
+
+	private final CredHubCredentialOperations delegate;
+
+	private final long timeToLiveMillis;
+
+	private final Clock clock;
+
+	private final OffHeapSecretStore secretStore;
+
+	private final ObjectMapper objectMapper;
+
+	private final ConcurrentMap<String, CacheEntry> cache = new ConcurrentHashMap<>();
+
+	private volatile TinyLfuPolicy policy;
+
+	/**
+	 * Create a new {@link CachingCredHubCredentialTemplate}.
+	 * @param delegate the {@link CredHubCredentialOperations} used to interact with
+	 * CredHub; must not be {@literal null}
+	 * @param timeToLive the amount of time a retrieved credential is cached; must not be
+	 * {@literal null} or negative
+	 */
+	public CachingCredHubCredentialTemplate(CredHubCredentialOperations delegate, Duration timeToLive) {
+		this(delegate, timeToLive, null, Clock.systemUTC());
+	}
+
+	/**
+	 * Create a new {@link CachingCredHubCredentialTemplate} that keeps cached credentials
+	 * off-heap.
+	 * @param delegate the {@link CredHubCredentialOperations} used to interact with
+	 * CredHub; must not be {@literal null}
+	 * @param timeToLive the amount of time a retrieved credential is cached; must not be
+	 * {@literal null} or negative
+	 * @param secretStore the store used to hold cached credentials; must not be
+	 * {@literal null}
+	 */
+	public CachingCredHubCredentialTemplate(CredHubCredentialOperations delegate, Duration timeToLive,
+			OffHeapSecretStore secretStore) {
+		this(delegate, timeToLive, secretStore, Clock.systemUTC());
+		Assert.notNull(secretStore, "secretStore must not be null");
+	}
+
+	CachingCredHubCredentialTemplate(CredHubCredentialOperations delegate, Duration timeToLive, Clock clock) {
+		this(delegate, timeToLive, null, clock);
+	}
+
+	CachingCredHubCredentialTemplate(CredHubCredentialOperations delegate, Duration timeToLive,
+			OffHeapSecretStore secretStore, Clock clock) {
+		Assert.notNull(delegate, "delegate must not be null");
+		Assert.notNull(timeToLive, "timeToLive must not be null");
+		Assert.isTrue(!timeToLive.isNegative(), "timeToLive must not be negative");
+		Assert.notNull(clock, "clock must not be null");
+
+		this.delegate = delegate;
+		this.timeToLiveMillis = timeToLive.toMillis();
+		this.secretStore = secretStore;
+		this.objectMapper = (secretStore != null) ? JsonUtils.buildObjectMapper() : null;
+		this.clock = clock;
+	}
+
+	/**
+	 * Set the maximum number of credentials to cache. By default the number of cached
+	 * credentials is unbounded. Setting the maximum size clears the cache.
+	 * @param maximumSize the maximum number of cached credentials; must be greater than
+	 * {@literal 0}
+	 */
+	public void setMaximumSize(long maximumSize) {
+		Assert.isTrue(maximumSize > 0, "maximumSize must be greater than 0");
+		this.policy = new TinyLfuPolicy(maximumSize);
+		clear();
+	}
+
+	@Override
+	public <T> CredentialDetails<T> write(CredentialRequest<T> credentialRequest) {
+		Assert.notNull(credentialRequest, "credentialRequest must not be null");
+
+		try {
+			return this.delegate.write(credentialRequest);
+		}
+		finally {
+			evict(credentialRequest.getName());
+		}
+	}
+
+	@Override
+	public <T, P> CredentialDetails<T> generate(ParametersRequest<P> parametersRequest) {
+		Assert.notNull(parametersRequest, "parametersRequest must not be null");
+
+		try {
+			return this.delegate.generate(parametersRequest);
+		}
+		finally {
+			evict(parametersRequest.getName());
+		}
+	}
+
+	@Override
+	public <T> CredentialDetails<T> regenerate(CredentialName name, Class<T> credentialType) {
+		Assert.notNull(name, "credential name must not be null");
+
+		try {
+			return this.delegate.regenerate(name, credentialType);
+		}
+		finally {
+			evict(name);
+		}
+	}
+
+	@Override
+	public <T> CredentialDetails<T> getById(String id, Class<T> credentialType) {
+		return this.delegate.getById(id, credentialType);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> CredentialDetails<T> getByName(CredentialName name, Class<T> credentialType) {
+		Assert.notNull(name, "credential name must not be null");
+		Assert.notNull(credentialType, "credential type must not be null");
+
+		String key = name.getName();
+		long now = this.clock.millis();
+
+		CacheEntry candidate = new CacheEntry(now + this.timeToLiveMillis);
+		CacheEntry entry = this.cache.compute(key,
+				(k, existing) -> (existing != null && !existing.isExpired(now)) ? existing : candidate);
+
+		if (entry != candidate) {
+			entry.await();
+			CredentialDetails<T> details = (this.secretStore != null) ? readOffHeap(key, credentialType)
+					: (CredentialDetails<T>) entry.getDetails();
+			if (details != null) {
+				recordAccess(key);
+				return details;
+			}
+			// the credential was evicted from the off-heap store
+			this.cache.remove(key, entry);
+			return getByName(name, credentialType);
+		}
+
+		try {
+			CredentialDetails<T> details = this.delegate.getByName(name, credentialType);
+			boolean cached = true;
+			if (this.secretStore != null) {
+				cached = writeOffHeap(key, entry, details);
+				if (!cached) {
+					this.cache.remove(key, entry);
+				}
+				entry.complete(null);
+			}
+			else {
+				entry.complete(details);
+			}
+			if (cached) {
+				recordInsert(key);
+			}
+			return details;
+		}
+		catch (RuntimeException ex) {
+			this.cache.remove(key, entry);
+			entry.completeExceptionally(ex);
+			throw ex;
+		}
+	}
+
+	@Override
+	public <T> List<CredentialDetails<T>> getByNameWithHistory(CredentialName name, Class<T> credentialType) {
+		return this.delegate.getByNameWithHistory(name, credentialType);
+	}
+
+	@Override
+	public <T> List<CredentialDetails<T>> getByNameWithHistory(CredentialName name, int versions,
+			Class<T> credentialType) {
+		return this.delegate.getByNameWithHistory(name, versions, credentialType);
+	}
+
+	@Override
+	public List<CredentialSummary> findByName(CredentialName name) {
+		return this.delegate.findByName(name);
+	}
+
+	@Override
+	public List<CredentialSummary> findByPath(String path) {
+		return this.delegate.findByPath(path);
+	}
+
+	@Override
+	public void deleteByName(CredentialName name) {
+		Assert.notNull(name, "credential name must not be null");
+
+		try {
+			this.delegate.deleteByName(name);
+		}
+		finally {
+			evict(name);
+		}
+	}
+
+	/**
+	 * Remove a credential from the cache, if present.
+	 * @param name the name of the credential; must not be {@literal null}
+	 */
+	public void evict(CredentialName name) {
+		Assert.notNull(name, "credential name must not be null");
+		evict(name.getName());
+	}
+
+	/**
+	 * Remove all credentials from the cache.
+	 */
+	public void clear() {
+		this.cache.clear();
+		TinyLfuPolicy policy = this.policy;
+		if (policy != null) {
+			policy.clear();
+		}
+		if (this.secretStore != null) {
+			this.secretStore.clear();
+		}
+	}
+
+	private void evict(String name) {
+		if (name != null) {
+			// the off-heap payload is removed while the key is locked, so that a request
+			// in flight cannot store a stale credential after it has been evicted
+			this.cache.compute(name, (key, existing) -> {
+				if (this.secretStore != null) {
+					this.secretStore.remove(key);
+				}
+				return null;
+			});
+			TinyLfuPolicy policy = this.policy;
+			if (policy != null) {
+				policy.remove(name);
+			}
+		}
+	}
+
+	/**
+	 * Get the cached credentials that have been requested most often recently, when a
+	 * maximum size is set. Credential names are reported as the first 16 hexadecimal
+	 * digits of their SHA-256 hash so that the report can be shared.
+	 * @param limit the maximum number of credentials to report
+	 * @return the most frequently requested credentials, most frequent first, or an empty
+	 * list if no maximum size is set
+	 */
+	public List<HotKey> getHotKeys(int limit) {
+		TinyLfuPolicy policy = this.policy;
+		if (policy == null) {
+			return List.of();
+		}
+
+		List<HotKey> hotKeys = new ArrayList<>(limit);
+		for (Map.Entry<String, Integer> entry : policy.hottest(limit)) {
+			hotKeys.add(new HotKey(hash(entry.getKey()), entry.getValue()));
+		}
+		return hotKeys;
+	}
+
+	private void recordAccess(String key) {
+		TinyLfuPolicy policy = this.policy;
+		if (policy != null) {
+			policy.recordAccess(key);
+		}
+	}
+
+	private void recordInsert(String key) {
+		TinyLfuPolicy policy = this.policy;
+		if (policy != null) {
+			policy.recordInsert(key).forEach(this::evict);
+		}
+	}
+
+	private static String hash(String name) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(name.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest, 0, 8);
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/**
+	 * Store a retrieved credential off-heap, unless the cache entry it was retrieved for
+	 * has been evicted in the meantime. The entry is checked while the key is locked, as
+	 * it is when evicting.
+	 * @param key the credential name
+	 * @param entry the cache entry the credential was retrieved for
+	 * @param details the retrieved credential
+	 * @return {@literal true} if the credential was stored
+	 */
+	private boolean writeOffHeap(String key, CacheEntry entry, CredentialDetails<?> details) {
+		byte[] payload = null;
+		try {
+			ObjectNode node = this.objectMapper.valueToTree(details);
+			node.put("name", key);
+			byte[] serialized = this.objectMapper.writeValueAsBytes(node);
+			payload = serialized;
+			boolean[] stored = new boolean[1];
+			this.cache.computeIfPresent(key, (k, current) -> {
+				if (current == entry) {
+					stored[0] = this.secretStore.put(k, serialized);
+				}
+				return current;
+			});
+			return stored[0];
+		}
+		catch (JsonProcessingException ex) {
+			throw new IllegalStateException("Unable to serialize credential " + key, ex);
+		}
+		finally {
+			if (payload != null) {
+				Arrays.fill(payload, (byte) 0);
+			}
+		}
+	}
+
+	private <T> CredentialDetails<T> readOffHeap(String key, Class<T> credentialType) {
+		JavaType type = this.objectMapper.getTypeFactory()
+			.constructParametricType(CredentialDetails.class, credentialType);
+		return this.secretStore.read(key, (buffer) -> {
+			try {
+				return this.objectMapper.readValue(new ByteBufferBackedInputStream(buffer), type);
+			}
+			catch (IOException ex) {
+				throw new IllegalStateException("Unable to deserialize credential " + key, ex);
+			}
+		});
+	}
+
+	/**
+	 * A frequently requested credential, identified by a hash of its name.
+	 */
+	public static final class HotKey {
+
+		private final String nameHash;
+
+		private final int frequency;
+
+		private HotKey(String nameHash, int frequency) {
+			this.nameHash = nameHash;
+			this.frequency = frequency;
+		}
+
+		/**
+		 * Get the hash of the credential name.
+		 * @return the first 16 hexadecimal digits of the SHA-256 hash of the name
+		 */
+		public String getNameHash() {
+			return this.nameHash;
+		}
+
+		/**
+		 * Get the estimated number of recent requests for the credential, up to a maximum
+		 * of 15.
+		 * @return the estimated request frequency
+		 */
+		public int getFrequency() {
+			return this.frequency;
+		}
+
+		@Override
+		public String toString() {
+			return this.nameHash + "=" + this.frequency;
+		}
+
+	}
+
+	/**
+	 * A cached credential, or a pending request to CredHub for the credential. When
+	 * credentials are kept off-heap the entry holds no credential details.
+	 */
+	private static final class CacheEntry {
+
+		private final CompletableFuture<CredentialDetails<?>> details = new CompletableFuture<>();
+
+		private final long expiresAtMillis;
+
+		private CacheEntry(long expiresAtMillis) {
+			this.expiresAtMillis = expiresAtMillis;
+		}
+
+		private boolean isExpired(long nowMillis) {
+			return nowMillis >= this.expiresAtMillis;
+		}
+
+		private void complete(CredentialDetails<?> value) {
+			this.details.complete(value);
+		}
+
+		private void completeExceptionally(RuntimeException ex) {
+			this.details.completeExceptionally(ex);
+		}
+
+		private CredentialDetails<?> getDetails() {
+			return this.details.getNow(null);
+		}
+
+		private void await() {
+			try {
+				this.details.join();
+			}
+			catch (CompletionException ex) {
+				if (ex.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+				throw ex;
+			}
+		}
+
+	}
+
+}
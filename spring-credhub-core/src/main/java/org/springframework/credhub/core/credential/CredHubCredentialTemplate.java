@@ -16,7 +16,7 @@
 
 package org.springframework.credhub.core.credential;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -60,6 +60,12 @@ public class CredHubCredentialTemplate implements CredHubCredentialOperations {
 
 	static final String NAME_REQUEST_FIELD = "name";
 
+	private static final ParameterizedTypeReference<CredentialDetails<Object>> DETAILS_TYPE = new ParameterizedTypeReference<>() {
+	};
+
+	private static final ParameterizedTypeReference<CredentialDetailsData<Object>> DETAILS_DATA_TYPE = new ParameterizedTypeReference<>() {
+	};
+
 	private final CredHubOperations credHubOperations;
 
 	/**
@@ -75,8 +81,7 @@ public class CredHubCredentialTemplate implements CredHubCredentialOperations {
 	public <T> CredentialDetails<T> write(final CredentialRequest<T> credentialRequest) {
 		Assert.notNull(credentialRequest, "credentialRequest must not be null");
 
-		final ParameterizedTypeReference<CredentialDetails<T>> ref = new ParameterizedTypeReference<CredentialDetails<T>>() {
-		};
+		final ParameterizedTypeReference<CredentialDetails<T>> ref = detailsType();
 
 		return this.credHubOperations.doWithRest((restOperations) -> {
 			ResponseEntity<CredentialDetails<T>> response = restOperations.exchange(BASE_URL_PATH, HttpMethod.PUT,
@@ -92,8 +97,7 @@ public class CredHubCredentialTemplate implements CredHubCredentialOperations {
 	public <T, P> CredentialDetails<T> generate(final ParametersRequest<P> parametersRequest) {
 		Assert.notNull(parametersRequest, "parametersRequest must not be null");
 
-		final ParameterizedTypeReference<CredentialDetails<T>> ref = new ParameterizedTypeReference<CredentialDetails<T>>() {
-		};
+		final ParameterizedTypeReference<CredentialDetails<T>> ref = detailsType();
 
 		return this.credHubOperations.doWithRest((restOperations) -> {
 			ResponseEntity<CredentialDetails<T>> response = restOperations.exchange(BASE_URL_PATH, HttpMethod.POST,
@@ -110,12 +114,10 @@ public class CredHubCredentialTemplate implements CredHubCredentialOperations {
 		Assert.notNull(name, "credential name must not be null");
 		Assert.notNull(credentialType, "credential type must not be null");
 
-		final ParameterizedTypeReference<CredentialDetails<T>> ref = new ParameterizedTypeReference<CredentialDetails<T>>() {
-		};
+		final ParameterizedTypeReference<CredentialDetails<T>> ref = detailsType();
 
 		return this.credHubOperations.doWithRest((restOperations) -> {
-			Map<String, Object> request = new HashMap<>(1);
-			request.put(NAME_REQUEST_FIELD, name.getName());
+			Map<String, Object> request = Collections.singletonMap(NAME_REQUEST_FIELD, name.getName());
 
 			ResponseEntity<CredentialDetails<T>> response = restOperations.exchange(REGENERATE_URL_PATH,
 					HttpMethod.POST, new HttpEntity<>(request), ref);
@@ -131,8 +133,7 @@ public class CredHubCredentialTemplate implements CredHubCredentialOperations {
 		Assert.notNull(id, "credential id must not be null");
 		Assert.notNull(credentialType, "credential type must not be null");
 
-		final ParameterizedTypeReference<CredentialDetails<T>> ref = new ParameterizedTypeReference<CredentialDetails<T>>() {
-		};
+		final ParameterizedTypeReference<CredentialDetails<T>> ref = detailsType();
 
 		return this.credHubOperations.doWithRest((restOperations) -> {
 			ResponseEntity<CredentialDetails<T>> response = restOperations.exchange(ID_URL_PATH, HttpMethod.GET, null,
@@ -149,8 +150,7 @@ public class CredHubCredentialTemplate implements CredHubCredentialOperations {
 		Assert.notNull(name, "credential name must not be null");
 		Assert.notNull(credentialType, "credential type must not be null");
 
-		final ParameterizedTypeReference<CredentialDetailsData<T>> ref = new ParameterizedTypeReference<CredentialDetailsData<T>>() {
-		};
+		final ParameterizedTypeReference<CredentialDetailsData<T>> ref = detailsDataType();
 
 		return this.credHubOperations.doWithRest((restOperations) -> {
 			ResponseEntity<CredentialDetailsData<T>> response = restOperations.exchange(NAME_URL_QUERY_CURRENT,
@@ -168,8 +168,7 @@ public class CredHubCredentialTemplate implements CredHubCredentialOperations {
 		Assert.notNull(name, "credential name must not be null");
 		Assert.notNull(credentialType, "credential type must not be null");
 
-		final ParameterizedTypeReference<CredentialDetailsData<T>> ref = new ParameterizedTypeReference<CredentialDetailsData<T>>() {
-		};
+		final ParameterizedTypeReference<CredentialDetailsData<T>> ref = detailsDataType();
 
 		return this.credHubOperations.doWithRest((restOperations) -> {
 			ResponseEntity<CredentialDetailsData<T>> response = restOperations.exchange(NAME_URL_QUERY, HttpMethod.GET,
@@ -187,8 +186,7 @@ public class CredHubCredentialTemplate implements CredHubCredentialOperations {
 		Assert.notNull(name, "credential name must not be null");
 		Assert.notNull(credentialType, "credential type must not be null");
 
-		final ParameterizedTypeReference<CredentialDetailsData<T>> ref = new ParameterizedTypeReference<CredentialDetailsData<T>>() {
-		};
+		final ParameterizedTypeReference<CredentialDetailsData<T>> ref = detailsDataType();
 
 		return this.credHubOperations.doWithRest((restOperations) -> {
 			ResponseEntity<CredentialDetailsData<T>> response = restOperations.exchange(NAME_URL_QUERY_VERSIONS,
@@ -238,4 +236,14 @@ public class CredHubCredentialTemplate implements CredHubCredentialOperations {
 		});
 	}
 
+	@SuppressWarnings("unchecked")
+	private static <T> ParameterizedTypeReference<CredentialDetails<T>> detailsType() {
+		return (ParameterizedTypeReference<CredentialDetails<T>>) (ParameterizedTypeReference<?>) DETAILS_TYPE;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> ParameterizedTypeReference<CredentialDetailsData<T>> detailsDataType() {
+		return (ParameterizedTypeReference<CredentialDetailsData<T>>) (ParameterizedTypeReference<?>) DETAILS_DATA_TYPE;
+	}
+
 }
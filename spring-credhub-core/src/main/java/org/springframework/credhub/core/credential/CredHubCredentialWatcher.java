@@ -0,0 +1,224 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.credential;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.credhub.support.CredentialName;
+import org.springframework.credhub.support.CredentialSummary;
+import org.springframework.credhub.support.SimpleCredentialName;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Watches credentials under a set of paths, and individually named credentials, for
+ * changes and publishes a {@link CredentialChangedEvent} for each credential that has a
+ * new version or has been deleted.
+ *
+ * Changes are detected by comparing the {@literal versionCreatedAt} of the credential
+ * summaries returned by {@link CredHubCredentialOperations#findByPath(String)} and
+ * {@link CredHubCredentialOperations#findByName(CredentialName)}, so that credential
+ * values are retrieved only for credentials that have changed. Polling starts at the
+ * minimum interval, backs off towards the maximum interval while nothing changes, and
+ * returns to the minimum interval after a change. Each interval is adjusted by a random
+ * jitter so that many application instances do not poll CredHub at the same time.
+ *
+ * @author agent
+ */
+public class CredHubCredentialWatcher implements SmartLifecycle {
+
+	private static final Log logger = LogFactory.getLog(CredHubCredentialWatcher.class);
+
+	private static final Duration DEFAULT_MIN_INTERVAL = Duration.ofSeconds(30);
+
+	private static final Duration DEFAULT_MAX_INTERVAL = Duration.ofMinutes(10);
+
+	private final CredHubCredentialOperations credentialOperations;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	private final CredentialVersionTracker tracker = new CredentialVersionTracker();
+
+	private List<String> paths = new ArrayList<>();
+
+	private List<CredentialName> names = new ArrayList<>();
+
+	private Duration minInterval = DEFAULT_MIN_INTERVAL;
+
+	private Duration maxInterval = DEFAULT_MAX_INTERVAL;
+
+	private ScheduledExecutorService scheduler;
+
+	private AdaptivePollInterval interval;
+
+	/**
+	 * Create a new {@link CredHubCredentialWatcher}.
+	 * @param credentialOperations the {@link CredHubCredentialOperations} used to
+	 * retrieve credentials; must not be {@literal null}
+	 * @param eventPublisher the publisher for {@link CredentialChangedEvent}s; must not
+	 * be {@literal null}
+	 */
+	public CredHubCredentialWatcher(CredHubCredentialOperations credentialOperations,
+			ApplicationEventPublisher eventPublisher) {
+		Assert.notNull(credentialOperations, "credentialOperations must not be null");
+		Assert.notNull(eventPublisher, "eventPublisher must not be null");
+
+		this.credentialOperations = credentialOperations;
+		this.eventPublisher = eventPublisher;
+	}
+
+	/**
+	 * Set the paths to watch. All credentials under each path are watched.
+	 * @param paths the credential paths
+	 */
+	public void setPaths(String... paths) {
+		this.paths = new ArrayList<>(Arrays.asList(paths));
+	}
+
+	/**
+	 * Set the names of individual credentials to watch.
+	 * @param names the credential names
+	 */
+	public void setNames(CredentialName... names) {
+		this.names = new ArrayList<>(Arrays.asList(names));
+	}
+
+	/**
+	 * Set the interval between polls when credentials are changing. Defaults to 30
+	 * seconds.
+	 * @param minInterval the minimum interval; must be positive
+	 */
+	public void setMinInterval(Duration minInterval) {
+		this.minInterval = minInterval;
+	}
+
+	/**
+	 * Set the interval between polls when credentials are not changing. Defaults to 10
+	 * minutes.
+	 * @param maxInterval the maximum interval; must not be less than the minimum interval
+	 */
+	public void setMaxInterval(Duration maxInterval) {
+		this.maxInterval = maxInterval;
+	}
+
+	/**
+	 * Poll CredHub once and publish a {@link CredentialChangedEvent} for each watched
+	 * credential that has changed since the previous poll. The first poll records the
+	 * current versions and publishes no events.
+	 * @return the published events
+	 */
+	public List<CredentialChangedEvent> poll() {
+		CredentialVersionTracker.Changes changes = this.tracker.update(findSummaries());
+
+		List<CredentialChangedEvent> events = new ArrayList<>();
+		for (String name : changes.getChanged()) {
+			SimpleCredentialName credentialName = new SimpleCredentialName(name);
+			try {
+				events.add(new CredentialChangedEvent(this, credentialName,
+						this.credentialOperations.getByName(credentialName, Object.class)));
+			}
+			catch (RuntimeException ex) {
+				this.tracker.forget(name);
+				logger.warn("Unable to retrieve changed credential " + name + " from CredHub", ex);
+			}
+		}
+		for (String name : changes.getDeleted()) {
+			events.add(new CredentialChangedEvent(this, new SimpleCredentialName(name), null));
+		}
+
+		events.forEach(this.eventPublisher::publishEvent);
+
+		return events;
+	}
+
+	@Override
+	public synchronized void start() {
+		if (this.scheduler != null) {
+			return;
+		}
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("credhub-watcher-");
+		threadFactory.setDaemon(true);
+
+		this.interval = new AdaptivePollInterval(this.minInterval, this.maxInterval);
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+		this.scheduler.execute(this::run);
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (this.scheduler != null) {
+			this.scheduler.shutdownNow();
+			this.scheduler = null;
+		}
+	}
+
+	@Override
+	public synchronized boolean isRunning() {
+		return this.scheduler != null;
+	}
+
+	private void run() {
+		boolean changed = false;
+		try {
+			changed = !poll().isEmpty();
+		}
+		catch (RuntimeException ex) {
+			logger.warn("Unable to check CredHub for changed credentials", ex);
+		}
+		schedule(this.interval.nextDelayMillis(changed));
+	}
+
+	private synchronized void schedule(long delayMillis) {
+		if (this.scheduler != null) {
+			try {
+				this.scheduler.schedule(this::run, delayMillis, TimeUnit.MILLISECONDS);
+			}
+			catch (RejectedExecutionException ex) {
+				// the watcher has been stopped
+			}
+		}
+	}
+
+	private List<CredentialSummary> findSummaries() {
+		List<CredentialSummary> summaries = new ArrayList<>();
+		for (String path : this.paths) {
+			summaries.addAll(this.credentialOperations.findByPath(path));
+		}
+		for (CredentialName name : this.names) {
+			for (CredentialSummary summary : this.credentialOperations.findByName(name)) {
+				if (summary.getName() != null && name.getName().equals(summary.getName().getName())) {
+					summaries.add(summary);
+				}
+			}
+		}
+		return summaries;
+	}
+
+}
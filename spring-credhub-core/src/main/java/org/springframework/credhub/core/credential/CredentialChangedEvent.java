@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.credential;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialName;
+
+/**
+ * Event published when a watched credential has a new version in CredHub or has been
+ * deleted from CredHub.
+ *
+ * @author agent
+ */
+public class CredentialChangedEvent extends ApplicationEvent {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient CredentialName name;
+
+	private final transient CredentialDetails<Object> details;
+
+	/**
+	 * Create a new {@link CredentialChangedEvent}.
+	 * @param source the watcher that detected the change
+	 * @param name the name of the changed credential
+	 * @param details the details of the current version of the credential, or
+	 * {@literal null} if the credential has been deleted
+	 */
+	public CredentialChangedEvent(Object source, CredentialName name, CredentialDetails<Object> details) {
+		super(source);
+		this.name = name;
+		this.details = details;
+	}
+
+	/**
+	 * Get the name of the changed credential.
+	 * @return the credential name
+	 */
+	public CredentialName getName() {
+		return this.name;
+	}
+
+	/**
+	 * Get the details of the current version of the credential.
+	 * @return the credential details, or {@literal null} if the credential has been
+	 * deleted
+	 */
+	public CredentialDetails<Object> getDetails() {
+		return this.details;
+	}
+
+	/**
+	 * Determine whether the credential has been deleted.
+	 * @return {@literal true} if the credential has been deleted
+	 */
+	public boolean isDeleted() {
+		return this.details == null;
+	}
+
+}
@@ -0,0 +1,556 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.credential;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialName;
+import org.springframework.credhub.support.utils.JsonUtils;
+import org.springframework.util.Assert;
+
+/**
+ * An encrypted, append-only store of credential snapshots in a memory-mapped file.
+ *
+ * Each record in the file holds either the details of a credential or a marker that the
+ * credential has been deleted, and is encrypted using AES-GCM with the provided key. The
+ * file is scanned when the store is opened to build in-memory indexes of the most recent
+ * record for each credential name and id; only record positions are held in memory, and
+ * records are decrypted when read. A record is written before its length, so a record
+ * whose write was interrupted ends the scan and is overwritten by subsequent writes.
+ *
+ * Storing a credential whose id matches the most recent record for its name does not
+ * write a new record; the snapshot is only marked in memory as confirmed, and is written
+ * again once the stored record is older than the refresh interval. Records are not forced
+ * to storage as they are written, so they survive the process exiting but not a failure
+ * of the operating system; call {@link #flush()} to force them to storage.
+ *
+ * A complete record that can not be decrypted is never overwritten. If the first record
+ * can not be decrypted, the file was most likely written with a different key and the
+ * store fails to open. If a later record can not be decrypted, the records before it can
+ * still be read, but the store is opened read-only and snapshots are no longer written.
+ *
+ * When the store is opened, and when the file has to grow, records that have been
+ * replaced or deleted are removed by copying the current records to a new file that
+ * replaces the old one, if they take up more than half of the file. Snapshots of previous
+ * versions of a credential can no longer be retrieved by id once the file is compacted.
+ *
+ * @author agent
+ */
+public class CredentialSnapshotStore implements Closeable {
+
+	private static final Log logger = LogFactory.getLog(CredentialSnapshotStore.class);
+
+	private static final String CIPHER_TRANSFORMATION = "AES/GCM/NoPadding";
+
+	private static final int IV_LENGTH = 12;
+
+	private static final int TAG_LENGTH_BITS = 128;
+
+	private static final int LENGTH_FIELD_SIZE = Integer.BYTES;
+
+	private static final int MIN_RECORD_LENGTH = IV_LENGTH + TAG_LENGTH_BITS / 8;
+
+	private static final int INITIAL_CAPACITY = 64 * 1024;
+
+	/**
+	 * The default interval after which an unchanged snapshot is written again.
+	 */
+	public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofHours(1);
+
+	private static final String STORED_AT_FIELD = "stored_at";
+
+	private static final String NAME_FIELD = "name";
+
+	private static final String DETAILS_FIELD = "details";
+
+	private static final TypeReference<CredentialDetails<Object>> DETAILS_TYPE = new TypeReference<>() {
+	};
+
+	private final Path file;
+
+	private final SecretKey key;
+
+	private final Duration refreshInterval;
+
+	private final Clock clock;
+
+	private FileChannel channel;
+
+	private final SecureRandom random = new SecureRandom();
+
+	private final ObjectMapper objectMapper = JsonUtils.buildObjectMapper();
+
+	private final Map<String, Entry> entriesByName = new HashMap<>();
+
+	private final Map<String, Integer> positionsById = new HashMap<>();
+
+	private MappedByteBuffer buffer;
+
+	private int end;
+
+	private boolean readOnly;
+
+	/**
+	 * Open a snapshot store, creating the file if it does not exist.
+	 * @param file the snapshot file; must not be {@literal null}
+	 * @param key the AES key used to encrypt and decrypt records; must not be
+	 * {@literal null}
+	 */
+	public CredentialSnapshotStore(Path file, SecretKey key) {
+		this(file, key, DEFAULT_REFRESH_INTERVAL);
+	}
+
+	/**
+	 * Open a snapshot store, creating the file if it does not exist.
+	 * @param file the snapshot file; must not be {@literal null}
+	 * @param key the AES key used to encrypt and decrypt records; must not be
+	 * {@literal null}
+	 * @param refreshInterval the age after which a snapshot of an unchanged credential is
+	 * written again; must not be {@literal null} or negative
+	 */
+	public CredentialSnapshotStore(Path file, SecretKey key, Duration refreshInterval) {
+		this(file, key, refreshInterval, Clock.systemUTC());
+	}
+
+	CredentialSnapshotStore(Path file, SecretKey key, Duration refreshInterval, Clock clock) {
+		Assert.notNull(file, "file must not be null");
+		Assert.notNull(key, "key must not be null");
+		Assert.notNull(refreshInterval, "refreshInterval must not be null");
+		Assert.isTrue(!refreshInterval.isNegative(), "refreshInterval must not be negative");
+		Assert.notNull(clock, "clock must not be null");
+
+		this.file = file;
+		this.key = key;
+		this.refreshInterval = refreshInterval;
+		this.clock = clock;
+		try {
+			this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+					StandardOpenOption.WRITE);
+			this.buffer = map(Math.max(INITIAL_CAPACITY, this.channel.size()));
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Unable to open credential snapshot file " + file, ex);
+		}
+
+		try {
+			load();
+			if (isCompactable()) {
+				compact();
+			}
+		}
+		catch (IOException ex) {
+			closeQuietly(ex);
+			throw new IllegalStateException("Unable to compact credential snapshot file " + file, ex);
+		}
+		catch (IllegalStateException ex) {
+			closeQuietly(ex);
+			throw new IllegalStateException("Unable to open credential snapshot file " + file, ex);
+		}
+	}
+
+	/**
+	 * Determine whether the store is read-only, because the file contains a record that
+	 * can not be decrypted.
+	 * @return {@literal true} if snapshots are no longer written
+	 */
+	public synchronized boolean isReadOnly() {
+		return this.readOnly;
+	}
+
+	/**
+	 * Get the most recent snapshot of a credential by name.
+	 * @param name the name of the credential; must not be {@literal null}
+	 * @return the snapshot, or {@literal null} if the store does not contain the
+	 * credential
+	 */
+	public synchronized Snapshot getByName(CredentialName name) {
+		Assert.notNull(name, "credential name must not be null");
+
+		Entry entry = this.entriesByName.get(name.getName());
+		return (entry != null) ? readSnapshot(entry.position, entry.confirmedAt) : null;
+	}
+
+	/**
+	 * Get the snapshot of a credential by id.
+	 * @param id the id of the credential; must not be {@literal null}
+	 * @return the snapshot, or {@literal null} if the store does not contain the
+	 * credential or the credential has since been deleted
+	 */
+	public synchronized Snapshot getById(String id) {
+		Assert.notNull(id, "credential id must not be null");
+
+		Integer position = this.positionsById.get(id);
+		if (position == null) {
+			return null;
+		}
+
+		Snapshot snapshot = readSnapshot(position, 0);
+		if (snapshot == null || snapshot.getDetails().getName() == null) {
+			return null;
+		}
+		Entry entry = this.entriesByName.get(snapshot.getDetails().getName().getName());
+		if (entry == null) {
+			return null;
+		}
+		return (entry.position == position) ? readSnapshot(position, entry.confirmedAt) : snapshot;
+	}
+
+	/**
+	 * Store a snapshot of a credential. A new record is only appended if the most recent
+	 * snapshot of the credential has a different id or is older than the refresh
+	 * interval; otherwise the snapshot is marked as confirmed at the current time.
+	 * @param details the credential details; must not be {@literal null}
+	 */
+	public synchronized void put(CredentialDetails<?> details) {
+		Assert.notNull(details, "details must not be null");
+		Assert.notNull(details.getName(), "credential name must not be null");
+
+		if (this.readOnly) {
+			return;
+		}
+
+		String name = details.getName().getName();
+		long now = this.clock.millis();
+		Entry existing = this.entriesByName.get(name);
+		if (existing != null && details.getId() != null && details.getId().equals(existing.id)
+				&& now - existing.storedAt < this.refreshInterval.toMillis()) {
+			existing.confirmedAt = now;
+			return;
+		}
+
+		Map<String, Object> record = new LinkedHashMap<>();
+		record.put(STORED_AT_FIELD, now);
+		record.put(NAME_FIELD, name);
+		record.put(DETAILS_FIELD, toJson(details));
+
+		Entry entry = append(record, details.getId(), now);
+		this.entriesByName.put(name, entry);
+		if (details.getId() != null) {
+			this.positionsById.put(details.getId(), entry.position);
+		}
+	}
+
+	/**
+	 * Append a marker that a credential has been deleted.
+	 * @param name the name of the credential; must not be {@literal null}
+	 */
+	public synchronized void remove(CredentialName name) {
+		Assert.notNull(name, "credential name must not be null");
+
+		if (!this.readOnly && this.entriesByName.containsKey(name.getName())) {
+			Map<String, Object> record = new LinkedHashMap<>();
+			long now = this.clock.millis();
+			record.put(STORED_AT_FIELD, now);
+			record.put(NAME_FIELD, name.getName());
+
+			append(record, null, now);
+			this.entriesByName.remove(name.getName());
+		}
+	}
+
+	/**
+	 * Force the records written to the file to storage.
+	 */
+	public synchronized void flush() {
+		this.buffer.force();
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		this.buffer.force();
+		this.channel.close();
+	}
+
+	private void closeQuietly(Exception ex) {
+		try {
+			this.channel.close();
+		}
+		catch (IOException closeException) {
+			ex.addSuppressed(closeException);
+		}
+	}
+
+	private void load() {
+		int position = 0;
+		while (position + LENGTH_FIELD_SIZE <= this.buffer.capacity()) {
+			int length = this.buffer.getInt(position);
+			if (length < MIN_RECORD_LENGTH || position + LENGTH_FIELD_SIZE + length > this.buffer.capacity()) {
+				break;
+			}
+
+			JsonNode record;
+			try {
+				record = decrypt(position);
+			}
+			catch (GeneralSecurityException | IOException ex) {
+				if (position == 0) {
+					throw new IllegalStateException(
+							"Unable to decrypt the first credential snapshot record; the file may have been written "
+									+ "with a different key",
+							ex);
+				}
+				logger.warn("Unable to decrypt credential snapshot record at position " + position
+						+ "; opening the snapshot store read-only", ex);
+				this.readOnly = true;
+				break;
+			}
+
+			index(record, position, length);
+			position += LENGTH_FIELD_SIZE + length;
+		}
+
+		this.end = position;
+		if (!this.readOnly && this.end + LENGTH_FIELD_SIZE <= this.buffer.capacity()) {
+			this.buffer.putInt(this.end, 0);
+		}
+	}
+
+	private void index(JsonNode record, int position, int length) {
+		String name = record.path(NAME_FIELD).asText(null);
+		JsonNode details = record.get(DETAILS_FIELD);
+
+		if (details == null || details.isNull()) {
+			this.entriesByName.remove(name);
+			return;
+		}
+
+		String id = details.path("id").asText(null);
+		this.entriesByName.put(name, new Entry(position, length, id, record.path(STORED_AT_FIELD).asLong()));
+		if (id != null) {
+			this.positionsById.put(id, position);
+		}
+	}
+
+	private ObjectNode toJson(CredentialDetails<?> details) {
+		ObjectNode node = this.objectMapper.valueToTree(details);
+		// credential names are written in the same form as CredHub responses
+		node.put(NAME_FIELD, details.getName().getName());
+		return node;
+	}
+
+	private Snapshot readSnapshot(int position, long confirmedAt) {
+		try {
+			JsonNode record = decrypt(position);
+			CredentialDetails<Object> details = this.objectMapper.readerFor(DETAILS_TYPE)
+				.readValue(record.get(DETAILS_FIELD));
+			long storedAt = Math.max(record.path(STORED_AT_FIELD).asLong(), confirmedAt);
+			return new Snapshot(details, Instant.ofEpochMilli(storedAt));
+		}
+		catch (GeneralSecurityException | IOException ex) {
+			logger.warn("Unable to read credential snapshot record at position " + position, ex);
+			return null;
+		}
+	}
+
+	private JsonNode decrypt(int position) throws GeneralSecurityException, IOException {
+		int length = this.buffer.getInt(position);
+		if (length < MIN_RECORD_LENGTH) {
+			throw new GeneralSecurityException("Invalid credential snapshot record length " + length);
+		}
+		byte[] iv = new byte[IV_LENGTH];
+		byte[] ciphertext = new byte[length - IV_LENGTH];
+		this.buffer.get(position + LENGTH_FIELD_SIZE, iv);
+		this.buffer.get(position + LENGTH_FIELD_SIZE + IV_LENGTH, ciphertext);
+
+		Cipher cipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
+		cipher.init(Cipher.DECRYPT_MODE, this.key, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+		return this.objectMapper.readTree(cipher.doFinal(ciphertext));
+	}
+
+	private Entry append(Map<String, Object> record, String id, long storedAt) {
+		try {
+			byte[] iv = new byte[IV_LENGTH];
+			this.random.nextBytes(iv);
+
+			Cipher cipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
+			cipher.init(Cipher.ENCRYPT_MODE, this.key, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+			byte[] ciphertext = cipher.doFinal(this.objectMapper.writeValueAsBytes(record));
+
+			int length = IV_LENGTH + ciphertext.length;
+			ensureCapacity(2L * LENGTH_FIELD_SIZE + length);
+			int position = this.end;
+
+			// write the record before its length, so an interrupted write ends the file
+			this.buffer.put(position + LENGTH_FIELD_SIZE, iv);
+			this.buffer.put(position + LENGTH_FIELD_SIZE + IV_LENGTH, ciphertext);
+			this.buffer.putInt(position + LENGTH_FIELD_SIZE + length, 0);
+			this.buffer.putInt(position, length);
+
+			this.end = position + LENGTH_FIELD_SIZE + length;
+			return new Entry(position, length, id, storedAt);
+		}
+		catch (GeneralSecurityException | IOException ex) {
+			throw new IllegalStateException("Unable to write credential snapshot", ex);
+		}
+	}
+
+	private void ensureCapacity(long size) throws IOException {
+		if (this.end + size > this.buffer.capacity() && isCompactable()) {
+			compact();
+		}
+		if (this.end + size > this.buffer.capacity()) {
+			this.buffer = map(Math.max(this.end + size, 2L * this.buffer.capacity()));
+		}
+	}
+
+	private boolean isCompactable() {
+		if (this.readOnly) {
+			return false;
+		}
+		long liveBytes = 0;
+		for (Entry entry : this.entriesByName.values()) {
+			liveBytes += LENGTH_FIELD_SIZE + entry.length;
+		}
+		return liveBytes * 2 < this.end;
+	}
+
+	/**
+	 * Copy the most recent record of each credential to a new file, and replace the
+	 * current file with it.
+	 */
+	private void compact() throws IOException {
+		List<Entry> entries = new ArrayList<>(this.entriesByName.values());
+		entries.sort(Comparator.comparingInt((entry) -> entry.position));
+
+		Path compacted = this.file.resolveSibling(this.file.getFileName() + ".compact");
+		int[] positions = new int[entries.size()];
+		int end = 0;
+		try (FileChannel channel = FileChannel.open(compacted, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			for (int i = 0; i < entries.size(); i++) {
+				Entry entry = entries.get(i);
+				ByteBuffer record = this.buffer.slice(entry.position, LENGTH_FIELD_SIZE + entry.length);
+				positions[i] = end;
+				while (record.hasRemaining()) {
+					end += channel.write(record, end);
+				}
+			}
+			channel.force(true);
+		}
+		Files.move(compacted, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+		this.channel.close();
+		this.channel = FileChannel.open(this.file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		this.buffer = map(Math.max(INITIAL_CAPACITY, 2L * end));
+		this.end = end;
+
+		this.positionsById.clear();
+		for (int i = 0; i < entries.size(); i++) {
+			Entry entry = entries.get(i);
+			entry.position = positions[i];
+			if (entry.id != null) {
+				this.positionsById.put(entry.id, entry.position);
+			}
+		}
+	}
+
+	private MappedByteBuffer map(long capacity) throws IOException {
+		if (capacity > Integer.MAX_VALUE) {
+			throw new IOException("Credential snapshot file " + this.file + " is too large");
+		}
+		return this.channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+	}
+
+	/**
+	 * The location of the most recent record of a credential.
+	 */
+	private static final class Entry {
+
+		private int position;
+
+		private final int length;
+
+		private final String id;
+
+		private final long storedAt;
+
+		private long confirmedAt;
+
+		private Entry(int position, int length, String id, long storedAt) {
+			this.position = position;
+			this.length = length;
+			this.id = id;
+			this.storedAt = storedAt;
+			this.confirmedAt = storedAt;
+		}
+
+	}
+
+	/**
+	 * A stored snapshot of a credential.
+	 */
+	public static final class Snapshot {
+
+		private final CredentialDetails<Object> details;
+
+		private final Instant storedAt;
+
+		private Snapshot(CredentialDetails<Object> details, Instant storedAt) {
+			this.details = details;
+			this.storedAt = storedAt;
+		}
+
+		/**
+		 * Get the stored credential details.
+		 * @return the credential details
+		 */
+		public CredentialDetails<Object> getDetails() {
+			return this.details;
+		}
+
+		/**
+		 * Get the time the snapshot was stored, or last confirmed to be current.
+		 * @return the time the snapshot was stored or confirmed
+		 */
+		public Instant getStoredAt() {
+			return this.storedAt;
+		}
+
+	}
+
+}
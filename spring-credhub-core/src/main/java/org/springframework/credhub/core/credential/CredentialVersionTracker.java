@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.credential;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.credhub.support.CredentialSummary;
+
+/**
+ * Tracks the version creation time of a set of credentials and determines which
+ * credentials have changed between polls. The first poll establishes the known versions
+ * and reports no changes.
+ *
+ * @author agent
+ */
+final class CredentialVersionTracker {
+
+	private Map<String, Date> versions;
+
+	/**
+	 * Record the current versions of the watched credentials.
+	 * @param summaries the summaries of all watched credentials
+	 * @return the changes since the previous poll
+	 */
+	synchronized Changes update(Collection<CredentialSummary> summaries) {
+		Map<String, Date> current = new HashMap<>(summaries.size());
+		for (CredentialSummary summary : summaries) {
+			if (summary.getName() != null) {
+				current.put(summary.getName().getName(), summary.getVersionCreatedAt());
+			}
+		}
+
+		Map<String, Date> previous = this.versions;
+		this.versions = current;
+
+		if (previous == null) {
+			return new Changes(List.of(), List.of());
+		}
+
+		List<String> changed = new ArrayList<>();
+		current.forEach((name, versionCreatedAt) -> {
+			if (!previous.containsKey(name) || !Objects.equals(previous.get(name), versionCreatedAt)) {
+				changed.add(name);
+			}
+		});
+
+		List<String> deleted = new ArrayList<>();
+		previous.keySet().forEach((name) -> {
+			if (!current.containsKey(name)) {
+				deleted.add(name);
+			}
+		});
+
+		return new Changes(changed, deleted);
+	}
+
+	/**
+	 * Forget the recorded version of a credential, so that it is reported as changed by
+	 * the next poll. Used when the details of a changed credential could not be
+	 * retrieved.
+	 * @param name the credential name
+	 */
+	synchronized void forget(String name) {
+		if (this.versions != null) {
+			this.versions.remove(name);
+		}
+	}
+
+	/**
+	 * The credentials that changed between two polls.
+	 */
+	static final class Changes {
+
+		private final List<String> changed;
+
+		private final List<String> deleted;
+
+		private Changes(List<String> changed, List<String> deleted) {
+			this.changed = changed;
+			this.deleted = deleted;
+		}
+
+		List<String> getChanged() {
+			return this.changed;
+		}
+
+		List<String> getDeleted() {
+			return this.deleted;
+		}
+
+		boolean isEmpty() {
+			return this.changed.isEmpty() && this.deleted.isEmpty();
+		}
+
+	}
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.credential;
+
+/**
+ * A probabilistic count of how often keys are accessed, used to decide whether a new
+ * cache entry is worth keeping in place of an existing one. This is a count-min sketch of
+ * four-bit counters. All counters are halved once the number of increments reaches a
+ * sample size proportional to the cache size, so that the sketch tracks recent popularity
+ * rather than all-time popularity.
+ *
+ * @author agent
+ */
+final class FrequencySketch {
+
+	private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+			0xcbf29ce484222325L };
+
+	private static final long RESET_MASK = 0x7777777777777777L;
+
+	private static final long ONE_MASK = 0x1111111111111111L;
+
+	private static final int MAX_FREQUENCY = 15;
+
+	private final long[] table;
+
+	private final int tableMask;
+
+	private final int sampleSize;
+
+	private int size;
+
+	FrequencySketch(long maximumSize) {
+		int capacity = (int) Math.min(Math.max(maximumSize, 8), 1 << 30);
+		int length = Integer.highestOneBit(capacity - 1) << 1;
+
+		this.table = new long[length];
+		this.tableMask = length - 1;
+		this.sampleSize = (int) Math.min(10L * capacity, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Get the estimated number of times a key has been accessed, up to a maximum of 15.
+	 * @param key the key
+	 * @return the estimated frequency
+	 */
+	int frequency(Object key) {
+		int hash = spread(key.hashCode());
+		int frequency = MAX_FREQUENCY;
+		for (int i = 0; i < SEEDS.length; i++) {
+			int offset = offsetOf(hash, i);
+			frequency = Math.min(frequency, (int) ((this.table[indexOf(hash, i)] >>> offset) & 0xfL));
+		}
+		return frequency;
+	}
+
+	/**
+	 * Record an access to a key.
+	 * @param key the key
+	 */
+	void increment(Object key) {
+		int hash = spread(key.hashCode());
+		boolean added = false;
+		for (int i = 0; i < SEEDS.length; i++) {
+			int index = indexOf(hash, i);
+			long mask = 0xfL << offsetOf(hash, i);
+			if ((this.table[index] & mask) != mask) {
+				this.table[index] += 1L << offsetOf(hash, i);
+				added = true;
+			}
+		}
+
+		if (added && ++this.size >= this.sampleSize) {
+			reset();
+		}
+	}
+
+	private void reset() {
+		int odd = 0;
+		for (int i = 0; i < this.table.length; i++) {
+			odd += Long.bitCount(this.table[i] & ONE_MASK);
+			this.table[i] = (this.table[i] >>> 1) & RESET_MASK;
+		}
+		this.size = (this.size - (odd >>> 2)) >>> 1;
+	}
+
+	private int indexOf(int hash, int i) {
+		long h = (hash + SEEDS[i]) * SEEDS[i];
+		h += (h >>> 32);
+		return ((int) h) & this.tableMask;
+	}
+
+	private static int offsetOf(int hash, int i) {
+		return (((hash & 3) << 2) + i) << 2;
+	}
+
+	private static int spread(int hashCode) {
+		int h = hashCode * 0x9e3779b9;
+		return h ^ (h >>> 16);
+	}
+
+}
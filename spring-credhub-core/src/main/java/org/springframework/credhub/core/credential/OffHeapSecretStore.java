@@ -0,0 +1,356 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.credential;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.util.Assert;
+
+/**
+ * Stores secret payloads outside of the Java heap, in direct {@link ByteBuffer} slabs, so
+ * that cached secrets do not add to garbage collection work and do not appear in heap
+ * dumps.
+ *
+ * Memory is allocated in fixed-size slabs up to a capacity in bytes. Each slab is divided
+ * into chunks of a single power-of-two size class, and each payload is stored in a chunk
+ * of the smallest size class that fits it. A slab whose chunks are all free is returned
+ * to a pool of empty slabs and may be divided again for another size class. When no
+ * chunk of the required size class is available and no more slabs can be allocated, the
+ * least recently used payloads of any size class are evicted until a chunk or an empty
+ * slab becomes available. Chunks are overwritten with zeros when their payload is
+ * removed, replaced, or evicted.
+ *
+ * Payloads are accessed through read-only views that are only valid for the duration of a
+ * callback, or copied to a {@code char[]} that the caller should clear after use.
+ *
+ * @author agent
+ */
+public class OffHeapSecretStore {
+
+	/**
+	 * The default size of each slab.
+	 */
+	public static final int DEFAULT_SLAB_SIZE = 1024 * 1024;
+
+	private static final int MIN_CHUNK_SIZE = 64;
+
+	private final long capacity;
+
+	private final int slabSize;
+
+	private final Map<Integer, Set<Slab>> slabsWithFreeChunks = new HashMap<>();
+
+	private final Deque<Slab> emptySlabs = new ArrayDeque<>();
+
+	private int slabCount;
+
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long usedBytes;
+
+	/**
+	 * Create a new {@link OffHeapSecretStore} with the default slab size.
+	 * @param capacity the maximum number of bytes of off-heap memory to allocate; must be
+	 * at least the slab size
+	 */
+	public OffHeapSecretStore(long capacity) {
+		this(capacity, DEFAULT_SLAB_SIZE);
+	}
+
+	/**
+	 * Create a new {@link OffHeapSecretStore}.
+	 * @param capacity the maximum number of bytes of off-heap memory to allocate; must be
+	 * at least the slab size
+	 * @param slabSize the size of each slab in bytes, which is also the maximum size of a
+	 * single payload; must be a power of two no smaller than {@literal 64}
+	 */
+	public OffHeapSecretStore(long capacity, int slabSize) {
+		Assert.isTrue(slabSize >= MIN_CHUNK_SIZE && Integer.bitCount(slabSize) == 1,
+				"slabSize must be a power of two no smaller than " + MIN_CHUNK_SIZE);
+		Assert.isTrue(capacity >= slabSize, "capacity must not be less than slabSize");
+
+		this.capacity = capacity;
+		this.slabSize = slabSize;
+	}
+
+	/**
+	 * Store a payload, replacing any payload already stored with the same key. The
+	 * provided array is not modified; callers should clear it once it is no longer
+	 * needed.
+	 * @param key the key of the payload; must not be {@literal null}
+	 * @param payload the payload; must not be {@literal null}
+	 * @return {@literal true} if the payload was stored, {@literal false} if it is larger
+	 * than the slab size or no space could be made for it
+	 */
+	public synchronized boolean put(String key, byte[] payload) {
+		Assert.notNull(key, "key must not be null");
+		Assert.notNull(payload, "payload must not be null");
+
+		remove(key);
+
+		if (payload.length > this.slabSize) {
+			return false;
+		}
+
+		Chunk chunk = allocate(sizeClass(payload.length));
+		if (chunk == null) {
+			return false;
+		}
+
+		chunk.write(payload);
+		this.entries.put(key, new Entry(chunk, payload.length));
+		this.usedBytes += chunk.size;
+		return true;
+	}
+
+	/**
+	 * Read a stored payload. The {@link ByteBuffer} passed to the reader is a read-only
+	 * view of the off-heap memory and must not be used after the reader returns.
+	 * @param key the key of the payload; must not be {@literal null}
+	 * @param reader a function that reads the payload
+	 * @param <R> the type of the result
+	 * @return the result of the reader, or {@literal null} if no payload is stored with
+	 * the key
+	 */
+	public synchronized <R> R read(String key, Function<ByteBuffer, R> reader) {
+		Assert.notNull(key, "key must not be null");
+		Assert.notNull(reader, "reader must not be null");
+
+		Entry entry = this.entries.get(key);
+		return (entry != null) ? reader.apply(entry.view()) : null;
+	}
+
+	/**
+	 * Copy a stored UTF-8 payload into a new {@code char[]}. The caller should clear the
+	 * returned array once it is no longer needed.
+	 * @param key the key of the payload; must not be {@literal null}
+	 * @return the payload characters, or {@literal null} if no payload is stored with the
+	 * key
+	 */
+	public char[] getChars(String key) {
+		return read(key, OffHeapSecretStore::decode);
+	}
+
+	/**
+	 * Remove a stored payload and overwrite its memory with zeros.
+	 * @param key the key of the payload; must not be {@literal null}
+	 * @return {@literal true} if a payload was removed
+	 */
+	public synchronized boolean remove(String key) {
+		Assert.notNull(key, "key must not be null");
+
+		Entry entry = this.entries.remove(key);
+		if (entry == null) {
+			return false;
+		}
+		release(entry.chunk);
+		return true;
+	}
+
+	/**
+	 * Remove all stored payloads and overwrite their memory with zeros.
+	 */
+	public synchronized void clear() {
+		this.entries.values().forEach((entry) -> release(entry.chunk));
+		this.entries.clear();
+	}
+
+	/**
+	 * Get the number of stored payloads.
+	 * @return the number of payloads
+	 */
+	public synchronized int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Get the number of bytes in chunks that hold payloads.
+	 * @return the number of bytes in use
+	 */
+	public synchronized long getUsedBytes() {
+		return this.usedBytes;
+	}
+
+	/**
+	 * Get the number of bytes of off-heap memory allocated for slabs.
+	 * @return the number of bytes allocated
+	 */
+	public synchronized long getAllocatedBytes() {
+		return (long) this.slabCount * this.slabSize;
+	}
+
+	private int sizeClass(int length) {
+		int size = MIN_CHUNK_SIZE;
+		while (size < length) {
+			size <<= 1;
+		}
+		return size;
+	}
+
+	private Chunk allocate(int size) {
+		Set<Slab> available = this.slabsWithFreeChunks.computeIfAbsent(size, (s) -> new LinkedHashSet<>());
+		while (available.isEmpty()) {
+			Slab slab = emptySlab();
+			if (slab != null) {
+				slab.split(size);
+				available.add(slab);
+			}
+			else if (this.entries.isEmpty()) {
+				return null;
+			}
+			else {
+				evictLeastRecentlyUsed();
+			}
+		}
+		Slab slab = available.iterator().next();
+		Chunk chunk = slab.freeChunks.poll();
+		if (slab.freeChunks.isEmpty()) {
+			available.remove(slab);
+		}
+		return chunk;
+	}
+
+	private Slab emptySlab() {
+		Slab slab = this.emptySlabs.poll();
+		if (slab == null && getAllocatedBytes() + this.slabSize <= this.capacity) {
+			slab = new Slab(ByteBuffer.allocateDirect(this.slabSize));
+			this.slabCount++;
+		}
+		return slab;
+	}
+
+	private void evictLeastRecentlyUsed() {
+		Iterator<Entry> iterator = this.entries.values().iterator();
+		Entry entry = iterator.next();
+		iterator.remove();
+		release(entry.chunk);
+	}
+
+	private void release(Chunk chunk) {
+		chunk.zero();
+		this.usedBytes -= chunk.size;
+		Slab slab = chunk.slab;
+		slab.freeChunks.push(chunk);
+		Set<Slab> available = this.slabsWithFreeChunks.get(chunk.size);
+		if (slab.freeChunks.size() == slab.chunkCount) {
+			available.remove(slab);
+			slab.freeChunks.clear();
+			this.emptySlabs.push(slab);
+		}
+		else {
+			available.add(slab);
+		}
+	}
+
+	private static char[] decode(ByteBuffer buffer) {
+		CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+			.onMalformedInput(CodingErrorAction.REPORT)
+			.onUnmappableCharacter(CodingErrorAction.REPORT);
+		CharBuffer chars = CharBuffer.allocate(buffer.remaining());
+		try {
+			CoderResult result = decoder.decode(buffer, chars, true);
+			if (result.isError()) {
+				throw new IllegalArgumentException("Payload is not valid UTF-8");
+			}
+			decoder.flush(chars);
+			return Arrays.copyOf(chars.array(), chars.position());
+		}
+		finally {
+			Arrays.fill(chars.array(), '\0');
+		}
+	}
+
+	private static final class Slab {
+
+		private final ByteBuffer buffer;
+
+		private final Deque<Chunk> freeChunks = new ArrayDeque<>();
+
+		private int chunkCount;
+
+		private Slab(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		private void split(int size) {
+			this.chunkCount = this.buffer.capacity() / size;
+			for (int offset = 0; offset + size <= this.buffer.capacity(); offset += size) {
+				this.freeChunks.add(new Chunk(this, offset, size));
+			}
+		}
+
+	}
+
+	private static final class Chunk {
+
+		private final Slab slab;
+
+		private final int offset;
+
+		private final int size;
+
+		private Chunk(Slab slab, int offset, int size) {
+			this.slab = slab;
+			this.offset = offset;
+			this.size = size;
+		}
+
+		private void write(byte[] payload) {
+			this.slab.buffer.put(this.offset, payload);
+		}
+
+		private void zero() {
+			for (int i = 0; i < this.size; i++) {
+				this.slab.buffer.put(this.offset + i, (byte) 0);
+			}
+		}
+
+	}
+
+	private static final class Entry {
+
+		private final Chunk chunk;
+
+		private final int length;
+
+		private Entry(Chunk chunk, int length) {
+			this.chunk = chunk;
+			this.length = length;
+		}
+
+		private ByteBuffer view() {
+			return this.chunk.slab.buffer.slice(this.chunk.offset, this.length).asReadOnlyBuffer();
+		}
+
+	}
+
+}
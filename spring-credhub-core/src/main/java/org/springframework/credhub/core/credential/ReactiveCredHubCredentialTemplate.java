@@ -16,7 +16,7 @@
 
 package org.springframework.credhub.core.credential;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
 
 import reactor.core.publisher.Flux;
@@ -60,6 +60,12 @@ public class ReactiveCredHubCredentialTemplate implements ReactiveCredHubCredent
 
 	private static final String NAME_REQUEST_FIELD = "name";
 
+	private static final ParameterizedTypeReference<CredentialDetails<Object>> DETAILS_TYPE = new ParameterizedTypeReference<>() {
+	};
+
+	private static final ParameterizedTypeReference<CredentialDetailsData<Object>> DETAILS_DATA_TYPE = new ParameterizedTypeReference<>() {
+	};
+
 	private final ReactiveCredHubOperations credHubOperations;
 
 	/**
@@ -75,8 +81,7 @@ public class ReactiveCredHubCredentialTemplate implements ReactiveCredHubCredent
 	public <T> Mono<CredentialDetails<T>> write(final CredentialRequest<T> credentialRequest) {
 		Assert.notNull(credentialRequest, "credentialRequest must not be null");
 
-		final ParameterizedTypeReference<CredentialDetails<T>> ref = new ParameterizedTypeReference<CredentialDetails<T>>() {
-		};
+		final ParameterizedTypeReference<CredentialDetails<T>> ref = detailsType();
 
 		return this.credHubOperations.doWithWebClient((webClient) -> webClient.put()
 			.uri(BASE_URL_PATH)
@@ -91,8 +96,7 @@ public class ReactiveCredHubCredentialTemplate implements ReactiveCredHubCredent
 			Class<T> credentialType) {
 		Assert.notNull(parametersRequest, "parametersRequest must not be null");
 
-		final ParameterizedTypeReference<CredentialDetails<T>> ref = new ParameterizedTypeReference<CredentialDetails<T>>() {
-		};
+		final ParameterizedTypeReference<CredentialDetails<T>> ref = detailsType();
 
 		return this.credHubOperations.doWithWebClient((webClient) -> webClient.post()
 			.uri(BASE_URL_PATH)
@@ -107,11 +111,9 @@ public class ReactiveCredHubCredentialTemplate implements ReactiveCredHubCredent
 		Assert.notNull(name, "credential name must not be null");
 		Assert.notNull(credentialType, "credential type must not be null");
 
-		final ParameterizedTypeReference<CredentialDetails<T>> ref = new ParameterizedTypeReference<CredentialDetails<T>>() {
-		};
+		final ParameterizedTypeReference<CredentialDetails<T>> ref = detailsType();
 
-		Map<String, Object> request = new HashMap<>(1);
-		request.put(NAME_REQUEST_FIELD, name.getName());
+		Map<String, Object> request = Collections.singletonMap(NAME_REQUEST_FIELD, name.getName());
 
 		return this.credHubOperations.doWithWebClient((webClient) -> webClient.post()
 			.uri(REGENERATE_URL_PATH)
@@ -126,8 +128,7 @@ public class ReactiveCredHubCredentialTemplate implements ReactiveCredHubCredent
 		Assert.notNull(id, "credential id must not be null");
 		Assert.notNull(credentialType, "credential type must not be null");
 
-		final ParameterizedTypeReference<CredentialDetails<T>> ref = new ParameterizedTypeReference<CredentialDetails<T>>() {
-		};
+		final ParameterizedTypeReference<CredentialDetails<T>> ref = detailsType();
 
 		return this.credHubOperations.doWithWebClient((webClient) -> webClient.get()
 			.uri(ID_URL_PATH, id)
@@ -141,8 +142,7 @@ public class ReactiveCredHubCredentialTemplate implements ReactiveCredHubCredent
 		Assert.notNull(name, "credential name must not be null");
 		Assert.notNull(credentialType, "credential type must not be null");
 
-		final ParameterizedTypeReference<CredentialDetailsData<T>> ref = new ParameterizedTypeReference<CredentialDetailsData<T>>() {
-		};
+		final ParameterizedTypeReference<CredentialDetailsData<T>> ref = detailsDataType();
 
 		return this.credHubOperations.doWithWebClient((webClient) -> webClient.get()
 			.uri(NAME_URL_QUERY_CURRENT, name.getName())
@@ -158,8 +158,7 @@ public class ReactiveCredHubCredentialTemplate implements ReactiveCredHubCredent
 		Assert.notNull(name, "credential name must not be null");
 		Assert.notNull(credentialType, "credential type must not be null");
 
-		final ParameterizedTypeReference<CredentialDetailsData<T>> ref = new ParameterizedTypeReference<CredentialDetailsData<T>>() {
-		};
+		final ParameterizedTypeReference<CredentialDetailsData<T>> ref = detailsDataType();
 
 		return this.credHubOperations.doWithWebClient((webClient) -> webClient.get()
 			.uri(NAME_URL_QUERY, name.getName())
@@ -175,8 +174,7 @@ public class ReactiveCredHubCredentialTemplate implements ReactiveCredHubCredent
 		Assert.notNull(name, "credential name must not be null");
 		Assert.notNull(credentialType, "credential type must not be null");
 
-		final ParameterizedTypeReference<CredentialDetailsData<T>> ref = new ParameterizedTypeReference<CredentialDetailsData<T>>() {
-		};
+		final ParameterizedTypeReference<CredentialDetailsData<T>> ref = detailsDataType();
 
 		return this.credHubOperations.doWithWebClient((webClient) -> webClient.get()
 			.uri(NAME_URL_QUERY_VERSIONS, name.getName(), versions)
@@ -221,4 +219,14 @@ public class ReactiveCredHubCredentialTemplate implements ReactiveCredHubCredent
 			.bodyToMono(Void.class));
 	}
 
+	@SuppressWarnings("unchecked")
+	private static <T> ParameterizedTypeReference<CredentialDetails<T>> detailsType() {
+		return (ParameterizedTypeReference<CredentialDetails<T>>) (ParameterizedTypeReference<?>) DETAILS_TYPE;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> ParameterizedTypeReference<CredentialDetailsData<T>> detailsDataType() {
+		return (ParameterizedTypeReference<CredentialDetailsData<T>>) (ParameterizedTypeReference<?>) DETAILS_DATA_TYPE;
+	}
+
 }
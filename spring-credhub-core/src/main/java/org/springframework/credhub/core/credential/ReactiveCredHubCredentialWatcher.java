@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.credential;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.credhub.support.CredentialName;
+import org.springframework.credhub.support.CredentialSummary;
+import org.springframework.credhub.support.SimpleCredentialName;
+import org.springframework.util.Assert;
+
+/**
+ * Watches credentials under a set of paths, and individually named credentials, for
+ * changes and emits a {@link CredentialChangedEvent} for each credential that has a new
+ * version or has been deleted.
+ *
+ * Changes are detected by comparing the {@literal versionCreatedAt} of the credential
+ * summaries returned by {@link ReactiveCredHubCredentialOperations#findByPath(String)}
+ * and {@link ReactiveCredHubCredentialOperations#findByName(CredentialName)}, so that
+ * credential values are retrieved only for credentials that have changed. Polling uses
+ * the same adaptive, jittered interval as {@link CredHubCredentialWatcher}.
+ *
+ * @author agent
+ */
+public class ReactiveCredHubCredentialWatcher {
+
+	private static final Log logger = LogFactory.getLog(ReactiveCredHubCredentialWatcher.class);
+
+	private static final Duration DEFAULT_MIN_INTERVAL = Duration.ofSeconds(30);
+
+	private static final Duration DEFAULT_MAX_INTERVAL = Duration.ofMinutes(10);
+
+	private final ReactiveCredHubCredentialOperations credentialOperations;
+
+	private List<String> paths = new ArrayList<>();
+
+	private List<CredentialName> names = new ArrayList<>();
+
+	private Duration minInterval = DEFAULT_MIN_INTERVAL;
+
+	private Duration maxInterval = DEFAULT_MAX_INTERVAL;
+
+	/**
+	 * Create a new {@link ReactiveCredHubCredentialWatcher}.
+	 * @param credentialOperations the {@link ReactiveCredHubCredentialOperations} used to
+	 * retrieve credentials; must not be {@literal null}
+	 */
+	public ReactiveCredHubCredentialWatcher(ReactiveCredHubCredentialOperations credentialOperations) {
+		Assert.notNull(credentialOperations, "credentialOperations must not be null");
+
+		this.credentialOperations = credentialOperations;
+	}
+
+	/**
+	 * Set the paths to watch. All credentials under each path are watched.
+	 * @param paths the credential paths
+	 */
+	public void setPaths(String... paths) {
+		this.paths = new ArrayList<>(Arrays.asList(paths));
+	}
+
+	/**
+	 * Set the names of individual credentials to watch.
+	 * @param names the credential names
+	 */
+	public void setNames(CredentialName... names) {
+		this.names = new ArrayList<>(Arrays.asList(names));
+	}
+
+	/**
+	 * Set the interval between polls when credentials are changing. Defaults to 30
+	 * seconds.
+	 * @param minInterval the minimum interval; must be positive
+	 */
+	public void setMinInterval(Duration minInterval) {
+		this.minInterval = minInterval;
+	}
+
+	/**
+	 * Set the interval between polls when credentials are not changing. Defaults to 10
+	 * minutes.
+	 * @param maxInterval the maximum interval; must not be less than the minimum interval
+	 */
+	public void setMaxInterval(Duration maxInterval) {
+		this.maxInterval = maxInterval;
+	}
+
+	/**
+	 * Watch the configured credentials. CredHub is polled for as long as the returned
+	 * {@link Flux} is subscribed, and each subscription tracks credential versions
+	 * independently. The first poll records the current versions and emits no events.
+	 * Errors while polling are logged and polling continues.
+	 * @return a {@link Flux} of changes to watched credentials
+	 */
+	public Flux<CredentialChangedEvent> watch() {
+		return Flux.defer(() -> {
+			CredentialVersionTracker tracker = new CredentialVersionTracker();
+			AdaptivePollInterval interval = new AdaptivePollInterval(this.minInterval, this.maxInterval);
+
+			return Flux.defer(() -> poll(tracker))
+				.repeatWhen((emitted) -> emitted
+					.concatMap((count) -> Mono.delay(Duration.ofMillis(interval.nextDelayMillis(count > 0)))));
+		});
+	}
+
+	private Flux<CredentialChangedEvent> poll(CredentialVersionTracker tracker) {
+		return findSummaries().collectList()
+			.map(tracker::update)
+			.flatMapMany((changes) -> Flux.concat(
+					Flux.fromIterable(changes.getChanged()).concatMap((name) -> changed(tracker, name)),
+					Flux.fromIterable(changes.getDeleted()).map(this::deleted)))
+			.onErrorResume((ex) -> {
+				logger.warn("Unable to check CredHub for changed credentials", ex);
+				return Flux.empty();
+			});
+	}
+
+	private Mono<CredentialChangedEvent> changed(CredentialVersionTracker tracker, String name) {
+		SimpleCredentialName credentialName = new SimpleCredentialName(name);
+		return this.credentialOperations.getByName(credentialName, Object.class)
+			.map((details) -> new CredentialChangedEvent(this, credentialName, details))
+			.onErrorResume((ex) -> {
+				tracker.forget(name);
+				logger.warn("Unable to retrieve changed credential " + name + " from CredHub", ex);
+				return Mono.empty();
+			});
+	}
+
+	private CredentialChangedEvent deleted(String name) {
+		return new CredentialChangedEvent(this, new SimpleCredentialName(name), null);
+	}
+
+	private Flux<CredentialSummary> findSummaries() {
+		Flux<CredentialSummary> byPath = Flux.fromIterable(this.paths).concatMap(this.credentialOperations::findByPath);
+		Flux<CredentialSummary> byName = Flux.fromIterable(this.names)
+			.concatMap((name) -> this.credentialOperations.findByName(name)
+				.filter((summary) -> summary.getName() != null && name.getName().equals(summary.getName().getName())));
+		return Flux.concat(byPath, byName);
+	}
+
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.credential;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.credhub.core.credential.CredentialSnapshotStore.Snapshot;
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialName;
+import org.springframework.credhub.support.CredentialRequest;
+import org.springframework.credhub.support.CredentialSummary;
+import org.springframework.credhub.support.ParametersRequest;
+import org.springframework.util.Assert;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * A {@link CredHubCredentialOperations} decorator that keeps a
+ * {@link CredentialSnapshotStore} of the credentials it retrieves, so that applications
+ * can start and keep running while CredHub is slow or unavailable.
+ *
+ * The first time a credential is requested by name or id after the application starts, a
+ * snapshot that is no older than the maximum staleness is returned immediately and the
+ * credential is revalidated against CredHub in the background. Subsequent requests are
+ * sent to CredHub, and the snapshot is updated with the response; the store only writes
+ * a new record when the credential has changed, and a failure to update the snapshot
+ * does not fail the request. If CredHub responds with a server error or can not be
+ * reached, a snapshot that is no older than the maximum staleness is returned instead of
+ * the error.
+ *
+ * @author agent
+ */
+public class SnapshotCredHubCredentialTemplate implements CredHubCredentialOperations {
+
+	private static final Log logger = LogFactory.getLog(SnapshotCredHubCredentialTemplate.class);
+
+	private final CredHubCredentialOperations delegate;
+
+	private final CredentialSnapshotStore store;
+
+	private final Duration maxStaleness;
+
+	private final Executor executor;
+
+	private final Clock clock;
+
+	private final Set<String> revalidated = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Create a new {@link SnapshotCredHubCredentialTemplate}.
+	 * @param delegate the {@link CredHubCredentialOperations} used to interact with
+	 * CredHub; must not be {@literal null}
+	 * @param store the store of credential snapshots; must not be {@literal null}
+	 * @param maxStaleness the maximum age of a snapshot that will be returned instead of
+	 * a response from CredHub; must not be {@literal null} or negative
+	 * @param executor the {@link Executor} used to revalidate snapshots in the
+	 * background; must not be {@literal null}
+	 */
+	public SnapshotCredHubCredentialTemplate(CredHubCredentialOperations delegate, CredentialSnapshotStore store,
+			Duration maxStaleness, Executor executor) {
+		this(delegate, store, maxStaleness, executor, Clock.systemUTC());
+	}
+
+	SnapshotCredHubCredentialTemplate(CredHubCredentialOperations delegate, CredentialSnapshotStore store,
+			Duration maxStaleness, Executor executor, Clock clock) {
+		Assert.notNull(delegate, "delegate must not be null");
+		Assert.notNull(store, "store must not be null");
+		Assert.notNull(maxStaleness, "maxStaleness must not be null");
+		Assert.isTrue(!maxStaleness.isNegative(), "maxStaleness must not be negative");
+		Assert.notNull(executor, "executor must not be null");
+		Assert.notNull(clock, "clock must not be null");
+
+		this.delegate = delegate;
+		this.store = store;
+		this.maxStaleness = maxStaleness;
+		this.executor = executor;
+		this.clock = clock;
+	}
+
+	@Override
+	public <T> CredentialDetails<T> write(CredentialRequest<T> credentialRequest) {
+		return store(this.delegate.write(credentialRequest));
+	}
+
+	@Override
+	public <T, P> CredentialDetails<T> generate(ParametersRequest<P> parametersRequest) {
+		return store(this.delegate.generate(parametersRequest));
+	}
+
+	@Override
+	public <T> CredentialDetails<T> regenerate(CredentialName name, Class<T> credentialType) {
+		return store(this.delegate.regenerate(name, credentialType));
+	}
+
+	@Override
+	public <T> CredentialDetails<T> getById(String id, Class<T> credentialType) {
+		Assert.notNull(id, "credential id must not be null");
+
+		return retrieve("id:" + id, () -> this.store.getById(id), () -> this.delegate.getById(id, credentialType));
+	}
+
+	@Override
+	public <T> CredentialDetails<T> getByName(CredentialName name, Class<T> credentialType) {
+		Assert.notNull(name, "credential name must not be null");
+
+		return retrieve("name:" + name.getName(), () -> this.store.getByName(name),
+				() -> this.delegate.getByName(name, credentialType));
+	}
+
+	@Override
+	public <T> List<CredentialDetails<T>> getByNameWithHistory(CredentialName name, Class<T> credentialType) {
+		return this.delegate.getByNameWithHistory(name, credentialType);
+	}
+
+	@Override
+	public <T> List<CredentialDetails<T>> getByNameWithHistory(CredentialName name, int versions,
+			Class<T> credentialType) {
+		return this.delegate.getByNameWithHistory(name, versions, credentialType);
+	}
+
+	@Override
+	public List<CredentialSummary> findByName(CredentialName name) {
+		return this.delegate.findByName(name);
+	}
+
+	@Override
+	public List<CredentialSummary> findByPath(String path) {
+		return this.delegate.findByPath(path);
+	}
+
+	@Override
+	public void deleteByName(CredentialName name) {
+		this.delegate.deleteByName(name);
+		try {
+			this.store.remove(name);
+		}
+		catch (RuntimeException ex) {
+			logger.warn("Unable to remove credential snapshot", ex);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> CredentialDetails<T> retrieve(String key, Supplier<Snapshot> snapshotSupplier,
+			Supplier<CredentialDetails<T>> retriever) {
+		if (this.revalidated.add(key)) {
+			Snapshot snapshot = snapshotSupplier.get();
+			if (isUsable(snapshot)) {
+				this.executor.execute(() -> revalidate(retriever));
+				return (CredentialDetails<T>) snapshot.getDetails();
+			}
+		}
+
+		try {
+			return store(retriever.get());
+		}
+		catch (RuntimeException ex) {
+			if (isServerError(ex)) {
+				Snapshot snapshot = snapshotSupplier.get();
+				if (isUsable(snapshot)) {
+					logger.warn("Unable to retrieve credential from CredHub, using snapshot stored at "
+							+ snapshot.getStoredAt(), ex);
+					return (CredentialDetails<T>) snapshot.getDetails();
+				}
+			}
+			throw ex;
+		}
+	}
+
+	private <T> void revalidate(Supplier<CredentialDetails<T>> retriever) {
+		try {
+			store(retriever.get());
+		}
+		catch (RuntimeException ex) {
+			logger.warn("Unable to revalidate credential snapshot with CredHub", ex);
+		}
+	}
+
+	private <T> CredentialDetails<T> store(CredentialDetails<T> details) {
+		if (details != null && details.getName() != null) {
+			try {
+				this.store.put(details);
+			}
+			catch (RuntimeException ex) {
+				logger.warn("Unable to store credential snapshot", ex);
+			}
+		}
+		return details;
+	}
+
+	private boolean isUsable(Snapshot snapshot) {
+		return snapshot != null && !snapshot.getStoredAt().plus(this.maxStaleness).isBefore(this.clock.instant());
+	}
+
+	private static boolean isServerError(RuntimeException ex) {
+		if (ex instanceof HttpStatusCodeException statusCodeException) {
+			return statusCodeException.getStatusCode().is5xxServerError();
+		}
+		return ex instanceof ResourceAccessException;
+	}
+
+}
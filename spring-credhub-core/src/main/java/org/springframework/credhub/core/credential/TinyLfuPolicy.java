@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.credential;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A W-TinyLFU eviction policy that tracks the keys of a bounded cache. New keys enter a
+ * small LRU admission window. When the window is full, its least recently used key
+ * becomes a candidate for the main LRU region and is admitted only if it has been
+ * accessed more often than the main region's least recently used key, as estimated by a
+ * {@link FrequencySketch}. This keeps frequently used keys cached when many keys are each
+ * accessed only once.
+ *
+ * @author agent
+ */
+final class TinyLfuPolicy {
+
+	private final int windowMaximum;
+
+	private final long mainMaximum;
+
+	private final FrequencySketch sketch;
+
+	private final LinkedHashMap<String, Boolean> window = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final LinkedHashMap<String, Boolean> main = new LinkedHashMap<>(16, 0.75f, true);
+
+	TinyLfuPolicy(long maximumSize) {
+		this.windowMaximum = (int) Math.max(1, Math.min(maximumSize / 100, Integer.MAX_VALUE));
+		this.mainMaximum = Math.max(0, maximumSize - this.windowMaximum);
+		this.sketch = new FrequencySketch(maximumSize);
+	}
+
+	/**
+	 * Record an access to a key that is held in the cache.
+	 * @param key the key
+	 */
+	synchronized void recordAccess(String key) {
+		this.sketch.increment(key);
+		if (this.window.get(key) == null) {
+			this.main.get(key);
+		}
+	}
+
+	/**
+	 * Record that a key has been added to the cache.
+	 * @param key the key
+	 * @return the keys that must be removed from the cache, which may include the added
+	 * key
+	 */
+	synchronized List<String> recordInsert(String key) {
+		this.sketch.increment(key);
+		if (this.window.get(key) != null || this.main.get(key) != null) {
+			return List.of();
+		}
+
+		this.window.put(key, Boolean.TRUE);
+		List<String> evicted = new ArrayList<>();
+		while (this.window.size() > this.windowMaximum) {
+			String candidate = removeEldest(this.window);
+			if (this.main.size() < this.mainMaximum) {
+				this.main.put(candidate, Boolean.TRUE);
+			}
+			else if (this.mainMaximum > 0 && admit(candidate, this.main.keySet().iterator().next())) {
+				evicted.add(removeEldest(this.main));
+				this.main.put(candidate, Boolean.TRUE);
+			}
+			else {
+				evicted.add(candidate);
+			}
+		}
+		return evicted;
+	}
+
+	synchronized void remove(String key) {
+		if (this.window.remove(key) == null) {
+			this.main.remove(key);
+		}
+	}
+
+	synchronized void clear() {
+		this.window.clear();
+		this.main.clear();
+	}
+
+	/**
+	 * Get the cached keys with the highest estimated access frequency.
+	 * @param limit the maximum number of keys to return
+	 * @return the keys and estimated frequencies, most frequent first
+	 */
+	synchronized List<Map.Entry<String, Integer>> hottest(int limit) {
+		List<Map.Entry<String, Integer>> keys = new ArrayList<>(this.window.size() + this.main.size());
+		this.window.keySet().forEach((key) -> keys.add(Map.entry(key, this.sketch.frequency(key))));
+		this.main.keySet().forEach((key) -> keys.add(Map.entry(key, this.sketch.frequency(key))));
+		keys.sort(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()));
+		return new ArrayList<>(keys.subList(0, Math.min(limit, keys.size())));
+	}
+
+	private boolean admit(String candidate, String victim) {
+		return this.sketch.frequency(candidate) > this.sketch.frequency(victim);
+	}
+
+	private static String removeEldest(LinkedHashMap<String, Boolean> keys) {
+		Iterator<String> iterator = keys.keySet().iterator();
+		String eldest = iterator.next();
+		iterator.remove();
+		return eldest;
+	}
+
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.interpolation;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.credhub.core.CredHubOperations;
+import org.springframework.credhub.core.credential.CachingCredHubCredentialTemplate;
+import org.springframework.credhub.core.credential.CredHubCredentialOperations;
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialType;
+import org.springframework.credhub.support.ServicesData;
+import org.springframework.credhub.support.SimpleCredentialName;
+import org.springframework.credhub.support.json.JsonCredential;
+import org.springframework.credhub.support.utils.JsonUtils;
+import org.springframework.util.Assert;
+
+/**
+ * Implements interpolation of service binding credentials on the client. All
+ * {@literal credhub-ref} references in the service data are collected and the referenced
+ * JSON credentials are retrieved by name through a {@link CredHubCredentialOperations},
+ * typically a {@link CachingCredHubCredentialTemplate}, with credentials that are not
+ * cached retrieved concurrently. Each reference is then replaced by the credential value
+ * the same way the CredHub server would.
+ *
+ * If any reference can not be resolved on the client, for example because it is
+ * malformed, the credential does not exist, or the credential is not a JSON credential,
+ * the service data is sent to the CredHub interpolation endpoint instead so that the
+ * server produces the authoritative result or error.
+ *
+ * @author agent
+ */
+public class CachingCredHubInterpolationTemplate implements CredHubInterpolationOperations {
+
+	private static final Log logger = LogFactory.getLog(CachingCredHubInterpolationTemplate.class);
+
+	private static final String REFERENCE_PREFIX = "((";
+
+	private static final String REFERENCE_SUFFIX = "))";
+
+	private final CredHubCredentialOperations credentialOperations;
+
+	private final CredHubInterpolationOperations serverInterpolation;
+
+	private final Executor executor;
+
+	private final ObjectMapper objectMapper = JsonUtils.buildObjectMapper();
+
+	/**
+	 * Create a new {@link CachingCredHubInterpolationTemplate} that caches retrieved
+	 * credentials for the provided time-to-live.
+	 * @param credHubOperations the {@link CredHubOperations} to use for interactions with
+	 * CredHub; must not be {@literal null}
+	 * @param timeToLive the amount of time a retrieved credential is cached; must not be
+	 * {@literal null} or negative
+	 * @param executor the {@link Executor} used to retrieve credentials that are not
+	 * cached concurrently; must not be {@literal null}
+	 */
+	public CachingCredHubInterpolationTemplate(CredHubOperations credHubOperations, Duration timeToLive,
+			Executor executor) {
+		this(credHubOperations, cachingCredentials(credHubOperations, timeToLive), executor);
+	}
+
+	/**
+	 * Create a new {@link CachingCredHubInterpolationTemplate} that retrieves credentials
+	 * using the provided {@link CredHubCredentialOperations}.
+	 * @param credHubOperations the {@link CredHubOperations} to use for interactions with
+	 * CredHub; must not be {@literal null}
+	 * @param credentialOperations the {@link CredHubCredentialOperations} used to
+	 * retrieve referenced credentials; must not be {@literal null}
+	 * @param executor the {@link Executor} used to retrieve credentials concurrently;
+	 * must not be {@literal null}
+	 */
+	public CachingCredHubInterpolationTemplate(CredHubOperations credHubOperations,
+			CredHubCredentialOperations credentialOperations, Executor executor) {
+		Assert.notNull(credHubOperations, "credHubOperations must not be null");
+		Assert.notNull(credentialOperations, "credentialOperations must not be null");
+		Assert.notNull(executor, "executor must not be null");
+
+		this.credentialOperations = credentialOperations;
+		this.serverInterpolation = new CredHubInterpolationTemplate(credHubOperations);
+		this.executor = executor;
+	}
+
+	private static CredHubCredentialOperations cachingCredentials(CredHubOperations credHubOperations,
+			Duration timeToLive) {
+		Assert.notNull(credHubOperations, "credHubOperations must not be null");
+		return new CachingCredHubCredentialTemplate(credHubOperations.credentials(), timeToLive);
+	}
+
+	@Override
+	public ServicesData interpolateServiceData(final ServicesData serviceData) {
+		Assert.notNull(serviceData, "serviceData must not be null");
+
+		ServicesData resolved = resolve(serviceData);
+		return (resolved != null) ? resolved : this.serverInterpolation.interpolateServiceData(serviceData);
+	}
+
+	@Override
+	public ServicesData interpolateServiceData(final ServicesData serviceData, final int chunkSize,
+			final Executor executor) {
+		Assert.notNull(serviceData, "serviceData must not be null");
+
+		ServicesData resolved = resolve(serviceData);
+		return (resolved != null) ? resolved
+				: this.serverInterpolation.interpolateServiceData(serviceData, chunkSize, executor);
+	}
+
+	@Override
+	public String interpolateServiceData(final String serviceData) {
+		Assert.notNull(serviceData, "serviceData must not be null");
+
+		byte[] interpolated = interpolateServiceData(serviceData.getBytes(StandardCharsets.UTF_8));
+
+		return new String(interpolated, StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public byte[] interpolateServiceData(final byte[] serviceData) {
+		Assert.notNull(serviceData, "serviceData must not be null");
+
+		if (!CredHubReferences.containsReference(serviceData)) {
+			return serviceData;
+		}
+
+		try {
+			ServicesData resolved = resolve(this.objectMapper.readValue(serviceData, ServicesData.class));
+			if (resolved != null) {
+				return this.objectMapper.writeValueAsBytes(resolved);
+			}
+		}
+		catch (IOException ex) {
+			logger.debug("Unable to parse service data, falling back to CredHub interpolation", ex);
+		}
+
+		return this.serverInterpolation.interpolateServiceData(serviceData);
+	}
+
+	/**
+	 * Replace all CredHub references in the service data with credential values.
+	 * @param serviceData the service data
+	 * @return the interpolated service data, or {@literal null} if any reference could
+	 * not be resolved on the client
+	 */
+	private ServicesData resolve(ServicesData serviceData) {
+		Set<String> names = new LinkedHashSet<>();
+
+		for (List<Map<String, Object>> bindings : serviceData.values()) {
+			if (bindings == null) {
+				continue;
+			}
+			for (Map<String, Object> binding : bindings) {
+				if (!CredHubReferences.containsReference(binding)) {
+					continue;
+				}
+				String name = getCredentialName(binding);
+				if (name == null) {
+					logger.debug("Malformed CredHub reference found, falling back to CredHub interpolation");
+					return null;
+				}
+				names.add(name);
+			}
+		}
+
+		if (names.isEmpty()) {
+			return serviceData;
+		}
+
+		Map<String, CompletableFuture<CredentialDetails<JsonCredential>>> credentials = new HashMap<>(names.size());
+		for (String name : names) {
+			credentials.put(name, retrieve(name));
+		}
+
+		Map<String, JsonCredential> values = new HashMap<>(credentials.size());
+		try {
+			for (Map.Entry<String, CompletableFuture<CredentialDetails<JsonCredential>>> entry : credentials
+				.entrySet()) {
+				CredentialDetails<JsonCredential> details = entry.getValue().join();
+				if (details == null || details.getCredentialType() != CredentialType.JSON
+						|| details.getValue() == null) {
+					logger.debug("Credential " + entry.getKey() + " is not a JSON credential, "
+							+ "falling back to CredHub interpolation");
+					return null;
+				}
+				values.put(entry.getKey(), details.getValue());
+			}
+		}
+		catch (RuntimeException ex) {
+			logger.debug("Unable to retrieve referenced credentials, falling back to CredHub interpolation", ex);
+			return null;
+		}
+
+		return substitute(serviceData, values);
+	}
+
+	private CompletableFuture<CredentialDetails<JsonCredential>> retrieve(String name) {
+		return CompletableFuture.supplyAsync(
+				() -> this.credentialOperations.getByName(new SimpleCredentialName(name), JsonCredential.class),
+				this.executor);
+	}
+
+	private ServicesData substitute(ServicesData serviceData, Map<String, JsonCredential> values) {
+		ServicesData interpolated = new ServicesData();
+
+		serviceData.forEach((label, bindings) -> {
+			if (bindings == null) {
+				interpolated.put(label, null);
+				return;
+			}
+
+			List<Map<String, Object>> interpolatedBindings = new ArrayList<>(bindings.size());
+			for (Map<String, Object> binding : bindings) {
+				if (CredHubReferences.containsReference(binding)) {
+					Map<String, Object> interpolatedBinding = new LinkedHashMap<>(binding);
+					interpolatedBinding.put(CredHubReferences.CREDENTIALS_FIELD,
+							new LinkedHashMap<>(values.get(getCredentialName(binding))));
+					interpolatedBindings.add(interpolatedBinding);
+				}
+				else {
+					interpolatedBindings.add(binding);
+				}
+			}
+			interpolated.put(label, interpolatedBindings);
+		});
+
+		return interpolated;
+	}
+
+	private static String getCredentialName(Map<String, Object> binding) {
+		Object credentials = binding.get(CredHubReferences.CREDENTIALS_FIELD);
+		Object reference = ((Map<?, ?>) credentials).get(CredHubReferences.CREDHUB_REF_FIELD);
+
+		if (reference instanceof String ref && ref.startsWith(REFERENCE_PREFIX) && ref.endsWith(REFERENCE_SUFFIX)
+				&& ref.length() > REFERENCE_PREFIX.length() + REFERENCE_SUFFIX.length()) {
+			return ref.substring(REFERENCE_PREFIX.length(), ref.length() - REFERENCE_SUFFIX.length());
+		}
+
+		return null;
+	}
+
+}
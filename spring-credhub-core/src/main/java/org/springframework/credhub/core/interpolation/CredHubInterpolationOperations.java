@@ -16,6 +16,8 @@
 
 package org.springframework.credhub.core.interpolation;
 
+import java.util.concurrent.Executor;
+
 import org.springframework.credhub.support.ServicesData;
 
 /**
@@ -86,4 +88,55 @@ public interface CredHubInterpolationOperations {
 	 */
 	ServicesData interpolateServiceData(ServicesData serviceData);
 
+	/**
+	 * Search the provided data structure of bound service credentials, looking for
+	 * references to CredHub credentials, and replace any references found with the
+	 * credential values stored in CredHub. Service bindings that contain a
+	 * {@literal credhub-ref} are split into chunks of at most {@code chunkSize} bindings
+	 * that are sent to CredHub concurrently using the provided {@link Executor}. Service
+	 * bindings that contain no CredHub references are not sent to CredHub. The returned
+	 * data structure preserves the order of the provided bindings.
+	 * @param serviceData a data structure of bound service credentials, as would be
+	 * parsed from the {@literal VCAP_SERVICES} environment variable provided to
+	 * applications running on Cloud Foundry; must not be {@literal null}
+	 * @param chunkSize the maximum number of service bindings to send to CredHub in a
+	 * single request; must be greater than {@literal 0}
+	 * @param executor the {@link Executor} used to send chunks to CredHub concurrently;
+	 * must not be {@literal null}
+	 * @return the serviceData structure with CredHub references replaced by stored
+	 * credential values
+	 * @see #interpolateServiceData(ServicesData)
+	 */
+	ServicesData interpolateServiceData(ServicesData serviceData, int chunkSize, Executor executor);
+
+	/**
+	 * Search the provided JSON document of bound service credentials, looking for
+	 * references to CredHub credentials, and replace any references found with the
+	 * credential values stored in CredHub. The document is streamed to and from CredHub
+	 * as-is, without parsing it into a {@link ServicesData} structure. A document that
+	 * contains no CredHub references is returned without contacting CredHub.
+	 * @param serviceData a JSON document of bound service credentials, as provided in the
+	 * {@literal VCAP_SERVICES} environment variable to applications running on Cloud
+	 * Foundry; must not be {@literal null}
+	 * @return the JSON document with CredHub references replaced by stored credential
+	 * values
+	 * @see #interpolateServiceData(ServicesData)
+	 */
+	String interpolateServiceData(String serviceData);
+
+	/**
+	 * Search the provided UTF-8 encoded JSON document of bound service credentials,
+	 * looking for references to CredHub credentials, and replace any references found
+	 * with the credential values stored in CredHub. The document is streamed to and from
+	 * CredHub as-is, without parsing it into a {@link ServicesData} structure. A document
+	 * that contains no CredHub references is returned without contacting CredHub.
+	 * @param serviceData a UTF-8 encoded JSON document of bound service credentials, as
+	 * provided in the {@literal VCAP_SERVICES} environment variable to applications
+	 * running on Cloud Foundry; must not be {@literal null}
+	 * @return the UTF-8 encoded JSON document with CredHub references replaced by stored
+	 * credential values
+	 * @see #interpolateServiceData(ServicesData)
+	 */
+	byte[] interpolateServiceData(byte[] serviceData);
+
 }
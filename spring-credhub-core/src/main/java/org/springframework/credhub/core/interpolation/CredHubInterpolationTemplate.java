@@ -16,6 +16,13 @@
 
 package org.springframework.credhub.core.interpolation;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
 import org.springframework.credhub.core.CredHubOperations;
 import org.springframework.credhub.core.ExceptionUtils;
 import org.springframework.credhub.support.ServicesData;
@@ -59,4 +66,61 @@ public class CredHubInterpolationTemplate implements CredHubInterpolationOperati
 		});
 	}
 
+	@Override
+	public ServicesData interpolateServiceData(final ServicesData serviceData, final int chunkSize,
+			final Executor executor) {
+		Assert.notNull(serviceData, "serviceData must not be null");
+		Assert.notNull(executor, "executor must not be null");
+
+		InterpolationChunks chunks = InterpolationChunks.split(serviceData, chunkSize);
+
+		List<CompletableFuture<ServicesData>> futures = new ArrayList<>(chunks.getChunks().size());
+		for (ServicesData chunk : chunks.getChunks()) {
+			futures.add(CompletableFuture.supplyAsync(() -> interpolateServiceData(chunk), executor));
+		}
+
+		List<ServicesData> interpolated = new ArrayList<>(futures.size());
+		try {
+			for (CompletableFuture<ServicesData> future : futures) {
+				interpolated.add(future.join());
+			}
+		}
+		catch (CompletionException ex) {
+			futures.forEach((future) -> future.cancel(false));
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw ex;
+		}
+
+		return chunks.merge(interpolated);
+	}
+
+	@Override
+	public String interpolateServiceData(final String serviceData) {
+		Assert.notNull(serviceData, "serviceData must not be null");
+
+		byte[] interpolated = interpolateServiceData(serviceData.getBytes(StandardCharsets.UTF_8));
+
+		return new String(interpolated, StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public byte[] interpolateServiceData(final byte[] serviceData) {
+		Assert.notNull(serviceData, "serviceData must not be null");
+
+		if (!CredHubReferences.containsReference(serviceData)) {
+			return serviceData;
+		}
+
+		return this.credHubOperations.doWithRest((restOperations) -> {
+			ResponseEntity<byte[]> response = restOperations.exchange(INTERPOLATE_URL_PATH, HttpMethod.POST,
+					new HttpEntity<>(serviceData), byte[].class);
+
+			ExceptionUtils.throwExceptionOnError(response);
+
+			return response.getBody();
+		});
+	}
+
 }
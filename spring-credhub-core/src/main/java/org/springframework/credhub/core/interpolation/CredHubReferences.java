@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.interpolation;
+
+import java.io.IOException;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Helper methods for locating CredHub references in service binding data.
+ *
+ * @author agent
+ */
+final class CredHubReferences {
+
+	static final String CREDHUB_REF_FIELD = "credhub-ref";
+
+	static final String CREDENTIALS_FIELD = "credentials";
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	private CredHubReferences() {
+	}
+
+	/**
+	 * Determine whether a single service binding contains a {@literal credhub-ref} field
+	 * in its {@literal credentials}, which is the only location the CredHub server
+	 * interpolates.
+	 * @param binding a service binding parsed from service data
+	 * @return {@literal true} if the binding contains a CredHub reference
+	 */
+	static boolean containsReference(Map<String, Object> binding) {
+		Object credentials = (binding != null) ? binding.get(CREDENTIALS_FIELD) : null;
+		return credentials instanceof Map<?, ?> map && map.containsKey(CREDHUB_REF_FIELD);
+	}
+
+	/**
+	 * Determine whether a JSON document of bound service credentials contains any
+	 * {@literal credhub-ref} fields. The document is scanned token by token and no tree
+	 * is built.
+	 * @param serviceData the JSON document to scan
+	 * @return {@literal true} if the document contains a CredHub reference or can not be
+	 * parsed, {@literal false} otherwise
+	 */
+	static boolean containsReference(byte[] serviceData) {
+		try (JsonParser parser = JSON_FACTORY.createParser(serviceData)) {
+			JsonToken token;
+			while ((token = parser.nextToken()) != null) {
+				if (token == JsonToken.FIELD_NAME && CREDHUB_REF_FIELD.equals(parser.currentName())) {
+					return true;
+				}
+			}
+			return false;
+		}
+		catch (IOException ex) {
+			// let the CredHub server report the error for malformed documents
+			return true;
+		}
+	}
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.interpolation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.credhub.support.ServicesData;
+import org.springframework.util.Assert;
+
+/**
+ * Splits the service bindings that contain CredHub references out of a
+ * {@link ServicesData} structure into chunks that can be interpolated independently, and
+ * merges the interpolated chunks back into the original structure. Bindings that contain
+ * no CredHub references are never included in a chunk.
+ *
+ * @author agent
+ */
+final class InterpolationChunks {
+
+	private final ServicesData serviceData;
+
+	private final List<ServicesData> chunks = new ArrayList<>();
+
+	private final List<List<BindingPosition>> positions = new ArrayList<>();
+
+	private InterpolationChunks(ServicesData serviceData) {
+		this.serviceData = serviceData;
+	}
+
+	/**
+	 * Split the service bindings containing CredHub references into chunks.
+	 * @param serviceData the service data to split; must not be {@literal null}
+	 * @param chunkSize the maximum number of service bindings in each chunk; must be
+	 * greater than {@literal 0}
+	 * @return the chunks
+	 */
+	static InterpolationChunks split(ServicesData serviceData, int chunkSize) {
+		Assert.notNull(serviceData, "serviceData must not be null");
+		Assert.isTrue(chunkSize > 0, "chunkSize must be greater than 0");
+
+		InterpolationChunks result = new InterpolationChunks(serviceData);
+
+		ServicesData chunk = null;
+		List<BindingPosition> chunkPositions = null;
+		int chunkCount = 0;
+
+		for (Map.Entry<String, List<Map<String, Object>>> entry : serviceData.entrySet()) {
+			List<Map<String, Object>> bindings = entry.getValue();
+			if (bindings == null) {
+				continue;
+			}
+
+			for (int i = 0; i < bindings.size(); i++) {
+				Map<String, Object> binding = bindings.get(i);
+				if (!CredHubReferences.containsReference(binding)) {
+					continue;
+				}
+
+				if (chunk == null || chunkCount == chunkSize) {
+					chunk = new ServicesData();
+					chunkPositions = new ArrayList<>(chunkSize);
+					chunkCount = 0;
+					result.chunks.add(chunk);
+					result.positions.add(chunkPositions);
+				}
+
+				chunk.computeIfAbsent(entry.getKey(), (label) -> new ArrayList<>()).add(binding);
+				chunkPositions.add(new BindingPosition(entry.getKey(), i));
+				chunkCount++;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Get the chunks of service bindings that need to be interpolated, in the order they
+	 * appear in the original service data.
+	 * @return the chunks; empty if no binding contains a CredHub reference
+	 */
+	List<ServicesData> getChunks() {
+		return this.chunks;
+	}
+
+	/**
+	 * Merge the interpolated chunks into a copy of the original service data.
+	 * @param interpolatedChunks the interpolated chunks, in the same order as returned
+	 * from {@link #getChunks()}
+	 * @return the merged service data
+	 */
+	ServicesData merge(List<ServicesData> interpolatedChunks) {
+		Assert.isTrue(interpolatedChunks.size() == this.chunks.size(),
+				"the number of interpolated chunks must match the number of chunks");
+
+		ServicesData merged = new ServicesData();
+		this.serviceData
+			.forEach((label, bindings) -> merged.put(label, (bindings != null) ? new ArrayList<>(bindings) : null));
+
+		for (int i = 0; i < interpolatedChunks.size(); i++) {
+			ServicesData interpolated = interpolatedChunks.get(i);
+			Map<String, Integer> offsets = new HashMap<>();
+
+			for (BindingPosition position : this.positions.get(i)) {
+				List<Map<String, Object>> bindings = (interpolated != null) ? interpolated.get(position.getLabel())
+						: null;
+				int offset = offsets.merge(position.getLabel(), 1, Integer::sum) - 1;
+
+				if (bindings == null || bindings.size() <= offset) {
+					throw new IllegalStateException(
+							"Interpolated service data is missing a binding for service '" + position.getLabel() + "'");
+				}
+
+				merged.get(position.getLabel()).set(position.getIndex(), bindings.get(offset));
+			}
+		}
+
+		return merged;
+	}
+
+	private static final class BindingPosition {
+
+		private final String label;
+
+		private final int index;
+
+		private BindingPosition(String label, int index) {
+			this.label = label;
+			this.index = index;
+		}
+
+		String getLabel() {
+			return this.label;
+		}
+
+		int getIndex() {
+			return this.index;
+		}
+
+	}
+
+}
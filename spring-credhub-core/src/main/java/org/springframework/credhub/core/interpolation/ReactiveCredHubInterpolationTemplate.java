@@ -16,6 +16,9 @@
 
 package org.springframework.credhub.core.interpolation;
 
+import java.nio.charset.StandardCharsets;
+
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.springframework.credhub.core.CredHubOperations;
@@ -58,4 +61,40 @@ public class ReactiveCredHubInterpolationTemplate implements ReactiveCredHubInte
 			.bodyToMono(ServicesData.class));
 	}
 
+	@Override
+	public Mono<ServicesData> interpolateServiceData(final ServicesData serviceData, final int chunkSize) {
+		Assert.notNull(serviceData, "serviceData must not be null");
+
+		InterpolationChunks chunks = InterpolationChunks.split(serviceData, chunkSize);
+
+		return Flux.fromIterable(chunks.getChunks())
+			.flatMapSequential(this::interpolateServiceData)
+			.collectList()
+			.map(chunks::merge);
+	}
+
+	@Override
+	public Mono<String> interpolateServiceData(final String serviceData) {
+		Assert.notNull(serviceData, "serviceData must not be null");
+
+		return interpolateServiceData(serviceData.getBytes(StandardCharsets.UTF_8))
+			.map((interpolated) -> new String(interpolated, StandardCharsets.UTF_8));
+	}
+
+	@Override
+	public Mono<byte[]> interpolateServiceData(final byte[] serviceData) {
+		Assert.notNull(serviceData, "serviceData must not be null");
+
+		if (!CredHubReferences.containsReference(serviceData)) {
+			return Mono.just(serviceData);
+		}
+
+		return this.credHubOperations.doWithWebClient((webClient) -> webClient.post()
+			.uri(INTERPOLATE_URL_PATH)
+			.bodyValue(serviceData)
+			.retrieve()
+			.onStatus(HttpStatusCode::isError, ExceptionUtils::buildError)
+			.bodyToMono(byte[].class));
+	}
+
 }
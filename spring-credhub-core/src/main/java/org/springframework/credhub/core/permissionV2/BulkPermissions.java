@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.permissionV2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import org.springframework.credhub.support.CredentialName;
+import org.springframework.credhub.support.CredentialPermission;
+import org.springframework.credhub.support.permissions.Permission;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+
+/**
+ * Runs the bulk operations of {@link CredHubPermissionV2Operations}. A fixed number of
+ * workers submitted to an {@link Executor} take {@link PathPermission}s from a shared
+ * list, so no more than the requested number of requests are in flight at any time.
+ *
+ * @author agent
+ */
+final class BulkPermissions {
+
+	private BulkPermissions() {
+	}
+
+	static List<PermissionResult> add(CredHubPermissionV2Operations operations,
+			Collection<PathPermission> permissions, Executor executor, int maxConcurrency) {
+		return run(permissions, executor, maxConcurrency, HttpStatus.CONFLICT, (path, permission) -> {
+			CredentialPermission added = operations.addPermissions(path, permission);
+			return PermissionResult.applied(path, permission, added);
+		});
+	}
+
+	static List<PermissionResult> delete(CredHubPermissionV2Operations operations,
+			Collection<PathPermission> permissions, Executor executor, int maxConcurrency) {
+		return run(permissions, executor, maxConcurrency, HttpStatus.NOT_FOUND, (path, permission) -> {
+			CredentialPermission existing = operations.getPermissionsByPathAndActor(path, permission.getActor());
+			if (existing == null) {
+				return PermissionResult.alreadyApplied(path, permission);
+			}
+			operations.deletePermission(existing.getId());
+			return PermissionResult.applied(path, permission, existing);
+		});
+	}
+
+	private static List<PermissionResult> run(Collection<PathPermission> permissions, Executor executor,
+			int maxConcurrency, HttpStatus alreadyAppliedStatus,
+			BiFunction<CredentialName, Permission, PermissionResult> action) {
+		Assert.notNull(permissions, "permissions must not be null");
+		Assert.notNull(executor, "executor must not be null");
+		Assert.isTrue(maxConcurrency > 0, "maxConcurrency must be greater than 0");
+
+		List<PathPermission> entries = new ArrayList<>(permissions);
+		PermissionResult[] results = new PermissionResult[entries.size()];
+		AtomicInteger next = new AtomicInteger();
+
+		int workers = Math.min(maxConcurrency, entries.size());
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[workers];
+		for (int i = 0; i < workers; i++) {
+			futures[i] = CompletableFuture.runAsync(() -> {
+				int index;
+				while ((index = next.getAndIncrement()) < entries.size()) {
+					CredentialName path = entries.get(index).getPath();
+					Permission permission = entries.get(index).getPermission();
+					try {
+						results[index] = action.apply(path, permission);
+					}
+					catch (RuntimeException ex) {
+						results[index] = PermissionResult.failed(path, permission, ex, alreadyAppliedStatus);
+					}
+				}
+			}, executor);
+		}
+		CompletableFuture.allOf(futures).join();
+
+		return Arrays.asList(results);
+	}
+
+}
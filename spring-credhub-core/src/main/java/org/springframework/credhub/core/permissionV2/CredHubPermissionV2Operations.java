@@ -16,6 +16,10 @@
 
 package org.springframework.credhub.core.permissionV2;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+
 import org.springframework.credhub.support.CredentialName;
 import org.springframework.credhub.support.CredentialPermission;
 import org.springframework.credhub.support.permissions.Actor;
@@ -68,4 +72,41 @@ public interface CredHubPermissionV2Operations {
 	 */
 	void deletePermission(String id);
 
+	/**
+	 * Add permissions to many credential paths, sending up to {@code maxConcurrency}
+	 * requests to CredHub at a time. A permission that already exists for the path and
+	 * actor is treated as added, and a failure to add one permission does not prevent the
+	 * others from being added.
+	 * @param permissions the permissions to add; must not be {@literal null}
+	 * @param executor the {@link Executor} used to send requests concurrently; must not
+	 * be {@literal null}
+	 * @param maxConcurrency the maximum number of concurrent requests; must be greater
+	 * than {@literal 0}
+	 * @return the result for each permission, in the iteration order of
+	 * {@code permissions}
+	 */
+	default List<PermissionResult> addPermissions(Collection<PathPermission> permissions, Executor executor,
+			int maxConcurrency) {
+		return BulkPermissions.add(this, permissions, executor, maxConcurrency);
+	}
+
+	/**
+	 * Delete permissions from many credential paths, sending up to {@code maxConcurrency}
+	 * requests to CredHub at a time. Each permission is found by path and the actor of
+	 * the provided {@link Permission}. A permission that does not exist is treated as
+	 * deleted, and a failure to delete one permission does not prevent the others from
+	 * being deleted.
+	 * @param permissions the permissions to delete; must not be {@literal null}
+	 * @param executor the {@link Executor} used to send requests concurrently; must not
+	 * be {@literal null}
+	 * @param maxConcurrency the maximum number of concurrent requests; must be greater
+	 * than {@literal 0}
+	 * @return the result for each permission, in the iteration order of
+	 * {@code permissions}
+	 */
+	default List<PermissionResult> deletePermissions(Collection<PathPermission> permissions, Executor executor,
+			int maxConcurrency) {
+		return BulkPermissions.delete(this, permissions, executor, maxConcurrency);
+	}
+
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.permissionV2;
+
+import java.util.Objects;
+
+import org.springframework.credhub.support.CredentialName;
+import org.springframework.credhub.support.permissions.Permission;
+import org.springframework.util.Assert;
+
+/**
+ * A permission to add to or delete from the credentials at a path in a bulk permission
+ * operation. The same path may appear in more than one {@link PathPermission}, once for
+ * each actor.
+ *
+ * @author agent
+ */
+public final class PathPermission {
+
+	private final CredentialName path;
+
+	private final Permission permission;
+
+	/**
+	 * Create a new {@link PathPermission}.
+	 * @param path the path of the credentials; must not be {@literal null}
+	 * @param permission the permission; must not be {@literal null}
+	 */
+	public PathPermission(CredentialName path, Permission permission) {
+		Assert.notNull(path, "path must not be null");
+		Assert.notNull(permission, "permission must not be null");
+		this.path = path;
+		this.permission = permission;
+	}
+
+	/**
+	 * Get the path of the credentials that the permission applies to.
+	 * @return the credential path
+	 */
+	public CredentialName getPath() {
+		return this.path;
+	}
+
+	/**
+	 * Get the permission.
+	 * @return the permission
+	 */
+	public Permission getPermission() {
+		return this.permission;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof PathPermission)) {
+			return false;
+		}
+
+		PathPermission that = (PathPermission) o;
+
+		return this.path.equals(that.path) && this.permission.equals(that.permission);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.path, this.permission);
+	}
+
+	@Override
+	public String toString() {
+		return "PathPermission{" + "path=" + this.path + ", permission=" + this.permission + '}';
+	}
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.permissionV2;
+
+import org.springframework.credhub.support.CredentialName;
+import org.springframework.credhub.support.CredentialPermission;
+import org.springframework.credhub.support.permissions.Permission;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpStatusCodeException;
+
+/**
+ * The result of adding or deleting one permission in a bulk permission operation.
+ *
+ * @author agent
+ */
+public final class PermissionResult {
+
+	private final CredentialName path;
+
+	private final Permission permission;
+
+	private final CredentialPermission credentialPermission;
+
+	private final boolean alreadyApplied;
+
+	private final Throwable error;
+
+	private PermissionResult(CredentialName path, Permission permission, CredentialPermission credentialPermission,
+			boolean alreadyApplied, Throwable error) {
+		this.path = path;
+		this.permission = permission;
+		this.credentialPermission = credentialPermission;
+		this.alreadyApplied = alreadyApplied;
+		this.error = error;
+	}
+
+	/**
+	 * Get the path of the credentials that the permission applies to.
+	 * @return the credential path
+	 */
+	public CredentialName getPath() {
+		return this.path;
+	}
+
+	/**
+	 * Get the permission that was requested to be added or deleted.
+	 * @return the permission
+	 */
+	public Permission getPermission() {
+		return this.permission;
+	}
+
+	/**
+	 * Get the permission that was added or deleted by CredHub.
+	 * @return the permission details, or {@literal null} if the permission was already
+	 * applied or the operation failed
+	 */
+	public CredentialPermission getCredentialPermission() {
+		return this.credentialPermission;
+	}
+
+	/**
+	 * Determine whether the permission was added or deleted, or was already in the
+	 * requested state.
+	 * @return {@literal true} if the operation succeeded
+	 */
+	public boolean isSuccessful() {
+		return this.error == null;
+	}
+
+	/**
+	 * Determine whether CredHub was already in the requested state, because the
+	 * permission to add already existed or the permission to delete did not exist.
+	 * @return {@literal true} if the permission was already applied
+	 */
+	public boolean isAlreadyApplied() {
+		return this.alreadyApplied;
+	}
+
+	/**
+	 * Get the error that caused the operation to fail.
+	 * @return the error, or {@literal null} if the operation succeeded
+	 */
+	public Throwable getError() {
+		return this.error;
+	}
+
+	static PermissionResult applied(CredentialName path, Permission permission,
+			CredentialPermission credentialPermission) {
+		return new PermissionResult(path, permission, credentialPermission, false, null);
+	}
+
+	static PermissionResult alreadyApplied(CredentialName path, Permission permission) {
+		return new PermissionResult(path, permission, null, true, null);
+	}
+
+	/**
+	 * Create the result of a failed operation. An error response from CredHub with the
+	 * provided status means that the operation had already been applied.
+	 * @param path the credential path
+	 * @param permission the requested permission
+	 * @param error the error thrown by the operation
+	 * @param alreadyAppliedStatus the status that CredHub responds with if the operation
+	 * had already been applied
+	 * @return the result
+	 */
+	static PermissionResult failed(CredentialName path, Permission permission, Throwable error,
+			HttpStatus alreadyAppliedStatus) {
+		if (error instanceof HttpStatusCodeException ex
+				&& ex.getStatusCode().value() == alreadyAppliedStatus.value()) {
+			return alreadyApplied(path, permission);
+		}
+		return new PermissionResult(path, permission, null, false, error);
+	}
+
+	@Override
+	public String toString() {
+		return "PermissionResult{" + "path=" + this.path + ", permission=" + this.permission + ", alreadyApplied="
+				+ this.alreadyApplied + ", error=" + this.error + '}';
+	}
+
+}
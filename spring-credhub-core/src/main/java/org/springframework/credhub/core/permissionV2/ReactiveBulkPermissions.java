@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.permissionV2;
+
+import java.util.Collection;
+import java.util.function.BiFunction;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.credhub.support.CredentialName;
+import org.springframework.credhub.support.permissions.Permission;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+
+/**
+ * Runs the bulk operations of {@link ReactiveCredHubPermissionV2Operations}, limiting the
+ * number of requests in flight with {@link Flux#flatMapSequential(java.util.function.Function, int)}
+ * so that results are emitted in the order of the requested permissions.
+ *
+ * @author agent
+ */
+final class ReactiveBulkPermissions {
+
+	private ReactiveBulkPermissions() {
+	}
+
+	static Flux<PermissionResult> add(ReactiveCredHubPermissionV2Operations operations,
+			Collection<PathPermission> permissions, int maxConcurrency) {
+		return run(permissions, maxConcurrency, HttpStatus.CONFLICT, (path, permission) -> operations
+			.addPermissions(path, permission)
+			.map((added) -> PermissionResult.applied(path, permission, added))
+			.switchIfEmpty(Mono.fromSupplier(() -> PermissionResult.applied(path, permission, null))));
+	}
+
+	static Flux<PermissionResult> delete(ReactiveCredHubPermissionV2Operations operations,
+			Collection<PathPermission> permissions, int maxConcurrency) {
+		return run(permissions, maxConcurrency, HttpStatus.NOT_FOUND, (path, permission) -> operations
+			.getPermissionsByPathAndActor(path, permission.getActor())
+			.flatMap((existing) -> operations.deletePermission(existing.getId())
+				.thenReturn(PermissionResult.applied(path, permission, existing)))
+			.switchIfEmpty(Mono.fromSupplier(() -> PermissionResult.alreadyApplied(path, permission))));
+	}
+
+	private static Flux<PermissionResult> run(Collection<PathPermission> permissions, int maxConcurrency,
+			HttpStatus alreadyAppliedStatus, BiFunction<CredentialName, Permission, Mono<PermissionResult>> action) {
+		Assert.notNull(permissions, "permissions must not be null");
+		Assert.isTrue(maxConcurrency > 0, "maxConcurrency must be greater than 0");
+
+		return Flux.fromIterable(permissions).flatMapSequential((entry) -> {
+			CredentialName path = entry.getPath();
+			Permission permission = entry.getPermission();
+			return Mono.defer(() -> action.apply(path, permission))
+				.onErrorResume((ex) -> Mono.just(PermissionResult.failed(path, permission, ex, alreadyAppliedStatus)));
+		}, maxConcurrency);
+	}
+
+}
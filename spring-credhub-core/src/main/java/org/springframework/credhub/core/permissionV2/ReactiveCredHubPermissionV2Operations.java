@@ -16,6 +16,9 @@
 
 package org.springframework.credhub.core.permissionV2;
 
+import java.util.Collection;
+
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.springframework.credhub.support.CredentialName;
@@ -71,4 +74,35 @@ public interface ReactiveCredHubPermissionV2Operations {
 	 */
 	Mono<Void> deletePermission(String id);
 
+	/**
+	 * Add permissions to many credential paths, sending up to {@code maxConcurrency}
+	 * requests to CredHub at a time. A permission that already exists for the path and
+	 * actor is treated as added, and a failure to add one permission does not prevent the
+	 * others from being added.
+	 * @param permissions the permissions to add; must not be {@literal null}
+	 * @param maxConcurrency the maximum number of concurrent requests; must be greater
+	 * than {@literal 0}
+	 * @return the result for each permission, in the iteration order of
+	 * {@code permissions}
+	 */
+	default Flux<PermissionResult> addPermissions(Collection<PathPermission> permissions, int maxConcurrency) {
+		return ReactiveBulkPermissions.add(this, permissions, maxConcurrency);
+	}
+
+	/**
+	 * Delete permissions from many credential paths, sending up to {@code maxConcurrency}
+	 * requests to CredHub at a time. Each permission is found by path and the actor of
+	 * the provided {@link Permission}. A permission that does not exist is treated as
+	 * deleted, and a failure to delete one permission does not prevent the others from
+	 * being deleted.
+	 * @param permissions the permissions to delete; must not be {@literal null}
+	 * @param maxConcurrency the maximum number of concurrent requests; must be greater
+	 * than {@literal 0}
+	 * @return the result for each permission, in the iteration order of
+	 * {@code permissions}
+	 */
+	default Flux<PermissionResult> deletePermissions(Collection<PathPermission> permissions, int maxConcurrency) {
+		return ReactiveBulkPermissions.delete(this, permissions, maxConcurrency);
+	}
+
 }
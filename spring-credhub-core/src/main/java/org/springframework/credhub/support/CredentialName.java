@@ -17,7 +17,6 @@
 package org.springframework.credhub.support;
 
 import java.util.Arrays;
-import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -36,6 +35,8 @@ public class CredentialName {
 	@JsonIgnore
 	final String[] segments;
 
+	private volatile String name;
+
 	/**
 	 * Create a name from the provided value. The name must consist of segments separated
 	 * by the "/" character.
@@ -67,11 +68,22 @@ public class CredentialName {
 	}
 
 	/**
-	 * Builds a name from the provided segments.
+	 * Builds a name from the provided segments. The name is built once and reused, so
+	 * that the same {@link String} is used to look up the percent-encoded name when
+	 * expanding request URIs.
 	 * @return the credential name
 	 */
 	@JsonInclude
 	public String getName() {
+		String name = this.name;
+		if (name == null) {
+			name = buildName();
+			this.name = name;
+		}
+		return name;
+	}
+
+	private String buildName() {
 		if (this.segments.length == 1) {
 			return this.segments[0];
 		}
@@ -96,7 +108,7 @@ public class CredentialName {
 
 	@Override
 	public int hashCode() {
-		return Objects.hashCode(this.segments);
+		return Arrays.hashCode(this.segments);
 	}
 
 	@Override
@@ -16,19 +16,44 @@
 
 package org.springframework.credhub.support;
 
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import org.springframework.credhub.support.utils.PemUtils;
 import org.springframework.util.Assert;
 
 /**
  * Base class for credentials types that contain a public/private key pair.
  *
+ * The key values are decoded into {@link PublicKey} and {@link PrivateKey} objects and
+ * the public key fingerprint is computed on first access, and the results are retained
+ * for subsequent calls.
+ *
  * @author Scott Frederick
  */
 public class KeyPairCredential {
 
+	private static final Base64.Encoder FINGERPRINT_ENCODER = Base64.getEncoder().withoutPadding();
+
 	private final String publicKey;
 
 	private final String privateKey;
 
+	private transient volatile PublicKey decodedPublicKey;
+
+	private transient volatile PrivateKey decodedPrivateKey;
+
+	private transient volatile String sha256Fingerprint;
+
 	/**
 	 * Create an empty {@link KeyPairCredential}. Intended to be used internally for
 	 * deserialization of responses.
@@ -67,4 +92,100 @@ public class KeyPairCredential {
 		return this.privateKey;
 	}
 
+	/**
+	 * Get the decoded public key. If the credential contains only a private key, the
+	 * public key is derived from the private key where the key algorithm allows it.
+	 * @return the public key, or {@literal null} if the credential has no public key and
+	 * the public key can not be derived from the private key
+	 * @throws IllegalArgumentException if the key value can not be decoded
+	 */
+	@JsonIgnore
+	public PublicKey getDecodedPublicKey() {
+		PublicKey decoded = this.decodedPublicKey;
+		if (decoded == null) {
+			if (this.publicKey != null) {
+				decoded = decodePublicKey(this.publicKey);
+			}
+			else if (getDecodedPrivateKey() instanceof RSAPrivateCrtKey rsaPrivateKey) {
+				decoded = derivePublicKey(rsaPrivateKey);
+			}
+			this.decodedPublicKey = decoded;
+		}
+		return decoded;
+	}
+
+	/**
+	 * Get the decoded private key.
+	 * @return the private key, or {@literal null} if the credential has no private key
+	 * @throws IllegalArgumentException if the key value can not be decoded
+	 */
+	@JsonIgnore
+	public PrivateKey getDecodedPrivateKey() {
+		PrivateKey decoded = this.decodedPrivateKey;
+		if (decoded == null && this.privateKey != null) {
+			decoded = PemUtils.parsePrivateKey(this.privateKey);
+			this.decodedPrivateKey = decoded;
+		}
+		return decoded;
+	}
+
+	/**
+	 * Get the SHA-256 fingerprint of the public key, encoded in Base64 without padding.
+	 * @return the public key fingerprint, or {@literal null} if the credential has no
+	 * public key and the public key can not be derived from the private key
+	 * @throws IllegalArgumentException if the key value can not be decoded
+	 * @see #getDecodedPublicKey()
+	 */
+	@JsonIgnore
+	public String getSha256Fingerprint() {
+		String fingerprint = this.sha256Fingerprint;
+		if (fingerprint == null) {
+			PublicKey decoded = getDecodedPublicKey();
+			if (decoded != null) {
+				fingerprint = FINGERPRINT_ENCODER.encodeToString(sha256(encodePublicKey(decoded)));
+				this.sha256Fingerprint = fingerprint;
+			}
+		}
+		return fingerprint;
+	}
+
+	/**
+	 * Decode the value of the public key. The default implementation decodes a PEM
+	 * encoded public key.
+	 * @param publicKey the public key value
+	 * @return the decoded public key
+	 */
+	protected PublicKey decodePublicKey(String publicKey) {
+		return PemUtils.parsePublicKey(publicKey);
+	}
+
+	/**
+	 * Encode the public key as the input of the {@link #getSha256Fingerprint()
+	 * fingerprint}. The default implementation uses the X.509 encoding of the key.
+	 * @param publicKey the decoded public key
+	 * @return the encoded public key
+	 */
+	protected byte[] encodePublicKey(PublicKey publicKey) {
+		return publicKey.getEncoded();
+	}
+
+	private static PublicKey derivePublicKey(RSAPrivateCrtKey privateKey) {
+		try {
+			return KeyFactory.getInstance("RSA")
+				.generatePublic(new RSAPublicKeySpec(privateKey.getModulus(), privateKey.getPublicExponent()));
+		}
+		catch (GeneralSecurityException ex) {
+			throw new IllegalArgumentException("Unable to derive the public key from the private key", ex);
+		}
+	}
+
+	private static byte[] sha256(byte[] value) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(value);
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.support;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.credhub.support.ssh.SshCredential;
+import org.springframework.util.Assert;
+
+/**
+ * An immutable index of key pair credentials by public key fingerprint, built from a set
+ * of credentials retrieved in bulk. Lookups do not decode keys or compute digests.
+ *
+ * Each credential is indexed by its {@link KeyPairCredential#getSha256Fingerprint()
+ * SHA-256 fingerprint} and, for {@link SshCredential SSH credentials}, by the
+ * {@link SshCredential#getPublicKeyFingerprint() fingerprint provided by CredHub}.
+ * Fingerprints may be looked up with or without the {@literal SHA256:} prefix and Base64
+ * padding used by some SSH implementations. If several credentials share a fingerprint,
+ * the first one is indexed. Credentials with a key that can not be decoded are indexed
+ * only by the fingerprint provided by CredHub, if any.
+ *
+ * @param <T> the credential type
+ * @author agent
+ */
+public final class KeyPairFingerprintIndex<T extends KeyPairCredential> {
+
+	private static final Log logger = LogFactory.getLog(KeyPairFingerprintIndex.class);
+
+	private static final String SHA256_PREFIX = "SHA256:";
+
+	private final Map<String, CredentialDetails<T>> credentials;
+
+	private KeyPairFingerprintIndex(Map<String, CredentialDetails<T>> credentials) {
+		this.credentials = credentials;
+	}
+
+	/**
+	 * Build an index of the provided credentials.
+	 * @param credentials the credentials to index; must not be {@literal null}
+	 * @param <T> the credential type
+	 * @return the index
+	 */
+	public static <T extends KeyPairCredential> KeyPairFingerprintIndex<T> of(
+			Collection<CredentialDetails<T>> credentials) {
+		Assert.notNull(credentials, "credentials must not be null");
+
+		Map<String, CredentialDetails<T>> index = new HashMap<>(credentials.size() * 2);
+		for (CredentialDetails<T> details : credentials) {
+			T credential = details.getValue();
+			if (credential == null) {
+				continue;
+			}
+			try {
+				put(index, credential.getSha256Fingerprint(), details);
+			}
+			catch (IllegalArgumentException ex) {
+				logger.warn("Unable to decode the public key of credential " + details.getName().getName(), ex);
+			}
+			if (credential instanceof SshCredential ssh) {
+				put(index, ssh.getPublicKeyFingerprint(), details);
+			}
+		}
+		return new KeyPairFingerprintIndex<>(index);
+	}
+
+	private static <T extends KeyPairCredential> void put(Map<String, CredentialDetails<T>> index, String fingerprint,
+			CredentialDetails<T> details) {
+		if (fingerprint != null) {
+			index.putIfAbsent(normalize(fingerprint), details);
+		}
+	}
+
+	/**
+	 * Find the credential with the provided public key fingerprint.
+	 * @param fingerprint the Base64 encoded SHA-256 fingerprint, optionally prefixed with
+	 * {@literal SHA256:}; must not be {@literal null}
+	 * @return the credential, or {@literal null} if no credential has the fingerprint
+	 */
+	public CredentialDetails<T> findByFingerprint(String fingerprint) {
+		Assert.notNull(fingerprint, "fingerprint must not be null");
+		return this.credentials.get(normalize(fingerprint));
+	}
+
+	/**
+	 * Get the number of indexed fingerprints.
+	 * @return the number of fingerprints
+	 */
+	public int size() {
+		return this.credentials.size();
+	}
+
+	private static String normalize(String fingerprint) {
+		int start = fingerprint.startsWith(SHA256_PREFIX) ? SHA256_PREFIX.length() : 0;
+		int end = fingerprint.length();
+		while (end > start && fingerprint.charAt(end - 1) == '=') {
+			end--;
+		}
+		return (start == 0 && end == fingerprint.length()) ? fingerprint : fingerprint.substring(start, end);
+	}
+
+}
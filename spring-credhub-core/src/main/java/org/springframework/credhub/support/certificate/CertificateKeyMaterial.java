@@ -0,0 +1,248 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.support.certificate;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+
+import org.springframework.credhub.support.utils.PemUtils;
+import org.springframework.util.Assert;
+
+/**
+ * The decoded certificates and private key of a {@link CertificateCredential}, with the
+ * {@link KeyStore key store}, {@link KeyStore trust store}, and {@link SSLContext} built
+ * from them. The PEM values are decoded when the key material is created; the key stores
+ * and SSL context are built on first use and then reused.
+ *
+ * @author agent
+ * @see CertificateKeyMaterialCache
+ */
+public final class CertificateKeyMaterial {
+
+	/**
+	 * The alias of the key entry in the {@link #getKeyStore() key store}.
+	 */
+	public static final String KEY_ALIAS = "credhub";
+
+	private static final char[] KEY_PASSWORD = new char[0];
+
+	private static final String SSL_PROTOCOL = "TLS";
+
+	private final X509Certificate[] certificateChain;
+
+	private final X509Certificate[] certificateAuthorities;
+
+	private final PrivateKey privateKey;
+
+	private volatile KeyStore keyStore;
+
+	private volatile KeyStore trustStore;
+
+	private volatile SSLContext sslContext;
+
+	private CertificateKeyMaterial(X509Certificate[] certificateChain, X509Certificate[] certificateAuthorities,
+			PrivateKey privateKey) {
+		this.certificateChain = certificateChain;
+		this.certificateAuthorities = certificateAuthorities;
+		this.privateKey = privateKey;
+	}
+
+	/**
+	 * Decode the PEM values of a {@link CertificateCredential}. Certificate authorities
+	 * that issued the last certificate in the chain are appended to the chain.
+	 * @param credential the credential to decode; must not be {@literal null}
+	 * @return the decoded key material
+	 * @throws IllegalArgumentException if a value can not be decoded
+	 */
+	public static CertificateKeyMaterial from(CertificateCredential credential) {
+		Assert.notNull(credential, "credential must not be null");
+
+		List<X509Certificate> chain = (credential.getCertificate() != null)
+				? new ArrayList<>(PemUtils.parseCertificates(credential.getCertificate())) : new ArrayList<>();
+		List<X509Certificate> authorities = (credential.getCertificateAuthority() != null)
+				? PemUtils.parseCertificates(credential.getCertificateAuthority()) : Collections.emptyList();
+		PrivateKey privateKey = (credential.getPrivateKey() != null)
+				? PemUtils.parsePrivateKey(credential.getPrivateKey()) : null;
+
+		if (!chain.isEmpty()) {
+			X509Certificate last = chain.get(chain.size() - 1);
+			if (!last.getSubjectX500Principal().equals(last.getIssuerX500Principal())) {
+				for (X509Certificate authority : authorities) {
+					if (authority.getSubjectX500Principal().equals(last.getIssuerX500Principal())) {
+						chain.add(authority);
+						break;
+					}
+				}
+			}
+		}
+
+		return new CertificateKeyMaterial(chain.toArray(new X509Certificate[0]),
+				authorities.toArray(new X509Certificate[0]), privateKey);
+	}
+
+	/**
+	 * Get the certificate chain, starting with the certificate of the credential.
+	 * @return the certificate chain; empty if the credential has no certificate
+	 */
+	public X509Certificate[] getCertificateChain() {
+		return this.certificateChain.clone();
+	}
+
+	/**
+	 * Get the certificate authorities of the credential. During a certificate authority
+	 * rotation this includes both the current and the transitional version.
+	 * @return the certificate authorities; empty if the credential has no certificate
+	 * authority
+	 */
+	public X509Certificate[] getCertificateAuthorities() {
+		return this.certificateAuthorities.clone();
+	}
+
+	/**
+	 * Get the private key of the credential.
+	 * @return the private key, or {@literal null} if the credential has no private key
+	 */
+	public PrivateKey getPrivateKey() {
+		return this.privateKey;
+	}
+
+	/**
+	 * Get a key store containing the private key and certificate chain under the alias
+	 * {@link #KEY_ALIAS}, protected by an empty password.
+	 * @return the key store, or {@literal null} if the credential does not have both a
+	 * certificate and a private key
+	 */
+	public KeyStore getKeyStore() {
+		if (this.privateKey == null || this.certificateChain.length == 0) {
+			return null;
+		}
+		KeyStore keyStore = this.keyStore;
+		if (keyStore == null) {
+			synchronized (this) {
+				keyStore = this.keyStore;
+				if (keyStore == null) {
+					keyStore = createKeyStore((store) -> store.setKeyEntry(KEY_ALIAS, this.privateKey, KEY_PASSWORD,
+							this.certificateChain));
+					this.keyStore = keyStore;
+				}
+			}
+		}
+		return keyStore;
+	}
+
+	/**
+	 * Get a key store containing the certificate authorities as trusted certificates.
+	 * @return the trust store, or {@literal null} if the credential has no certificate
+	 * authority
+	 */
+	public KeyStore getTrustStore() {
+		if (this.certificateAuthorities.length == 0) {
+			return null;
+		}
+		KeyStore trustStore = this.trustStore;
+		if (trustStore == null) {
+			synchronized (this) {
+				trustStore = this.trustStore;
+				if (trustStore == null) {
+					trustStore = createKeyStore((store) -> {
+						for (int i = 0; i < this.certificateAuthorities.length; i++) {
+							store.setCertificateEntry("ca-" + i, this.certificateAuthorities[i]);
+						}
+					});
+					this.trustStore = trustStore;
+				}
+			}
+		}
+		return trustStore;
+	}
+
+	/**
+	 * Get an {@link SSLContext} that presents the certificate chain and private key, if
+	 * the credential has both, and trusts the certificate authorities, if the credential
+	 * has any. The default key and trust managers of the platform are used otherwise.
+	 * @return the SSL context
+	 */
+	public SSLContext getSslContext() {
+		SSLContext sslContext = this.sslContext;
+		if (sslContext == null) {
+			synchronized (this) {
+				sslContext = this.sslContext;
+				if (sslContext == null) {
+					sslContext = createSslContext();
+					this.sslContext = sslContext;
+				}
+			}
+		}
+		return sslContext;
+	}
+
+	private SSLContext createSslContext() {
+		try {
+			KeyStore keyStore = getKeyStore();
+			KeyManagerFactory keyManagerFactory = null;
+			if (keyStore != null) {
+				keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+				keyManagerFactory.init(keyStore, KEY_PASSWORD);
+			}
+
+			KeyStore trustStore = getTrustStore();
+			TrustManagerFactory trustManagerFactory = null;
+			if (trustStore != null) {
+				trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+				trustManagerFactory.init(trustStore);
+			}
+
+			SSLContext sslContext = SSLContext.getInstance(SSL_PROTOCOL);
+			sslContext.init((keyManagerFactory != null) ? keyManagerFactory.getKeyManagers() : null,
+					(trustManagerFactory != null) ? trustManagerFactory.getTrustManagers() : null, null);
+			return sslContext;
+		}
+		catch (GeneralSecurityException ex) {
+			throw new IllegalStateException("Unable to create SSL context", ex);
+		}
+	}
+
+	private static KeyStore createKeyStore(KeyStoreInitializer initializer) {
+		try {
+			KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+			keyStore.load(null, null);
+			initializer.initialize(keyStore);
+			return keyStore;
+		}
+		catch (GeneralSecurityException | IOException ex) {
+			throw new IllegalStateException("Unable to create key store", ex);
+		}
+	}
+
+	@FunctionalInterface
+	private interface KeyStoreInitializer {
+
+		void initialize(KeyStore keyStore) throws GeneralSecurityException;
+
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.support.certificate;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialName;
+import org.springframework.util.Assert;
+
+/**
+ * Memoizes the {@link CertificateKeyMaterial} decoded from certificate credentials, so
+ * that repeated requests for the same credential version reuse the decoded certificates,
+ * private key, key stores, and SSL context. One entry is kept per credential name; when a
+ * new version of a credential is requested, for example after the certificate has been
+ * rotated, the key material of the previous version is replaced.
+ *
+ * @author agent
+ */
+public class CertificateKeyMaterialCache {
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Get the key material for a certificate credential version, decoding it if the
+	 * version has not been decoded before.
+	 * @param details the certificate credential; must not be {@literal null}
+	 * @return the key material
+	 * @throws IllegalArgumentException if a value of the credential can not be decoded
+	 */
+	public CertificateKeyMaterial get(CredentialDetails<CertificateCredential> details) {
+		Assert.notNull(details, "details must not be null");
+		Assert.notNull(details.getName(), "details must have a name");
+		Assert.notNull(details.getValue(), "details must have a value");
+
+		Entry entry = this.entries.compute(details.getName().getName(), (name, existing) -> {
+			if (existing != null && existing.isVersionOf(details)) {
+				return existing;
+			}
+			return new Entry(details.getId(), details.getValue(), CertificateKeyMaterial.from(details.getValue()));
+		});
+		return entry.keyMaterial;
+	}
+
+	/**
+	 * Remove the key material for a credential.
+	 * @param name the name of the credential; must not be {@literal null}
+	 */
+	public void evict(CredentialName name) {
+		Assert.notNull(name, "name must not be null");
+		this.entries.remove(name.getName());
+	}
+
+	/**
+	 * Remove all key material.
+	 */
+	public void clear() {
+		this.entries.clear();
+	}
+
+	private static final class Entry {
+
+		private final String id;
+
+		private final CertificateCredential credential;
+
+		private final CertificateKeyMaterial keyMaterial;
+
+		private Entry(String id, CertificateCredential credential, CertificateKeyMaterial keyMaterial) {
+			this.id = id;
+			this.credential = credential;
+			this.keyMaterial = keyMaterial;
+		}
+
+		/**
+		 * Determine whether this entry holds the same version of a credential. Versions
+		 * are identified by ID, or by value for credentials that were not retrieved from
+		 * CredHub.
+		 * @param details the certificate credential
+		 * @return {@literal true} if the entry holds the same version
+		 */
+		boolean isVersionOf(CredentialDetails<CertificateCredential> details) {
+			if (details.getId() != null || this.id != null) {
+				return Objects.equals(this.id, details.getId());
+			}
+			CertificateCredential credential = details.getValue();
+			return Objects.equals(this.credential.getCertificate(), credential.getCertificate())
+					&& Objects.equals(this.credential.getCertificateAuthority(), credential.getCertificateAuthority())
+					&& Objects.equals(this.credential.getPrivateKey(), credential.getPrivateKey());
+		}
+
+	}
+
+}
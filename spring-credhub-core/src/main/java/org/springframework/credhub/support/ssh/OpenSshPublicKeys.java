@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.support.ssh;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.EdECPoint;
+import java.security.spec.EdECPublicKeySpec;
+import java.security.spec.NamedParameterSpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+
+/**
+ * Decodes and encodes public keys in the OpenSSH {@literal authorized_keys} format, as
+ * described in RFC 4253, RFC 5656 and RFC 8709. RSA, ECDSA over the NIST curves and
+ * Ed25519 keys are supported.
+ *
+ * @author agent
+ */
+final class OpenSshPublicKeys {
+
+	private static final String RSA = "ssh-rsa";
+
+	private static final String ED25519 = "ssh-ed25519";
+
+	private static final String ECDSA_PREFIX = "ecdsa-sha2-";
+
+	private static final int ED25519_KEY_LENGTH = 32;
+
+	private OpenSshPublicKeys() {
+	}
+
+	/**
+	 * Decode a public key from its OpenSSH representation of the form
+	 * {@literal <type> <base64 key> [comment]}.
+	 * @param publicKey the OpenSSH public key
+	 * @return the decoded public key
+	 * @throws IllegalArgumentException if the public key can not be decoded
+	 */
+	static PublicKey decode(String publicKey) {
+		String[] fields = publicKey.trim().split("\\s+");
+		if (fields.length < 2) {
+			throw new IllegalArgumentException("Value is not an OpenSSH public key");
+		}
+
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(fields[1]));
+			String type = readString(buffer);
+			if (!type.equals(fields[0])) {
+				throw new IllegalArgumentException(
+						"OpenSSH public key type " + fields[0] + " does not match encoded type " + type);
+			}
+
+			if (RSA.equals(type)) {
+				BigInteger exponent = new BigInteger(readBytes(buffer));
+				BigInteger modulus = new BigInteger(readBytes(buffer));
+				return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent));
+			}
+			if (ED25519.equals(type)) {
+				return KeyFactory.getInstance("Ed25519").generatePublic(decodeEd25519(readBytes(buffer)));
+			}
+			if (type.startsWith(ECDSA_PREFIX)) {
+				ECParameterSpec parameters = curveParameters(readString(buffer));
+				ECPoint point = decodePoint(readBytes(buffer), parameters);
+				return KeyFactory.getInstance("EC").generatePublic(new ECPublicKeySpec(point, parameters));
+			}
+			throw new IllegalArgumentException("Unsupported OpenSSH public key type " + type);
+		}
+		catch (GeneralSecurityException | RuntimeException ex) {
+			if (ex instanceof IllegalArgumentException illegalArgument) {
+				throw illegalArgument;
+			}
+			throw new IllegalArgumentException("Unable to decode OpenSSH public key", ex);
+		}
+	}
+
+	/**
+	 * Encode a public key in the OpenSSH wire format, which is the input of OpenSSH key
+	 * fingerprints.
+	 * @param publicKey the public key
+	 * @return the encoded public key
+	 * @throws IllegalArgumentException if the key type is not supported
+	 */
+	static byte[] encode(PublicKey publicKey) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		if (publicKey instanceof RSAPublicKey rsa) {
+			writeString(out, RSA);
+			writeBytes(out, rsa.getPublicExponent().toByteArray());
+			writeBytes(out, rsa.getModulus().toByteArray());
+		}
+		else if (publicKey instanceof EdECPublicKey edec
+				&& NamedParameterSpec.ED25519.getName().equalsIgnoreCase(edec.getParams().getName())) {
+			writeString(out, ED25519);
+			writeBytes(out, encodeEd25519(edec.getPoint()));
+		}
+		else if (publicKey instanceof ECPublicKey ec) {
+			String curve = curveName(ec.getParams());
+			writeString(out, ECDSA_PREFIX + curve);
+			writeString(out, curve);
+			writeBytes(out, encodePoint(ec.getW(), ec.getParams()));
+		}
+		else {
+			throw new IllegalArgumentException("Unsupported public key algorithm " + publicKey.getAlgorithm());
+		}
+		return out.toByteArray();
+	}
+
+	private static EdECPublicKeySpec decodeEd25519(byte[] key) {
+		if (key.length != ED25519_KEY_LENGTH) {
+			throw new IllegalArgumentException("Invalid Ed25519 public key length " + key.length);
+		}
+		// the key is the little-endian y coordinate with the parity of x in the top bit
+		byte[] y = new byte[key.length];
+		for (int i = 0; i < key.length; i++) {
+			y[i] = key[key.length - 1 - i];
+		}
+		boolean xOdd = (y[0] & 0x80) != 0;
+		y[0] &= 0x7f;
+		return new EdECPublicKeySpec(NamedParameterSpec.ED25519, new EdECPoint(xOdd, new BigInteger(1, y)));
+	}
+
+	private static byte[] encodeEd25519(EdECPoint point) {
+		byte[] y = toUnsigned(point.getY(), ED25519_KEY_LENGTH);
+		byte[] key = new byte[ED25519_KEY_LENGTH];
+		for (int i = 0; i < key.length; i++) {
+			key[i] = y[key.length - 1 - i];
+		}
+		if (point.isXOdd()) {
+			key[key.length - 1] |= (byte) 0x80;
+		}
+		return key;
+	}
+
+	private static ECParameterSpec curveParameters(String curve) throws GeneralSecurityException {
+		String name = switch (curve) {
+			case "nistp256" -> "secp256r1";
+			case "nistp384" -> "secp384r1";
+			case "nistp521" -> "secp521r1";
+			default -> throw new IllegalArgumentException("Unsupported OpenSSH ECDSA curve " + curve);
+		};
+		AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+		parameters.init(new ECGenParameterSpec(name));
+		return parameters.getParameterSpec(ECParameterSpec.class);
+	}
+
+	private static String curveName(ECParameterSpec parameters) {
+		return switch (parameters.getCurve().getField().getFieldSize()) {
+			case 256 -> "nistp256";
+			case 384 -> "nistp384";
+			case 521 -> "nistp521";
+			default -> throw new IllegalArgumentException("Unsupported ECDSA curve " + parameters);
+		};
+	}
+
+	private static ECPoint decodePoint(byte[] encoded, ECParameterSpec parameters) {
+		int length = fieldLength(parameters);
+		if (encoded.length != 2 * length + 1 || encoded[0] != 0x04) {
+			throw new IllegalArgumentException("Only uncompressed ECDSA points are supported");
+		}
+		BigInteger x = new BigInteger(1, copy(encoded, 1, length));
+		BigInteger y = new BigInteger(1, copy(encoded, 1 + length, length));
+		return new ECPoint(x, y);
+	}
+
+	private static byte[] encodePoint(ECPoint point, ECParameterSpec parameters) {
+		int length = fieldLength(parameters);
+		byte[] encoded = new byte[2 * length + 1];
+		encoded[0] = 0x04;
+		System.arraycopy(toUnsigned(point.getAffineX(), length), 0, encoded, 1, length);
+		System.arraycopy(toUnsigned(point.getAffineY(), length), 0, encoded, 1 + length, length);
+		return encoded;
+	}
+
+	private static int fieldLength(ECParameterSpec parameters) {
+		return (parameters.getCurve().getField().getFieldSize() + 7) / 8;
+	}
+
+	private static byte[] toUnsigned(BigInteger value, int length) {
+		byte[] bytes = value.toByteArray();
+		if (bytes.length == length) {
+			return bytes;
+		}
+		byte[] result = new byte[length];
+		int copied = Math.min(bytes.length, length);
+		System.arraycopy(bytes, bytes.length - copied, result, length - copied, copied);
+		return result;
+	}
+
+	private static byte[] copy(byte[] source, int offset, int length) {
+		byte[] result = new byte[length];
+		System.arraycopy(source, offset, result, 0, length);
+		return result;
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		return new String(readBytes(buffer), StandardCharsets.US_ASCII);
+	}
+
+	private static byte[] readBytes(ByteBuffer buffer) {
+		int length = buffer.getInt();
+		if (length < 0 || length > buffer.remaining()) {
+			throw new IllegalArgumentException("Invalid length in OpenSSH public key");
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return bytes;
+	}
+
+	private static void writeString(ByteArrayOutputStream out, String value) {
+		writeBytes(out, value.getBytes(StandardCharsets.US_ASCII));
+	}
+
+	private static void writeBytes(ByteArrayOutputStream out, byte[] value) {
+		int length = value.length;
+		out.write(length >>> 24);
+		out.write(length >>> 16);
+		out.write(length >>> 8);
+		out.write(length);
+		out.write(value, 0, length);
+	}
+
+}
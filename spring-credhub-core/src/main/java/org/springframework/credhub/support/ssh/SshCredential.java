@@ -16,12 +16,19 @@
 
 package org.springframework.credhub.support.ssh;
 
+import java.security.PublicKey;
+
 import org.springframework.credhub.support.KeyPairCredential;
 
 /**
  * An SSH credential consists of a public and/or private key. At least one of these key
  * values must be provided.
  *
+ * The public key is in the OpenSSH {@literal authorized_keys} format, and the
+ * {@link #getSha256Fingerprint() SHA-256 fingerprint} is computed the same way as
+ * OpenSSH, without the {@literal SHA256:} prefix. It therefore matches the
+ * {@link #getPublicKeyFingerprint() fingerprint provided by CredHub}.
+ *
  * @author Scott Frederick
  */
 public class SshCredential extends KeyPairCredential {
@@ -60,4 +67,14 @@ public class SshCredential extends KeyPairCredential {
 		return this.publicKeyFingerprint;
 	}
 
+	@Override
+	protected PublicKey decodePublicKey(String publicKey) {
+		return OpenSshPublicKeys.decode(publicKey);
+	}
+
+	@Override
+	protected byte[] encodePublicKey(PublicKey publicKey) {
+		return OpenSshPublicKeys.encode(publicKey);
+	}
+
 }
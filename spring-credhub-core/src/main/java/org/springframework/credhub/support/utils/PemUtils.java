@@ -0,0 +1,298 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.support.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.KeySpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.util.Assert;
+
+/**
+ * Utility methods for decoding the PEM encoded certificates and keys returned by CredHub.
+ * Private keys are accepted in PKCS#8 ({@literal PRIVATE KEY}), PKCS#1
+ * ({@literal RSA PRIVATE KEY}), and SEC 1 ({@literal EC PRIVATE KEY}) form, and public
+ * keys in X.509 ({@literal PUBLIC KEY}) and PKCS#1 ({@literal RSA PUBLIC KEY}) form.
+ * Encrypted private keys are not supported.
+ *
+ * @author agent
+ */
+public final class PemUtils {
+
+	private static final Pattern PEM_BLOCK = Pattern
+		.compile("-----BEGIN ([A-Z0-9 ]+)-----([A-Za-z0-9+/=\\s]*?)-----END \\1-----");
+
+	private static final String[] KEY_ALGORITHMS = { "RSA", "EC", "Ed25519", "Ed448", "DSA" };
+
+	private static final byte[] RSA_ALGORITHM_IDENTIFIER = { 0x30, 0x0d, 0x06, 0x09, 0x2a, (byte) 0x86, 0x48,
+			(byte) 0x86, (byte) 0xf7, 0x0d, 0x01, 0x01, 0x01, 0x05, 0x00 };
+
+	private static final byte[] EC_PUBLIC_KEY_OID = { 0x06, 0x07, 0x2a, (byte) 0x86, 0x48, (byte) 0xce, 0x3d, 0x02,
+			0x01 };
+
+	private static final byte[] VERSION_ZERO = { 0x02, 0x01, 0x00 };
+
+	private static final int SEQUENCE = 0x30;
+
+	private static final int OCTET_STRING = 0x04;
+
+	private static final int BIT_STRING = 0x03;
+
+	private PemUtils() {
+	}
+
+	/**
+	 * Decode all certificates in a PEM encoded value.
+	 * @param pem the PEM encoded certificates; must not be {@literal null}
+	 * @return the certificates, in the order they appear
+	 * @throws IllegalArgumentException if the value does not contain a certificate
+	 */
+	public static List<X509Certificate> parseCertificates(String pem) {
+		Assert.notNull(pem, "pem must not be null");
+		try {
+			CertificateFactory factory = CertificateFactory.getInstance("X.509");
+			Collection<? extends Certificate> certificates = factory
+				.generateCertificates(new ByteArrayInputStream(pem.getBytes(StandardCharsets.US_ASCII)));
+			Assert.isTrue(!certificates.isEmpty(), "pem does not contain a certificate");
+			List<X509Certificate> result = new ArrayList<>(certificates.size());
+			for (Certificate certificate : certificates) {
+				result.add((X509Certificate) certificate);
+			}
+			return result;
+		}
+		catch (GeneralSecurityException ex) {
+			throw new IllegalArgumentException("Unable to parse certificate", ex);
+		}
+	}
+
+	/**
+	 * Decode the first private key in a PEM encoded value.
+	 * @param pem the PEM encoded private key; must not be {@literal null}
+	 * @return the private key
+	 * @throws IllegalArgumentException if the value does not contain a supported private
+	 * key
+	 */
+	public static PrivateKey parsePrivateKey(String pem) {
+		Assert.notNull(pem, "pem must not be null");
+		Matcher matcher = PEM_BLOCK.matcher(pem);
+		while (matcher.find()) {
+			byte[] der = Base64.getMimeDecoder().decode(matcher.group(2));
+			String type = matcher.group(1);
+			if ("PRIVATE KEY".equals(type)) {
+				return generate(new PKCS8EncodedKeySpec(der), KEY_ALGORITHMS, PemUtils::privateKey);
+			}
+			if ("RSA PRIVATE KEY".equals(type)) {
+				return generate(new PKCS8EncodedKeySpec(rsaPrivateKeyInfo(der)), new String[] { "RSA" },
+						PemUtils::privateKey);
+			}
+			if ("EC PRIVATE KEY".equals(type)) {
+				return generate(new PKCS8EncodedKeySpec(ecPrivateKeyInfo(der)), new String[] { "EC" },
+						PemUtils::privateKey);
+			}
+		}
+		throw new IllegalArgumentException("pem does not contain a supported private key");
+	}
+
+	/**
+	 * Decode the first public key in a PEM encoded value.
+	 * @param pem the PEM encoded public key; must not be {@literal null}
+	 * @return the public key
+	 * @throws IllegalArgumentException if the value does not contain a supported public
+	 * key
+	 */
+	public static PublicKey parsePublicKey(String pem) {
+		Assert.notNull(pem, "pem must not be null");
+		Matcher matcher = PEM_BLOCK.matcher(pem);
+		while (matcher.find()) {
+			byte[] der = Base64.getMimeDecoder().decode(matcher.group(2));
+			String type = matcher.group(1);
+			if ("PUBLIC KEY".equals(type)) {
+				return generate(new X509EncodedKeySpec(der), KEY_ALGORITHMS, PemUtils::publicKey);
+			}
+			if ("RSA PUBLIC KEY".equals(type)) {
+				return generate(new X509EncodedKeySpec(rsaPublicKeyInfo(der)), new String[] { "RSA" },
+						PemUtils::publicKey);
+			}
+		}
+		throw new IllegalArgumentException("pem does not contain a supported public key");
+	}
+
+	private static <K> K generate(KeySpec keySpec, String[] algorithms, KeyGenerator<K> generator) {
+		for (String algorithm : algorithms) {
+			try {
+				return generator.generate(KeyFactory.getInstance(algorithm), keySpec);
+			}
+			catch (InvalidKeySpecException ex) {
+				// try the next algorithm
+			}
+			catch (GeneralSecurityException ex) {
+				throw new IllegalArgumentException("Unable to parse " + algorithm + " key", ex);
+			}
+		}
+		throw new IllegalArgumentException("Unable to parse key with algorithms " + Arrays.toString(algorithms));
+	}
+
+	private static PrivateKey privateKey(KeyFactory keyFactory, KeySpec keySpec) throws InvalidKeySpecException {
+		return keyFactory.generatePrivate(keySpec);
+	}
+
+	private static PublicKey publicKey(KeyFactory keyFactory, KeySpec keySpec) throws InvalidKeySpecException {
+		return keyFactory.generatePublic(keySpec);
+	}
+
+	/**
+	 * Wrap a PKCS#1 RSA private key in a PKCS#8 private key info structure.
+	 * @param rsaPrivateKey the DER encoded PKCS#1 private key
+	 * @return the DER encoded PKCS#8 private key
+	 */
+	private static byte[] rsaPrivateKeyInfo(byte[] rsaPrivateKey) {
+		return der(SEQUENCE, VERSION_ZERO, RSA_ALGORITHM_IDENTIFIER, der(OCTET_STRING, rsaPrivateKey));
+	}
+
+	/**
+	 * Wrap a PKCS#1 RSA public key in an X.509 subject public key info structure.
+	 * @param rsaPublicKey the DER encoded PKCS#1 public key
+	 * @return the DER encoded subject public key info
+	 */
+	private static byte[] rsaPublicKeyInfo(byte[] rsaPublicKey) {
+		byte[] bits = new byte[rsaPublicKey.length + 1];
+		System.arraycopy(rsaPublicKey, 0, bits, 1, rsaPublicKey.length);
+		return der(SEQUENCE, RSA_ALGORITHM_IDENTIFIER, der(BIT_STRING, bits));
+	}
+
+	/**
+	 * Wrap a SEC 1 EC private key in a PKCS#8 private key info structure, using the named
+	 * curve from the optional parameters of the SEC 1 structure.
+	 * @param ecPrivateKey the DER encoded SEC 1 private key
+	 * @return the DER encoded PKCS#8 private key
+	 */
+	private static byte[] ecPrivateKeyInfo(byte[] ecPrivateKey) {
+		DerReader sequence = new DerReader(ecPrivateKey).read(SEQUENCE);
+		byte[] curve = null;
+		while (sequence.hasRemaining()) {
+			int tag = sequence.peekTag();
+			DerReader element = sequence.read(tag);
+			if (tag == 0xa0) {
+				curve = element.remaining();
+			}
+		}
+		Assert.isTrue(curve != null, "EC private key does not specify a named curve");
+		return der(SEQUENCE, VERSION_ZERO, der(SEQUENCE, EC_PUBLIC_KEY_OID, curve), der(OCTET_STRING, ecPrivateKey));
+	}
+
+	private static byte[] der(int tag, byte[]... contents) {
+		ByteArrayOutputStream value = new ByteArrayOutputStream();
+		for (byte[] content : contents) {
+			value.writeBytes(content);
+		}
+		int length = value.size();
+
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		result.write(tag);
+		if (length < 0x80) {
+			result.write(length);
+		}
+		else {
+			int lengthBytes = (Integer.SIZE - Integer.numberOfLeadingZeros(length) + 7) / 8;
+			result.write(0x80 | lengthBytes);
+			for (int i = lengthBytes - 1; i >= 0; i--) {
+				result.write(length >>> (i * 8));
+			}
+		}
+		result.writeBytes(value.toByteArray());
+		return result.toByteArray();
+	}
+
+	@FunctionalInterface
+	private interface KeyGenerator<K> {
+
+		K generate(KeyFactory keyFactory, KeySpec keySpec) throws GeneralSecurityException;
+
+	}
+
+	/**
+	 * Minimal reader for the DER encoded structures of a key.
+	 */
+	private static final class DerReader {
+
+		private final byte[] bytes;
+
+		private int position;
+
+		private final int end;
+
+		private DerReader(byte[] bytes) {
+			this(bytes, 0, bytes.length);
+		}
+
+		private DerReader(byte[] bytes, int start, int end) {
+			this.bytes = bytes;
+			this.position = start;
+			this.end = end;
+		}
+
+		boolean hasRemaining() {
+			return this.position < this.end;
+		}
+
+		int peekTag() {
+			return this.bytes[this.position] & 0xff;
+		}
+
+		DerReader read(int expectedTag) {
+			Assert.isTrue(hasRemaining() && peekTag() == expectedTag, "Malformed DER encoded key");
+			this.position++;
+			int length = this.bytes[this.position++] & 0xff;
+			if (length >= 0x80) {
+				int lengthBytes = length & 0x7f;
+				Assert.isTrue(lengthBytes <= 3, "Malformed DER encoded key");
+				length = 0;
+				for (int i = 0; i < lengthBytes; i++) {
+					length = (length << 8) | (this.bytes[this.position++] & 0xff);
+				}
+			}
+			Assert.isTrue(this.position + length <= this.end, "Malformed DER encoded key");
+			DerReader content = new DerReader(this.bytes, this.position, this.position + length);
+			this.position += length;
+			return content;
+		}
+
+		byte[] remaining() {
+			return Arrays.copyOfRange(this.bytes, this.position, this.end);
+		}
+
+	}
+
+}
@@ -16,8 +16,11 @@
 
 package org.springframework.credhub.configuration;
 
+import java.time.Duration;
+
 import org.apache.hc.client5.http.classic.HttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.DisposableBean;
@@ -27,6 +30,7 @@ import org.springframework.credhub.support.ClientOptions;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -52,4 +56,17 @@ public class ClientHttpRequestFactoryFactoryTests {
 		((DisposableBean) factory).destroy();
 	}
 
+	@Test
+	public void httpComponentsClientWithTimeoutsUsesPooledConnections() throws Exception {
+		ClientHttpRequestFactory factory = HttpComponents
+			.usingHttpComponents(new ClientOptions(Duration.ofSeconds(1), Duration.ofSeconds(2), null));
+
+		HttpClient httpClient = ((HttpComponentsClientHttpRequestFactory) factory).getHttpClient();
+
+		assertThat(ReflectionTestUtils.getField(httpClient, "connManager"))
+			.isInstanceOf(PoolingHttpClientConnectionManager.class);
+
+		((DisposableBean) factory).destroy();
+	}
+
 }
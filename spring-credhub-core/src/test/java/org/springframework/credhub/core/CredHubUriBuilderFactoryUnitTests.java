@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core;
+
+import java.net.URI;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CredHubUriBuilderFactoryUnitTests {
+
+	private static final String BASE_URI = "https://credhub.cf.example.com:8844";
+
+	private final CredHubUriBuilderFactory factory = new CredHubUriBuilderFactory(BASE_URI);
+
+	private final DefaultUriBuilderFactory defaultFactory = new DefaultUriBuilderFactory(BASE_URI);
+
+	@Test
+	public void fixedTemplateIsExpandedOnce() {
+		URI uri = this.factory.expand("/api/v1/data");
+
+		assertThat(uri).hasToString("https://credhub.cf.example.com:8844/api/v1/data");
+		assertThat(this.factory.expand("/api/v1/data")).isSameAs(uri);
+		assertThat(this.factory.expand("/api/v1/data", Collections.emptyMap())).isSameAs(uri);
+	}
+
+	@Test
+	public void templateWithVariablesIsExpandedOnEachCall() {
+		URI first = this.factory.expand("/api/v1/data?name={name}", "/example/one");
+		URI second = this.factory.expand("/api/v1/data?name={name}", "/example/two");
+
+		assertThat(first).hasToString("https://credhub.cf.example.com:8844/api/v1/data?name=%2Fexample%2Fone");
+		assertThat(second).hasToString("https://credhub.cf.example.com:8844/api/v1/data?name=%2Fexample%2Ftwo");
+	}
+
+	@Test
+	public void expandedUrisMatchDefaultUriBuilderFactory() {
+		assertSameExpansion("/api/v1/data?name={name}&current=true", "/c/broker/service/binding id/credentials");
+		assertSameExpansion("/api/v1/data?name={name}&versions={versions}", "/example/a+b&c=d", 3);
+		assertSameExpansion("/api/v1/data/{id}", "80cbb13f-7562-4e72-92de-f3ccf69eaa59");
+		assertSameExpansion("/api/v1/permissions?credential_name={name}&actor={actor}", "/example/\u00fc",
+				"mtls-app:app-id");
+		assertSameExpansion("/api/v2/permissions?path={path}&actor={actor}", "/example/*", "uaa-user:{user}");
+	}
+
+	@Test
+	public void baseUriWithPathAndTrailingSlashMatchesDefaultUriBuilderFactory() {
+		String baseUri = "https://credhub.cf.example.com:8844/credhub/";
+		URI uri = new CredHubUriBuilderFactory(baseUri).expand("/api/v1/data?name={name}", "/example");
+
+		assertThat(uri).isEqualTo(new DefaultUriBuilderFactory(baseUri).expand("/api/v1/data?name={name}", "/example"));
+	}
+
+	@Test
+	public void templatesThatCanNotBePrecompiledAreExpandedByDefaultUriBuilderFactory() {
+		assertSameExpansion("/api/v1/data/{id:[a-z]+}", "abc");
+		assertSameExpansion("https://other.example.com/api/v1/data?name={name}", "/example");
+		assertSameExpansion("/api/v1/data?name=some name");
+		assertThat(this.factory.expand("/api/v1/data?name={name}", Collections.singletonMap("name", "/example")))
+			.hasToString("https://credhub.cf.example.com:8844/api/v1/data?name=%2Fexample");
+	}
+
+	@Test
+	public void missingBaseUriIsAllowed() {
+		URI uri = new CredHubUriBuilderFactory(null).expand("/api/v1/data?name={name}", "/example");
+
+		assertThat(uri).hasToString("/api/v1/data?name=%2Fexample");
+	}
+
+	@Test
+	public void templateCacheEvictsLeastRecentlyUsedTemplates() {
+		URI first = this.factory.expand("/api/v1/data/0");
+		for (int i = 1; i < CredHubUriBuilderFactory.MAX_CACHED_TEMPLATES * 2; i++) {
+			this.factory.expand("/api/v1/data/" + i);
+		}
+
+		assertThat(this.factory.expand("/api/v1/data/0")).isNotSameAs(first).isEqualTo(first);
+		URI uri = this.factory.expand("/api/v1/data/recent");
+		assertThat(this.factory.expand("/api/v1/data/recent")).isSameAs(uri);
+	}
+
+	@Test
+	public void namesAreCachedAfterManyDistinctIds() {
+		for (int i = 0; i < CredHubUriBuilderFactory.MAX_CACHED_VALUES * 2; i++) {
+			assertThat(this.factory.expand("/api/v1/data/{id}", "id-" + i))
+				.hasToString(BASE_URI + "/api/v1/data/id-" + i);
+		}
+
+		assertThat(this.factory.expand("/api/v1/data?name={name}", "/example/name"))
+			.hasToString(BASE_URI + "/api/v1/data?name=%2Fexample%2Fname");
+		assertThat(this.factory.isEncodedValueCached("/example/name")).isTrue();
+		assertThat(this.factory.isEncodedValueCached("id-0")).isFalse();
+	}
+
+	private void assertSameExpansion(String uriTemplate, Object... uriVariables) {
+		assertThat(this.factory.expand(uriTemplate, uriVariables))
+			.isEqualTo(this.defaultFactory.expand(uriTemplate, uriVariables));
+	}
+
+}
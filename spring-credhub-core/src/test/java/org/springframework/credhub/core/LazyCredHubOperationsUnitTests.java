@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.credhub.core.credential.CredHubCredentialOperations;
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialType;
+import org.springframework.credhub.support.SimpleCredentialName;
+import org.springframework.credhub.support.value.ValueCredential;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class LazyCredHubOperationsUnitTests {
+
+	private static final SimpleCredentialName NAME = new SimpleCredentialName("example", "credential");
+
+	private final AtomicInteger created = new AtomicInteger();
+
+	@Test
+	public void clientIsNotCreatedUntilOperationsAreUsed() {
+		CredHubOperations delegate = mockCredHubOperations();
+		LazyCredHubOperations operations = new LazyCredHubOperations(() -> create(delegate));
+
+		CredHubCredentialOperations credentials = operations.credentials();
+		assertThat(credentials).isSameAs(operations.credentials()).hasToString("LazyCredHubCredentialOperations");
+		assertThat(operations.isInitialized()).isFalse();
+		assertThat(this.created).hasValue(0);
+
+		assertThat(credentials.getByName(NAME, ValueCredential.class).getValue().getValue()).isEqualTo("secret");
+		assertThat(operations.isInitialized()).isTrue();
+		assertThat(operations.getDelegate()).isSameAs(delegate);
+
+		credentials.getByName(NAME, ValueCredential.class);
+		assertThat(this.created).hasValue(1);
+	}
+
+	@Test
+	public void clientIsCreatedOnceByConcurrentCallers() throws Exception {
+		CredHubOperations delegate = mockCredHubOperations();
+		CountDownLatch start = new CountDownLatch(1);
+		LazyCredHubOperations operations = new LazyCredHubOperations(() -> create(delegate));
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<CredHubOperations>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					return operations.getDelegate();
+				}));
+			}
+			start.countDown();
+
+			for (Future<CredHubOperations> result : results) {
+				assertThat(result.get()).isSameAs(delegate);
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		assertThat(this.created).hasValue(1);
+	}
+
+	@Test
+	public void clientIsCreatedAgainAfterFailure() {
+		CredHubOperations delegate = mockCredHubOperations();
+		LazyCredHubOperations operations = new LazyCredHubOperations(() -> {
+			if (this.created.incrementAndGet() == 1) {
+				throw new IllegalStateException("unable to read CA certificate");
+			}
+			return delegate;
+		});
+
+		assertThatIllegalStateException().isThrownBy(operations::initialize)
+			.withMessage("unable to read CA certificate");
+		assertThat(operations.isInitialized()).isFalse();
+
+		operations.initialize();
+		assertThat(operations.isInitialized()).isTrue();
+		assertThat(this.created).hasValue(2);
+	}
+
+	@Test
+	public void exceptionsFromOperationsAreNotWrapped() {
+		CredHubOperations delegate = mockCredHubOperations();
+		given(delegate.credentials().getByName(NAME, ValueCredential.class))
+			.willThrow(new IllegalStateException("credential not found"));
+		LazyCredHubOperations operations = new LazyCredHubOperations(() -> delegate);
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> operations.credentials().getByName(NAME, ValueCredential.class))
+			.withMessage("credential not found");
+	}
+
+	private CredHubOperations create(CredHubOperations delegate) {
+		this.created.incrementAndGet();
+		return delegate;
+	}
+
+	private static CredHubOperations mockCredHubOperations() {
+		CredHubCredentialOperations credentials = mock(CredHubCredentialOperations.class);
+		CredentialDetails<ValueCredential> details = new CredentialDetails<>("id", NAME, CredentialType.VALUE,
+				new ValueCredential("secret"));
+		given(credentials.getByName(NAME, ValueCredential.class)).willReturn(details);
+
+		CredHubOperations operations = mock(CredHubOperations.class);
+		given(operations.credentials()).willReturn(credentials);
+		return operations;
+	}
+
+}
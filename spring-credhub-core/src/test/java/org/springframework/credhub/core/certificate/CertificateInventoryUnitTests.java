@@ -0,0 +1,304 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.certificate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.credhub.core.CredHubOperations;
+import org.springframework.credhub.core.ReactiveCredHubOperations;
+import org.springframework.credhub.core.credential.CredHubCredentialOperations;
+import org.springframework.credhub.core.credential.ReactiveCredHubCredentialOperations;
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialSummary;
+import org.springframework.credhub.support.SimpleCredentialName;
+import org.springframework.credhub.support.certificate.CertificateCredential;
+import org.springframework.credhub.support.certificate.CertificateSummary;
+import org.springframework.credhub.support.utils.JsonUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class CertificateInventoryUnitTests {
+
+	static final String CA_PEM = """
+			-----BEGIN CERTIFICATE-----
+			MIIBTDCB86ADAgECAgkA0Sm7Qr1B9K0wCgYIKoZIzj0EAwIwEjEQMA4GA1UEAxMH
+			VGVzdCBDQTAeFw0yNTAxMDEwMDAwMDBaFw0zNDEyMzAwMDAwMDBaMBIxEDAOBgNV
+			BAMTB1Rlc3QgQ0EwWTATBgcqhkjOPQIBBggqhkjOPQMBBwNCAAQ1TVnjIqUYIsVu
+			FXjIu4DSvM7EArMOW0YrA410d1PS+9v1dUrR74cYBgPZgHCgkrMtuLhTPmjz6k59
+			DawcmCIaozIwMDAdBgNVHQ4EFgQU3WjbTvaYBQQ5T6ZBoIIYxuvsnNQwDwYDVR0T
+			AQH/BAUwAwEB/zAKBggqhkjOPQQDAgNIADBFAiEAiHOXu3S5piF5nC5tGjm2qCzj
+			jtw5CPQG/7uFnfaErnECIDhjmxM7U2LeAF/lnXlxdaxIQMSItJQE6cI6ibSlceu/
+			-----END CERTIFICATE-----
+			""";
+
+	static final String LEAF_PEM = """
+			-----BEGIN CERTIFICATE-----
+			MIIBZTCCAQygAwIBAgIJAIrQJVg8mR+hMAoGCCqGSM49BAMCMBIxEDAOBgNVBAMT
+			B1Rlc3QgQ0EwHhcNMjUwMTAxMDAwMDAwWhcNMjYwMTAxMDAwMDAwWjAbMRkwFwYD
+			VQQDExBsZWFmLmV4YW1wbGUuY29tMFkwEwYHKoZIzj0CAQYIKoZIzj0DAQcDQgAE
+			wc2pAkWfDIM4TUIFhTseFkPhslrqVGSRrtTsSAIe0xwUPJjk/unQxjisGX9iZzyH
+			YZ5X8s9uP+w+6VQcVYORLKNCMEAwHQYDVR0OBBYEFCYRNdCFu7Bdr+iJARTvKz4V
+			I5TfMB8GA1UdIwQYMBaAFN1o2072mAUEOU+mQaCCGMbr7JzUMAoGCCqGSM49BAMC
+			A0cAMEQCIC5JbRVr4e0zFBnaqGahCMO4PqriUdDfDyF5NVZ7cazXAiBxci3D4TP4
+			UqJlMxuYpU/7mNfAq6olrnlNhTYkhRzhCQ==
+			-----END CERTIFICATE-----
+			""";
+
+	private static final String CA_NAME = "/certs/ca";
+
+	private static final String LEAF_NAME = "/certs/leaf";
+
+	private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-12-15T00:00:00Z"), ZoneOffset.UTC);
+
+	private final ObjectMapper objectMapper = JsonUtils.buildObjectMapper();
+
+	@Mock
+	private CredHubOperations credHubOperations;
+
+	@Mock
+	private CredHubCertificateOperations certificateOperations;
+
+	@Mock
+	private CredHubCredentialOperations credentialOperations;
+
+	@Mock
+	private ReactiveCredHubOperations reactiveOperations;
+
+	@Mock
+	private ReactiveCredHubCertificateOperations reactiveCertificateOperations;
+
+	@Mock
+	private ReactiveCredHubCredentialOperations reactiveCredentialOperations;
+
+	private CertificateInventory inventory;
+
+	@BeforeEach
+	public void setUp() {
+		CertificateCrawler crawler = new CredHubCertificateCrawler(this.credHubOperations,
+				Executors.newFixedThreadPool(2), 2);
+		this.inventory = new CertificateInventory(crawler, ForkJoinPool.commonPool(), CLOCK);
+	}
+
+	@Test
+	public void refreshIndexesCertificates() throws JsonProcessingException {
+		givenOperations();
+		given(this.certificateOperations.getAll())
+			.willReturn(Arrays.asList(new CertificateSummary("1", CA_NAME), new CertificateSummary("2", LEAF_NAME)));
+		given(this.credentialOperations.findByPath("/"))
+			.willReturn(Arrays.asList(summary(CA_NAME, "2025-01-01T00:00:00Z"),
+					summary(LEAF_NAME, "2025-01-01T00:00:00Z"), summary("/other", "2025-01-01T00:00:00Z")));
+		given(this.credentialOperations.getByName(new SimpleCredentialName(CA_NAME), CertificateCredential.class))
+			.willReturn(details("ca-v1", CA_NAME, "2025-01-01T00:00:00Z", CA_PEM));
+		given(this.credentialOperations.getByName(new SimpleCredentialName(LEAF_NAME), CertificateCredential.class))
+			.willReturn(details("leaf-v1", LEAF_NAME, "2025-01-01T00:00:00Z", LEAF_PEM));
+
+		assertThat(this.inventory.refresh()).isEqualTo(2);
+
+		CertificateInfo ca = this.inventory.getCertificate(CA_NAME);
+		assertThat(ca.isCertificateAuthority()).isTrue();
+		assertThat(ca.isSelfSigned()).isTrue();
+		assertThat(ca.getSubject()).isEqualTo("CN=Test CA");
+
+		CertificateInfo leaf = this.inventory.getCertificate(LEAF_NAME);
+		assertThat(leaf.isCertificateAuthority()).isFalse();
+		assertThat(leaf.getVersionId()).isEqualTo("leaf-v1");
+		assertThat(leaf.getIssuer()).isEqualTo("CN=Test CA");
+		assertThat(leaf.getNotAfter()).isEqualTo(Instant.parse("2026-01-01T00:00:00Z"));
+
+		assertThat(this.inventory.getCertificates()).containsExactly(leaf, ca);
+		assertThat(this.inventory.getExpiringWithin(Duration.ofDays(30))).containsExactly(leaf);
+		assertThat(this.inventory.getExpiringWithin(Duration.ofDays(10))).isEmpty();
+		assertThat(this.inventory.getExpired()).isEmpty();
+		assertThat(this.inventory.getEarliestExpiring()).isSameAs(leaf);
+		assertThat(this.inventory.getCertificateAuthorities()).containsExactly(ca);
+		assertThat(this.inventory.getIssuedBy(CA_NAME)).containsExactly(leaf);
+		assertThat(this.inventory.getIssuedBy(LEAF_NAME)).isEmpty();
+		assertThat(this.inventory.getIssuer(LEAF_NAME)).isSameAs(ca);
+		assertThat(this.inventory.getIssuer(CA_NAME)).isNull();
+		assertThat(this.inventory.getLastRefreshed()).isEqualTo(CLOCK.instant());
+	}
+
+	@Test
+	public void refreshRetrievesOnlyChangedCertificates() throws JsonProcessingException {
+		givenOperations();
+		given(this.certificateOperations.getAll())
+			.willReturn(Arrays.asList(new CertificateSummary("1", CA_NAME), new CertificateSummary("2", LEAF_NAME)))
+			.willReturn(List.of(new CertificateSummary("2", LEAF_NAME)));
+		given(this.credentialOperations.findByPath("/"))
+			.willReturn(
+					Arrays.asList(summary(CA_NAME, "2025-01-01T00:00:00Z"), summary(LEAF_NAME, "2025-01-01T00:00:00Z")))
+			.willReturn(Arrays.asList(summary(LEAF_NAME, "2025-01-01T00:00:00Z")))
+			.willReturn(Arrays.asList(summary(LEAF_NAME, "2025-06-01T00:00:00Z")));
+		given(this.credentialOperations.getByName(new SimpleCredentialName(CA_NAME), CertificateCredential.class))
+			.willReturn(details("ca-v1", CA_NAME, "2025-01-01T00:00:00Z", CA_PEM));
+		given(this.credentialOperations.getByName(new SimpleCredentialName(LEAF_NAME), CertificateCredential.class))
+			.willReturn(details("leaf-v1", LEAF_NAME, "2025-01-01T00:00:00Z", LEAF_PEM))
+			.willReturn(details("leaf-v2", LEAF_NAME, "2025-06-01T00:00:00Z", LEAF_PEM));
+
+		assertThat(this.inventory.refresh()).isEqualTo(2);
+
+		assertThat(this.inventory.refresh()).isEqualTo(0);
+		assertThat(this.inventory.getCertificate(CA_NAME)).isNull();
+		assertThat(this.inventory.getCertificate(LEAF_NAME).getVersionId()).isEqualTo("leaf-v1");
+		assertThat(this.inventory.getIssuer(LEAF_NAME)).isNull();
+
+		assertThat(this.inventory.refresh()).isEqualTo(1);
+		assertThat(this.inventory.getCertificate(LEAF_NAME).getVersionId()).isEqualTo("leaf-v2");
+
+		verify(this.credentialOperations, times(1)).getByName(new SimpleCredentialName(CA_NAME),
+				CertificateCredential.class);
+		verify(this.credentialOperations, times(2)).getByName(new SimpleCredentialName(LEAF_NAME),
+				CertificateCredential.class);
+	}
+
+	@Test
+	public void refreshSkipsCertificatesThatCanNotBeRetrieved() throws JsonProcessingException {
+		givenOperations();
+		given(this.certificateOperations.getAll())
+			.willReturn(Arrays.asList(new CertificateSummary("1", CA_NAME), new CertificateSummary("2", LEAF_NAME)));
+		given(this.credentialOperations.findByPath("/")).willReturn(List.of());
+		given(this.credentialOperations.getByName(new SimpleCredentialName(CA_NAME), CertificateCredential.class))
+			.willReturn(details("ca-v1", CA_NAME, "2025-01-01T00:00:00Z", "not a certificate"));
+		given(this.credentialOperations.getByName(new SimpleCredentialName(LEAF_NAME), CertificateCredential.class))
+			.willThrow(new IllegalStateException("unavailable"));
+
+		assertThat(this.inventory.refresh()).isEqualTo(2);
+
+		assertThat(this.inventory.getCertificates()).isEmpty();
+	}
+
+	@Test
+	public void refreshKeepsPreviousVersionOfCertificatesThatFail() throws JsonProcessingException {
+		givenOperations();
+		given(this.certificateOperations.getAll())
+			.willReturn(Arrays.asList(new CertificateSummary("1", CA_NAME), new CertificateSummary("2", LEAF_NAME)));
+		given(this.credentialOperations.findByPath("/"))
+			.willReturn(
+					Arrays.asList(summary(CA_NAME, "2025-01-01T00:00:00Z"), summary(LEAF_NAME, "2025-01-01T00:00:00Z")))
+			.willReturn(Arrays.asList(summary(CA_NAME, "2025-06-01T00:00:00Z"),
+					summary(LEAF_NAME, "2025-06-01T00:00:00Z")));
+		given(this.credentialOperations.getByName(new SimpleCredentialName(CA_NAME), CertificateCredential.class))
+			.willReturn(details("ca-v1", CA_NAME, "2025-01-01T00:00:00Z", CA_PEM))
+			.willReturn(details("ca-v2", CA_NAME, "2025-06-01T00:00:00Z", "not a certificate"));
+		given(this.credentialOperations.getByName(new SimpleCredentialName(LEAF_NAME), CertificateCredential.class))
+			.willReturn(details("leaf-v1", LEAF_NAME, "2025-01-01T00:00:00Z", LEAF_PEM))
+			.willThrow(new IllegalStateException("unavailable"))
+			.willReturn(details("leaf-v2", LEAF_NAME, "2025-06-01T00:00:00Z", LEAF_PEM));
+
+		assertThat(this.inventory.refresh()).isEqualTo(2);
+
+		assertThat(this.inventory.refresh()).isEqualTo(2);
+		assertThat(this.inventory.getCertificate(CA_NAME).getVersionId()).isEqualTo("ca-v1");
+		assertThat(this.inventory.getCertificate(LEAF_NAME).getVersionId()).isEqualTo("leaf-v1");
+		assertThat(this.inventory.getIssuer(LEAF_NAME)).isSameAs(this.inventory.getCertificate(CA_NAME));
+
+		assertThat(this.inventory.refresh()).isEqualTo(2);
+		assertThat(this.inventory.getCertificate(LEAF_NAME).getVersionId()).isEqualTo("leaf-v2");
+	}
+
+	@Test
+	public void refreshWithReactiveOperations() throws JsonProcessingException {
+		given(this.reactiveOperations.certificates()).willReturn(this.reactiveCertificateOperations);
+		given(this.reactiveOperations.credentials()).willReturn(this.reactiveCredentialOperations);
+		given(this.reactiveCertificateOperations.getAll())
+			.willReturn(Flux.just(new CertificateSummary("2", LEAF_NAME)));
+		given(this.reactiveCredentialOperations.findByPath("/"))
+			.willReturn(Flux.just(summary(LEAF_NAME, "2025-01-01T00:00:00Z")));
+		given(this.reactiveCredentialOperations.getByName(new SimpleCredentialName(LEAF_NAME),
+				CertificateCredential.class))
+			.willReturn(Mono.just(details("leaf-v1", LEAF_NAME, "2025-01-01T00:00:00Z", LEAF_PEM)));
+
+		CertificateInventory inventory = new CertificateInventory(this.reactiveOperations, 4,
+				ForkJoinPool.commonPool());
+
+		assertThat(inventory.refresh()).isEqualTo(1);
+		assertThat(inventory.refresh()).isEqualTo(0);
+		assertThat(inventory.getCertificate(LEAF_NAME).getSubject()).isEqualTo("CN=leaf.example.com");
+	}
+
+	@Test
+	public void metricsReportInventory() throws JsonProcessingException {
+		givenOperations();
+		given(this.certificateOperations.getAll())
+			.willReturn(Arrays.asList(new CertificateSummary("1", CA_NAME), new CertificateSummary("2", LEAF_NAME)));
+		given(this.credentialOperations.findByPath("/")).willReturn(List.of());
+		given(this.credentialOperations.getByName(new SimpleCredentialName(CA_NAME), CertificateCredential.class))
+			.willReturn(details("ca-v1", CA_NAME, "2025-01-01T00:00:00Z", CA_PEM));
+		given(this.credentialOperations.getByName(new SimpleCredentialName(LEAF_NAME), CertificateCredential.class))
+			.willReturn(details("leaf-v1", LEAF_NAME, "2025-01-01T00:00:00Z", LEAF_PEM));
+
+		MeterRegistry registry = new SimpleMeterRegistry();
+		new CertificateInventoryMetrics(this.inventory).bindTo(registry);
+
+		assertThat(registry.get("credhub.certificates").gauge().value()).isEqualTo(0);
+
+		this.inventory.refresh();
+
+		assertThat(registry.get("credhub.certificates").gauge().value()).isEqualTo(2);
+		assertThat(registry.get("credhub.certificates.authorities").gauge().value()).isEqualTo(1);
+		assertThat(registry.get("credhub.certificates.expired").gauge().value()).isEqualTo(0);
+		assertThat(registry.get("credhub.certificates.expiring").tag("within", "PT720H").gauge().value()).isEqualTo(1);
+		assertThat(registry.get("credhub.certificates.earliest.expiry").timeGauge().value())
+			.isEqualTo(Duration.ofDays(17).toSeconds());
+	}
+
+	private void givenOperations() {
+		given(this.credHubOperations.certificates()).willReturn(this.certificateOperations);
+		given(this.credHubOperations.credentials()).willReturn(this.credentialOperations);
+	}
+
+	private CredentialSummary summary(String name, String versionCreatedAt) throws JsonProcessingException {
+		return this.objectMapper.readValue(
+				"{\"name\":\"" + name + "\",\"version_created_at\":\"" + versionCreatedAt + "\"}",
+				CredentialSummary.class);
+	}
+
+	private CredentialDetails<CertificateCredential> details(String id, String name, String versionCreatedAt,
+			String certificate) throws JsonProcessingException {
+		return this.objectMapper.readValue(
+				"{\"id\":\"" + id + "\",\"name\":\"" + name + "\",\"type\":\"certificate\",\"version_created_at\":\""
+						+ versionCreatedAt + "\",\"value\":{\"certificate\":"
+						+ this.objectMapper.writeValueAsString(certificate) + "}}",
+				new TypeReference<CredentialDetails<CertificateCredential>>() {
+				});
+	}
+
+}
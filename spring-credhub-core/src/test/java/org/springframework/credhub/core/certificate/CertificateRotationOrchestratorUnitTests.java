@@ -0,0 +1,290 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.certificate;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.credhub.core.CredHubOperations;
+import org.springframework.credhub.core.credential.CredHubCredentialOperations;
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialType;
+import org.springframework.credhub.support.SimpleCredentialName;
+import org.springframework.credhub.support.certificate.CertificateCredential;
+import org.springframework.credhub.support.certificate.CertificateSummary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class CertificateRotationOrchestratorUnitTests {
+
+	private static final String INTERMEDIATE_PEM = """
+			-----BEGIN CERTIFICATE-----
+			MIIBejCCASGgAwIBAgIJANnJAmCsWdU8MAoGCCqGSM49BAMCMBIxEDAOBgNVBAMT
+			B1Rlc3QgQ0EwHhcNMjUwMTAxMDAwMDAwWhcNMjkxMjMxMDAwMDAwWjAfMR0wGwYD
+			VQQDExRUZXN0IEludGVybWVkaWF0ZSBDQTBZMBMGByqGSM49AgEGCCqGSM49AwEH
+			A0IABGODEL8ANh7avPgHuYOnyNv2mZMnsOM23B3znF1OhhTqukGdFY/JV7IgiLaZ
+			N7EGQaNQZ75XXrRc/MviEbZJWsujUzBRMB0GA1UdDgQWBBTV6n2cH+nI9x/3F7t2
+			SjSwQ+CaezAPBgNVHRMBAf8EBTADAQH/MB8GA1UdIwQYMBaAFN1o2072mAUEOU+m
+			QaCCGMbr7JzUMAoGCCqGSM49BAMCA0cAMEQCIDSxD9/4MaHLhUp7xRl82m3fX5q0
+			Xvv0UTc+zEc+aOaaAiALW/BM7SRL9TPCyyzt7vY1fy4HVi6OrZ7Pgx51IFFcrw==
+			-----END CERTIFICATE-----
+			""";
+
+	private static final String OTHER_CA_PEM = """
+			-----BEGIN CERTIFICATE-----
+			MIIBTTCB9KADAgECAggQ2r9VB01OyjAKBggqhkjOPQQDAjATMREwDwYDVQQDEwhP
+			dGhlciBDQTAeFw0yNTAxMDEwMDAwMDBaFw0zNDEyMzAwMDAwMDBaMBMxETAPBgNV
+			BAMTCE90aGVyIENBMFkwEwYHKoZIzj0CAQYIKoZIzj0DAQcDQgAEmByAoZmjsp8h
+			098wq4vmngv3Wuw6kR54I8SCCa8KYgdxLFWeLckNcTYSyoIb1DviF489zTh0Ncxx
+			30I+dc5sSKMyMDAwHQYDVR0OBBYEFKNO11AcWq7s9z5KlpaZfu9D6lT/MA8GA1Ud
+			EwEB/wQFMAMBAf8wCgYIKoZIzj0EAwIDSAAwRQIgLirq3mbACpAqKVk9vt8pwpF7
+			ZTFPR/wquArR/eDFJqECIQDgqlyRo+6Lw/tRomM2ydU8LIZvlwygQfvXGqaxLVNL
+			Fg==
+			-----END CERTIFICATE-----
+			""";
+
+	private static final String CA = "/certs/ca";
+
+	private static final String INTERMEDIATE = "/certs/intermediate";
+
+	private static final String LEAF = "/certs/leaf";
+
+	private static final String OTHER_CA = "/certs/other-ca";
+
+	@Mock
+	private CredHubOperations credHubOperations;
+
+	@Mock
+	private CredHubCertificateOperations certificateOperations;
+
+	@Mock
+	private CredHubCredentialOperations credentialOperations;
+
+	private ExecutorService executor;
+
+	private CertificateInventory inventory;
+
+	@BeforeEach
+	public void setUp() {
+		this.executor = Executors.newFixedThreadPool(4);
+		this.inventory = new CertificateInventory(new StaticCertificateCrawler(), ForkJoinPool.commonPool(),
+				Clock.systemUTC());
+	}
+
+	@AfterEach
+	public void tearDown() {
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	public void rotateAppliesPhasesToIssuersBeforeIssuedAuthorities() {
+		givenOperations();
+		givenCertificateAuthority(CA, "ca-id", "ca-v1");
+		givenCertificateAuthority(INTERMEDIATE, "int-id", "int-v1");
+		givenCertificateAuthority(OTHER_CA, "other-id", "other-v1");
+		given(this.certificateOperations.regenerate(anyString(), eq(true))).willReturn(null);
+		given(this.certificateOperations.regenerate(new SimpleCredentialName(INTERMEDIATE)))
+			.willReturn(List.of(new SimpleCredentialName(LEAF)));
+		given(this.certificateOperations.regenerate(new SimpleCredentialName(OTHER_CA))).willReturn(List.of());
+
+		CertificateRotationOrchestrator orchestrator = new CertificateRotationOrchestrator(this.credHubOperations,
+				this.inventory, this.executor, 2);
+		CertificateRotationReport report = orchestrator.rotate(Arrays.asList(INTERMEDIATE, CA, OTHER_CA));
+
+		assertThat(report.isSuccessful()).isTrue();
+		assertThat(report.getCompleted()).containsExactlyInAnyOrder(CA, INTERMEDIATE, OTHER_CA);
+		assertThat(report.getPhaseStatistics(CertificateRotationPhase.PREPARE).getOperations()).isEqualTo(3);
+		assertThat(report.getPhaseStatistics(CertificateRotationPhase.REGENERATE).getOperations()).isEqualTo(3);
+		assertThat(report.getPhaseStatistics(CertificateRotationPhase.REGENERATE).getCertificates()).isEqualTo(2);
+
+		InOrder inOrder = inOrder(this.certificateOperations);
+		inOrder.verify(this.certificateOperations).regenerate("ca-id", true);
+		inOrder.verify(this.certificateOperations).updateTransitionalVersion("ca-id", "ca-v1");
+		inOrder.verify(this.certificateOperations).regenerate(new SimpleCredentialName(LEAF), false);
+		inOrder.verify(this.certificateOperations).updateTransitionalVersion("ca-id", null);
+		inOrder.verify(this.certificateOperations).regenerate("int-id", true);
+		inOrder.verify(this.certificateOperations).updateTransitionalVersion("int-id", "int-v1");
+		inOrder.verify(this.certificateOperations).regenerate(new SimpleCredentialName(INTERMEDIATE));
+		inOrder.verify(this.certificateOperations).updateTransitionalVersion("int-id", null);
+		verify(this.certificateOperations).updateTransitionalVersion("other-id", null);
+		verify(this.certificateOperations, never()).regenerate(new SimpleCredentialName(CA));
+		verify(this.certificateOperations, never()).regenerate(new SimpleCredentialName(INTERMEDIATE), false);
+	}
+
+	@Test
+	public void rotateDoesNotRegenerateTransitionalVersionTwice() {
+		givenOperations();
+		given(this.credentialOperations.getByName(new SimpleCredentialName(OTHER_CA), CertificateCredential.class))
+			.willReturn(new CredentialDetails<>("other-v2", new SimpleCredentialName(OTHER_CA),
+					CredentialType.CERTIFICATE, new CertificateCredential("certificate", null, null)));
+
+		CertificateRotationCheckpointStore store = new InMemoryCertificateRotationCheckpointStore();
+		store.save(new CertificateRotationCheckpoint(OTHER_CA, "other-id", "other-v1", null));
+
+		CertificateRotationOrchestrator orchestrator = new CertificateRotationOrchestrator(this.credHubOperations,
+				this.inventory, this.executor, 2, store);
+		CertificateRotationReport report = orchestrator.rotate(List.of(OTHER_CA), CertificateRotationPhase.ACTIVATE);
+
+		assertThat(report.getCompleted()).containsExactly(OTHER_CA);
+		assertThat(report.getPhaseStatistics(CertificateRotationPhase.PREPARE).getCertificates()).isZero();
+		verify(this.certificateOperations, never()).regenerate(anyString(), anyBoolean());
+		verify(this.certificateOperations).updateTransitionalVersion("other-id", "other-v1");
+	}
+
+	@Test
+	public void rotateResumesFromCheckpoint() {
+		given(this.credHubOperations.certificates()).willReturn(this.certificateOperations);
+		given(this.certificateOperations.regenerate(new SimpleCredentialName(OTHER_CA))).willReturn(List.of());
+
+		CertificateRotationCheckpointStore store = new InMemoryCertificateRotationCheckpointStore();
+		store.save(
+				new CertificateRotationCheckpoint(OTHER_CA, "other-id", "other-v1", CertificateRotationPhase.ACTIVATE));
+
+		CertificateRotationOrchestrator orchestrator = new CertificateRotationOrchestrator(this.credHubOperations,
+				this.inventory, this.executor, 2, store);
+		CertificateRotationReport report = orchestrator.rotate(List.of(OTHER_CA));
+
+		assertThat(report.getCompleted()).containsExactly(OTHER_CA);
+		assertThat(report.getPhaseStatistics(CertificateRotationPhase.PREPARE).getOperations()).isZero();
+		assertThat(store.load(OTHER_CA)).isNull();
+		verify(this.certificateOperations, never()).regenerate(anyString(), anyBoolean());
+		verify(this.certificateOperations).updateTransitionalVersion("other-id", null);
+	}
+
+	@Test
+	public void rotateUpToPhaseKeepsCheckpoint() {
+		givenOperations();
+		givenCertificateAuthority(OTHER_CA, "other-id", "other-v1");
+
+		CertificateRotationCheckpointStore store = new InMemoryCertificateRotationCheckpointStore();
+		CertificateRotationOrchestrator orchestrator = new CertificateRotationOrchestrator(this.credHubOperations,
+				this.inventory, this.executor, 2, store);
+		CertificateRotationReport report = orchestrator.rotate(List.of(OTHER_CA), CertificateRotationPhase.ACTIVATE);
+
+		assertThat(report.getCompleted()).containsExactly(OTHER_CA);
+		assertThat(store.load(OTHER_CA).getCompletedPhase()).isEqualTo(CertificateRotationPhase.ACTIVATE);
+		verify(this.certificateOperations).updateTransitionalVersion("other-id", "other-v1");
+		verify(this.certificateOperations, never()).regenerate(new SimpleCredentialName(OTHER_CA));
+	}
+
+	@Test
+	public void rotateSkipsIssuedAuthoritiesWhenIssuerFails() {
+		givenOperations();
+		givenCertificateAuthority(CA, "ca-id", "ca-v1");
+		given(this.certificateOperations.regenerate("ca-id", true)).willThrow(new IllegalStateException("failed"));
+
+		CertificateRotationCheckpointStore store = new InMemoryCertificateRotationCheckpointStore();
+		CertificateRotationOrchestrator orchestrator = new CertificateRotationOrchestrator(this.credHubOperations,
+				this.inventory, this.executor, 2, store);
+		CertificateRotationReport report = orchestrator.rotate(Arrays.asList(CA, INTERMEDIATE));
+
+		assertThat(report.isSuccessful()).isFalse();
+		assertThat(report.getFailed()).containsOnlyKeys(CA);
+		assertThat(report.getSkipped()).containsExactly(INTERMEDIATE);
+		assertThat(store.load(CA).getCompletedPhase()).isNull();
+		assertThat(store.load(INTERMEDIATE)).isNull();
+	}
+
+	@Test
+	public void rotateRejectsCertificatesThatAreNotAuthorities() {
+		CertificateRotationOrchestrator orchestrator = new CertificateRotationOrchestrator(this.credHubOperations,
+				this.inventory, this.executor, 2);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> orchestrator.rotate(List.of(LEAF)));
+	}
+
+	@Test
+	public void fileCheckpointStorePersistsCheckpoints(@TempDir Path directory) {
+		Path file = directory.resolve("rotation.json");
+		FileCertificateRotationCheckpointStore store = new FileCertificateRotationCheckpointStore(file);
+		store.save(new CertificateRotationCheckpoint(CA, "ca-id", "ca-v1", CertificateRotationPhase.PREPARE));
+		store.save(new CertificateRotationCheckpoint(OTHER_CA, "other-id", "other-v1", null));
+		store.remove(OTHER_CA);
+
+		CertificateRotationCheckpoint checkpoint = new FileCertificateRotationCheckpointStore(file).load(CA);
+
+		assertThat(checkpoint.getCertificateId()).isEqualTo("ca-id");
+		assertThat(checkpoint.getPreviousVersionId()).isEqualTo("ca-v1");
+		assertThat(checkpoint.getCompletedPhase()).isEqualTo(CertificateRotationPhase.PREPARE);
+		assertThat(new FileCertificateRotationCheckpointStore(file).load(OTHER_CA)).isNull();
+	}
+
+	private void givenOperations() {
+		given(this.credHubOperations.certificates()).willReturn(this.certificateOperations);
+		given(this.credHubOperations.credentials()).willReturn(this.credentialOperations);
+	}
+
+	private void givenCertificateAuthority(String name, String certificateId, String versionId) {
+		SimpleCredentialName credentialName = new SimpleCredentialName(name);
+		given(this.certificateOperations.getByName(credentialName))
+			.willReturn(new CertificateSummary(certificateId, name));
+		given(this.credentialOperations.getByName(credentialName, CertificateCredential.class))
+			.willReturn(new CredentialDetails<>(versionId, credentialName, CredentialType.CERTIFICATE,
+					new CertificateCredential("certificate", null, null)));
+	}
+
+	private static final class StaticCertificateCrawler implements CertificateCrawler {
+
+		private static final Map<String, String> CERTIFICATES = Map.of(CA, CertificateInventoryUnitTests.CA_PEM,
+				INTERMEDIATE, INTERMEDIATE_PEM, LEAF, CertificateInventoryUnitTests.LEAF_PEM, OTHER_CA, OTHER_CA_PEM);
+
+		@Override
+		public List<String> getCertificateNames() {
+			return List.copyOf(CERTIFICATES.keySet());
+		}
+
+		@Override
+		public Map<String, Instant> getVersions() {
+			return Map.of();
+		}
+
+		@Override
+		public List<CredentialDetails<CertificateCredential>> fetch(List<String> names) {
+			return names.stream()
+				.map((name) -> new CredentialDetails<>(name + "-v1", new SimpleCredentialName(name),
+						CredentialType.CERTIFICATE, new CertificateCredential(CERTIFICATES.get(name), null, null)))
+				.toList();
+		}
+
+	}
+
+}
@@ -29,6 +29,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.credhub.core.CredHubException;
 import org.springframework.credhub.core.CredHubTemplate;
 import org.springframework.credhub.support.CredentialName;
 import org.springframework.credhub.support.CredentialType;
@@ -41,12 +42,17 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class CredHubCertificateTemplateUnitTests {
@@ -171,4 +177,92 @@ public class CredHubCertificateTemplateUnitTests {
 		assertThat(response).extracting("value.privateKey").contains("key1", "key2");
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void regenerateByNameSeedsIndexOnce() {
+		given(this.restTemplate.getForEntity(CredHubCertificateTemplate.BASE_URL_PATH, CertificateSummaryData.class))
+			.willReturn(new ResponseEntity<>(new CertificateSummaryData(new CertificateSummary("id1", NAME.getName())),
+					HttpStatus.OK));
+		given(this.restTemplate.exchange(eq(CredHubCertificateTemplate.REGENERATE_URL_PATH), eq(HttpMethod.POST),
+				isA(HttpEntity.class), isA(ParameterizedTypeReference.class), eq("id1")))
+			.willReturn(new ResponseEntity<>(certificateDetails("version1"), HttpStatus.OK));
+
+		assertThat(this.credHubTemplate.regenerate(NAME, true).getId()).isEqualTo("version1");
+		assertThat(this.credHubTemplate.regenerate(NAME, false).getId()).isEqualTo("version1");
+
+		verify(this.restTemplate, times(1)).getForEntity(CredHubCertificateTemplate.BASE_URL_PATH,
+				CertificateSummaryData.class);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void regenerateByNameRefreshesStaleId() {
+		given(this.restTemplate.getForEntity(CredHubCertificateTemplate.BASE_URL_PATH, CertificateSummaryData.class))
+			.willReturn(new ResponseEntity<>(new CertificateSummaryData(new CertificateSummary("id1", NAME.getName())),
+					HttpStatus.OK))
+			.willReturn(new ResponseEntity<>(new CertificateSummaryData(new CertificateSummary("id2", NAME.getName())),
+					HttpStatus.OK));
+		given(this.restTemplate.exchange(eq(CredHubCertificateTemplate.REGENERATE_URL_PATH), eq(HttpMethod.POST),
+				isA(HttpEntity.class), isA(ParameterizedTypeReference.class), eq("id1")))
+			.willThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+		given(this.restTemplate.exchange(eq(CredHubCertificateTemplate.REGENERATE_URL_PATH), eq(HttpMethod.POST),
+				isA(HttpEntity.class), isA(ParameterizedTypeReference.class), eq("id2")))
+			.willReturn(new ResponseEntity<>(certificateDetails("version2"), HttpStatus.OK));
+
+		this.credHubTemplate.getAll();
+
+		assertThat(this.credHubTemplate.regenerate(NAME, true).getId()).isEqualTo("version2");
+
+		verify(this.restTemplate, times(2)).getForEntity(CredHubCertificateTemplate.BASE_URL_PATH,
+				CertificateSummaryData.class);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void updateTransitionalVersionByNameUsesIdFromGetByName() {
+		given(this.restTemplate.getForEntity(CredHubCertificateTemplate.NAME_URL_QUERY, CertificateSummaryData.class,
+				NAME.getName()))
+			.willReturn(new ResponseEntity<>(new CertificateSummaryData(new CertificateSummary("id1", NAME.getName())),
+					HttpStatus.OK));
+		given(this.restTemplate.exchange(eq(CredHubCertificateTemplate.UPDATE_TRANSITIONAL_URL_PATH),
+				eq(HttpMethod.PUT), isA(HttpEntity.class), isA(ParameterizedTypeReference.class), eq("id1")))
+			.willReturn(new ResponseEntity<>(List.of(certificateDetails("version1")), HttpStatus.OK));
+
+		this.credHubTemplate.getByName(NAME);
+
+		assertThat(this.credHubTemplate.updateTransitionalVersion(NAME, "version1")).hasSize(1);
+
+		verify(this.restTemplate, never()).getForEntity(CredHubCertificateTemplate.BASE_URL_PATH,
+				CertificateSummaryData.class);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void regenerateByNameUsesIdFromRegenerateById() {
+		given(this.restTemplate.exchange(eq(CredHubCertificateTemplate.REGENERATE_URL_PATH), eq(HttpMethod.POST),
+				isA(HttpEntity.class), isA(ParameterizedTypeReference.class), eq("id1")))
+			.willReturn(new ResponseEntity<>(certificateDetails("version1"), HttpStatus.OK));
+
+		this.credHubTemplate.regenerate("id1", true);
+
+		assertThat(this.credHubTemplate.regenerate(NAME, false).getId()).isEqualTo("version1");
+
+		verify(this.restTemplate, never()).getForEntity(CredHubCertificateTemplate.BASE_URL_PATH,
+				CertificateSummaryData.class);
+	}
+
+	@Test
+	public void regenerateByNameWithUnknownCertificate() {
+		given(this.restTemplate.getForEntity(CredHubCertificateTemplate.BASE_URL_PATH, CertificateSummaryData.class))
+			.willReturn(new ResponseEntity<>(new CertificateSummaryData(), HttpStatus.OK));
+
+		assertThatExceptionOfType(CredHubException.class).isThrownBy(() -> this.credHubTemplate.regenerate(NAME, true))
+			.satisfies((ex) -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+	}
+
+	private CertificateCredentialDetails certificateDetails(String versionId) {
+		return new CertificateCredentialDetails(versionId, NAME, CredentialType.CERTIFICATE, false,
+				new CertificateCredential("cert", "authority", "key"));
+	}
+
 }
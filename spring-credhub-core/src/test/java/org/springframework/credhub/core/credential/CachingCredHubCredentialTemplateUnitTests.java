@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.credential;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.credhub.core.CredHubException;
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialType;
+import org.springframework.credhub.support.SimpleCredentialName;
+import org.springframework.credhub.support.value.ValueCredential;
+import org.springframework.credhub.support.value.ValueCredentialRequest;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingCredHubCredentialTemplateUnitTests {
+
+	private static final SimpleCredentialName NAME = new SimpleCredentialName("example", "credential");
+
+	private static final CredentialDetails<ValueCredential> DETAILS = new CredentialDetails<>("id", NAME,
+			CredentialType.VALUE, new ValueCredential("secret"));
+
+	@Mock
+	private CredHubCredentialOperations delegate;
+
+	@Mock
+	private Clock clock;
+
+	private CachingCredHubCredentialTemplate template;
+
+	@BeforeEach
+	public void setUp() {
+		this.template = new CachingCredHubCredentialTemplate(this.delegate, Duration.ofMinutes(1), this.clock);
+	}
+
+	@Test
+	public void getByNameIsCached() {
+		given(this.clock.millis()).willReturn(0L, 1000L);
+		given(this.delegate.getByName(NAME, ValueCredential.class)).willReturn(DETAILS);
+
+		assertThat(this.template.getByName(NAME, ValueCredential.class)).isEqualTo(DETAILS);
+		assertThat(this.template.getByName(new SimpleCredentialName("/example/credential"), ValueCredential.class))
+			.isEqualTo(DETAILS);
+
+		verify(this.delegate, times(1)).getByName(NAME, ValueCredential.class);
+	}
+
+	@Test
+	public void getByNameReloadsExpiredEntry() {
+		given(this.clock.millis()).willReturn(0L, 60_000L);
+		given(this.delegate.getByName(NAME, ValueCredential.class)).willReturn(DETAILS);
+
+		this.template.getByName(NAME, ValueCredential.class);
+		this.template.getByName(NAME, ValueCredential.class);
+
+		verify(this.delegate, times(2)).getByName(NAME, ValueCredential.class);
+	}
+
+	@Test
+	public void getByNameDoesNotCacheErrors() {
+		given(this.clock.millis()).willReturn(0L, 1000L);
+		given(this.delegate.getByName(NAME, ValueCredential.class))
+			.willThrow(new CredHubException(HttpStatus.NOT_FOUND))
+			.willReturn(DETAILS);
+
+		assertThatExceptionOfType(CredHubException.class)
+			.isThrownBy(() -> this.template.getByName(NAME, ValueCredential.class));
+		assertThat(this.template.getByName(NAME, ValueCredential.class)).isEqualTo(DETAILS);
+	}
+
+	@Test
+	public void getByNameIsCachedOffHeap() {
+		OffHeapSecretStore secretStore = new OffHeapSecretStore(OffHeapSecretStore.DEFAULT_SLAB_SIZE);
+		CachingCredHubCredentialTemplate template = new CachingCredHubCredentialTemplate(this.delegate,
+				Duration.ofMinutes(1), secretStore, this.clock);
+		given(this.clock.millis()).willReturn(0L, 1000L);
+		given(this.delegate.getByName(NAME, ValueCredential.class)).willReturn(DETAILS);
+
+		assertThat(template.getByName(NAME, ValueCredential.class)).isEqualTo(DETAILS);
+		assertThat(secretStore.size()).isEqualTo(1);
+
+		CredentialDetails<ValueCredential> cached = template.getByName(NAME, ValueCredential.class);
+		assertThat(cached).isEqualTo(DETAILS).isNotSameAs(DETAILS);
+		assertThat(cached.getName().getName()).isEqualTo(NAME.getName());
+
+		template.evict(NAME);
+		assertThat(secretStore.size()).isZero();
+
+		verify(this.delegate, times(1)).getByName(NAME, ValueCredential.class);
+	}
+
+	@Test
+	public void deleteDuringGetByNameDoesNotStoreCredentialOffHeap() {
+		OffHeapSecretStore secretStore = new OffHeapSecretStore(OffHeapSecretStore.DEFAULT_SLAB_SIZE);
+		CachingCredHubCredentialTemplate template = new CachingCredHubCredentialTemplate(this.delegate,
+				Duration.ofMinutes(1), secretStore, this.clock);
+		given(this.clock.millis()).willReturn(0L);
+		given(this.delegate.getByName(NAME, ValueCredential.class)).willAnswer((invocation) -> {
+			template.deleteByName(NAME);
+			return DETAILS;
+		});
+
+		assertThat(template.getByName(NAME, ValueCredential.class)).isEqualTo(DETAILS);
+		assertThat(secretStore.size()).isZero();
+	}
+
+	@Test
+	public void boundedCacheReportsHotKeys() {
+		given(this.clock.millis()).willReturn(0L);
+		given(this.delegate.getByName(NAME, ValueCredential.class)).willReturn(DETAILS);
+		this.template.setMaximumSize(10);
+
+		for (int i = 0; i < 3; i++) {
+			this.template.getByName(NAME, ValueCredential.class);
+		}
+
+		assertThat(this.template.getHotKeys(5)).singleElement().satisfies((hotKey) -> {
+			assertThat(hotKey.getNameHash()).hasSize(16).doesNotContain("example");
+			assertThat(hotKey.getFrequency()).isEqualTo(3);
+		});
+		verify(this.delegate, times(1)).getByName(NAME, ValueCredential.class);
+	}
+
+	@Test
+	public void writeEvictsCachedEntry() {
+		given(this.clock.millis()).willReturn(0L, 1000L);
+		given(this.delegate.getByName(NAME, ValueCredential.class)).willReturn(DETAILS);
+		ValueCredentialRequest request = ValueCredentialRequest.builder()
+			.name(NAME)
+			.value(new ValueCredential("new-secret"))
+			.build();
+
+		this.template.getByName(NAME, ValueCredential.class);
+		this.template.write(request);
+		this.template.getByName(NAME, ValueCredential.class);
+
+		verify(this.delegate).write(request);
+		verify(this.delegate, times(2)).getByName(NAME, ValueCredential.class);
+	}
+
+	@Test
+	public void deleteEvictsCachedEntry() {
+		given(this.clock.millis()).willReturn(0L, 1000L);
+		given(this.delegate.getByName(NAME, ValueCredential.class)).willReturn(DETAILS);
+
+		this.template.getByName(NAME, ValueCredential.class);
+		this.template.deleteByName(NAME);
+		this.template.getByName(NAME, ValueCredential.class);
+
+		verify(this.delegate).deleteByName(NAME);
+		verify(this.delegate, times(2)).getByName(NAME, ValueCredential.class);
+	}
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.credential;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialSummary;
+import org.springframework.credhub.support.CredentialType;
+import org.springframework.credhub.support.SimpleCredentialName;
+import org.springframework.credhub.support.utils.JsonUtils;
+import org.springframework.credhub.support.value.ValueCredential;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class CredHubCredentialWatcherUnitTests {
+
+	private static final String PATH = "/app";
+
+	private static final SimpleCredentialName CHANGED_NAME = new SimpleCredentialName("/app/changed");
+
+	private static final SimpleCredentialName UNCHANGED_NAME = new SimpleCredentialName("/app/unchanged");
+
+	private static final SimpleCredentialName DELETED_NAME = new SimpleCredentialName("/app/deleted");
+
+	private final ObjectMapper objectMapper = JsonUtils.buildObjectMapper();
+
+	@Mock
+	private CredHubCredentialOperations credentialOperations;
+
+	@Mock
+	private ReactiveCredHubCredentialOperations reactiveCredentialOperations;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Test
+	public void pollPublishesEventsForChangedCredentials() throws JsonProcessingException {
+		given(this.credentialOperations.findByPath(PATH)).willReturn(initialSummaries()).willReturn(changedSummaries());
+		CredentialDetails<Object> details = changedDetails();
+		given(this.credentialOperations.getByName(CHANGED_NAME, Object.class)).willReturn(details);
+
+		CredHubCredentialWatcher watcher = new CredHubCredentialWatcher(this.credentialOperations, this.eventPublisher);
+		watcher.setPaths(PATH);
+
+		assertThat(watcher.poll()).isEmpty();
+
+		List<CredentialChangedEvent> events = watcher.poll();
+		assertThat(events).hasSize(2);
+		assertThat(events.get(0).getName().getName()).isEqualTo(CHANGED_NAME.getName());
+		assertThat(events.get(0).getDetails()).isEqualTo(details);
+		assertThat(events.get(1).getName().getName()).isEqualTo(DELETED_NAME.getName());
+		assertThat(events.get(1).isDeleted()).isTrue();
+
+		verify(this.eventPublisher).publishEvent(events.get(0));
+		verify(this.eventPublisher).publishEvent(events.get(1));
+		verify(this.credentialOperations, never()).getByName(UNCHANGED_NAME, Object.class);
+	}
+
+	@Test
+	public void pollRetriesCredentialsThatCouldNotBeRetrieved() throws JsonProcessingException {
+		given(this.credentialOperations.findByName(CHANGED_NAME))
+			.willReturn(Collections.singletonList(summary(CHANGED_NAME.getName(), "2020-01-01T00:00:00Z")))
+			.willReturn(Collections.singletonList(summary(CHANGED_NAME.getName(), "2020-02-01T00:00:00Z")));
+		CredentialDetails<Object> details = changedDetails();
+		given(this.credentialOperations.getByName(CHANGED_NAME, Object.class))
+			.willThrow(new IllegalStateException("unavailable"))
+			.willReturn(details);
+
+		CredHubCredentialWatcher watcher = new CredHubCredentialWatcher(this.credentialOperations, this.eventPublisher);
+		watcher.setNames(CHANGED_NAME);
+
+		assertThat(watcher.poll()).isEmpty();
+		assertThat(watcher.poll()).isEmpty();
+		assertThat(watcher.poll()).extracting(CredentialChangedEvent::getDetails).containsExactly(details);
+	}
+
+	@Test
+	public void watchEmitsChangedCredentials() throws JsonProcessingException {
+		given(this.reactiveCredentialOperations.findByPath(PATH)).willReturn(Flux.fromIterable(initialSummaries()))
+			.willReturn(Flux.fromIterable(changedSummaries()));
+		CredentialDetails<Object> details = changedDetails();
+		given(this.reactiveCredentialOperations.getByName(CHANGED_NAME, Object.class)).willReturn(Mono.just(details));
+
+		ReactiveCredHubCredentialWatcher watcher = new ReactiveCredHubCredentialWatcher(
+				this.reactiveCredentialOperations);
+		watcher.setPaths(PATH);
+		watcher.setMinInterval(Duration.ofSeconds(10));
+		watcher.setMaxInterval(Duration.ofSeconds(10));
+
+		StepVerifier.withVirtualTime(watcher::watch)
+			.expectSubscription()
+			.thenAwait(Duration.ofSeconds(15))
+			.assertNext((event) -> assertThat(event.getDetails()).isEqualTo(details))
+			.assertNext((event) -> assertThat(event.isDeleted()).isTrue())
+			.thenCancel()
+			.verify();
+	}
+
+	@Test
+	public void pollIntervalAdaptsToChanges() {
+		AdaptivePollInterval interval = new AdaptivePollInterval(Duration.ofSeconds(10), Duration.ofSeconds(60));
+
+		interval.nextDelayMillis(false);
+		interval.nextDelayMillis(false);
+		assertThat(interval.getCurrentIntervalMillis()).isEqualTo(40_000);
+
+		assertThat(interval.nextDelayMillis(false)).isBetween(48_000L, 72_000L);
+		assertThat(interval.getCurrentIntervalMillis()).isEqualTo(60_000);
+
+		assertThat(interval.nextDelayMillis(true)).isBetween(8_000L, 12_000L);
+		assertThat(interval.getCurrentIntervalMillis()).isEqualTo(10_000);
+	}
+
+	private List<CredentialSummary> initialSummaries() throws JsonProcessingException {
+		return List.of(summary(CHANGED_NAME.getName(), "2020-01-01T00:00:00Z"),
+				summary(UNCHANGED_NAME.getName(), "2020-01-01T00:00:00Z"),
+				summary(DELETED_NAME.getName(), "2020-01-01T00:00:00Z"));
+	}
+
+	private List<CredentialSummary> changedSummaries() throws JsonProcessingException {
+		return List.of(summary(CHANGED_NAME.getName(), "2020-02-01T00:00:00Z"),
+				summary(UNCHANGED_NAME.getName(), "2020-01-01T00:00:00Z"));
+	}
+
+	private CredentialSummary summary(String name, String versionCreatedAt) throws JsonProcessingException {
+		return this.objectMapper.readValue(
+				"{\"name\":\"" + name + "\",\"version_created_at\":\"" + versionCreatedAt + "\"}",
+				CredentialSummary.class);
+	}
+
+	private static CredentialDetails<Object> changedDetails() {
+		return new CredentialDetails<>("id", CHANGED_NAME, CredentialType.VALUE, new ValueCredential("new-value"));
+	}
+
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.credential;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.credhub.core.credential.CredentialSnapshotStore.Snapshot;
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialType;
+import org.springframework.credhub.support.SimpleCredentialName;
+import org.springframework.credhub.support.password.PasswordCredential;
+import org.springframework.credhub.support.user.UserCredential;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+public class CredentialSnapshotStoreUnitTests {
+
+	private static final SimpleCredentialName PASSWORD_NAME = new SimpleCredentialName("/app/password");
+
+	private static final SimpleCredentialName USER_NAME = new SimpleCredentialName("/app/user");
+
+	private static final SecretKey KEY = new SecretKeySpec(new byte[32], "AES");
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void snapshotsAreIndexedByNameAndId() throws IOException {
+		try (CredentialSnapshotStore store = new CredentialSnapshotStore(this.directory.resolve("snapshot"), KEY)) {
+			store.put(password("1", "secret"));
+			store.put(new CredentialDetails<>("2", USER_NAME, CredentialType.USER, new UserCredential("user", "pass")));
+			store.put(password("3", "new-secret"));
+
+			assertThat(store.getByName(PASSWORD_NAME).getDetails()).isEqualTo(password("3", "new-secret"));
+			assertThat(store.getById("1").getDetails()).isEqualTo(password("1", "secret"));
+			assertThat(store.getByName(USER_NAME).getDetails().getValue()).isInstanceOf(UserCredential.class)
+				.extracting("username", "password")
+				.containsExactly("user", "pass");
+			assertThat(store.getByName(new SimpleCredentialName("/app/missing"))).isNull();
+		}
+	}
+
+	@Test
+	public void snapshotsArePersisted() throws IOException {
+		Path file = this.directory.resolve("snapshot");
+
+		try (CredentialSnapshotStore store = new CredentialSnapshotStore(file, KEY)) {
+			store.put(password("1", "secret"));
+			store.put(new CredentialDetails<>("2", USER_NAME, CredentialType.USER, new UserCredential("user", "pass")));
+			store.remove(USER_NAME);
+		}
+
+		try (CredentialSnapshotStore store = new CredentialSnapshotStore(file, KEY)) {
+			Snapshot snapshot = store.getByName(PASSWORD_NAME);
+			assertThat(snapshot.getDetails()).isEqualTo(password("1", "secret"));
+			assertThat(snapshot.getStoredAt()).isNotNull();
+			assertThat(store.getByName(USER_NAME)).isNull();
+			assertThat(store.getById("2")).isNull();
+
+			store.put(password("3", "new-secret"));
+		}
+
+		try (CredentialSnapshotStore store = new CredentialSnapshotStore(file, KEY)) {
+			assertThat(store.getByName(PASSWORD_NAME).getDetails()).isEqualTo(password("3", "new-secret"));
+		}
+	}
+
+	@Test
+	public void storeWithAnotherKeyFailsToOpenWithoutModifyingFile() throws IOException {
+		Path file = this.directory.resolve("snapshot");
+
+		try (CredentialSnapshotStore store = new CredentialSnapshotStore(file, KEY)) {
+			store.put(password("1", "secret"));
+		}
+
+		byte[] otherKey = new byte[32];
+		otherKey[0] = 1;
+		assertThatIllegalStateException()
+			.isThrownBy(() -> new CredentialSnapshotStore(file, new SecretKeySpec(otherKey, "AES")));
+
+		try (CredentialSnapshotStore store = new CredentialSnapshotStore(file, KEY)) {
+			assertThat(store.getByName(PASSWORD_NAME).getDetails()).isEqualTo(password("1", "secret"));
+		}
+	}
+
+	@Test
+	public void storeWithUnreadableRecordIsOpenedReadOnly() throws IOException {
+		Path file = this.directory.resolve("snapshot");
+
+		try (CredentialSnapshotStore store = new CredentialSnapshotStore(file, KEY)) {
+			store.put(password("1", "secret"));
+			store.put(new CredentialDetails<>("2", USER_NAME, CredentialType.USER, new UserCredential("user", "pass")));
+		}
+
+		int secondRecord;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+			channel.read(length, 0);
+			secondRecord = Integer.BYTES + length.flip().getInt();
+			// corrupt the authentication tag at the end of the second record
+			length.clear();
+			channel.read(length, secondRecord);
+			int tag = secondRecord + Integer.BYTES + length.flip().getInt() - 1;
+			ByteBuffer value = ByteBuffer.allocate(1);
+			channel.read(value, tag);
+			channel.write(ByteBuffer.wrap(new byte[] { (byte) (value.get(0) ^ 1) }), tag);
+		}
+
+		try (CredentialSnapshotStore store = new CredentialSnapshotStore(file, KEY)) {
+			assertThat(store.isReadOnly()).isTrue();
+			assertThat(store.getByName(PASSWORD_NAME).getDetails()).isEqualTo(password("1", "secret"));
+			assertThat(store.getByName(USER_NAME)).isNull();
+
+			store.put(password("3", "new-secret"));
+			assertThat(store.getByName(PASSWORD_NAME).getDetails()).isEqualTo(password("1", "secret"));
+		}
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+			channel.read(length, secondRecord);
+			assertThat(length.flip().getInt()).isPositive();
+		}
+	}
+
+	@Test
+	public void recordWithInvalidLengthEndsTheFile() throws IOException {
+		Path file = this.directory.resolve("snapshot");
+
+		try (CredentialSnapshotStore store = new CredentialSnapshotStore(file, KEY)) {
+			store.put(password("1", "secret"));
+		}
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+			channel.read(length, 0);
+			int secondRecord = Integer.BYTES + length.flip().getInt();
+			channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, 5), secondRecord);
+		}
+
+		try (CredentialSnapshotStore store = new CredentialSnapshotStore(file, KEY)) {
+			assertThat(store.isReadOnly()).isFalse();
+			assertThat(store.getByName(PASSWORD_NAME).getDetails()).isEqualTo(password("1", "secret"));
+
+			store.put(password("2", "new-secret"));
+			assertThat(store.getByName(PASSWORD_NAME).getDetails()).isEqualTo(password("2", "new-secret"));
+		}
+	}
+
+	@Test
+	public void storeGrowsBeyondInitialCapacity() throws IOException {
+		String value = "x".repeat(1024);
+		try (CredentialSnapshotStore store = new CredentialSnapshotStore(this.directory.resolve("snapshot"), KEY)) {
+			for (int i = 0; i < 200; i++) {
+				store.put(password(new SimpleCredentialName("app", "password" + i), String.valueOf(i), value + i));
+			}
+
+			assertThat(store.getById("0").getDetails())
+				.isEqualTo(password(new SimpleCredentialName("app", "password0"), "0", value + 0));
+			assertThat(store.getById("199").getDetails())
+				.isEqualTo(password(new SimpleCredentialName("app", "password199"), "199", value + 199));
+		}
+	}
+
+	@Test
+	public void unchangedSnapshotIsNotWrittenAgain() throws IOException {
+		Path file = this.directory.resolve("snapshot");
+		MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+		try (CredentialSnapshotStore store = new CredentialSnapshotStore(file, KEY, Duration.ofHours(1), clock)) {
+			store.put(password("1", "secret"));
+			store.flush();
+			byte[] written = Files.readAllBytes(file);
+
+			clock.advance(Duration.ofMinutes(30));
+			store.put(password("1", "secret"));
+			store.flush();
+
+			assertThat(Files.readAllBytes(file)).isEqualTo(written);
+			assertThat(store.getByName(PASSWORD_NAME).getStoredAt()).isEqualTo(clock.instant());
+
+			clock.advance(Duration.ofMinutes(30));
+			store.put(password("1", "secret"));
+			store.flush();
+
+			assertThat(Files.readAllBytes(file)).isNotEqualTo(written);
+		}
+
+		try (CredentialSnapshotStore store = new CredentialSnapshotStore(file, KEY)) {
+			assertThat(store.getByName(PASSWORD_NAME).getStoredAt()).isEqualTo(clock.instant());
+		}
+	}
+
+	@Test
+	public void replacedSnapshotsAreCompacted() throws IOException {
+		Path file = this.directory.resolve("snapshot");
+		String value = "x".repeat(1024);
+		try (CredentialSnapshotStore store = new CredentialSnapshotStore(file, KEY)) {
+			for (int i = 0; i < 200; i++) {
+				store.put(password(String.valueOf(i), value + i));
+			}
+			store.put(new CredentialDetails<>("2", USER_NAME, CredentialType.USER, new UserCredential("user", "pass")));
+			store.remove(USER_NAME);
+
+			assertThat(Files.size(file)).isLessThan(200L * value.length());
+			assertThat(store.getByName(PASSWORD_NAME).getDetails()).isEqualTo(password("199", value + 199));
+			assertThat(store.getById("0")).isNull();
+		}
+
+		try (CredentialSnapshotStore store = new CredentialSnapshotStore(file, KEY)) {
+			assertThat(store.getByName(PASSWORD_NAME).getDetails()).isEqualTo(password("199", value + 199));
+			assertThat(store.getById("199").getDetails()).isEqualTo(password("199", value + 199));
+			assertThat(store.getByName(USER_NAME)).isNull();
+		}
+	}
+
+	private static CredentialDetails<PasswordCredential> password(String id, String value) {
+		return password(PASSWORD_NAME, id, value);
+	}
+
+	private static CredentialDetails<PasswordCredential> password(SimpleCredentialName name, String id, String value) {
+		return new CredentialDetails<>(id, name, CredentialType.PASSWORD, new PasswordCredential(value));
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant;
+
+		private MutableClock(Instant instant) {
+			this.instant = instant;
+		}
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.credential;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OffHeapSecretStoreUnitTests {
+
+	@Test
+	public void payloadsAreStoredOffHeap() {
+		OffHeapSecretStore store = new OffHeapSecretStore(1024, 1024);
+
+		assertThat(store.put("key", bytes("secret"))).isTrue();
+
+		assertThat(store.getChars("key")).containsExactly('s', 'e', 'c', 'r', 'e', 't');
+		assertThat(store.read("key", ByteBuffer::isDirect)).isTrue();
+		assertThat(store.read("key", ByteBuffer::isReadOnly)).isTrue();
+		assertThat(store.read("key", ByteBuffer::remaining)).isEqualTo(6);
+		assertThat(store.getChars("missing")).isNull();
+		assertThat(store.getUsedBytes()).isEqualTo(64);
+		assertThat(store.getAllocatedBytes()).isEqualTo(1024);
+	}
+
+	@Test
+	public void removedPayloadsAreZeroed() {
+		OffHeapSecretStore store = new OffHeapSecretStore(1024, 1024);
+		store.put("key", bytes("secret"));
+		ByteBuffer[] view = new ByteBuffer[1];
+		store.read("key", (buffer) -> view[0] = buffer.duplicate());
+
+		assertThat(store.remove("key")).isTrue();
+
+		byte[] contents = new byte[6];
+		view[0].get(contents);
+		assertThat(contents).containsOnly(0);
+		assertThat(store.size()).isZero();
+		assertThat(store.getUsedBytes()).isZero();
+	}
+
+	@Test
+	public void leastRecentlyUsedPayloadsAreEvictedWhenFull() {
+		OffHeapSecretStore store = new OffHeapSecretStore(128, 128);
+		store.put("first", bytes("one"));
+		store.put("second", bytes("two"));
+		store.getChars("first");
+
+		assertThat(store.put("third", bytes("three"))).isTrue();
+
+		assertThat(store.getChars("first")).isNotNull();
+		assertThat(store.getChars("second")).isNull();
+		assertThat(store.getChars("third")).isNotNull();
+		assertThat(store.getAllocatedBytes()).isEqualTo(128);
+	}
+
+	@Test
+	public void emptySlabsAreReusedForOtherSizeClasses() {
+		OffHeapSecretStore store = new OffHeapSecretStore(128, 128);
+		store.put("first", bytes("one"));
+		store.put("second", bytes("two"));
+
+		assertThat(store.put("large", new byte[100])).isTrue();
+
+		assertThat(store.getChars("first")).isNull();
+		assertThat(store.getChars("second")).isNull();
+		assertThat(store.read("large", ByteBuffer::remaining)).isEqualTo(100);
+		assertThat(store.getUsedBytes()).isEqualTo(128);
+
+		assertThat(store.put("small", bytes("four"))).isTrue();
+
+		assertThat(store.getChars("large")).isNull();
+		assertThat(store.getChars("small")).containsExactly('f', 'o', 'u', 'r');
+		assertThat(store.getUsedBytes()).isEqualTo(64);
+		assertThat(store.getAllocatedBytes()).isEqualTo(128);
+	}
+
+	@Test
+	public void payloadsLargerThanSlabAreRejected() {
+		OffHeapSecretStore store = new OffHeapSecretStore(128, 64);
+
+		assertThat(store.put("key", new byte[65])).isFalse();
+		assertThat(store.size()).isZero();
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.credential;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.credhub.core.CredHubException;
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialType;
+import org.springframework.credhub.support.SimpleCredentialName;
+import org.springframework.credhub.support.password.PasswordCredential;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class SnapshotCredHubCredentialTemplateUnitTests {
+
+	private static final SimpleCredentialName NAME = new SimpleCredentialName("/app/password");
+
+	private static final Instant STORED_AT = Instant.parse("2020-01-01T00:00:00Z");
+
+	@Mock
+	private CredHubCredentialOperations delegate;
+
+	@TempDir
+	Path directory;
+
+	private CredentialSnapshotStore store;
+
+	private final List<Runnable> revalidations = new ArrayList<>();
+
+	@BeforeEach
+	public void setUp() {
+		this.store = new CredentialSnapshotStore(this.directory.resolve("snapshot"),
+				new SecretKeySpec(new byte[16], "AES"), CredentialSnapshotStore.DEFAULT_REFRESH_INTERVAL,
+				Clock.fixed(STORED_AT, ZoneOffset.UTC));
+	}
+
+	@AfterEach
+	public void tearDown() throws IOException {
+		this.store.close();
+	}
+
+	@Test
+	public void snapshotIsServedOnStartupAndRevalidated() {
+		this.store.put(password("1", "secret"));
+		given(this.delegate.getByName(NAME, PasswordCredential.class)).willReturn(password("2", "new-secret"));
+
+		CredHubCredentialOperations credentials = template(Duration.ofMinutes(10));
+
+		assertThat(credentials.getByName(NAME, PasswordCredential.class)).isEqualTo(password("1", "secret"));
+		verifyNoInteractions(this.delegate);
+
+		this.revalidations.forEach(Runnable::run);
+		assertThat(this.store.getByName(NAME).getDetails()).isEqualTo(password("2", "new-secret"));
+
+		assertThat(credentials.getByName(NAME, PasswordCredential.class)).isEqualTo(password("2", "new-secret"));
+	}
+
+	@Test
+	public void snapshotIsServedOnServerError() {
+		given(this.delegate.getByName(NAME, PasswordCredential.class)).willReturn(password("1", "secret"))
+			.willThrow(new CredHubException(HttpStatus.SERVICE_UNAVAILABLE));
+
+		CredHubCredentialOperations credentials = template(Duration.ofMinutes(10));
+
+		assertThat(credentials.getByName(NAME, PasswordCredential.class)).isEqualTo(password("1", "secret"));
+		assertThat(credentials.getByName(NAME, PasswordCredential.class)).isEqualTo(password("1", "secret"));
+		assertThat(this.revalidations).isEmpty();
+	}
+
+	@Test
+	public void snapshotIsNotServedOnClientError() {
+		given(this.delegate.getByName(NAME, PasswordCredential.class)).willReturn(password("1", "secret"))
+			.willThrow(new CredHubException(HttpStatus.NOT_FOUND));
+
+		CredHubCredentialOperations credentials = template(Duration.ofMinutes(10));
+		credentials.getByName(NAME, PasswordCredential.class);
+
+		assertThatExceptionOfType(CredHubException.class)
+			.isThrownBy(() -> credentials.getByName(NAME, PasswordCredential.class));
+	}
+
+	@Test
+	public void staleSnapshotIsNotServed() {
+		this.store.put(password("1", "secret"));
+		given(this.delegate.getByName(NAME, PasswordCredential.class))
+			.willThrow(new CredHubException(HttpStatus.SERVICE_UNAVAILABLE));
+
+		CredHubCredentialOperations credentials = template(Duration.ofMinutes(1));
+
+		assertThatExceptionOfType(CredHubException.class)
+			.isThrownBy(() -> credentials.getByName(NAME, PasswordCredential.class));
+		assertThat(this.revalidations).isEmpty();
+	}
+
+	private CredHubCredentialOperations template(Duration maxStaleness) {
+		return new SnapshotCredHubCredentialTemplate(this.delegate, this.store, maxStaleness, this.revalidations::add,
+				Clock.fixed(STORED_AT.plus(Duration.ofMinutes(5)), ZoneOffset.UTC));
+	}
+
+	private static CredentialDetails<PasswordCredential> password(String id, String value) {
+		return new CredentialDetails<>(id, NAME, CredentialType.PASSWORD, new PasswordCredential(value));
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.credential;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TinyLfuPolicyUnitTests {
+
+	@Test
+	public void frequentKeysSurviveScans() {
+		TinyLfuPolicy policy = new TinyLfuPolicy(100);
+		List<String> evicted = new ArrayList<>();
+
+		for (int round = 0; round < 5; round++) {
+			for (int i = 0; i < 50; i++) {
+				String key = "/hot/" + i;
+				evicted.addAll(policy.recordInsert(key));
+				policy.recordAccess(key);
+			}
+		}
+
+		for (int i = 0; i < 1000; i++) {
+			evicted.addAll(policy.recordInsert("/scan/" + i));
+		}
+
+		assertThat(evicted).noneMatch((key) -> key.startsWith("/hot/"));
+		assertThat(evicted).hasSizeGreaterThan(900);
+	}
+
+	@Test
+	public void hottestKeysAreReportedByFrequency() {
+		TinyLfuPolicy policy = new TinyLfuPolicy(10);
+		policy.recordInsert("/one");
+		policy.recordInsert("/two");
+		policy.recordInsert("/three");
+		for (int i = 0; i < 3; i++) {
+			policy.recordAccess("/two");
+		}
+		policy.recordAccess("/three");
+
+		assertThat(policy.hottest(2)).extracting(Map.Entry::getKey).containsExactly("/two", "/three");
+	}
+
+	@Test
+	public void sketchEstimatesFrequency() {
+		FrequencySketch sketch = new FrequencySketch(100);
+		for (int i = 0; i < 5; i++) {
+			sketch.increment("/frequent");
+		}
+		sketch.increment("/rare");
+
+		assertThat(sketch.frequency("/frequent")).isEqualTo(5);
+		assertThat(sketch.frequency("/rare")).isEqualTo(1);
+		assertThat(sketch.frequency("/missing")).isZero();
+	}
+
+	@Test
+	public void sketchAgesCounters() {
+		FrequencySketch sketch = new FrequencySketch(8);
+		for (int i = 0; i < 8; i++) {
+			sketch.increment("/frequent");
+		}
+		for (int i = 0; i < 100; i++) {
+			sketch.increment("/other/" + i);
+		}
+
+		assertThat(sketch.frequency("/frequent")).isLessThan(8);
+	}
+
+}
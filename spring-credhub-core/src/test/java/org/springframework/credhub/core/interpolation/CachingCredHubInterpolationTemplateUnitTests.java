@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.core.interpolation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.credhub.core.CredHubException;
+import org.springframework.credhub.core.CredHubTemplate;
+import org.springframework.credhub.core.credential.CredHubCredentialOperations;
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialType;
+import org.springframework.credhub.support.ServicesData;
+import org.springframework.credhub.support.SimpleCredentialName;
+import org.springframework.credhub.support.json.JsonCredential;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingCredHubInterpolationTemplateUnitTests {
+
+	private static final String CREDENTIAL_NAME = "/c/service-broker/service-offering/1111/credentials";
+
+	@Mock
+	private RestTemplate restTemplate;
+
+	@Mock
+	private CredHubCredentialOperations credentialOperations;
+
+	private CredHubInterpolationOperations interpolation;
+
+	@BeforeEach
+	public void setUp() {
+		this.interpolation = new CachingCredHubInterpolationTemplate(new CredHubTemplate(this.restTemplate),
+				this.credentialOperations, Runnable::run);
+	}
+
+	@Test
+	public void interpolateServiceDataOnClient() {
+		JsonCredential credential = new JsonCredential();
+		credential.put("username", "user");
+		credential.put("password", "secret");
+		given(this.credentialOperations.getByName(new SimpleCredentialName(CREDENTIAL_NAME), JsonCredential.class))
+			.willReturn(new CredentialDetails<>("id", new SimpleCredentialName(CREDENTIAL_NAME), CredentialType.JSON,
+					credential));
+
+		ServicesData vcapServices = new ServicesData();
+		vcapServices.put("service-offering", Arrays.asList(binding("service-instance-1", reference(CREDENTIAL_NAME)),
+				binding("service-instance-2", reference(CREDENTIAL_NAME))));
+		vcapServices.put("plain-service",
+				Collections.singletonList(binding("plain-instance", Collections.singletonMap("uri", "plain"))));
+
+		ServicesData response = this.interpolation.interpolateServiceData(vcapServices);
+
+		assertThat(response.get("service-offering")).containsExactly(binding("service-instance-1", credential),
+				binding("service-instance-2", credential));
+		assertThat(response.get("plain-service")).isEqualTo(vcapServices.get("plain-service"));
+
+		verify(this.credentialOperations, times(1)).getByName(new SimpleCredentialName(CREDENTIAL_NAME),
+				JsonCredential.class);
+		verifyNoInteractions(this.restTemplate);
+	}
+
+	@Test
+	public void interpolateServiceDataFallsBackToServerForNonJsonCredential() {
+		given(this.credentialOperations.getByName(new SimpleCredentialName(CREDENTIAL_NAME), JsonCredential.class))
+			.willReturn(new CredentialDetails<>("id", new SimpleCredentialName(CREDENTIAL_NAME),
+					CredentialType.PASSWORD, null));
+
+		ServicesData vcapServices = new ServicesData();
+		vcapServices.put("service-offering",
+				Collections.singletonList(binding("service-instance", reference(CREDENTIAL_NAME))));
+		ServicesData expectedResponse = new ServicesData();
+
+		given(this.restTemplate.exchange(CredHubInterpolationTemplate.INTERPOLATE_URL_PATH, HttpMethod.POST,
+				new HttpEntity<>(vcapServices), ServicesData.class))
+			.willReturn(new ResponseEntity<>(expectedResponse, HttpStatus.OK));
+
+		assertThat(this.interpolation.interpolateServiceData(vcapServices)).isSameAs(expectedResponse);
+	}
+
+	@Test
+	public void interpolateServiceDataFallsBackToServerForMissingCredential() {
+		given(this.credentialOperations.getByName(new SimpleCredentialName(CREDENTIAL_NAME), JsonCredential.class))
+			.willThrow(new CredHubException(HttpStatus.NOT_FOUND));
+
+		ServicesData vcapServices = new ServicesData();
+		vcapServices.put("service-offering",
+				Collections.singletonList(binding("service-instance", reference(CREDENTIAL_NAME))));
+		ServicesData expectedResponse = new ServicesData();
+
+		given(this.restTemplate.exchange(CredHubInterpolationTemplate.INTERPOLATE_URL_PATH, HttpMethod.POST,
+				new HttpEntity<>(vcapServices), ServicesData.class))
+			.willReturn(new ResponseEntity<>(expectedResponse, HttpStatus.OK));
+
+		assertThat(this.interpolation.interpolateServiceData(vcapServices)).isSameAs(expectedResponse);
+	}
+
+	private static Map<String, Object> reference(String name) {
+		return Collections.singletonMap("credhub-ref", "((" + name + "))");
+	}
+
+	private static Map<String, Object> binding(String name, Map<String, Object> credentials) {
+		Map<String, Object> binding = new HashMap<>();
+		binding.put("name", name);
+		binding.put("label", "service-offering");
+		binding.put("credentials", credentials);
+		return binding;
+	}
+
+}
@@ -17,6 +17,13 @@
 package org.springframework.credhub.core.interpolation;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,7 +45,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.STRICT_STUBS)
@@ -76,8 +88,125 @@ public class CredHubInterpolationTemplateUnitTests {
 		assertThat(response).isEqualTo(expectedResponse);
 	}
 
-	private ServicesData buildVcapServices(String credHubReferenceName) throws IOException {
+	@Test
+	public void interpolateServiceDataString() {
+		String vcapServices = buildVcapServicesJson("/c/service-broker/service-offering/1111/credentials");
+		String expectedResponse = """
+				{"service-offering":[{"credentials":{"password":"secret"}}]}
+				""";
+
+		given(this.restTemplate.exchange(CredHubInterpolationTemplate.INTERPOLATE_URL_PATH, HttpMethod.POST,
+				new HttpEntity<>(vcapServices.getBytes(StandardCharsets.UTF_8)), byte[].class))
+			.willReturn(new ResponseEntity<>(expectedResponse.getBytes(StandardCharsets.UTF_8), HttpStatus.OK));
+
+		String response = this.credHubTemplate.interpolateServiceData(vcapServices);
+
+		assertThat(response).isEqualTo(expectedResponse);
+	}
+
+	@Test
+	public void interpolateServiceDataBytes() {
+		byte[] vcapServices = buildVcapServicesJson("/c/service-broker/service-offering/1111/credentials")
+			.getBytes(StandardCharsets.UTF_8);
+		byte[] expectedResponse = """
+				{"service-offering":[{"credentials":{"password":"secret"}}]}
+				""".getBytes(StandardCharsets.UTF_8);
+
+		given(this.restTemplate.exchange(CredHubInterpolationTemplate.INTERPOLATE_URL_PATH, HttpMethod.POST,
+				new HttpEntity<>(vcapServices), byte[].class))
+			.willReturn(new ResponseEntity<>(expectedResponse, HttpStatus.OK));
+
+		byte[] response = this.credHubTemplate.interpolateServiceData(vcapServices);
+
+		assertThat(response).isEqualTo(expectedResponse);
+	}
+
+	@Test
+	public void interpolateServiceDataStringWithoutReferences() {
 		String vcapServices = """
+				{
+					"service-offering": [{
+						"credentials": {
+							"password": "secret"
+						},
+						"label": "service-offering",
+						"tags": [ "cloud-service" ]
+					}]
+				}
+				""";
+
+		String response = this.credHubTemplate.interpolateServiceData(vcapServices);
+
+		assertThat(response).isEqualTo(vcapServices);
+		verifyNoInteractions(this.restTemplate);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void interpolateServiceDataInChunks() {
+		ServicesData vcapServices = new ServicesData();
+		vcapServices.put("service-a", new ArrayList<>(Arrays.asList(bindingWithReference("/a/1"),
+				bindingWithPassword("plain"), bindingWithReference("/a/2"))));
+		vcapServices.put("service-b", new ArrayList<>(Collections.singletonList(bindingWithReference("/b/1"))));
+		vcapServices.put("service-c", new ArrayList<>(Collections.singletonList(bindingWithPassword("other"))));
+
+		given(this.restTemplate.exchange(eq(CredHubInterpolationTemplate.INTERPOLATE_URL_PATH), eq(HttpMethod.POST),
+				any(HttpEntity.class), eq(ServicesData.class)))
+			.willAnswer((invocation) -> {
+				ServicesData chunk = (ServicesData) invocation.getArgument(2, HttpEntity.class).getBody();
+				ServicesData interpolated = new ServicesData();
+				chunk.forEach((label, bindings) -> {
+					List<Map<String, Object>> resolved = new ArrayList<>();
+					for (Map<String, Object> binding : bindings) {
+						Map<String, Object> credentials = (Map<String, Object>) binding.get("credentials");
+						resolved.add(bindingWithPassword("resolved:" + credentials.get("credhub-ref")));
+					}
+					interpolated.put(label, resolved);
+				});
+				return new ResponseEntity<>(interpolated, HttpStatus.OK);
+			});
+
+		ServicesData response = this.credHubTemplate.interpolateServiceData(vcapServices, 2, Runnable::run);
+
+		assertThat(response.get("service-a")).containsExactly(bindingWithPassword("resolved:((/a/1))"),
+				bindingWithPassword("plain"), bindingWithPassword("resolved:((/a/2))"));
+		assertThat(response.get("service-b")).containsExactly(bindingWithPassword("resolved:((/b/1))"));
+		assertThat(response.get("service-c")).containsExactly(bindingWithPassword("other"));
+
+		verify(this.restTemplate, times(2)).exchange(eq(CredHubInterpolationTemplate.INTERPOLATE_URL_PATH),
+				eq(HttpMethod.POST), any(HttpEntity.class), eq(ServicesData.class));
+	}
+
+	@Test
+	public void interpolateServiceDataInChunksWithoutReferences() {
+		ServicesData vcapServices = new ServicesData();
+		vcapServices.put("service-a", Collections.singletonList(bindingWithPassword("plain")));
+
+		ServicesData response = this.credHubTemplate.interpolateServiceData(vcapServices, 10, Runnable::run);
+
+		assertThat(response).isEqualTo(vcapServices);
+		verifyNoInteractions(this.restTemplate);
+	}
+
+	private Map<String, Object> bindingWithReference(String credHubReferenceName) {
+		Map<String, Object> binding = new HashMap<>();
+		binding.put("credentials", Collections.singletonMap("credhub-ref", "((" + credHubReferenceName + "))"));
+		return binding;
+	}
+
+	private Map<String, Object> bindingWithPassword(String password) {
+		Map<String, Object> binding = new HashMap<>();
+		binding.put("credentials", Collections.singletonMap("password", password));
+		return binding;
+	}
+
+	private ServicesData buildVcapServices(String credHubReferenceName) throws IOException {
+		ObjectMapper mapper = JsonUtils.buildObjectMapper();
+		return mapper.readValue(buildVcapServicesJson(credHubReferenceName), ServicesData.class);
+	}
+
+	private String buildVcapServicesJson(String credHubReferenceName) {
+		return """
 				{
 					"service-offering": [{
 						"credentials": {
@@ -91,9 +220,6 @@ public class CredHubInterpolationTemplateUnitTests {
 					}]
 				}
 				""".formatted(credHubReferenceName);
-
-		ObjectMapper mapper = JsonUtils.buildObjectMapper();
-		return mapper.readValue(vcapServices, ServicesData.class);
 	}
 
 }
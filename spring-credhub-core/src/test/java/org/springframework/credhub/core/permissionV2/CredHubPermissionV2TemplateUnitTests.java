@@ -16,6 +16,8 @@
 
 package org.springframework.credhub.core.permissionV2;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,6 +35,8 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -147,4 +151,59 @@ public class CredHubPermissionV2TemplateUnitTests {
 		verify(this.restTemplate).delete(CredHubPermissionV2Template.PERMISSIONS_ID_URL_PATH, "uuid");
 	}
 
+	@Test
+	public void addPermissionsInBulk() {
+		Permission permission = Permission.builder().app("app-id").operation(Operation.READ).build();
+		SimpleCredentialName existingPath = new SimpleCredentialName("example", "existing");
+		SimpleCredentialName failingPath = new SimpleCredentialName("example", "failing");
+
+		CredentialPermission expectedResponse = new CredentialPermission(PATH, permission);
+
+		given(this.restTemplate.exchange(CredHubPermissionV2Template.PERMISSIONS_URL_PATH, HttpMethod.POST,
+				new HttpEntity<>(expectedResponse), CredentialPermission.class))
+			.willReturn(new ResponseEntity<>(expectedResponse, HttpStatus.OK));
+		given(this.restTemplate.exchange(CredHubPermissionV2Template.PERMISSIONS_URL_PATH, HttpMethod.POST,
+				new HttpEntity<>(new CredentialPermission(existingPath, permission)), CredentialPermission.class))
+			.willThrow(HttpClientErrorException.create(HttpStatus.CONFLICT, "Conflict", null, null, null));
+		given(this.restTemplate.exchange(CredHubPermissionV2Template.PERMISSIONS_URL_PATH, HttpMethod.POST,
+				new HttpEntity<>(new CredentialPermission(failingPath, permission)), CredentialPermission.class))
+			.willThrow(HttpServerErrorException.create(HttpStatus.INTERNAL_SERVER_ERROR, "Error", null, null, null));
+
+		List<PathPermission> permissions = List.of(new PathPermission(PATH, permission),
+				new PathPermission(existingPath, permission), new PathPermission(failingPath, permission));
+
+		List<PermissionResult> results = this.credHubTemplate.addPermissions(permissions, Runnable::run, 2);
+
+		assertThat(results).extracting(PermissionResult::getPath).containsExactly(PATH, existingPath, failingPath);
+		assertThat(results).extracting(PermissionResult::isSuccessful).containsExactly(true, true, false);
+		assertThat(results).extracting(PermissionResult::isAlreadyApplied).containsExactly(false, true, false);
+		assertThat(results.get(0).getCredentialPermission()).isEqualTo(expectedResponse);
+		assertThat(results.get(2).getError()).isInstanceOf(HttpServerErrorException.class);
+	}
+
+	@Test
+	public void deletePermissionsInBulk() {
+		Permission permission = Permission.builder().app("app-id").operation(Operation.READ).build();
+		SimpleCredentialName missingPath = new SimpleCredentialName("example", "missing");
+		String actor = ActorType.APP + ":app-id";
+
+		CredentialPermission existing = new CredentialPermission(PATH, permission);
+
+		given(this.restTemplate.getForEntity(CredHubPermissionV2Template.PERMISSIONS_PATH_ACTOR_URL_QUERY,
+				CredentialPermission.class, PATH.getName(), actor))
+			.willReturn(new ResponseEntity<>(existing, HttpStatus.OK));
+		given(this.restTemplate.getForEntity(CredHubPermissionV2Template.PERMISSIONS_PATH_ACTOR_URL_QUERY,
+				CredentialPermission.class, missingPath.getName(), actor))
+			.willThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+		List<PathPermission> permissions = List.of(new PathPermission(PATH, permission),
+				new PathPermission(missingPath, permission));
+
+		List<PermissionResult> results = this.credHubTemplate.deletePermissions(permissions, Runnable::run, 2);
+
+		assertThat(results).extracting(PermissionResult::isSuccessful).containsExactly(true, true);
+		assertThat(results).extracting(PermissionResult::isAlreadyApplied).containsExactly(false, true);
+		verify(this.restTemplate).delete(CredHubPermissionV2Template.PERMISSIONS_ID_URL_PATH, (Object) null);
+	}
+
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.support;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.credhub.support.ssh.SshCredential;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KeyPairFingerprintIndexUnitTests {
+
+	private static final String FINGERPRINT = "2DOIrjN314GpRdxYwkT0T+Kno8aTU6IpjCWxyPR6c/s";
+
+	@Test
+	public void findByFingerprint() {
+		CredentialDetails<SshCredential> key = details("/gateway/key", PemTestData.SSH_PUBLIC_KEY, FINGERPRINT);
+		CredentialDetails<SshCredential> duplicate = details("/gateway/duplicate", PemTestData.SSH_PUBLIC_KEY,
+				FINGERPRINT);
+		CredentialDetails<SshCredential> invalid = details("/gateway/invalid", "ssh-rsa invalid", "server-fingerprint");
+
+		KeyPairFingerprintIndex<SshCredential> index = KeyPairFingerprintIndex.of(List.of(key, duplicate, invalid));
+
+		assertThat(index.size()).isEqualTo(2);
+		assertThat(index.findByFingerprint(FINGERPRINT)).isSameAs(key);
+		assertThat(index.findByFingerprint("SHA256:" + FINGERPRINT)).isSameAs(key);
+		assertThat(index.findByFingerprint(FINGERPRINT + "=")).isSameAs(key);
+		assertThat(index.findByFingerprint("server-fingerprint")).isSameAs(invalid);
+		assertThat(index.findByFingerprint("unknown")).isNull();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static CredentialDetails<SshCredential> details(String name, String publicKey, String fingerprint) {
+		String json = """
+				{
+					"id": "%s-id",
+					"name": "%s",
+					"type": "ssh",
+					"value": {
+						"public_key": "%s",
+						"public_key_fingerprint": "%s"
+					}
+				}
+				""".formatted(name, name, publicKey, fingerprint);
+		return JsonTestUtils.fromJson(json, CredentialDetails.class);
+	}
+
+}
@@ -64,4 +64,13 @@ public class SimpleCredentialNameUnitTests {
 		assertThat(credentialName.getName()).isEqualTo("/myorg/example/credential-name");
 	}
 
+	@Test
+	public void equalNamesHaveEqualHashCodes() {
+		CredentialName credentialName = new SimpleCredentialName("myorg", "example", "credential-name");
+		CredentialName parsedName = new CredentialName("/myorg/example/credential-name");
+
+		assertThat(credentialName).isEqualTo(parsedName);
+		assertThat(credentialName).hasSameHashCodeAs(parsedName);
+	}
+
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.support.certificate;
+
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.cert.X509Certificate;
+
+import javax.net.ssl.SSLContext;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialType;
+import org.springframework.credhub.support.PemTestData;
+import org.springframework.credhub.support.SimpleCredentialName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CertificateKeyMaterialUnitTests {
+
+	private static final SimpleCredentialName NAME = new SimpleCredentialName("example", "certificate");
+
+	private static final CertificateCredential CREDENTIAL = new CertificateCredential(PemTestData.CERTIFICATE,
+			PemTestData.CA_CERTIFICATE, PemTestData.PKCS1_PRIVATE_KEY);
+
+	@Test
+	public void fromCredential() throws KeyStoreException {
+		CertificateKeyMaterial keyMaterial = CertificateKeyMaterial.from(CREDENTIAL);
+
+		X509Certificate[] chain = keyMaterial.getCertificateChain();
+		assertThat(chain).hasSize(2);
+		assertThat(chain[0].getSubjectX500Principal().getName()).isEqualTo("CN=client.example.com");
+		assertThat(chain[1].getSubjectX500Principal().getName()).isEqualTo("CN=Test RSA CA");
+		assertThat(keyMaterial.getCertificateAuthorities()).hasSize(1);
+		assertThat(keyMaterial.getPrivateKey().getAlgorithm()).isEqualTo("RSA");
+
+		KeyStore keyStore = keyMaterial.getKeyStore();
+		assertThat(keyStore.isKeyEntry(CertificateKeyMaterial.KEY_ALIAS)).isTrue();
+		assertThat(keyStore.getCertificateChain(CertificateKeyMaterial.KEY_ALIAS)).hasSize(2);
+		assertThat(keyMaterial.getKeyStore()).isSameAs(keyStore);
+
+		KeyStore trustStore = keyMaterial.getTrustStore();
+		assertThat(trustStore.size()).isEqualTo(1);
+		assertThat(trustStore.isCertificateEntry("ca-0")).isTrue();
+	}
+
+	@Test
+	public void sslContextIsBuiltOnce() {
+		CertificateKeyMaterial keyMaterial = CertificateKeyMaterial.from(CREDENTIAL);
+
+		SSLContext sslContext = keyMaterial.getSslContext();
+
+		assertThat(sslContext.getProtocol()).isEqualTo("TLS");
+		assertThat(keyMaterial.getSslContext()).isSameAs(sslContext);
+	}
+
+	@Test
+	public void fromCredentialWithCertificateAuthorityOnly() {
+		CertificateKeyMaterial keyMaterial = CertificateKeyMaterial
+			.from(new CertificateCredential(null, PemTestData.CA_CERTIFICATE, null));
+
+		assertThat(keyMaterial.getCertificateChain()).isEmpty();
+		assertThat(keyMaterial.getPrivateKey()).isNull();
+		assertThat(keyMaterial.getKeyStore()).isNull();
+		assertThat(keyMaterial.getTrustStore()).isNotNull();
+		assertThat(keyMaterial.getSslContext()).isNotNull();
+	}
+
+	@Test
+	public void cacheMemoizesPerVersion() {
+		CertificateKeyMaterialCache cache = new CertificateKeyMaterialCache();
+
+		CertificateKeyMaterial version1 = cache.get(details("version1"));
+
+		assertThat(cache.get(details("version1"))).isSameAs(version1);
+
+		CertificateKeyMaterial version2 = cache.get(details("version2"));
+
+		assertThat(version2).isNotSameAs(version1);
+		assertThat(cache.get(details("version2"))).isSameAs(version2);
+
+		cache.evict(NAME);
+
+		assertThat(cache.get(details("version2"))).isNotSameAs(version2);
+	}
+
+	@Test
+	public void cacheMemoizesCredentialsWithoutId() {
+		CertificateKeyMaterialCache cache = new CertificateKeyMaterialCache();
+
+		CertificateKeyMaterial keyMaterial = cache.get(details(null));
+
+		assertThat(cache.get(details(null))).isSameAs(keyMaterial);
+		assertThat(cache.get(new CredentialDetails<>(null, NAME, CredentialType.CERTIFICATE,
+				new CertificateCredential(PemTestData.CERTIFICATE, null, PemTestData.PKCS1_PRIVATE_KEY))))
+			.isNotSameAs(keyMaterial);
+	}
+
+	private CredentialDetails<CertificateCredential> details(String id) {
+		return new CredentialDetails<>(id, NAME, CredentialType.CERTIFICATE, new CertificateCredential(
+				PemTestData.CERTIFICATE, PemTestData.CA_CERTIFICATE, PemTestData.PKCS1_PRIVATE_KEY));
+	}
+
+}
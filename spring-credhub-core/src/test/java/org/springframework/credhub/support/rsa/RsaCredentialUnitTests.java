@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.support.rsa;
+
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.interfaces.RSAPublicKey;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.credhub.support.PemTestData;
+import org.springframework.credhub.support.utils.JsonUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RsaCredentialUnitTests {
+
+	private static final String FINGERPRINT = "0DyqWN7QaTamW0lKMV9g1H4Tna7T0q97GwCP9BUhE+M";
+
+	@Test
+	public void decodeKeyPair() {
+		RsaCredential credential = new RsaCredential(PemTestData.PUBLIC_KEY, PemTestData.PKCS1_PRIVATE_KEY);
+
+		RSAPublicKey publicKey = (RSAPublicKey) credential.getDecodedPublicKey();
+		RSAPrivateCrtKey privateKey = (RSAPrivateCrtKey) credential.getDecodedPrivateKey();
+
+		assertThat(publicKey.getModulus()).isEqualTo(privateKey.getModulus());
+		assertThat(credential.getDecodedPublicKey()).isSameAs(publicKey);
+		assertThat(credential.getDecodedPrivateKey()).isSameAs(privateKey);
+		assertThat(credential.getSha256Fingerprint()).isEqualTo(FINGERPRINT);
+	}
+
+	@Test
+	public void derivePublicKeyFromPrivateKey() {
+		RsaCredential credential = new RsaCredential(null, PemTestData.PKCS1_PRIVATE_KEY);
+
+		assertThat(credential.getDecodedPublicKey()).isInstanceOf(RSAPublicKey.class);
+		assertThat(credential.getSha256Fingerprint()).isEqualTo(FINGERPRINT);
+	}
+
+	@Test
+	public void decodedKeysAreNotSerialized() throws Exception {
+		RsaCredential credential = new RsaCredential(PemTestData.PUBLIC_KEY, null);
+		credential.getSha256Fingerprint();
+
+		String json = JsonUtils.buildObjectMapper().writeValueAsString(credential);
+
+		assertThat(json).contains("public_key").doesNotContain("decoded").doesNotContain("fingerprint");
+	}
+
+}
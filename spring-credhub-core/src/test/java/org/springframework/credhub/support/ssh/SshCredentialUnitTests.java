@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.support.ssh;
+
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPublicKey;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.interfaces.RSAPublicKey;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.credhub.support.PemTestData;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class SshCredentialUnitTests {
+
+	private static final String RSA_FINGERPRINT = "2DOIrjN314GpRdxYwkT0T+Kno8aTU6IpjCWxyPR6c/s";
+
+	private static final String ED25519_PUBLIC_KEY = "ssh-ed25519 "
+			+ "AAAAC3NzaC1lZDI1NTE5AAAAIGTA2I5Pa2dyu1JupB03wqHo2K/gFqW34lGkkmv+uhbZ comment";
+
+	private static final String ECDSA_PUBLIC_KEY = "ecdsa-sha2-nistp256 AAAAE2VjZHNhLXNoYTItbmlzdHAyNTYAAAAIbmlzdHAy"
+			+ "NTYAAABBBJI4xixTzWi8SvBk74cgPosYuqPfFP15PePzaAvUBjl/oTnFTDHlGC+KElg/isQTea09KTND5MxkSWnufrxyViI=";
+
+	@Test
+	public void decodeKeyPair() {
+		SshCredential credential = new SshCredential(PemTestData.SSH_PUBLIC_KEY, PemTestData.PKCS1_PRIVATE_KEY);
+
+		RSAPublicKey publicKey = (RSAPublicKey) credential.getDecodedPublicKey();
+		RSAPrivateCrtKey privateKey = (RSAPrivateCrtKey) credential.getDecodedPrivateKey();
+
+		assertThat(publicKey.getModulus()).isEqualTo(privateKey.getModulus());
+		assertThat(credential.getDecodedPublicKey()).isSameAs(publicKey);
+		assertThat(credential.getDecodedPrivateKey()).isSameAs(privateKey);
+	}
+
+	@Test
+	public void sha256FingerprintMatchesOpenSsh() {
+		SshCredential credential = new SshCredential(PemTestData.SSH_PUBLIC_KEY, null);
+
+		assertThat(credential.getSha256Fingerprint()).isEqualTo(RSA_FINGERPRINT);
+		assertThat(credential.getSha256Fingerprint()).isSameAs(credential.getSha256Fingerprint());
+	}
+
+	@Test
+	public void sha256FingerprintFromPrivateKey() {
+		SshCredential credential = new SshCredential(null, PemTestData.PKCS1_PRIVATE_KEY);
+
+		assertThat(credential.getSha256Fingerprint()).isEqualTo(RSA_FINGERPRINT);
+	}
+
+	@Test
+	public void decodeEd25519PublicKey() {
+		SshCredential credential = new SshCredential(ED25519_PUBLIC_KEY, null);
+
+		assertThat(credential.getDecodedPublicKey()).isInstanceOf(EdECPublicKey.class);
+		assertThat(credential.getSha256Fingerprint()).isEqualTo("EcvXN9AIgGkstNdid9ybHHZ5BPtlbamq5plZdsM6FZU");
+	}
+
+	@Test
+	public void decodeEcdsaPublicKey() {
+		SshCredential credential = new SshCredential(ECDSA_PUBLIC_KEY, null);
+
+		assertThat(credential.getDecodedPublicKey()).isInstanceOf(ECPublicKey.class);
+		assertThat(credential.getSha256Fingerprint()).isEqualTo("slh+qd06sRgMFNskuNhYUAi6mHoZ7Bt3OC7PR9nU5IQ");
+	}
+
+	@Test
+	public void decodeInvalidPublicKey() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new SshCredential("ssh-rsa not-base64!", null).getDecodedPublicKey());
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new SshCredential("ssh-dss AAAAB3NzaC1yc2EAAAADAQAB", null).getDecodedPublicKey());
+	}
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.support.utils;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.credhub.support.PemTestData;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class PemUtilsUnitTests {
+
+	@Test
+	public void parseCertificates() {
+		List<X509Certificate> certificates = PemUtils
+			.parseCertificates(PemTestData.CERTIFICATE + PemTestData.CA_CERTIFICATE);
+
+		assertThat(certificates).hasSize(2);
+		assertThat(certificates.get(0).getSubjectX500Principal().getName()).isEqualTo("CN=client.example.com");
+		assertThat(certificates.get(1).getSubjectX500Principal().getName()).isEqualTo("CN=Test RSA CA");
+	}
+
+	@Test
+	public void parsePkcs1AndPkcs8PrivateKeys() {
+		PrivateKey pkcs1 = PemUtils.parsePrivateKey(PemTestData.PKCS1_PRIVATE_KEY);
+		PrivateKey pkcs8 = PemUtils.parsePrivateKey(PemTestData.PKCS8_PRIVATE_KEY);
+
+		assertThat(pkcs1).isInstanceOf(RSAPrivateCrtKey.class);
+		assertThat(pkcs1.getEncoded()).isEqualTo(pkcs8.getEncoded());
+	}
+
+	@Test
+	public void parseEcPrivateKey() {
+		PrivateKey privateKey = PemUtils.parsePrivateKey(PemTestData.EC_PRIVATE_KEY);
+
+		assertThat(privateKey).isInstanceOf(ECPrivateKey.class);
+		assertThat(((ECPrivateKey) privateKey).getParams().getCurve().getField().getFieldSize()).isEqualTo(256);
+	}
+
+	@Test
+	public void parsePublicKey() {
+		PublicKey expected = PemUtils.parseCertificates(PemTestData.CERTIFICATE).get(0).getPublicKey();
+		String pem = "-----BEGIN PUBLIC KEY-----\n" + Base64.getMimeEncoder().encodeToString(expected.getEncoded())
+				+ "\n-----END PUBLIC KEY-----\n";
+
+		assertThat(PemUtils.parsePublicKey(pem)).isEqualTo(expected);
+	}
+
+	@Test
+	public void parseInvalidValues() {
+		assertThatIllegalArgumentException().isThrownBy(() -> PemUtils.parseCertificates("not a certificate"));
+		assertThatIllegalArgumentException().isThrownBy(() -> PemUtils.parsePrivateKey(PemTestData.CERTIFICATE));
+		assertThatIllegalArgumentException().isThrownBy(() -> PemUtils.parsePublicKey("not a key"));
+	}
+
+}
@@ -106,6 +106,24 @@ public class CertificateIntegrationTests extends CredHubIntegrationTests {
 		assertThat(regenerated.getValue().getPrivateKey()).isNotEqualTo(certificate.getValue().getPrivateKey());
 	}
 
+	@Test
+	public void regenerateCertificateByName() {
+		CredentialDetails<CertificateCredential> certificate = this.credentials
+			.generate(CertificateParametersRequest.builder()
+				.name(TEST_CERT_NAME)
+				.parameters(CertificateParameters.builder().commonName("example.com").selfSign(true).build())
+				.build());
+
+		CertificateCredentialDetails regenerated = this.certificates.regenerate(TEST_CERT_NAME, true);
+		assertThat(regenerated.getName().getName()).isEqualTo(TEST_CERT_NAME.getName());
+		assertThat(regenerated.isTransitional()).isTrue();
+		assertThat(regenerated.getValue().getCertificate()).isNotEqualTo(certificate.getValue().getCertificate());
+
+		List<CertificateCredentialDetails> versions = this.certificates.updateTransitionalVersion(TEST_CERT_NAME,
+				null);
+		assertThat(versions).extracting("transitional").containsOnly(false);
+	}
+
 	@Test
 	public void rotateCertificate() {
 		CredentialDetails<CertificateCredential> certificate = this.credentials
@@ -121,6 +121,25 @@ public class ReactiveCertificateIntegrationTests extends ReactiveCredHubIntegrat
 		}).verifyComplete();
 	}
 
+	@Test
+	public void regenerateCertificateByName() {
+		assumeTrue(serverApiIsV2());
+
+		StepVerifier.create(this.credentials.generate(CertificateParametersRequest.builder()
+			.name(TEST_CERT_NAME)
+			.parameters(CertificateParameters.builder().commonName("example.com").selfSign(true).build())
+			.build(), CertificateCredential.class)).expectNextCount(1).verifyComplete();
+
+		StepVerifier.create(this.certificates.regenerate(TEST_CERT_NAME, true)).assertNext((response) -> {
+			assertThat(response.getName().getName()).isEqualTo(TEST_CERT_NAME.getName());
+			assertThat(response.isTransitional()).isTrue();
+		}).verifyComplete();
+
+		StepVerifier.create(this.certificates.updateTransitionalVersion(TEST_CERT_NAME, null))
+			.assertNext((response) -> assertThat(response.isTransitional()).isFalse())
+			.verifyComplete();
+	}
+
 	@Test
 	public void rotateCertificate() {
 		assumeTrue(serverApiIsV2());
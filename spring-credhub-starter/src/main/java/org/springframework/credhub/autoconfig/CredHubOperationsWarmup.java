@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.autoconfig;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.credhub.core.CredHubOperations;
+import org.springframework.credhub.core.LazyCredHubOperations;
+import org.springframework.credhub.support.CredentialDetailsData;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Warms up a {@link CredHubOperations} so that the first requests made by the
+ * application do not pay for connection setup. Warming up creates a lazily initialized
+ * client, opens the configured number of pooled connections by calling the CredHub
+ * {@literal /version} endpoint concurrently, which also performs the TLS handshake and
+ * acquires an OAuth2 token if OAuth2 is configured, and deserializes a representative
+ * credential response with the client's JSON mapper; a JSON mapper that is not configured
+ * for CredHub responses is skipped. Keep-alive probes repeat the concurrent calls, so
+ * that idle pooled connections are not closed between bursts of requests.
+ *
+ * @author agent
+ */
+class CredHubOperationsWarmup {
+
+	private static final Log logger = LogFactory.getLog(CredHubOperationsWarmup.class);
+
+	static final String SAMPLE_RESPONSE = "{\"data\":["
+			+ "{\"id\":\"00000000-0000-0000-0000-000000000001\",\"name\":\"/warmup/value\",\"type\":\"value\","
+			+ "\"value\":\"value\",\"version_created_at\":\"2020-01-01T00:00:00Z\"},"
+			+ "{\"id\":\"00000000-0000-0000-0000-000000000002\",\"name\":\"/warmup/password\",\"type\":\"password\","
+			+ "\"value\":\"password\",\"version_created_at\":\"2020-01-01T00:00:00Z\"},"
+			+ "{\"id\":\"00000000-0000-0000-0000-000000000003\",\"name\":\"/warmup/json\",\"type\":\"json\","
+			+ "\"value\":{\"key\":\"value\"},\"version_created_at\":\"2020-01-01T00:00:00Z\"}]}";
+
+	private final CredHubOperations credHubOperations;
+
+	private final int connections;
+
+	/**
+	 * Create a new {@link CredHubOperationsWarmup}.
+	 * @param credHubOperations the CredHub client to warm up
+	 * @param connections the number of connections to open
+	 */
+	CredHubOperationsWarmup(CredHubOperations credHubOperations, int connections) {
+		this.credHubOperations = credHubOperations;
+		this.connections = Math.max(connections, 1);
+	}
+
+	/**
+	 * Create the client if it is lazily initialized, open connections, and warm up JSON
+	 * deserialization.
+	 */
+	void warmUp() {
+		if (this.credHubOperations instanceof LazyCredHubOperations lazy) {
+			lazy.initialize();
+		}
+		openConnections();
+		this.credHubOperations.doWithRest((restOperations) -> {
+			if (restOperations instanceof RestTemplate restTemplate) {
+				readSampleResponse(restTemplate.getMessageConverters());
+			}
+			return null;
+		});
+	}
+
+	/**
+	 * Use the pooled connections, so that they are kept open.
+	 */
+	void keepAlive() {
+		openConnections();
+	}
+
+	private void openConnections() {
+		if (this.connections == 1) {
+			this.credHubOperations.info().version();
+			return;
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(this.connections);
+		try {
+			List<Future<?>> results = new ArrayList<>(this.connections);
+			for (int i = 0; i < this.connections; i++) {
+				results.add(executor.submit(() -> this.credHubOperations.info().version()));
+			}
+			for (Future<?> result : results) {
+				result.get();
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(ex.getCause());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void readSampleResponse(List<HttpMessageConverter<?>> converters) {
+		for (HttpMessageConverter<?> converter : converters) {
+			if (converter instanceof MappingJackson2HttpMessageConverter jsonConverter) {
+				ObjectMapper objectMapper = jsonConverter.getObjectMapper();
+				try {
+					objectMapper.readValue(SAMPLE_RESPONSE, CredentialDetailsData.class);
+				}
+				catch (IOException ex) {
+					logger.debug("Unable to warm up JSON deserialization of CredHub responses with " + converter, ex);
+				}
+			}
+		}
+	}
+
+}
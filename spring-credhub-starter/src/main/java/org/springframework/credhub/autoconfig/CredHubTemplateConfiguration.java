@@ -16,20 +16,38 @@
 
 package org.springframework.credhub.autoconfig;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.credhub.autoconfig.CredHubTemplateConfiguration.CredHubTemplateBaseConfiguration;
+import org.springframework.credhub.autoconfig.CredHubTemplateConfiguration.CredHubTemplateConnectionWarmupConfiguration;
 import org.springframework.credhub.autoconfig.CredHubTemplateConfiguration.CredHubTemplateOAuth2ClientConfiguration;
 import org.springframework.credhub.autoconfig.CredHubTemplateConfiguration.CredHubTemplateOAuth2Configuration;
+import org.springframework.credhub.autoconfig.CredHubTemplateConfiguration.CredHubTemplateSnapshotConfiguration;
+import org.springframework.credhub.autoconfig.CredHubTemplateConfiguration.CredHubTemplateWarmupConfiguration;
 import org.springframework.credhub.configuration.CredHubTemplateFactory;
 import org.springframework.credhub.core.CredHubOperations;
 import org.springframework.credhub.core.CredHubProperties;
 import org.springframework.credhub.core.CredHubTemplate;
+import org.springframework.credhub.core.LazyCredHubOperations;
+import org.springframework.credhub.core.SnapshotCredHubOperations;
+import org.springframework.credhub.core.credential.CredentialSnapshotStore;
 import org.springframework.credhub.support.ClientOptions;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClientManager;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
@@ -42,9 +60,95 @@ import org.springframework.security.oauth2.client.web.OAuth2AuthorizedClientRepo
  * @author Scott Frederick
  */
 @Import({ CredHubTemplateBaseConfiguration.class, CredHubTemplateOAuth2Configuration.class,
-		CredHubTemplateOAuth2ClientConfiguration.class })
+		CredHubTemplateOAuth2ClientConfiguration.class, CredHubTemplateWarmupConfiguration.class,
+		CredHubTemplateConnectionWarmupConfiguration.class, CredHubTemplateSnapshotConfiguration.class })
 public class CredHubTemplateConfiguration {
 
+	static final String LAZY_INITIALIZATION_PROPERTY = "spring.credhub.lazy-initialization.enabled";
+
+	static final String LAZY_INITIALIZATION_WARMUP_PROPERTY = "spring.credhub.lazy-initialization.warmup";
+
+	static final String WARMUP_PROPERTY = "spring.credhub.warmup.enabled";
+
+	static final String WARMUP_CONNECTIONS_PROPERTY = "spring.credhub.warmup.connections";
+
+	static final String KEEP_ALIVE_INTERVAL_PROPERTY = "spring.credhub.warmup.keep-alive-interval";
+
+	static final String SNAPSHOT_PROPERTY = "spring.credhub.snapshot.enabled";
+
+	static final String SNAPSHOT_FILE_PROPERTY = "spring.credhub.snapshot.file";
+
+	static final String SNAPSHOT_KEY_PROPERTY = "spring.credhub.snapshot.key";
+
+	static final String SNAPSHOT_MAX_STALENESS_PROPERTY = "spring.credhub.snapshot.max-staleness";
+
+	private static final Duration DEFAULT_SNAPSHOT_MAX_STALENESS = Duration.ofDays(1);
+
+	private static final int SNAPSHOT_REVALIDATION_CONCURRENCY = 4;
+
+	/**
+	 * Create the {@link CredHubOperations} bean, either directly or, if the
+	 * {@literal spring.credhub.lazy-initialization.enabled} property is {@literal true},
+	 * as a {@link LazyCredHubOperations} that creates it on first use. If a
+	 * {@link CredentialSnapshotStore} is available, the {@link CredHubOperations} is
+	 * wrapped in a {@link SnapshotCredHubOperations}.
+	 * @param environment the environment
+	 * @param snapshotStore the store of credential snapshots, if snapshots are enabled
+	 * @param factory creates the {@link CredHubOperations}
+	 * @return the {@link CredHubOperations} bean
+	 */
+	static CredHubOperations credHubOperations(Environment environment,
+			ObjectProvider<CredentialSnapshotStore> snapshotStore, Supplier<CredHubOperations> factory) {
+		Supplier<CredHubOperations> operations = factory;
+		CredentialSnapshotStore store = snapshotStore.getIfAvailable();
+		if (store != null) {
+			Duration maxStaleness = snapshotMaxStaleness(environment);
+			operations = () -> new SnapshotCredHubOperations(factory.get(), store, maxStaleness,
+					snapshotRevalidationExecutor());
+		}
+		if (environment.getProperty(LAZY_INITIALIZATION_PROPERTY, Boolean.class, false)) {
+			return new LazyCredHubOperations(operations);
+		}
+		return operations.get();
+	}
+
+	/**
+	 * Get the number of connections to open when warming up a CredHub client.
+	 * @param environment the environment
+	 * @return the number of connections
+	 */
+	static int warmupConnections(Environment environment) {
+		return environment.getProperty(WARMUP_CONNECTIONS_PROPERTY, Integer.class, 1);
+	}
+
+	/**
+	 * Get the interval between keep-alive probes of a CredHub client.
+	 * @param environment the environment
+	 * @return the interval, or {@literal null} if keep-alive probes are not enabled
+	 */
+	static Duration keepAliveInterval(Environment environment) {
+		return Binder.get(environment).bind(KEEP_ALIVE_INTERVAL_PROPERTY, Duration.class).orElse(null);
+	}
+
+	/**
+	 * Get the maximum age of a credential snapshot that is returned instead of a
+	 * response from CredHub.
+	 * @param environment the environment
+	 * @return the maximum age
+	 */
+	static Duration snapshotMaxStaleness(Environment environment) {
+		return Binder.get(environment)
+			.bind(SNAPSHOT_MAX_STALENESS_PROPERTY, Duration.class)
+			.orElse(DEFAULT_SNAPSHOT_MAX_STALENESS);
+	}
+
+	private static Executor snapshotRevalidationExecutor() {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("credhub-snapshot-");
+		executor.setDaemon(true);
+		executor.setConcurrencyLimit(SNAPSHOT_REVALIDATION_CONCURRENCY);
+		return executor;
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	@ConditionalOnClass(name = "jakarta.servlet.http.HttpServletRequest")
 	@ConditionalOnProperty(prefix = "spring.credhub.oauth2", name = "registration-id", havingValue = "false",
@@ -56,13 +160,19 @@ public class CredHubTemplateConfiguration {
 		 * with CredHub.
 		 * @param credHubProperties {@link CredHubProperties} for CredHub
 		 * @param clientOptions client connection options
+		 * @param environment the environment, used to determine whether the template is
+		 * created on first use
+		 * @param snapshotStore the store of credential snapshots, if snapshots are
+		 * enabled
 		 * @return the {@link CredHubOperations} bean
 		 */
 		@Bean
 		@ConditionalOnMissingBean
-		CredHubOperations credHubTemplate(CredHubProperties credHubProperties, ClientOptions clientOptions) {
+		CredHubOperations credHubTemplate(CredHubProperties credHubProperties, ClientOptions clientOptions,
+				Environment environment, ObjectProvider<CredentialSnapshotStore> snapshotStore) {
 
-			return new CredHubTemplateFactory().credHubTemplate(credHubProperties, clientOptions);
+			return credHubOperations(environment, snapshotStore,
+					() -> new CredHubTemplateFactory().credHubTemplate(credHubProperties, clientOptions));
 		}
 
 	}
@@ -80,16 +190,22 @@ public class CredHubTemplateConfiguration {
 		 * @param clientOptions client connection options
 		 * @param clientRegistrationRepository a repository of OAuth2 client registrations
 		 * @param authorizedClientRepository a repository of authorized OAuth2 clients
+		 * @param environment the environment, used to determine whether the template is
+		 * created on first use
+		 * @param snapshotStore the store of credential snapshots, if snapshots are
+		 * enabled
 		 * @return the {@link CredHubOperations} bean
 		 */
 		@Bean
 		@ConditionalOnMissingBean
 		CredHubOperations credHubTemplate(CredHubProperties credHubProperties, ClientOptions clientOptions,
 				ClientRegistrationRepository clientRegistrationRepository,
-				OAuth2AuthorizedClientRepository authorizedClientRepository) {
+				OAuth2AuthorizedClientRepository authorizedClientRepository, Environment environment,
+				ObjectProvider<CredentialSnapshotStore> snapshotStore) {
 
-			return new CredHubTemplateFactory().credHubTemplate(credHubProperties, clientOptions,
-					clientRegistrationRepository, authorizedClientRepository);
+			return credHubOperations(environment, snapshotStore,
+					() -> new CredHubTemplateFactory().credHubTemplate(credHubProperties, clientOptions,
+							clientRegistrationRepository, authorizedClientRepository));
 		}
 
 	}
@@ -107,16 +223,102 @@ public class CredHubTemplateConfiguration {
 		 * @param clientOptions client connection options
 		 * @param clientRegistrationRepository a repository of OAuth2 client registrations
 		 * @param clientManager an OAuth2 authorization client manager
+		 * @param environment the environment, used to determine whether the template is
+		 * created on first use
+		 * @param snapshotStore the store of credential snapshots, if snapshots are
+		 * enabled
 		 * @return the {@link CredHubTemplate} bean
 		 */
 		@Bean
 		@ConditionalOnMissingBean
 		CredHubOperations credHubTemplate(CredHubProperties credHubProperties, ClientOptions clientOptions,
 				ClientRegistrationRepository clientRegistrationRepository,
-				OAuth2AuthorizedClientManager clientManager) {
+				OAuth2AuthorizedClientManager clientManager, Environment environment,
+				ObjectProvider<CredentialSnapshotStore> snapshotStore) {
+
+			return credHubOperations(environment, snapshotStore,
+					() -> new CredHubTemplateFactory().credHubTemplate(credHubProperties, clientOptions,
+							clientRegistrationRepository, clientManager));
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(name = { LAZY_INITIALIZATION_PROPERTY, LAZY_INITIALIZATION_WARMUP_PROPERTY },
+			havingValue = "true")
+	static class CredHubTemplateWarmupConfiguration {
+
+		/**
+		 * Create a listener that creates lazily initialized CredHub clients once the
+		 * application is ready, instead of on the first request.
+		 * @param credHubOperations the {@link CredHubOperations} beans
+		 * @return the listener bean
+		 */
+		@Bean
+		CredHubWarmupListener credHubTemplateWarmupListener(ObjectProvider<CredHubOperations> credHubOperations) {
+			return new CredHubWarmupListener(() -> credHubOperations.orderedStream()
+				.filter(LazyCredHubOperations.class::isInstance)
+				.forEach((operations) -> ((LazyCredHubOperations) operations).initialize()));
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(name = WARMUP_PROPERTY, havingValue = "true")
+	static class CredHubTemplateConnectionWarmupConfiguration {
 
-			return new CredHubTemplateFactory().credHubTemplate(credHubProperties, clientOptions,
-					clientRegistrationRepository, clientManager);
+		/**
+		 * Create a listener that warms up the CredHub client once the application is
+		 * ready and optionally sends keep-alive probes.
+		 * @param credHubOperations the {@link CredHubOperations} bean
+		 * @param environment the environment, used to read the warmup properties
+		 * @return the listener bean
+		 */
+		@Bean
+		CredHubWarmupListener credHubTemplateConnectionWarmupListener(
+				ObjectProvider<CredHubOperations> credHubOperations, Environment environment) {
+			int connections = warmupConnections(environment);
+			return new CredHubWarmupListener(
+					() -> credHubOperations
+						.ifUnique((operations) -> new CredHubOperationsWarmup(operations, connections).warmUp()),
+					() -> credHubOperations
+						.ifUnique((operations) -> new CredHubOperationsWarmup(operations, connections).keepAlive()),
+					keepAliveInterval(environment));
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(name = SNAPSHOT_PROPERTY, havingValue = "true")
+	static class CredHubTemplateSnapshotConfiguration {
+
+		/**
+		 * Create the store of credential snapshots that the {@link CredHubOperations}
+		 * bean serves credentials from while CredHub is slow or unavailable.
+		 * @param environment the environment, used to read the snapshot file and the
+		 * base64-encoded AES key that encrypts it
+		 * @return the {@link CredentialSnapshotStore} bean
+		 */
+		@Bean
+		@ConditionalOnMissingBean
+		CredentialSnapshotStore credHubCredentialSnapshotStore(Environment environment) {
+			String file = environment.getProperty(SNAPSHOT_FILE_PROPERTY);
+			if (file == null) {
+				throw new IllegalStateException("The " + SNAPSHOT_FILE_PROPERTY
+						+ " property is required when credential snapshots are enabled");
+			}
+			String key = environment.getProperty(SNAPSHOT_KEY_PROPERTY);
+			if (key == null) {
+				throw new IllegalStateException("The " + SNAPSHOT_KEY_PROPERTY
+						+ " property or SPRING_CREDHUB_SNAPSHOT_KEY environment variable is required when "
+						+ "credential snapshots are enabled");
+			}
+			byte[] keyBytes = Base64.getDecoder().decode(key);
+			if (keyBytes.length != 16 && keyBytes.length != 24 && keyBytes.length != 32) {
+				throw new IllegalStateException("The " + SNAPSHOT_KEY_PROPERTY
+						+ " property must be a base64-encoded 128, 192, or 256-bit AES key");
+			}
+			return new CredentialSnapshotStore(Path.of(file), new SecretKeySpec(keyBytes, "AES"));
 		}
 
 	}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.autoconfig;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Warms up the CredHub clients once the application is ready, so that the work is done
+ * after startup completes and before the first request that uses CredHub. Optionally
+ * runs keep-alive probes at a fixed interval on a background thread, which is stopped
+ * when the application context is closed. Warmup and probe failures are logged and do
+ * not prevent the application from running.
+ *
+ * @author agent
+ */
+class CredHubWarmupListener implements ApplicationListener<ApplicationReadyEvent>, DisposableBean {
+
+	private static final Log logger = LogFactory.getLog(CredHubWarmupListener.class);
+
+	private final Runnable warmup;
+
+	private final Runnable keepAlive;
+
+	private final Duration keepAliveInterval;
+
+	private ScheduledExecutorService scheduler;
+
+	CredHubWarmupListener(Runnable warmup) {
+		this(warmup, null, null);
+	}
+
+	CredHubWarmupListener(Runnable warmup, Runnable keepAlive, Duration keepAliveInterval) {
+		this.warmup = warmup;
+		this.keepAlive = keepAlive;
+		this.keepAliveInterval = keepAliveInterval;
+	}
+
+	@Override
+	public void onApplicationEvent(ApplicationReadyEvent event) {
+		try {
+			this.warmup.run();
+		}
+		catch (RuntimeException ex) {
+			logger.warn("Error warming up the CredHub client; it will be initialized on first use", ex);
+		}
+		startKeepAlive();
+	}
+
+	private synchronized void startKeepAlive() {
+		if (this.keepAlive == null || this.keepAliveInterval == null || this.keepAliveInterval.isZero()
+				|| this.keepAliveInterval.isNegative() || this.scheduler != null) {
+			return;
+		}
+		this.scheduler = Executors.newSingleThreadScheduledExecutor((runnable) -> {
+			Thread thread = new Thread(runnable, "credhub-keep-alive");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long interval = this.keepAliveInterval.toMillis();
+		this.scheduler.scheduleWithFixedDelay(this::runKeepAlive, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	private void runKeepAlive() {
+		try {
+			this.keepAlive.run();
+		}
+		catch (RuntimeException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Error sending CredHub keep-alive probe", ex);
+			}
+		}
+	}
+
+	@Override
+	public synchronized void destroy() {
+		if (this.scheduler != null) {
+			this.scheduler.shutdownNow();
+			this.scheduler = null;
+		}
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.autoconfig;
+
+import reactor.core.publisher.Flux;
+
+import org.springframework.credhub.core.LazyReactiveCredHubOperations;
+import org.springframework.credhub.core.ReactiveCredHubOperations;
+
+/**
+ * Warms up a {@link ReactiveCredHubOperations} so that the first requests made by the
+ * application do not pay for connection setup. Warming up creates a lazily initialized
+ * client and opens the configured number of connections by calling the CredHub
+ * {@literal /version} endpoint concurrently, which also performs the TLS handshake and
+ * acquires an OAuth2 token if OAuth2 is configured. Keep-alive probes repeat the
+ * concurrent calls, so that idle connections are not closed between bursts of requests.
+ *
+ * @author agent
+ */
+class ReactiveCredHubOperationsWarmup {
+
+	private final ReactiveCredHubOperations credHubOperations;
+
+	private final int connections;
+
+	/**
+	 * Create a new {@link ReactiveCredHubOperationsWarmup}.
+	 * @param credHubOperations the CredHub client to warm up
+	 * @param connections the number of connections to open
+	 */
+	ReactiveCredHubOperationsWarmup(ReactiveCredHubOperations credHubOperations, int connections) {
+		this.credHubOperations = credHubOperations;
+		this.connections = Math.max(connections, 1);
+	}
+
+	/**
+	 * Create the client if it is lazily initialized and open connections.
+	 */
+	void warmUp() {
+		if (this.credHubOperations instanceof LazyReactiveCredHubOperations lazy) {
+			lazy.initialize();
+		}
+		openConnections();
+	}
+
+	/**
+	 * Use the pooled connections, so that they are kept open.
+	 */
+	void keepAlive() {
+		openConnections();
+	}
+
+	private void openConnections() {
+		Flux.range(0, this.connections)
+			.flatMap((i) -> this.credHubOperations.info().version(), this.connections)
+			.then()
+			.block();
+	}
+
+}
@@ -16,6 +16,9 @@
 
 package org.springframework.credhub.autoconfig;
 
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -23,12 +26,16 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
 import org.springframework.credhub.autoconfig.ReactiveCredHubTemplateConfiguration.ReactiveCredHubTemplateBaseConfiguration;
+import org.springframework.credhub.autoconfig.ReactiveCredHubTemplateConfiguration.ReactiveCredHubTemplateConnectionWarmupConfiguration;
 import org.springframework.credhub.autoconfig.ReactiveCredHubTemplateConfiguration.ReactiveCredHubTemplateOAuth2ClientConfiguration;
 import org.springframework.credhub.autoconfig.ReactiveCredHubTemplateConfiguration.ReactiveCredHubTemplateOAuth2Configuration;
+import org.springframework.credhub.autoconfig.ReactiveCredHubTemplateConfiguration.ReactiveCredHubTemplateWarmupConfiguration;
 import org.springframework.credhub.configuration.CredHubTemplateFactory;
 import org.springframework.credhub.core.CredHubProperties;
 import org.springframework.credhub.core.CredHubTemplate;
+import org.springframework.credhub.core.LazyReactiveCredHubOperations;
 import org.springframework.credhub.core.ReactiveCredHubOperations;
 import org.springframework.credhub.core.ReactiveCredHubTemplate;
 import org.springframework.credhub.support.ClientOptions;
@@ -42,9 +49,26 @@ import org.springframework.security.oauth2.client.web.server.ServerOAuth2Authori
  * @author Scott Frederick
  */
 @Import({ ReactiveCredHubTemplateBaseConfiguration.class, ReactiveCredHubTemplateOAuth2Configuration.class,
-		ReactiveCredHubTemplateOAuth2ClientConfiguration.class })
+		ReactiveCredHubTemplateOAuth2ClientConfiguration.class, ReactiveCredHubTemplateWarmupConfiguration.class,
+		ReactiveCredHubTemplateConnectionWarmupConfiguration.class })
 public class ReactiveCredHubTemplateConfiguration {
 
+	/**
+	 * Create the {@link ReactiveCredHubOperations} bean, either directly or, if the
+	 * {@literal spring.credhub.lazy-initialization.enabled} property is {@literal true},
+	 * as a {@link LazyReactiveCredHubOperations} that creates it on first use.
+	 * @param environment the environment
+	 * @param factory creates the {@link ReactiveCredHubOperations}
+	 * @return the {@link ReactiveCredHubOperations} bean
+	 */
+	static ReactiveCredHubOperations reactiveCredHubOperations(Environment environment,
+			Supplier<ReactiveCredHubOperations> factory) {
+		if (environment.getProperty(CredHubTemplateConfiguration.LAZY_INITIALIZATION_PROPERTY, Boolean.class, false)) {
+			return new LazyReactiveCredHubOperations(factory);
+		}
+		return factory.get();
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	@ConditionalOnClass(name = "org.springframework.web.reactive.function.client.WebClient")
 	@ConditionalOnProperty(prefix = "spring.credhub.oauth2", name = "registration-id", havingValue = "false",
@@ -56,14 +80,17 @@ public class ReactiveCredHubTemplateConfiguration {
 		 * interact with CredHub.
 		 * @param credHubProperties {@link CredHubProperties} for CredHub
 		 * @param clientOptions client connection options
+		 * @param environment the environment, used to determine whether the template is
+		 * created on first use
 		 * @return the {@link CredHubTemplate} bean
 		 */
 		@Bean
 		@ConditionalOnMissingBean
 		ReactiveCredHubOperations reactiveCredHubTemplate(CredHubProperties credHubProperties,
-				ClientOptions clientOptions) {
+				ClientOptions clientOptions, Environment environment) {
 
-			return new CredHubTemplateFactory().reactiveCredHubTemplate(credHubProperties, clientOptions);
+			return reactiveCredHubOperations(environment,
+					() -> new CredHubTemplateFactory().reactiveCredHubTemplate(credHubProperties, clientOptions));
 		}
 
 	}
@@ -81,16 +108,19 @@ public class ReactiveCredHubTemplateConfiguration {
 		 * @param clientOptions client connection options
 		 * @param clientRegistrationRepository a repository of OAuth2 client registrations
 		 * @param authorizedClientRepository a repository of OAuth2 authorized clients
+		 * @param environment the environment, used to determine whether the template is
+		 * created on first use
 		 * @return the {@link CredHubTemplate} bean
 		 */
 		@Bean
 		@ConditionalOnMissingBean
 		ReactiveCredHubOperations reactiveCredHubTemplate(CredHubProperties credHubProperties,
 				ClientOptions clientOptions, ReactiveClientRegistrationRepository clientRegistrationRepository,
-				ServerOAuth2AuthorizedClientRepository authorizedClientRepository) {
+				ServerOAuth2AuthorizedClientRepository authorizedClientRepository, Environment environment) {
 
-			return new CredHubTemplateFactory().reactiveCredHubTemplate(credHubProperties, clientOptions,
-					clientRegistrationRepository, authorizedClientRepository);
+			return reactiveCredHubOperations(environment,
+					() -> new CredHubTemplateFactory().reactiveCredHubTemplate(credHubProperties, clientOptions,
+							clientRegistrationRepository, authorizedClientRepository));
 		}
 
 	}
@@ -107,15 +137,67 @@ public class ReactiveCredHubTemplateConfiguration {
 		 * @param credHubProperties {@link CredHubProperties} for CredHub
 		 * @param clientOptions client connection options
 		 * @param clientManager an OAuth2 authorization client manager
+		 * @param environment the environment, used to determine whether the template is
+		 * created on first use
 		 * @return the {@link CredHubTemplate} bean
 		 */
 		@Bean
 		@ConditionalOnMissingBean
 		ReactiveCredHubOperations reactiveCredHubTemplate(CredHubProperties credHubProperties,
-				ClientOptions clientOptions, ReactiveOAuth2AuthorizedClientManager clientManager) {
+				ClientOptions clientOptions, ReactiveOAuth2AuthorizedClientManager clientManager,
+				Environment environment) {
+
+			return reactiveCredHubOperations(environment,
+					() -> new CredHubTemplateFactory().reactiveCredHubTemplate(credHubProperties, clientOptions,
+							clientManager));
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(name = "org.springframework.web.reactive.function.client.WebClient")
+	@ConditionalOnProperty(name = { CredHubTemplateConfiguration.LAZY_INITIALIZATION_PROPERTY,
+			CredHubTemplateConfiguration.LAZY_INITIALIZATION_WARMUP_PROPERTY }, havingValue = "true")
+	static class ReactiveCredHubTemplateWarmupConfiguration {
+
+		/**
+		 * Create a listener that creates lazily initialized reactive CredHub clients once
+		 * the application is ready, instead of on the first request.
+		 * @param reactiveCredHubOperations the {@link ReactiveCredHubOperations} beans
+		 * @return the listener bean
+		 */
+		@Bean
+		CredHubWarmupListener reactiveCredHubTemplateWarmupListener(
+				ObjectProvider<ReactiveCredHubOperations> reactiveCredHubOperations) {
+			return new CredHubWarmupListener(() -> reactiveCredHubOperations.orderedStream()
+				.filter(LazyReactiveCredHubOperations.class::isInstance)
+				.forEach((operations) -> ((LazyReactiveCredHubOperations) operations).initialize()));
+		}
+
+	}
 
-			return new CredHubTemplateFactory().reactiveCredHubTemplate(credHubProperties, clientOptions,
-					clientManager);
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(name = "org.springframework.web.reactive.function.client.WebClient")
+	@ConditionalOnProperty(name = CredHubTemplateConfiguration.WARMUP_PROPERTY, havingValue = "true")
+	static class ReactiveCredHubTemplateConnectionWarmupConfiguration {
+
+		/**
+		 * Create a listener that warms up the reactive CredHub client once the
+		 * application is ready and optionally sends keep-alive probes.
+		 * @param reactiveCredHubOperations the {@link ReactiveCredHubOperations} bean
+		 * @param environment the environment, used to read the warmup properties
+		 * @return the listener bean
+		 */
+		@Bean
+		CredHubWarmupListener reactiveCredHubTemplateConnectionWarmupListener(
+				ObjectProvider<ReactiveCredHubOperations> reactiveCredHubOperations, Environment environment) {
+			int connections = CredHubTemplateConfiguration.warmupConnections(environment);
+			return new CredHubWarmupListener(
+					() -> reactiveCredHubOperations.ifUnique(
+							(operations) -> new ReactiveCredHubOperationsWarmup(operations, connections).warmUp()),
+					() -> reactiveCredHubOperations.ifUnique(
+							(operations) -> new ReactiveCredHubOperationsWarmup(operations, connections).keepAlive()),
+					CredHubTemplateConfiguration.keepAliveInterval(environment));
 		}
 
 	}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.env;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.credhub.configuration.ClientHttpRequestFactoryFactory;
+import org.springframework.credhub.core.CredHubOperations;
+import org.springframework.credhub.core.CredHubProperties;
+import org.springframework.credhub.core.CredHubTemplate;
+import org.springframework.credhub.support.ClientOptions;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+/**
+ * The {@link CredHubOperations} used while the {@code Environment} is being prepared,
+ * before any beans are available. The client is configured from the
+ * {@literal spring.credhub} properties and authenticates with mutual TLS, as OAuth2
+ * client registrations are not available this early. The client must be closed once it
+ * is no longer used, to release its HTTP connection pool.
+ *
+ * @author agent
+ */
+final class BootstrapCredHubOperations implements AutoCloseable {
+
+	static final String URL_PROPERTY = "spring.credhub.url";
+
+	private static final String PREFIX = "spring.credhub";
+
+	private final CredHubOperations credHubOperations;
+
+	private final ClientHttpRequestFactory clientHttpRequestFactory;
+
+	/**
+	 * Create a new {@link BootstrapCredHubOperations}.
+	 * @param credHubOperations the client
+	 * @param clientHttpRequestFactory the request factory used by the client, which is
+	 * destroyed when the client is closed; may be {@literal null}
+	 */
+	BootstrapCredHubOperations(CredHubOperations credHubOperations, ClientHttpRequestFactory clientHttpRequestFactory) {
+		this.credHubOperations = credHubOperations;
+		this.clientHttpRequestFactory = clientHttpRequestFactory;
+	}
+
+	CredHubOperations getCredHubOperations() {
+		return this.credHubOperations;
+	}
+
+	@Override
+	public void close() {
+		if (this.clientHttpRequestFactory instanceof DisposableBean disposable) {
+			try {
+				disposable.destroy();
+			}
+			catch (Exception ex) {
+				throw new IllegalStateException("Unable to close the bootstrap CredHub client", ex);
+			}
+		}
+	}
+
+	static BootstrapCredHubOperations create(ConfigurableEnvironment environment) {
+		Binder binder = Binder.get(environment);
+		CredHubProperties credHubProperties = binder.bind(PREFIX, Bindable.of(CredHubProperties.class))
+			.orElseThrow(() -> new IllegalStateException("The '" + URL_PROPERTY + "' property must be set"));
+		ClientOptions clientOptions = binder.bind(PREFIX, Bindable.of(ClientOptions.class))
+			.orElseGet(ClientOptions::new);
+
+		ClientHttpRequestFactory clientHttpRequestFactory = ClientHttpRequestFactoryFactory.create(clientOptions);
+		return new BootstrapCredHubOperations(new CredHubTemplate(credHubProperties, clientHttpRequestFactory),
+				clientHttpRequestFactory);
+	}
+
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.env;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.env.PropertySource;
+import org.springframework.credhub.core.credential.CredHubCredentialOperations;
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialSummary;
+import org.springframework.credhub.support.SimpleCredentialName;
+import org.springframework.credhub.support.utils.JsonUtils;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link PropertySource} that resolves {@literal credhub:} prefixed property names to
+ * the current value of a CredHub credential, so that credentials can be referenced with
+ * placeholders such as {@literal ${credhub:/my/credential}}. A single field of a
+ * credential with multiple fields can be referenced by appending the field name after a
+ * {@literal #}, as in {@literal ${credhub:/my/user#password}}.
+ *
+ * Credentials are held in memory once retrieved. Credentials can be retrieved
+ * concurrently in a single batch with {@link #load(Collection, Executor)}, and
+ * credentials that have a new version in CredHub can be refreshed with
+ * {@link #refresh(Executor)}.
+ *
+ * @author agent
+ */
+public class CredHubPropertySource extends PropertySource<CredHubCredentialOperations> {
+
+	/**
+	 * The name of the CredHub property source.
+	 */
+	public static final String PROPERTY_SOURCE_NAME = "credhub";
+
+	/**
+	 * The prefix of property names resolved by this property source.
+	 */
+	public static final String PREFIX = "credhub:";
+
+	private static final String FIELD_SEPARATOR = "#";
+
+	private static final Pattern REFERENCE_PATTERN = Pattern
+		.compile(Pattern.quote("${" + PREFIX) + "([^}$#]+)(?:" + FIELD_SEPARATOR + "[^}$]*)?\\}");
+
+	private static final Log logger = LogFactory.getLog(CredHubPropertySource.class);
+
+	private final ConcurrentMap<String, Credential> credentials = new ConcurrentHashMap<>();
+
+	private final ObjectMapper objectMapper = JsonUtils.buildObjectMapper();
+
+	private volatile boolean connected = true;
+
+	/**
+	 * Create a new {@link CredHubPropertySource}.
+	 * @param credentialOperations the {@link CredHubCredentialOperations} used to
+	 * retrieve credentials; must not be {@literal null}
+	 */
+	public CredHubPropertySource(CredHubCredentialOperations credentialOperations) {
+		super(PROPERTY_SOURCE_NAME, credentialOperations);
+		Assert.notNull(credentialOperations, "credentialOperations must not be null");
+	}
+
+	@Override
+	public Object getProperty(String name) {
+		if (!name.startsWith(PREFIX)) {
+			return null;
+		}
+
+		String reference = name.substring(PREFIX.length());
+		int separator = reference.indexOf(FIELD_SEPARATOR);
+		String credentialName = (separator != -1) ? reference.substring(0, separator) : reference;
+		String field = (separator != -1) ? reference.substring(separator + 1) : null;
+
+		Credential credential = this.credentials.get(credentialName);
+		if (credential == null) {
+			if (!this.connected) {
+				return null;
+			}
+			// retrieved outside of the map, so that other keys are not blocked by the request
+			Credential retrieved = retrieve(credentialName);
+			credential = this.credentials.putIfAbsent(credentialName, retrieved);
+			if (credential == null) {
+				credential = retrieved;
+			}
+		}
+
+		return credential.getValue(field);
+	}
+
+	/**
+	 * Retrieve the current version of each of the named credentials, concurrently, and
+	 * hold them in memory. Credentials already held in memory are not retrieved again.
+	 * @param credentialNames the names of the credentials to retrieve; must not be
+	 * {@literal null}
+	 * @param executor the {@link Executor} used to retrieve the credentials; must not be
+	 * {@literal null}
+	 */
+	public void load(Collection<String> credentialNames, Executor executor) {
+		Assert.notNull(credentialNames, "credentialNames must not be null");
+		Assert.notNull(executor, "executor must not be null");
+
+		List<CompletableFuture<Void>> futures = new ArrayList<>(credentialNames.size());
+		for (String credentialName : credentialNames) {
+			if (!this.credentials.containsKey(credentialName)) {
+				futures.add(CompletableFuture
+					.runAsync(() -> this.credentials.putIfAbsent(credentialName, retrieve(credentialName)), executor));
+			}
+		}
+
+		join(futures);
+	}
+
+	/**
+	 * Check the credentials held in memory for new versions, concurrently, and retrieve
+	 * only the credentials that have changed. Credentials that can not be checked or
+	 * retrieved keep their current value.
+	 * @param executor the {@link Executor} used to check and retrieve the credentials;
+	 * must not be {@literal null}
+	 * @return the names of the credentials that were updated
+	 */
+	public Set<String> refresh(Executor executor) {
+		Assert.notNull(executor, "executor must not be null");
+
+		Set<String> refreshed = ConcurrentHashMap.newKeySet();
+		List<CompletableFuture<Void>> futures = new ArrayList<>(this.credentials.size());
+		for (Map.Entry<String, Credential> entry : this.credentials.entrySet()) {
+			futures.add(CompletableFuture.runAsync(() -> {
+				if (refresh(entry.getKey(), entry.getValue())) {
+					refreshed.add(entry.getKey());
+				}
+			}, executor));
+		}
+
+		join(futures);
+
+		return refreshed;
+	}
+
+	/**
+	 * Stop retrieving credentials that are not held in memory, because the client used
+	 * to retrieve them has been closed. Such credentials resolve to no value.
+	 */
+	void disconnect() {
+		this.connected = false;
+	}
+
+	/**
+	 * Get the names of the credentials held in memory.
+	 * @return the credential names
+	 */
+	public Set<String> getCredentialNames() {
+		return Collections.unmodifiableSet(this.credentials.keySet());
+	}
+
+	/**
+	 * Find the names of all credentials referenced by {@literal ${credhub:...}}
+	 * placeholders in a property value. Placeholders that contain nested placeholders are
+	 * not included.
+	 * @param value the property value
+	 * @return the referenced credential names
+	 */
+	public static Set<String> findCredentialNames(String value) {
+		if (value == null || !value.contains("${" + PREFIX)) {
+			return Collections.emptySet();
+		}
+
+		Set<String> names = new LinkedHashSet<>();
+		Matcher matcher = REFERENCE_PATTERN.matcher(value);
+		while (matcher.find()) {
+			names.add(matcher.group(1));
+		}
+		return names;
+	}
+
+	private boolean refresh(String credentialName, Credential current) {
+		try {
+			if (!isChanged(credentialName, current)) {
+				return false;
+			}
+
+			Credential latest = retrieve(credentialName);
+			if (Objects.equals(latest.getId(), current.getId())) {
+				return false;
+			}
+
+			this.credentials.replace(credentialName, current, latest);
+			return true;
+		}
+		catch (RuntimeException ex) {
+			logger.warn("Unable to refresh credential " + credentialName + " from CredHub; keeping current value", ex);
+			return false;
+		}
+	}
+
+	private boolean isChanged(String credentialName, Credential current) {
+		Date versionCreatedAt = current.getVersionCreatedAt();
+		if (versionCreatedAt == null) {
+			return true;
+		}
+
+		for (CredentialSummary summary : getSource().findByName(new SimpleCredentialName(credentialName))) {
+			if (summary.getName() != null && credentialName.equals(summary.getName().getName())) {
+				return !versionCreatedAt.equals(summary.getVersionCreatedAt());
+			}
+		}
+
+		return true;
+	}
+
+	private Credential retrieve(String credentialName) {
+		CredentialDetails<Object> details = getSource().getByName(new SimpleCredentialName(credentialName),
+				Object.class);
+		return new Credential(details, this.objectMapper);
+	}
+
+	private static void join(List<CompletableFuture<Void>> futures) {
+		try {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw ex;
+		}
+	}
+
+	/**
+	 * A credential held in memory, with its value converted once to the form returned
+	 * from {@link #getProperty(String)}.
+	 */
+	private static final class Credential {
+
+		private final String id;
+
+		private final Date versionCreatedAt;
+
+		private final Object value;
+
+		private final String json;
+
+		private Credential(CredentialDetails<Object> details, ObjectMapper objectMapper) {
+			this.id = details.getId();
+			this.versionCreatedAt = details.getVersionCreatedAt();
+			this.value = objectMapper.convertValue(details.getValue(), Object.class);
+			this.json = (this.value instanceof Map<?, ?>) ? toJson(this.value, objectMapper) : null;
+		}
+
+		private String getId() {
+			return this.id;
+		}
+
+		private Date getVersionCreatedAt() {
+			return this.versionCreatedAt;
+		}
+
+		private Object getValue(String field) {
+			if (field != null) {
+				return (this.value instanceof Map<?, ?> map) ? map.get(field) : null;
+			}
+			return (this.json != null) ? this.json : this.value;
+		}
+
+		private static String toJson(Object value, ObjectMapper objectMapper) {
+			try {
+				return objectMapper.writeValueAsString(value);
+			}
+			catch (JsonProcessingException ex) {
+				throw new IllegalStateException("Unable to convert credential value to JSON", ex);
+			}
+		}
+
+	}
+
+}
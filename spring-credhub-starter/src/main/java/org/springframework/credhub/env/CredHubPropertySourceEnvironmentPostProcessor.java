@@ -0,0 +1,209 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.env;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.credhub.core.credential.CredHubCredentialOperations;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * An {@link EnvironmentPostProcessor} that adds a {@link CredHubPropertySource} to the
+ * {@code Environment} when the {@literal spring.credhub.url} property is set and any
+ * property value contains a {@literal ${credhub:...}} placeholder, unless
+ * {@literal spring.credhub.property-source.enabled} is {@literal false}.
+ *
+ * All property sources are scanned for {@literal ${credhub:...}} placeholders, and the
+ * referenced credentials are retrieved concurrently in a single batch using a bootstrap
+ * client, so that startup time is bound by the slowest retrieval rather than the sum of
+ * all retrievals. The number of concurrent retrievals is limited by
+ * {@literal spring.credhub.property-source.max-concurrency}.
+ *
+ * Credentials are refreshed in the background every
+ * {@literal spring.credhub.property-source.refresh-interval}, with a jitter of up to 20%
+ * of the interval. Only credentials with a new version are retrieved again. Setting the
+ * interval to {@literal 0} disables the refresh. Refreshed values are visible to
+ * subsequent {@code Environment} lookups; properties already bound to beans are not
+ * changed.
+ *
+ * The bootstrap client is closed when the application context is closed, or once the
+ * referenced credentials have been loaded if the refresh is disabled. Credentials that
+ * were not loaded before the client was closed resolve to no value.
+ *
+ * @author agent
+ */
+public class CredHubPropertySourceEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+	/**
+	 * The order of this post processor, which runs after CredHub references in service
+	 * data have been interpolated.
+	 */
+	public static final int ORDER = CredHubServicesEnvironmentPostProcessor.ORDER + 1;
+
+	static final String ENABLED_PROPERTY = "spring.credhub.property-source.enabled";
+
+	static final String REFRESH_INTERVAL_PROPERTY = "spring.credhub.property-source.refresh-interval";
+
+	static final String MAX_CONCURRENCY_PROPERTY = "spring.credhub.property-source.max-concurrency";
+
+	private static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofMinutes(5);
+
+	private static final int DEFAULT_MAX_CONCURRENCY = 8;
+
+	private static final double REFRESH_JITTER = 0.2;
+
+	private static final String PLACEHOLDER_PREFIX = "${" + CredHubPropertySource.PREFIX;
+
+	private static final String STARTUP_STEP_NAME = "spring.credhub.property-source.load";
+
+	private final Log logger;
+
+	private final Function<ConfigurableEnvironment, BootstrapCredHubOperations> credHubOperationsFactory;
+
+	/**
+	 * Create a new {@link CredHubPropertySourceEnvironmentPostProcessor}.
+	 * @param logFactory the factory for the deferred log
+	 */
+	public CredHubPropertySourceEnvironmentPostProcessor(DeferredLogFactory logFactory) {
+		this(logFactory, BootstrapCredHubOperations::create);
+	}
+
+	CredHubPropertySourceEnvironmentPostProcessor(DeferredLogFactory logFactory,
+			Function<ConfigurableEnvironment, BootstrapCredHubOperations> credHubOperationsFactory) {
+		this.logger = logFactory.getLog(CredHubPropertySourceEnvironmentPostProcessor.class);
+		this.credHubOperationsFactory = credHubOperationsFactory;
+	}
+
+	@Override
+	public int getOrder() {
+		return ORDER;
+	}
+
+	@Override
+	public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+		if (!environment.containsProperty(BootstrapCredHubOperations.URL_PROPERTY)
+				|| !environment.getProperty(ENABLED_PROPERTY, Boolean.class, true)
+				|| environment.getPropertySources().contains(CredHubPropertySource.PROPERTY_SOURCE_NAME)) {
+			return;
+		}
+
+		Set<String> credentialNames = findCredentialNames(environment);
+		if (credentialNames == null) {
+			return;
+		}
+
+		Binder binder = Binder.get(environment);
+		Duration refreshInterval = binder.bind(REFRESH_INTERVAL_PROPERTY, Duration.class)
+			.orElse(DEFAULT_REFRESH_INTERVAL);
+		int maxConcurrency = binder.bind(MAX_CONCURRENCY_PROPERTY, Integer.class).orElse(DEFAULT_MAX_CONCURRENCY);
+
+		BootstrapCredHubOperations credHubOperations = this.credHubOperationsFactory.apply(environment);
+		CredHubPropertySource propertySource = new CredHubPropertySource(
+				credHubOperations.getCredHubOperations().credentials());
+		environment.getPropertySources().addLast(propertySource);
+		Runnable closeClient = () -> {
+			propertySource.disconnect();
+			credHubOperations.close();
+		};
+
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, maxConcurrency),
+				daemonThreadFactory("credhub-property-source-"));
+		boolean refreshing = false;
+		try {
+			load(propertySource, credentialNames, executor, application);
+
+			if (!refreshInterval.isZero() && !refreshInterval.isNegative()) {
+				ScheduledExecutorService scheduler = Executors
+					.newSingleThreadScheduledExecutor(daemonThreadFactory("credhub-property-source-refresh-"));
+				CredHubPropertySourceRefresher refresher = new CredHubPropertySourceRefresher(propertySource,
+						refreshInterval, REFRESH_JITTER, scheduler, executor, closeClient);
+				application.addListeners(refresher);
+				refresher.start();
+				refreshing = true;
+			}
+		}
+		finally {
+			if (!refreshing) {
+				executor.shutdownNow();
+				closeClient.run();
+			}
+		}
+	}
+
+	private void load(CredHubPropertySource propertySource, Set<String> credentialNames, ExecutorService executor,
+			SpringApplication application) {
+		StartupStep step = application.getApplicationStartup().start(STARTUP_STEP_NAME);
+		step.tag("credentials", String.valueOf(credentialNames.size()));
+		long start = System.nanoTime();
+		try {
+			propertySource.load(credentialNames, executor);
+		}
+		finally {
+			step.end();
+		}
+
+		if (this.logger.isDebugEnabled()) {
+			this.logger.debug("Loaded " + credentialNames.size() + " credentials from CredHub in "
+					+ (System.nanoTime() - start) / 1_000_000 + "ms");
+		}
+	}
+
+	/**
+	 * Find the names of all credentials referenced by property values.
+	 * @param environment the environment to scan
+	 * @return the referenced credential names, or {@literal null} if no property value
+	 * contains a CredHub placeholder
+	 */
+	private static Set<String> findCredentialNames(ConfigurableEnvironment environment) {
+		Set<String> credentialNames = null;
+		for (PropertySource<?> propertySource : environment.getPropertySources()) {
+			if (propertySource instanceof EnumerablePropertySource<?> enumerable) {
+				for (String name : enumerable.getPropertyNames()) {
+					if (enumerable.getProperty(name) instanceof String value && value.contains(PLACEHOLDER_PREFIX)) {
+						credentialNames = (credentialNames != null) ? credentialNames : new LinkedHashSet<>();
+						credentialNames.addAll(CredHubPropertySource.findCredentialNames(value));
+					}
+				}
+			}
+		}
+		return credentialNames;
+	}
+
+	private static CustomizableThreadFactory daemonThreadFactory(String threadNamePrefix) {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+		threadFactory.setDaemon(true);
+		return threadFactory;
+	}
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.env;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.boot.context.event.ApplicationFailedEvent;
+import org.springframework.boot.context.event.ApplicationPreparedEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextClosedEvent;
+
+/**
+ * Periodically refreshes a {@link CredHubPropertySource} in the background. Each refresh
+ * is scheduled after the configured interval, adjusted by a random jitter so that
+ * application instances started together do not poll CredHub at the same time. The
+ * refresh stops when the application context is closed or fails to start.
+ *
+ * @author agent
+ */
+class CredHubPropertySourceRefresher implements ApplicationListener<ApplicationEvent> {
+
+	private static final Log logger = LogFactory.getLog(CredHubPropertySourceRefresher.class);
+
+	private final CredHubPropertySource propertySource;
+
+	private final long intervalMillis;
+
+	private final double jitter;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final ExecutorService executor;
+
+	private final Runnable onStop;
+
+	private volatile ApplicationContext applicationContext;
+
+	/**
+	 * Create a new {@link CredHubPropertySourceRefresher}.
+	 * @param propertySource the property source to refresh
+	 * @param interval the average interval between refreshes
+	 * @param jitter the maximum fraction of the interval by which each refresh is moved
+	 * earlier or later, between {@literal 0} and {@literal 1}
+	 * @param scheduler the scheduler used to trigger refreshes; shut down when the
+	 * refresher stops
+	 * @param executor the executor used to refresh credentials; shut down when the
+	 * refresher stops
+	 * @param onStop run when the refresher stops, to release the client used to refresh
+	 * credentials
+	 */
+	CredHubPropertySourceRefresher(CredHubPropertySource propertySource, Duration interval, double jitter,
+			ScheduledExecutorService scheduler, ExecutorService executor, Runnable onStop) {
+		this.propertySource = propertySource;
+		this.intervalMillis = interval.toMillis();
+		this.jitter = jitter;
+		this.scheduler = scheduler;
+		this.executor = executor;
+		this.onStop = onStop;
+	}
+
+	void start() {
+		scheduleRefresh();
+	}
+
+	void stop() {
+		this.scheduler.shutdownNow();
+		this.executor.shutdownNow();
+		this.onStop.run();
+	}
+
+	@Override
+	public void onApplicationEvent(ApplicationEvent event) {
+		if (event instanceof ApplicationPreparedEvent preparedEvent) {
+			this.applicationContext = preparedEvent.getApplicationContext();
+		}
+		else if (event instanceof ApplicationFailedEvent) {
+			stop();
+		}
+		else if (event instanceof ContextClosedEvent closedEvent
+				&& closedEvent.getApplicationContext() == this.applicationContext) {
+			stop();
+		}
+	}
+
+	long nextDelayMillis() {
+		double offset = (this.jitter > 0) ? ThreadLocalRandom.current().nextDouble(-this.jitter, this.jitter) : 0;
+		return Math.max(1, Math.round(this.intervalMillis * (1 + offset)));
+	}
+
+	private void scheduleRefresh() {
+		try {
+			this.scheduler.schedule(this::refresh, nextDelayMillis(), TimeUnit.MILLISECONDS);
+		}
+		catch (RejectedExecutionException ex) {
+			// the refresher has been stopped
+		}
+	}
+
+	private void refresh() {
+		try {
+			Set<String> refreshed = this.propertySource.refresh(this.executor);
+			if (!refreshed.isEmpty() && logger.isDebugEnabled()) {
+				logger.debug("Refreshed credentials " + refreshed + " from CredHub");
+			}
+		}
+		catch (RuntimeException ex) {
+			logger.warn("Unable to refresh credentials from CredHub", ex);
+		}
+		finally {
+			scheduleRefresh();
+		}
+	}
+
+}
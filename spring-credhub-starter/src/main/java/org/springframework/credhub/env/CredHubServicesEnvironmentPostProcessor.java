@@ -0,0 +1,222 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.env;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.logging.Log;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.CommandLinePropertySource;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.credhub.core.CredHubOperations;
+import org.springframework.credhub.support.ServicesData;
+import org.springframework.credhub.support.utils.JsonUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * An {@link EnvironmentPostProcessor} that interpolates CredHub references in the Cloud
+ * Foundry {@literal VCAP_SERVICES} environment variable when the application starts.
+ *
+ * The post processor is enabled by setting the
+ * {@literal spring.credhub.interpolation.enabled} property to {@literal true}. A
+ * bootstrap {@link CredHubOperations} is created from the {@literal spring.credhub}
+ * properties, authenticating with mutual TLS using the Cloud Foundry instance identity
+ * credentials, and closed once the service data has been interpolated. The
+ * interpolated {@literal VCAP_SERVICES} document and the flattened
+ * {@literal vcap.services.*} properties are added to the {@code Environment} in a
+ * property source named {@value #PROPERTY_SOURCE_NAME} that takes precedence over all
+ * property sources other than command line arguments.
+ *
+ * The interpolated service data is kept in memory for the lifetime of the JVM, so that
+ * additional application contexts started in the same JVM do not contact CredHub again.
+ * The time taken to interpolate the service data is recorded as a
+ * {@literal spring.credhub.interpolation} startup step.
+ *
+ * @author agent
+ */
+public class CredHubServicesEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+	/**
+	 * The name of the property source containing interpolated service data.
+	 */
+	public static final String PROPERTY_SOURCE_NAME = "credhubVcapServices";
+
+	/**
+	 * The order of this post processor, which runs after application configuration data
+	 * has been loaded.
+	 */
+	public static final int ORDER = ConfigDataEnvironmentPostProcessor.ORDER + 1;
+
+	static final String ENABLED_PROPERTY = "spring.credhub.interpolation.enabled";
+
+	static final String VCAP_SERVICES = "VCAP_SERVICES";
+
+	private static final String VCAP_SERVICES_PREFIX = "vcap.services.";
+
+	private static final String STARTUP_STEP_NAME = "spring.credhub.interpolation";
+
+	private static final ConcurrentMap<String, String> INTERPOLATED_SERVICE_DATA = new ConcurrentHashMap<>();
+
+	private final Log logger;
+
+	private final Function<ConfigurableEnvironment, BootstrapCredHubOperations> credHubOperationsFactory;
+
+	private final ObjectMapper objectMapper = JsonUtils.buildObjectMapper();
+
+	/**
+	 * Create a new {@link CredHubServicesEnvironmentPostProcessor}.
+	 * @param logFactory the factory for the deferred log
+	 */
+	public CredHubServicesEnvironmentPostProcessor(DeferredLogFactory logFactory) {
+		this(logFactory, BootstrapCredHubOperations::create);
+	}
+
+	CredHubServicesEnvironmentPostProcessor(DeferredLogFactory logFactory,
+			Function<ConfigurableEnvironment, BootstrapCredHubOperations> credHubOperationsFactory) {
+		this.logger = logFactory.getLog(CredHubServicesEnvironmentPostProcessor.class);
+		this.credHubOperationsFactory = credHubOperationsFactory;
+	}
+
+	@Override
+	public int getOrder() {
+		return ORDER;
+	}
+
+	@Override
+	public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+		if (!environment.getProperty(ENABLED_PROPERTY, Boolean.class, false)) {
+			return;
+		}
+
+		String serviceData = environment.getProperty(VCAP_SERVICES);
+		if (!StringUtils.hasText(serviceData)) {
+			return;
+		}
+
+		StartupStep step = application.getApplicationStartup().start(STARTUP_STEP_NAME);
+		try {
+			String interpolated = INTERPOLATED_SERVICE_DATA.get(serviceData);
+			step.tag("cached", String.valueOf(interpolated != null));
+
+			if (interpolated == null) {
+				interpolated = INTERPOLATED_SERVICE_DATA.computeIfAbsent(serviceData,
+						(data) -> interpolate(environment, data));
+			}
+
+			addPropertySource(environment.getPropertySources(), interpolated);
+		}
+		finally {
+			step.end();
+		}
+	}
+
+	private String interpolate(ConfigurableEnvironment environment, String serviceData) {
+		long start = System.nanoTime();
+
+		String interpolated;
+		try (BootstrapCredHubOperations credHubOperations = this.credHubOperationsFactory.apply(environment)) {
+			interpolated = credHubOperations.getCredHubOperations().interpolation().interpolateServiceData(serviceData);
+		}
+
+		if (this.logger.isDebugEnabled()) {
+			this.logger.debug("Interpolated " + VCAP_SERVICES + " using CredHub in "
+					+ (System.nanoTime() - start) / 1_000_000 + "ms");
+		}
+
+		return interpolated;
+	}
+
+	private void addPropertySource(MutablePropertySources propertySources, String serviceData) {
+		Map<String, Object> properties = new LinkedHashMap<>();
+		properties.put(VCAP_SERVICES, serviceData);
+		flattenServiceData(properties, parse(serviceData));
+
+		MapPropertySource propertySource = new MapPropertySource(PROPERTY_SOURCE_NAME,
+				Collections.unmodifiableMap(properties));
+
+		if (propertySources.contains(CommandLinePropertySource.COMMAND_LINE_PROPERTY_SOURCE_NAME)) {
+			propertySources.addAfter(CommandLinePropertySource.COMMAND_LINE_PROPERTY_SOURCE_NAME, propertySource);
+		}
+		else {
+			propertySources.addFirst(propertySource);
+		}
+	}
+
+	private ServicesData parse(String serviceData) {
+		try {
+			return this.objectMapper.readValue(serviceData, ServicesData.class);
+		}
+		catch (JsonProcessingException ex) {
+			throw new IllegalStateException("Unable to parse interpolated " + VCAP_SERVICES, ex);
+		}
+	}
+
+	private static void flattenServiceData(Map<String, Object> properties, ServicesData serviceData) {
+		for (List<Map<String, Object>> bindings : serviceData.values()) {
+			if (bindings == null) {
+				continue;
+			}
+			for (Map<String, Object> binding : bindings) {
+				Object name = binding.get("name");
+				if (name == null) {
+					name = binding.get("label");
+				}
+				if (name != null) {
+					flatten(properties, VCAP_SERVICES_PREFIX + name, binding);
+				}
+			}
+		}
+	}
+
+	private static void flatten(Map<String, Object> properties, String key, Object value) {
+		if (value instanceof Map<?, ?> map) {
+			map.forEach((k, v) -> flatten(properties, key + "." + k, v));
+		}
+		else if (value instanceof List<?> list) {
+			for (int i = 0; i < list.size(); i++) {
+				flatten(properties, key + "[" + i + "]", list.get(i));
+			}
+		}
+		else {
+			properties.put(key, (value != null) ? value : "");
+		}
+	}
+
+	/**
+	 * Discard interpolated service data held in memory.
+	 */
+	static void clearCache() {
+		INTERPOLATED_SERVICE_DATA.clear();
+	}
+
+}
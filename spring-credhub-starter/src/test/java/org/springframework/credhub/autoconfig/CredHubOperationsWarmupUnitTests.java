@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.autoconfig;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.credhub.core.CredHubOperations;
+import org.springframework.credhub.core.LazyCredHubOperations;
+import org.springframework.credhub.core.RestOperationsCallback;
+import org.springframework.credhub.core.info.CredHubInfoOperations;
+import org.springframework.credhub.support.info.VersionInfo;
+import org.springframework.credhub.support.utils.JsonUtils;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class CredHubOperationsWarmupUnitTests {
+
+	@Test
+	public void warmUpOpensConnectionsAndInitializesLazyClient() {
+		CredHubOperations delegate = mockCredHubOperations();
+		LazyCredHubOperations operations = new LazyCredHubOperations(() -> delegate);
+
+		new CredHubOperationsWarmup(operations, 3).warmUp();
+
+		assertThat(operations.isInitialized()).isTrue();
+		verify(delegate.info(), times(3)).version();
+	}
+
+	@Test
+	public void warmUpSkipsJsonConvertersNotConfiguredForCredHub() {
+		CredHubOperations operations = mockCredHubOperations(new RestTemplate());
+
+		assertThatNoException().isThrownBy(() -> new CredHubOperationsWarmup(operations, 1).warmUp());
+		verify(operations.info()).version();
+	}
+
+	@Test
+	public void keepAliveUsesAtLeastOneConnection() {
+		CredHubOperations operations = mockCredHubOperations();
+
+		new CredHubOperationsWarmup(operations, 0).keepAlive();
+
+		verify(operations.info()).version();
+	}
+
+	@Test
+	public void warmUpThrowsProbeFailure() {
+		CredHubOperations operations = mockCredHubOperations();
+		given(operations.info().version()).willThrow(new IllegalStateException("connection refused"));
+
+		assertThatIllegalStateException().isThrownBy(() -> new CredHubOperationsWarmup(operations, 2).warmUp())
+			.withMessage("connection refused");
+	}
+
+	@Test
+	public void listenerRunsKeepAliveProbesUntilDestroyed() throws Exception {
+		CountDownLatch probes = new CountDownLatch(2);
+		CredHubWarmupListener listener = new CredHubWarmupListener(() -> {
+			throw new IllegalStateException("connection refused");
+		}, probes::countDown, Duration.ofMillis(10));
+
+		listener.onApplicationEvent(null);
+		try {
+			assertThat(probes.await(5, TimeUnit.SECONDS)).isTrue();
+		}
+		finally {
+			listener.destroy();
+		}
+	}
+
+	private static CredHubOperations mockCredHubOperations() {
+		RestTemplate restTemplate = new RestTemplate();
+		restTemplate.getMessageConverters().removeIf(MappingJackson2HttpMessageConverter.class::isInstance);
+		restTemplate.getMessageConverters().add(new MappingJackson2HttpMessageConverter(JsonUtils.buildObjectMapper()));
+		return mockCredHubOperations(restTemplate);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static CredHubOperations mockCredHubOperations(RestTemplate restTemplate) {
+		CredHubInfoOperations info = mock(CredHubInfoOperations.class);
+		given(info.version()).willReturn(new VersionInfo("2.0.0"));
+
+		CredHubOperations operations = mock(CredHubOperations.class);
+		given(operations.info()).willReturn(info);
+		given(operations.doWithRest(any(RestOperationsCallback.class)))
+			.willAnswer((invocation) -> invocation.<RestOperationsCallback<?>>getArgument(0)
+				.doWithRestOperations(restTemplate));
+		return operations;
+	}
+
+}
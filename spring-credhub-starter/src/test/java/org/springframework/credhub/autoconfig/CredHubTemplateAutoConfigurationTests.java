@@ -16,23 +16,34 @@
 
 package org.springframework.credhub.autoconfig;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.logging.ConditionEvaluationReportLoggingListener;
 import org.springframework.boot.autoconfigure.security.oauth2.client.OAuth2ClientProperties;
 import org.springframework.boot.autoconfigure.security.oauth2.client.OAuth2ClientPropertiesMapper;
 import org.springframework.boot.autoconfigure.security.oauth2.client.reactive.ReactiveOAuth2ClientAutoConfiguration;
 import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.boot.test.context.FilteredClassLoader;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.credhub.core.CredHubTemplate;
+import org.springframework.credhub.core.LazyCredHubOperations;
+import org.springframework.credhub.core.LazyReactiveCredHubOperations;
 import org.springframework.credhub.core.ReactiveCredHubTemplate;
+import org.springframework.credhub.core.SnapshotCredHubOperations;
+import org.springframework.credhub.core.credential.CredentialSnapshotStore;
+import org.springframework.credhub.core.credential.SnapshotCredHubCredentialTemplate;
 import org.springframework.security.oauth2.client.AuthorizedClientServiceOAuth2AuthorizedClientManager;
 import org.springframework.security.oauth2.client.AuthorizedClientServiceReactiveOAuth2AuthorizedClientManager;
 import org.springframework.security.oauth2.client.InMemoryOAuth2AuthorizedClientService;
@@ -63,6 +74,9 @@ public class CredHubTemplateAutoConfigurationTests {
 	private static final FilteredClassLoader WEB_CLIENT_AND_SECURITY_FILTERED_CLASS_LOADER = new FilteredClassLoader(
 			"org.springframework.web.reactive.function.client", "org.springframework.security.oauth2.client");
 
+	@TempDir
+	Path directory;
+
 	private final ApplicationContextRunner context = new ApplicationContextRunner()
 		.withConfiguration(
 				AutoConfigurations.of(ReactiveOAuth2ClientAutoConfiguration.class, CredHubAutoConfiguration.class,
@@ -165,6 +179,102 @@ public class CredHubTemplateAutoConfigurationTests {
 			});
 	}
 
+	@Test
+	public void lazyCredHubTemplatesConfigured() {
+		this.context
+			.withPropertyValues("spring.credhub.url=https://localhost",
+					"spring.credhub.lazy-initialization.enabled=true")
+			.run((context) -> {
+				assertThat(context).hasSingleBean(LazyCredHubOperations.class);
+				assertThat(context).doesNotHaveBean(CredHubTemplate.class);
+				assertThat(context).doesNotHaveBean(CredHubWarmupListener.class);
+				LazyCredHubOperations credHubOperations = context.getBean(LazyCredHubOperations.class);
+				assertThat(credHubOperations.isInitialized()).isFalse();
+				assertThat(credHubOperations.getDelegate()).isInstanceOf(CredHubTemplate.class);
+
+				assertThat(context).hasSingleBean(LazyReactiveCredHubOperations.class);
+				assertThat(context).doesNotHaveBean(ReactiveCredHubTemplate.class);
+				LazyReactiveCredHubOperations reactiveCredHubOperations = context
+					.getBean(LazyReactiveCredHubOperations.class);
+				assertThat(reactiveCredHubOperations.isInitialized()).isFalse();
+				assertThat(reactiveCredHubOperations.getDelegate()).isInstanceOf(ReactiveCredHubTemplate.class);
+			});
+	}
+
+	@Test
+	public void lazyCredHubTemplatesWarmedUpWhenApplicationIsReady() {
+		this.context
+			.withPropertyValues("spring.credhub.url=https://localhost",
+					"spring.credhub.lazy-initialization.enabled=true", "spring.credhub.lazy-initialization.warmup=true")
+			.run((context) -> {
+				assertThat(context).getBeans(CredHubWarmupListener.class).hasSize(2);
+				LazyCredHubOperations credHubOperations = context.getBean(LazyCredHubOperations.class);
+				LazyReactiveCredHubOperations reactiveCredHubOperations = context
+					.getBean(LazyReactiveCredHubOperations.class);
+				assertThat(credHubOperations.isInitialized()).isFalse();
+				assertThat(reactiveCredHubOperations.isInitialized()).isFalse();
+
+				context.publishEvent(new ApplicationReadyEvent(new SpringApplication(), new String[0],
+						context.getSourceApplicationContext(), Duration.ZERO));
+
+				assertThat(credHubOperations.isInitialized()).isTrue();
+				assertThat(reactiveCredHubOperations.isInitialized()).isTrue();
+			});
+	}
+
+	@Test
+	public void credHubTemplatesWarmedUpWhenApplicationIsReady() {
+		this.context
+			.withPropertyValues("spring.credhub.url=https://localhost",
+					"spring.credhub.lazy-initialization.enabled=true", "spring.credhub.warmup.enabled=true",
+					"spring.credhub.warmup.connections=2")
+			.run((context) -> {
+				assertThat(context).getBeans(CredHubWarmupListener.class).hasSize(2);
+				LazyCredHubOperations credHubOperations = context.getBean(LazyCredHubOperations.class);
+				LazyReactiveCredHubOperations reactiveCredHubOperations = context
+					.getBean(LazyReactiveCredHubOperations.class);
+
+				context.publishEvent(new ApplicationReadyEvent(new SpringApplication(), new String[0],
+						context.getSourceApplicationContext(), Duration.ZERO));
+
+				assertThat(context).hasNotFailed();
+				assertThat(credHubOperations.isInitialized()).isTrue();
+				assertThat(reactiveCredHubOperations.isInitialized()).isTrue();
+			});
+	}
+
+	@Test
+	public void snapshotCredHubTemplateConfigured() {
+		this.context
+			.withPropertyValues("spring.credhub.url=https://localhost", "spring.credhub.snapshot.enabled=true",
+					"spring.credhub.snapshot.file=" + this.directory.resolve("snapshot"),
+					"spring.credhub.snapshot.key=" + Base64.getEncoder().encodeToString(new byte[32]))
+			.run((context) -> {
+				assertThat(context).hasSingleBean(CredentialSnapshotStore.class);
+				assertThat(context).hasSingleBean(SnapshotCredHubOperations.class);
+				SnapshotCredHubOperations credHubOperations = context.getBean(SnapshotCredHubOperations.class);
+				assertThat(credHubOperations.getDelegate()).isInstanceOf(CredHubTemplate.class);
+				assertThat(credHubOperations.credentials()).isInstanceOf(SnapshotCredHubCredentialTemplate.class);
+			});
+	}
+
+	@Test
+	public void snapshotCredHubTemplateNotConfiguredWithoutKey() {
+		this.context
+			.withPropertyValues("spring.credhub.url=https://localhost", "spring.credhub.snapshot.enabled=true",
+					"spring.credhub.snapshot.file=" + this.directory.resolve("snapshot"))
+			.run((context) -> assertThat(context).hasFailed());
+	}
+
+	@Test
+	public void credHubTemplatesNotWarmedUpByDefault() {
+		this.context.withPropertyValues("spring.credhub.url=https://localhost")
+			.run((context) -> {
+				assertThat(context).doesNotHaveBean(CredHubWarmupListener.class);
+				assertThat(context).doesNotHaveBean(CredentialSnapshotStore.class);
+			});
+	}
+
 	@Test
 	public void credHubTemplatesNotConfiguredWithInvalidClientRegistration() {
 		this.context.withPropertyValues("spring.credhub.url=https://localhost",
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.env;
+
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.SpringApplication;
+import org.springframework.credhub.core.CredHubOperations;
+import org.springframework.credhub.core.credential.CredHubCredentialOperations;
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialType;
+import org.springframework.credhub.support.SimpleCredentialName;
+import org.springframework.credhub.support.value.ValueCredential;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.withSettings;
+
+public class CredHubPropertySourceEnvironmentPostProcessorTests {
+
+	private final CredHubOperations credHubOperations = mock(CredHubOperations.class);
+
+	private final CredHubCredentialOperations credentialOperations = mock(CredHubCredentialOperations.class);
+
+	private final CredHubPropertySourceEnvironmentPostProcessor postProcessor = new CredHubPropertySourceEnvironmentPostProcessor(
+			Supplier::get, (environment) -> new BootstrapCredHubOperations(this.credHubOperations, null));
+
+	private final MockEnvironment environment = new MockEnvironment();
+
+	@Test
+	public void loadsReferencedCredentials() {
+		SimpleCredentialName name = new SimpleCredentialName("/app/password");
+		given(this.credHubOperations.credentials()).willReturn(this.credentialOperations);
+		given(this.credentialOperations.getByName(name, Object.class))
+			.willReturn(new CredentialDetails<>("1", name, CredentialType.VALUE, new ValueCredential("secret")));
+
+		this.environment.setProperty("spring.credhub.url", "https://credhub.example.com");
+		this.environment.setProperty("spring.credhub.property-source.refresh-interval", "0");
+		this.environment.setProperty("app.password", "${credhub:/app/password}");
+
+		this.postProcessor.postProcessEnvironment(this.environment, new SpringApplication());
+
+		assertThat(this.environment.getPropertySources().contains(CredHubPropertySource.PROPERTY_SOURCE_NAME)).isTrue();
+		assertThat(this.environment.getProperty("app.password")).isEqualTo("secret");
+		verify(this.credentialOperations, times(1)).getByName(name, Object.class);
+	}
+
+	@Test
+	public void closesBootstrapClientAfterLoadingWhenRefreshIsDisabled() throws Exception {
+		SimpleCredentialName name = new SimpleCredentialName("/app/password");
+		given(this.credHubOperations.credentials()).willReturn(this.credentialOperations);
+		given(this.credentialOperations.getByName(name, Object.class))
+			.willReturn(new CredentialDetails<>("1", name, CredentialType.VALUE, new ValueCredential("secret")));
+		ClientHttpRequestFactory requestFactory = mock(ClientHttpRequestFactory.class,
+				withSettings().extraInterfaces(DisposableBean.class));
+		CredHubPropertySourceEnvironmentPostProcessor postProcessor = new CredHubPropertySourceEnvironmentPostProcessor(
+				Supplier::get, (environment) -> new BootstrapCredHubOperations(this.credHubOperations, requestFactory));
+
+		this.environment.setProperty("spring.credhub.url", "https://credhub.example.com");
+		this.environment.setProperty("spring.credhub.property-source.refresh-interval", "0");
+		this.environment.setProperty("app.password", "${credhub:/app/password}");
+
+		postProcessor.postProcessEnvironment(this.environment, new SpringApplication());
+
+		verify((DisposableBean) requestFactory).destroy();
+		assertThat(this.environment.getProperty("app.password")).isEqualTo("secret");
+		assertThat(this.environment.getProperty("credhub:/app/other")).isNull();
+		verify(this.credentialOperations, times(1)).getByName(name, Object.class);
+	}
+
+	@Test
+	public void doesNothingWithoutReferences() {
+		this.environment.setProperty("spring.credhub.url", "https://credhub.example.com");
+		this.environment.setProperty("app.password", "plain");
+
+		this.postProcessor.postProcessEnvironment(this.environment, new SpringApplication());
+
+		assertThat(this.environment.getPropertySources().contains(CredHubPropertySource.PROPERTY_SOURCE_NAME))
+			.isFalse();
+		verifyNoInteractions(this.credHubOperations);
+	}
+
+	@Test
+	public void doesNothingWhenDisabled() {
+		this.environment.setProperty("spring.credhub.url", "https://credhub.example.com");
+		this.environment.setProperty("spring.credhub.property-source.enabled", "false");
+		this.environment.setProperty("app.password", "${credhub:/app/password}");
+
+		this.postProcessor.postProcessEnvironment(this.environment, new SpringApplication());
+
+		assertThat(this.environment.getPropertySources().contains(CredHubPropertySource.PROPERTY_SOURCE_NAME))
+			.isFalse();
+		verifyNoInteractions(this.credHubOperations);
+	}
+
+}
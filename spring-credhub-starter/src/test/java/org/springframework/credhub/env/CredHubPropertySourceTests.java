@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.env;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.credhub.core.credential.CredHubCredentialOperations;
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialSummary;
+import org.springframework.credhub.support.SimpleCredentialName;
+import org.springframework.credhub.support.utils.JsonUtils;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class CredHubPropertySourceTests {
+
+	private static final SimpleCredentialName VALUE_NAME = new SimpleCredentialName("/app/value");
+
+	private static final SimpleCredentialName USER_NAME = new SimpleCredentialName("/app/user");
+
+	private final ObjectMapper objectMapper = JsonUtils.buildObjectMapper();
+
+	@Mock
+	private CredHubCredentialOperations credentialOperations;
+
+	@Test
+	public void findCredentialNames() {
+		assertThat(CredHubPropertySource.findCredentialNames(
+				"jdbc://${credhub:/app/user#username}:${credhub:/app/user#password}@${credhub:/app/host}"))
+			.containsExactly("/app/user", "/app/host");
+		assertThat(CredHubPropertySource.findCredentialNames("${credhub:${app.name}/value}")).isEmpty();
+		assertThat(CredHubPropertySource.findCredentialNames("${other:/app/value}")).isEmpty();
+	}
+
+	@Test
+	public void resolvesPlaceholders() throws JsonProcessingException {
+		given(this.credentialOperations.getByName(VALUE_NAME, Object.class))
+			.willReturn(details("1", "/app/value", "value", "\"secret\"", "2020-01-01T00:00:00Z"));
+		given(this.credentialOperations.getByName(USER_NAME, Object.class)).willReturn(details("2", "/app/user", "user",
+				"{\"username\":\"user\",\"password\":\"pass\"}", "2020-01-01T00:00:00Z"));
+
+		MockEnvironment environment = new MockEnvironment();
+		environment.getPropertySources().addLast(new CredHubPropertySource(this.credentialOperations));
+
+		assertThat(environment.resolvePlaceholders("${credhub:/app/value}")).isEqualTo("secret");
+		assertThat(environment.resolvePlaceholders("${credhub:/app/user#username}:${credhub:/app/user#password}"))
+			.isEqualTo("user:pass");
+		assertThat(environment.resolvePlaceholders("${credhub:/app/user}"))
+			.isEqualTo("{\"username\":\"user\",\"password\":\"pass\"}");
+
+		verify(this.credentialOperations, times(1)).getByName(USER_NAME, Object.class);
+	}
+
+	@Test
+	public void convertsValueOnceWhenRetrieved() throws JsonProcessingException {
+		given(this.credentialOperations.getByName(USER_NAME, Object.class)).willReturn(details("2", "/app/user", "user",
+				"{\"username\":\"user\",\"password\":\"pass\"}", "2020-01-01T00:00:00Z"));
+
+		CredHubPropertySource propertySource = new CredHubPropertySource(this.credentialOperations);
+		Object json = propertySource.getProperty("credhub:/app/user");
+
+		assertThat(json).isEqualTo("{\"username\":\"user\",\"password\":\"pass\"}");
+		assertThat(propertySource.getProperty("credhub:/app/user")).isSameAs(json);
+		assertThat(propertySource.getProperty("credhub:/app/user#password")).isEqualTo("pass");
+		verify(this.credentialOperations, times(1)).getByName(USER_NAME, Object.class);
+	}
+
+	@Test
+	public void loadRetrievesCredentialsOnce() throws JsonProcessingException {
+		given(this.credentialOperations.getByName(VALUE_NAME, Object.class))
+			.willReturn(details("1", "/app/value", "value", "\"secret\"", "2020-01-01T00:00:00Z"));
+
+		CredHubPropertySource propertySource = new CredHubPropertySource(this.credentialOperations);
+		propertySource.load(Collections.singletonList("/app/value"), Runnable::run);
+		propertySource.load(Collections.singletonList("/app/value"), Runnable::run);
+
+		assertThat(propertySource.getCredentialNames()).containsExactly("/app/value");
+		assertThat(propertySource.getProperty("credhub:/app/value")).isEqualTo("secret");
+		assertThat(propertySource.getProperty("/app/value")).isNull();
+
+		verify(this.credentialOperations, times(1)).getByName(VALUE_NAME, Object.class);
+	}
+
+	@Test
+	public void refreshRetrievesChangedCredentials() throws JsonProcessingException {
+		given(this.credentialOperations.getByName(VALUE_NAME, Object.class))
+			.willReturn(details("1", "/app/value", "value", "\"secret\"", "2020-01-01T00:00:00Z"))
+			.willReturn(details("3", "/app/value", "value", "\"new-secret\"", "2020-02-01T00:00:00Z"));
+		given(this.credentialOperations.getByName(USER_NAME, Object.class)).willReturn(details("2", "/app/user", "user",
+				"{\"username\":\"user\",\"password\":\"pass\"}", "2020-01-01T00:00:00Z"));
+
+		given(this.credentialOperations.findByName(VALUE_NAME))
+			.willReturn(summaries(summary("/app/value", "2020-02-01T00:00:00Z")));
+		given(this.credentialOperations.findByName(USER_NAME))
+			.willReturn(summaries(summary("/app/user", "2020-01-01T00:00:00Z")));
+
+		CredHubPropertySource propertySource = new CredHubPropertySource(this.credentialOperations);
+		propertySource.load(Arrays.asList("/app/value", "/app/user"), Runnable::run);
+
+		assertThat(propertySource.refresh(Runnable::run)).containsExactly("/app/value");
+		assertThat(propertySource.getProperty("credhub:/app/value")).isEqualTo("new-secret");
+		assertThat(propertySource.getProperty("credhub:/app/user#password")).isEqualTo("pass");
+
+		verify(this.credentialOperations, times(1)).getByName(USER_NAME, Object.class);
+	}
+
+	@Test
+	public void refreshKeepsValueOnError() throws JsonProcessingException {
+		given(this.credentialOperations.getByName(VALUE_NAME, Object.class))
+			.willReturn(details("1", "/app/value", "value", "\"secret\"", "2020-01-01T00:00:00Z"));
+		given(this.credentialOperations.findByName(VALUE_NAME)).willThrow(new IllegalStateException("unavailable"));
+
+		CredHubPropertySource propertySource = new CredHubPropertySource(this.credentialOperations);
+		propertySource.load(Collections.singletonList("/app/value"), Runnable::run);
+
+		assertThat(propertySource.refresh(Runnable::run)).isEmpty();
+		assertThat(propertySource.getProperty("credhub:/app/value")).isEqualTo("secret");
+	}
+
+	private CredentialDetails<Object> details(String id, String name, String type, String value,
+			String versionCreatedAt) throws JsonProcessingException {
+		String json = "{\"id\":\"" + id + "\",\"name\":\"" + name + "\",\"type\":\"" + type + "\",\"value\":" + value
+				+ ",\"version_created_at\":\"" + versionCreatedAt + "\"}";
+		return this.objectMapper.readValue(json, new TypeReference<>() {
+		});
+	}
+
+	private CredentialSummary summary(String name, String versionCreatedAt) throws JsonProcessingException {
+		String json = "{\"name\":\"" + name + "\",\"version_created_at\":\"" + versionCreatedAt + "\"}";
+		return this.objectMapper.readValue(json, CredentialSummary.class);
+	}
+
+	private static List<CredentialSummary> summaries(CredentialSummary... summaries) {
+		return Arrays.asList(summaries);
+	}
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.env;
+
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.credhub.core.CredHubOperations;
+import org.springframework.credhub.core.interpolation.CredHubInterpolationOperations;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.withSettings;
+
+public class CredHubServicesEnvironmentPostProcessorTests {
+
+	private static final String VCAP_SERVICES = """
+			{"service-offering":[{"name":"service-instance","label":"service-offering",\
+			"credentials":{"credhub-ref":"((/c/service-broker/service-offering/1111/credentials))"}}]}""";
+
+	private static final String INTERPOLATED_VCAP_SERVICES = """
+			{"service-offering":[{"name":"service-instance","label":"service-offering",\
+			"credentials":{"username":"user","password":"secret","hosts":["host-1","host-2"]}}]}""";
+
+	private final CredHubOperations credHubOperations = mock(CredHubOperations.class);
+
+	private final CredHubInterpolationOperations interpolationOperations = mock(CredHubInterpolationOperations.class);
+
+	private final CredHubServicesEnvironmentPostProcessor postProcessor = new CredHubServicesEnvironmentPostProcessor(
+			Supplier::get, (environment) -> new BootstrapCredHubOperations(this.credHubOperations, null));
+
+	private final MockEnvironment environment = new MockEnvironment();
+
+	private final BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(10);
+
+	private final SpringApplication application = new SpringApplication();
+
+	@BeforeEach
+	public void setUp() {
+		CredHubServicesEnvironmentPostProcessor.clearCache();
+		this.application.setApplicationStartup(this.applicationStartup);
+		given(this.credHubOperations.interpolation()).willReturn(this.interpolationOperations);
+		given(this.interpolationOperations.interpolateServiceData(VCAP_SERVICES))
+			.willReturn(INTERPOLATED_VCAP_SERVICES);
+	}
+
+	@Test
+	public void interpolatesServiceData() {
+		this.environment.setProperty("spring.credhub.interpolation.enabled", "true");
+		this.environment.setProperty("VCAP_SERVICES", VCAP_SERVICES);
+
+		this.postProcessor.postProcessEnvironment(this.environment, this.application);
+
+		assertThat(this.environment.getPropertySources().iterator().next().getName())
+			.isEqualTo(CredHubServicesEnvironmentPostProcessor.PROPERTY_SOURCE_NAME);
+		assertThat(this.environment.getProperty("VCAP_SERVICES")).isEqualTo(INTERPOLATED_VCAP_SERVICES);
+		assertThat(this.environment.getProperty("vcap.services.service-instance.credentials.username"))
+			.isEqualTo("user");
+		assertThat(this.environment.getProperty("vcap.services.service-instance.credentials.password"))
+			.isEqualTo("secret");
+		assertThat(this.environment.getProperty("vcap.services.service-instance.credentials.hosts[1]"))
+			.isEqualTo("host-2");
+
+		TimelineEvent event = this.applicationStartup.getBufferedTimeline().getEvents().get(0);
+		assertThat(event.getStartupStep().getName()).isEqualTo("spring.credhub.interpolation");
+		assertThat(event.getStartupStep().getTags()).anySatisfy((tag) -> {
+			assertThat(tag.getKey()).isEqualTo("cached");
+			assertThat(tag.getValue()).isEqualTo("false");
+		});
+	}
+
+	@Test
+	public void interpolatesServiceDataOnce() {
+		this.environment.setProperty("spring.credhub.interpolation.enabled", "true");
+		this.environment.setProperty("VCAP_SERVICES", VCAP_SERVICES);
+
+		this.postProcessor.postProcessEnvironment(this.environment, this.application);
+
+		MockEnvironment anotherEnvironment = new MockEnvironment();
+		anotherEnvironment.setProperty("spring.credhub.interpolation.enabled", "true");
+		anotherEnvironment.setProperty("VCAP_SERVICES", VCAP_SERVICES);
+
+		this.postProcessor.postProcessEnvironment(anotherEnvironment, this.application);
+
+		assertThat(anotherEnvironment.getProperty("VCAP_SERVICES")).isEqualTo(INTERPOLATED_VCAP_SERVICES);
+		verify(this.interpolationOperations, times(1)).interpolateServiceData(VCAP_SERVICES);
+	}
+
+	@Test
+	public void closesBootstrapClientAfterInterpolating() throws Exception {
+		ClientHttpRequestFactory requestFactory = mock(ClientHttpRequestFactory.class,
+				withSettings().extraInterfaces(DisposableBean.class));
+		CredHubServicesEnvironmentPostProcessor postProcessor = new CredHubServicesEnvironmentPostProcessor(
+				Supplier::get, (environment) -> new BootstrapCredHubOperations(this.credHubOperations, requestFactory));
+		this.environment.setProperty("spring.credhub.interpolation.enabled", "true");
+		this.environment.setProperty("VCAP_SERVICES", VCAP_SERVICES);
+
+		postProcessor.postProcessEnvironment(this.environment, this.application);
+
+		assertThat(this.environment.getProperty("VCAP_SERVICES")).isEqualTo(INTERPOLATED_VCAP_SERVICES);
+		verify((DisposableBean) requestFactory).destroy();
+	}
+
+	@Test
+	public void commandLineArgumentsTakePrecedence() {
+		this.environment.getPropertySources()
+			.addFirst(new SimpleCommandLinePropertySource("--vcap.services.service-instance.credentials.username=cli"));
+		this.environment.setProperty("spring.credhub.interpolation.enabled", "true");
+		this.environment.setProperty("VCAP_SERVICES", VCAP_SERVICES);
+
+		this.postProcessor.postProcessEnvironment(this.environment, this.application);
+
+		assertThat(this.environment.getProperty("vcap.services.service-instance.credentials.username"))
+			.isEqualTo("cli");
+		assertThat(this.environment.getProperty("vcap.services.service-instance.credentials.password"))
+			.isEqualTo("secret");
+	}
+
+	@Test
+	public void doesNothingWhenNotEnabled() {
+		CredHubOperations unusedOperations = mock(CredHubOperations.class);
+		CredHubServicesEnvironmentPostProcessor postProcessor = new CredHubServicesEnvironmentPostProcessor(
+				Supplier::get, (environment) -> new BootstrapCredHubOperations(unusedOperations, null));
+		this.environment.setProperty("VCAP_SERVICES", VCAP_SERVICES);
+
+		postProcessor.postProcessEnvironment(this.environment, this.application);
+
+		assertThat(this.environment.getPropertySources()
+			.contains(CredHubServicesEnvironmentPostProcessor.PROPERTY_SOURCE_NAME)).isFalse();
+		verifyNoInteractions(unusedOperations);
+	}
+
+}
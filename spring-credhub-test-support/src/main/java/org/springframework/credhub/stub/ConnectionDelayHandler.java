@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.stub;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.ReferenceCountUtil;
+
+/**
+ * A Netty handler placed first in the pipeline of a new connection that holds back all
+ * received data for a fixed delay, and then removes itself. When the connection uses TLS,
+ * this delays the TLS handshake.
+ *
+ * @author agent
+ */
+final class ConnectionDelayHandler extends ChannelInboundHandlerAdapter {
+
+	private final long delayNanos;
+
+	private final List<Object> pending = new ArrayList<>();
+
+	private boolean released;
+
+	ConnectionDelayHandler(long delayNanos) {
+		this.delayNanos = delayNanos;
+	}
+
+	@Override
+	public void handlerAdded(ChannelHandlerContext context) {
+		context.executor().schedule(() -> release(context), this.delayNanos, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void channelRead(ChannelHandlerContext context, Object message) {
+		if (this.released) {
+			context.fireChannelRead(message);
+		}
+		else {
+			this.pending.add(message);
+		}
+	}
+
+	@Override
+	public void channelReadComplete(ChannelHandlerContext context) {
+		if (this.released) {
+			context.fireChannelReadComplete();
+		}
+	}
+
+	@Override
+	public void handlerRemoved(ChannelHandlerContext context) {
+		this.pending.forEach(ReferenceCountUtil::release);
+		this.pending.clear();
+	}
+
+	private void release(ChannelHandlerContext context) {
+		if (this.released || context.isRemoved()) {
+			return;
+		}
+		this.released = true;
+		for (Object message : this.pending) {
+			context.fireChannelRead(message);
+		}
+		this.pending.clear();
+		context.fireChannelReadComplete();
+		context.pipeline().remove(this);
+	}
+
+}
@@ -0,0 +1,733 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.stub;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.Http11SslContextSpec;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+import reactor.netty.resources.LoopResources;
+
+import org.springframework.util.Assert;
+
+/**
+ * An in-process stub of the CredHub API for tests and load testing, which runs on Reactor
+ * Netty and keeps all credentials and permissions in memory. It implements the endpoints
+ * used by the Spring CredHub templates:
+ * <ul>
+ * <li>{@literal /api/v1/data}, including queries by id, name, name-like, path and
+ * versions, writing, generating and deleting credentials</li>
+ * <li>{@literal /api/v1/regenerate} and {@literal /api/v1/bulk-regenerate}</li>
+ * <li>{@literal /api/v1/certificates}, including regenerating certificates and updating
+ * transitional versions</li>
+ * <li>{@literal /api/v1/interpolate}</li>
+ * <li>{@literal /api/v1/permissions} and {@literal /api/v2/permissions}</li>
+ * <li>{@literal /info} and {@literal /version}</li>
+ * <li>{@literal /oauth/token}, which issues a random bearer token for any request</li>
+ * </ul>
+ *
+ * Requests are not authenticated. Each response is delayed by a sample of the configured
+ * {@link Builder#latency(Distribution) latency distribution}, and the sizes of seeded
+ * values and generated keys and certificates are samples of the configured
+ * {@link Builder#valueSize(Distribution) value size distribution}. Generated keys and
+ * certificates are random placeholder PEM blocks, not valid cryptographic material. Only
+ * the most recent versions of each credential are kept, so that write-heavy load tests
+ * run in bounded memory.
+ *
+ * The server can {@link Builder#faults(FaultInjection) inject faults} to reproduce the
+ * behavior of an unhealthy CredHub server, and the faults can be
+ * {@link #setFaultInjection(FaultInjection) changed} while the server is running. When
+ * {@link Builder#tls() TLS is enabled}, the server uses a self-signed certificate for
+ * {@literal localhost} that clients can trust using {@link #getCaCertificateFile()}.
+ *
+ * @author agent
+ */
+public final class CredHubStubServer implements AutoCloseable {
+
+	private static final ObjectMapper objectMapper = new ObjectMapper();
+
+	private static final JsonNodeFactory json = JsonNodeFactory.instance;
+
+	private static final String DATA_PATH = "/api/v1/data";
+
+	private static final String CERTIFICATES_PATH = "/api/v1/certificates";
+
+	private static final String PERMISSIONS_V2_PATH = "/api/v2/permissions";
+
+	private static final String REGENERATE_SUFFIX = "/regenerate";
+
+	private static final String TRANSITIONAL_SUFFIX = "/update_transitional_version";
+
+	private static final byte[] EMPTY = new byte[0];
+
+	/**
+	 * The prefix of the names of the event loop threads used by the server, which are
+	 * separate from the default event loop threads used by Reactor Netty clients.
+	 */
+	public static final String THREAD_NAME_PREFIX = "credhub-stub";
+
+	private static final String CERTIFICATE_RESOURCE = "stub-server.crt";
+
+	private static final String PRIVATE_KEY_RESOURCE = "stub-server.key";
+
+	private final StubCredentialStore store;
+
+	private final Distribution latency;
+
+	private final String version;
+
+	private final String host;
+
+	private final AtomicLong requestCount = new AtomicLong();
+
+	private final Path caCertificateFile;
+
+	private final LoopResources loopResources = LoopResources.create(THREAD_NAME_PREFIX);
+
+	private final DisposableServer server;
+
+	private volatile FaultInjector faultInjector;
+
+	private CredHubStubServer(Builder builder) {
+		Random random = (builder.seed != null) ? new Random(builder.seed) : new Random();
+		this.store = new StubCredentialStore(builder.valueSize, random);
+		this.latency = builder.latency;
+		this.version = builder.version;
+		this.host = builder.host;
+		this.faultInjector = new FaultInjector(builder.faults);
+		for (int i = 0; i < builder.credentials; i++) {
+			this.store.seed(Builder.SEEDED_CREDENTIAL_PATH + "/credential-" + i);
+		}
+
+		HttpServer httpServer = HttpServer.create()
+			.host(builder.host)
+			.port(builder.port)
+			.runOn(this.loopResources)
+			.doOnChannelInit((observer, channel, remoteAddress) -> delayConnection(channel))
+			.handle(this::handle);
+		if (builder.tls) {
+			this.caCertificateFile = writeCaCertificateFile();
+			httpServer = httpServer.secure((spec) -> spec.sslContext(serverSslContextSpec()));
+		}
+		else {
+			this.caCertificateFile = null;
+		}
+		this.server = httpServer.bindNow();
+	}
+
+	/**
+	 * Create a builder for a {@link CredHubStubServer}.
+	 * @return the builder
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Start a {@link CredHubStubServer} on a random port with no latency and no
+	 * credentials.
+	 * @return the started server
+	 */
+	public static CredHubStubServer start() {
+		return builder().start();
+	}
+
+	/**
+	 * Get the base URL of the server, to be used as the CredHub URL by clients.
+	 * @return the base URL
+	 */
+	public String getUrl() {
+		return ((this.caCertificateFile != null) ? "https" : "http") + "://" + this.host + ":" + this.server.port();
+	}
+
+	/**
+	 * Get the path of a PEM file containing the certificate used by the server when TLS
+	 * is enabled, which can be provided to clients as a trusted CA certificate file.
+	 * @return the path of the certificate file
+	 * @throws IllegalStateException if TLS is not enabled
+	 */
+	public String getCaCertificateFile() {
+		Assert.state(this.caCertificateFile != null, "TLS is not enabled for this server");
+		return this.caCertificateFile.toString();
+	}
+
+	/**
+	 * Get the port the server is listening on.
+	 * @return the port
+	 */
+	public int getPort() {
+		return this.server.port();
+	}
+
+	/**
+	 * Get the number of requests received since the server was started or {@link #reset()
+	 * reset}.
+	 * @return the number of requests
+	 */
+	public long getRequestCount() {
+		return this.requestCount.get();
+	}
+
+	/**
+	 * Get the number of credentials stored by the server.
+	 * @return the number of credentials
+	 */
+	public int getCredentialCount() {
+		return this.store.size();
+	}
+
+	/**
+	 * Store a new version of a credential, as if written through the CredHub API.
+	 * @param name the credential name; must not be {@literal null}
+	 * @param type the credential type, for example {@literal value} or
+	 * {@literal password}; must not be {@literal null}
+	 * @param value the credential value, which is converted to JSON; must not be
+	 * {@literal null}
+	 * @return the id of the new credential version
+	 */
+	public String putCredential(String name, String type, Object value) {
+		Assert.notNull(name, "name must not be null");
+		Assert.notNull(type, "type must not be null");
+		Assert.notNull(value, "value must not be null");
+
+		ObjectNode request = json.objectNode().put("name", name).put("type", type);
+		request.set("value", objectMapper.valueToTree(value));
+		return this.store.write(request).get("id").asText();
+	}
+
+	/**
+	 * Change the faults injected by the server. Requests already in progress are not
+	 * affected.
+	 * @param faults the faults to inject; must not be {@literal null}
+	 */
+	public void setFaultInjection(FaultInjection faults) {
+		Assert.notNull(faults, "faults must not be null");
+		this.faultInjector = new FaultInjector(faults);
+	}
+
+	/**
+	 * Remove all credentials and permissions and reset the request count.
+	 */
+	public void reset() {
+		this.store.clear();
+		this.requestCount.set(0);
+	}
+
+	/**
+	 * Stop the server.
+	 */
+	@Override
+	public void close() {
+		this.server.disposeNow();
+		this.loopResources.dispose();
+		if (this.caCertificateFile != null) {
+			try {
+				Files.deleteIfExists(this.caCertificateFile);
+			}
+			catch (IOException ex) {
+				// the file is in the temporary directory and is removed eventually
+			}
+		}
+	}
+
+	private void delayConnection(Channel channel) {
+		Distribution connectionDelay = this.faultInjector.getFaults().getConnectionDelay();
+		if (connectionDelay != null) {
+			double delayMillis = connectionDelay.sample(ThreadLocalRandom.current());
+			if (delayMillis > 0) {
+				channel.pipeline().addFirst(new ConnectionDelayHandler((long) (delayMillis * 1_000_000)));
+			}
+		}
+	}
+
+	private Publisher<Void> handle(HttpServerRequest request, HttpServerResponse response) {
+		this.requestCount.incrementAndGet();
+		FaultInjector faults = this.faultInjector;
+		String method = request.method().name();
+		QueryStringDecoder uri = new QueryStringDecoder(request.uri());
+
+		Mono<StubResponse> result = request.receive()
+			.aggregate()
+			.asByteArray()
+			.defaultIfEmpty(EMPTY)
+			.map((body) -> respond(faults, method, uri, body));
+
+		double delayMillis = this.latency.sample(ThreadLocalRandom.current());
+		if (delayMillis > 0) {
+			result = result.delayElement(Duration.ofNanos((long) (delayMillis * 1_000_000)));
+		}
+
+		return result.flatMap((stubResponse) -> {
+			if (stubResponse == StubResponse.RESET) {
+				return Mono.<Void>empty().doOnSubscribe((subscription) -> response.withConnection(this::reset));
+			}
+			response.status(stubResponse.status);
+			if (stubResponse.retryAfter) {
+				response.header(HttpHeaderNames.RETRY_AFTER, "1");
+			}
+			if (stubResponse.body == null) {
+				return response.send();
+			}
+			response.header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+				.header(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(stubResponse.body.length));
+			if (faults.getFaults().isSlowBody()) {
+				return response.send(trickle(stubResponse.body, faults.getFaults()), (buffer) -> true).then();
+			}
+			return response.sendByteArray(Mono.just(stubResponse.body)).then();
+		});
+	}
+
+	private StubResponse respond(FaultInjector faults, String method, QueryStringDecoder uri, byte[] body) {
+		RandomGenerator random = ThreadLocalRandom.current();
+		if (faults.resetConnection(random)) {
+			return StubResponse.RESET;
+		}
+		int errorStatus = faults.nextErrorStatus(random);
+		if (errorStatus != 0) {
+			return StubResponse.error(errorStatus);
+		}
+		return dispatch(method, uri, body);
+	}
+
+	private void reset(Connection connection) {
+		Channel channel = connection.channel();
+		channel.config().setOption(ChannelOption.SO_LINGER, 0);
+		channel.close();
+	}
+
+	private static Flux<ByteBuf> trickle(byte[] body, FaultInjection faults) {
+		int chunkSize = faults.getSlowBodyChunkSize();
+		int chunks = (body.length + chunkSize - 1) / chunkSize;
+		return Flux.range(0, chunks)
+			.delayElements(faults.getSlowBodyInterval())
+			.map((chunk) -> Unpooled.wrappedBuffer(body, chunk * chunkSize,
+					Math.min(chunkSize, body.length - chunk * chunkSize)));
+	}
+
+	private static Path writeCaCertificateFile() {
+		try (InputStream certificate = CredHubStubServer.class.getResourceAsStream(CERTIFICATE_RESOURCE)) {
+			Path file = Files.createTempFile("credhub-stub-", ".crt");
+			Files.write(file, certificate.readAllBytes());
+			return file;
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private static Http11SslContextSpec serverSslContextSpec() {
+		try (InputStream certificate = CredHubStubServer.class.getResourceAsStream(CERTIFICATE_RESOURCE);
+				InputStream privateKey = CredHubStubServer.class.getResourceAsStream(PRIVATE_KEY_RESOURCE)) {
+			return Http11SslContextSpec.forServer(certificate, privateKey);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private StubResponse dispatch(String method, QueryStringDecoder uri, byte[] body) {
+		try {
+			return route(method, uri.path(), uri.parameters(), body);
+		}
+		catch (StubException ex) {
+			return StubResponse.of(ex.getStatus(), json.objectNode().put("error", ex.getMessage()));
+		}
+	}
+
+	private StubResponse route(String method, String path, Map<String, List<String>> parameters, byte[] body) {
+		switch (path) {
+			case "/info":
+				requireMethod(method, "GET");
+				ObjectNode info = json.objectNode();
+				info.putObject("auth-server").put("url", getUrl());
+				info.putObject("app").put("name", "CredHub");
+				return StubResponse.ok(info);
+			case "/version":
+				requireMethod(method, "GET");
+				return StubResponse.ok(json.objectNode().put("version", this.version));
+			case "/oauth/token":
+				requireMethod(method, "POST");
+				return StubResponse.ok(json.objectNode()
+					.put("access_token", UUID.randomUUID().toString())
+					.put("token_type", "bearer")
+					.put("expires_in", 3600)
+					.put("scope", "credhub.read credhub.write")
+					.put("jti", UUID.randomUUID().toString()));
+			case DATA_PATH:
+				return data(method, parameters, body);
+			case "/api/v1/regenerate":
+				requireMethod(method, "POST");
+				return StubResponse.ok(this.store.regenerate(parse(body)));
+			case "/api/v1/bulk-regenerate":
+				requireMethod(method, "POST");
+				return StubResponse.ok(this.store.bulkRegenerate(parse(body)));
+			case CERTIFICATES_PATH:
+				requireMethod(method, "GET");
+				return StubResponse.ok(this.store.getCertificates(parameter(parameters, "name")));
+			case "/api/v1/interpolate":
+				requireMethod(method, "POST");
+				return StubResponse.ok(this.store.interpolate(parse(body)));
+			case "/api/v1/permissions":
+				return permissionsV1(method, parameters, body);
+			case PERMISSIONS_V2_PATH:
+				if ("POST".equals(method)) {
+					return StubResponse.of(HttpResponseStatus.CREATED.code(), this.store.addPermission(parse(body)));
+				}
+				requireMethod(method, "GET");
+				return StubResponse.ok(this.store.getPermission(requireParameter(parameters, "path"),
+						requireParameter(parameters, "actor")));
+			default:
+				return routeById(method, path, body);
+		}
+	}
+
+	private StubResponse data(String method, Map<String, List<String>> parameters, byte[] body) {
+		switch (method) {
+			case "GET":
+				String name = parameter(parameters, "name");
+				if (name != null) {
+					String versions = parameter(parameters, "versions");
+					return StubResponse.ok(this.store.getByName(name, "true".equals(parameter(parameters, "current")),
+							(versions != null) ? parseInt(versions) : null));
+				}
+				String nameLike = parameter(parameters, "name-like");
+				if (nameLike != null) {
+					return StubResponse.ok(this.store.findByNameLike(nameLike));
+				}
+				return StubResponse.ok(this.store.findByPath(requireParameter(parameters, "path")));
+			case "PUT":
+				return StubResponse.ok(this.store.write(parse(body)));
+			case "POST":
+				return StubResponse.ok(this.store.generate(parse(body)));
+			case "DELETE":
+				this.store.delete(requireParameter(parameters, "name"));
+				return StubResponse.noContent();
+			default:
+				throw methodNotAllowed();
+		}
+	}
+
+	private StubResponse permissionsV1(String method, Map<String, List<String>> parameters, byte[] body) {
+		switch (method) {
+			case "GET":
+				return StubResponse.ok(this.store.getPermissions(requireParameter(parameters, "credential_name")));
+			case "POST":
+				return StubResponse.of(HttpResponseStatus.CREATED.code(), this.store.addPermissions(parse(body)));
+			case "DELETE":
+				this.store.deletePermission(requireParameter(parameters, "credential_name"),
+						requireParameter(parameters, "actor"));
+				return StubResponse.noContent();
+			default:
+				throw methodNotAllowed();
+		}
+	}
+
+	private StubResponse routeById(String method, String path, byte[] body) {
+		if (path.startsWith(DATA_PATH + "/")) {
+			requireMethod(method, "GET");
+			return StubResponse.ok(this.store.getById(path.substring(DATA_PATH.length() + 1)));
+		}
+		if (path.startsWith(CERTIFICATES_PATH + "/") && path.endsWith(REGENERATE_SUFFIX)) {
+			requireMethod(method, "POST");
+			String id = path.substring(CERTIFICATES_PATH.length() + 1, path.length() - REGENERATE_SUFFIX.length());
+			return StubResponse.ok(this.store.regenerateCertificate(id, parse(body)));
+		}
+		if (path.startsWith(CERTIFICATES_PATH + "/") && path.endsWith(TRANSITIONAL_SUFFIX)) {
+			requireMethod(method, "PUT");
+			String id = path.substring(CERTIFICATES_PATH.length() + 1, path.length() - TRANSITIONAL_SUFFIX.length());
+			return StubResponse.ok(this.store.updateTransitionalVersion(id, parse(body)));
+		}
+		if (path.startsWith(PERMISSIONS_V2_PATH + "/")) {
+			String uuid = path.substring(PERMISSIONS_V2_PATH.length() + 1);
+			return switch (method) {
+				case "GET" -> StubResponse.ok(this.store.getPermission(uuid));
+				case "PUT" -> StubResponse.ok(this.store.updatePermission(uuid, parse(body)));
+				case "DELETE" -> StubResponse.ok(this.store.deletePermission(uuid));
+				default -> throw methodNotAllowed();
+			};
+		}
+		throw new StubException(HttpResponseStatus.NOT_FOUND.code(), "The requested resource was not found.");
+	}
+
+	private static JsonNode parse(byte[] body) {
+		try {
+			JsonNode node = (body.length > 0) ? objectMapper.readTree(body) : null;
+			if (node == null || node.isMissingNode()) {
+				throw StubException.badRequest("The request body is missing.");
+			}
+			return node;
+		}
+		catch (IOException ex) {
+			throw StubException.badRequest("The request could not be fulfilled because the request path or body "
+					+ "did not meet expectation. Please check the documentation for required formatting and retry "
+					+ "your request.");
+		}
+	}
+
+	private static int parseInt(String value) {
+		try {
+			return Integer.parseInt(value);
+		}
+		catch (NumberFormatException ex) {
+			throw StubException.badRequest("The versions parameter must be a number.");
+		}
+	}
+
+	private static String parameter(Map<String, List<String>> parameters, String name) {
+		List<String> values = parameters.get(name);
+		return (values != null && !values.isEmpty()) ? values.get(0) : null;
+	}
+
+	private static String requireParameter(Map<String, List<String>> parameters, String name) {
+		String value = parameter(parameters, name);
+		if (value == null) {
+			throw StubException.badRequest("The query parameter " + name + " is required for this request.");
+		}
+		return value;
+	}
+
+	private static void requireMethod(String method, String expected) {
+		if (!expected.equals(method)) {
+			throw methodNotAllowed();
+		}
+	}
+
+	private static StubException methodNotAllowed() {
+		return new StubException(HttpResponseStatus.METHOD_NOT_ALLOWED.code(),
+				"The request method is not supported for this resource.");
+	}
+
+	/**
+	 * Builder for a {@link CredHubStubServer}.
+	 */
+	public static final class Builder {
+
+		/**
+		 * The path of the credentials added by {@link #credentials(int)}.
+		 */
+		public static final String SEEDED_CREDENTIAL_PATH = "/stub";
+
+		private String host = "localhost";
+
+		private int port;
+
+		private Distribution latency = Distribution.constant(0);
+
+		private Distribution valueSize = Distribution.constant(1024);
+
+		private int credentials;
+
+		private Long seed;
+
+		private String version = "2.12.0";
+
+		private FaultInjection faults = FaultInjection.NONE;
+
+		private boolean tls;
+
+		private Builder() {
+		}
+
+		/**
+		 * Set the host name or address to listen on. Defaults to {@literal localhost}.
+		 * @param host the host
+		 * @return the builder
+		 */
+		public Builder host(String host) {
+			Assert.hasText(host, "host must not be empty");
+			this.host = host;
+			return this;
+		}
+
+		/**
+		 * Set the port to listen on. Defaults to {@literal 0}, which selects a random
+		 * free port.
+		 * @param port the port
+		 * @return the builder
+		 */
+		public Builder port(int port) {
+			Assert.isTrue(port >= 0, "port must not be negative");
+			this.port = port;
+			return this;
+		}
+
+		/**
+		 * Set the distribution of response latencies in milliseconds. Defaults to no
+		 * latency.
+		 * @param latency the latency distribution; must not be {@literal null}
+		 * @return the builder
+		 */
+		public Builder latency(Distribution latency) {
+			Assert.notNull(latency, "latency must not be null");
+			this.latency = latency;
+			return this;
+		}
+
+		/**
+		 * Set the distribution of the sizes in bytes of seeded values and of generated
+		 * keys and certificates. Defaults to 1024 bytes.
+		 * @param valueSize the value size distribution; must not be {@literal null}
+		 * @return the builder
+		 */
+		public Builder valueSize(Distribution valueSize) {
+			Assert.notNull(valueSize, "valueSize must not be null");
+			this.valueSize = valueSize;
+			return this;
+		}
+
+		/**
+		 * Set the number of value credentials to add when the server starts, named
+		 * {@literal /stub/credential-<n>}.
+		 * @param credentials the number of credentials
+		 * @return the builder
+		 */
+		public Builder credentials(int credentials) {
+			Assert.isTrue(credentials >= 0, "credentials must not be negative");
+			this.credentials = credentials;
+			return this;
+		}
+
+		/**
+		 * Set the seed for generated values, so that the stored data is reproducible.
+		 * @param seed the seed
+		 * @return the builder
+		 */
+		public Builder seed(long seed) {
+			this.seed = seed;
+			return this;
+		}
+
+		/**
+		 * Set the CredHub version returned by the {@literal /version} endpoint.
+		 * @param version the version; must not be empty
+		 * @return the builder
+		 */
+		public Builder version(String version) {
+			Assert.hasText(version, "version must not be empty");
+			this.version = version;
+			return this;
+		}
+
+		/**
+		 * Set the faults injected by the server. Defaults to {@link FaultInjection#NONE}.
+		 * @param faults the faults to inject; must not be {@literal null}
+		 * @return the builder
+		 */
+		public Builder faults(FaultInjection faults) {
+			Assert.notNull(faults, "faults must not be null");
+			this.faults = faults;
+			return this;
+		}
+
+		/**
+		 * Serve HTTPS with a self-signed certificate for {@literal localhost} instead of
+		 * HTTP.
+		 * @return the builder
+		 */
+		public Builder tls() {
+			this.tls = true;
+			return this;
+		}
+
+		/**
+		 * Build and start the server.
+		 * @return the started server
+		 */
+		public CredHubStubServer start() {
+			return new CredHubStubServer(this);
+		}
+
+	}
+
+	private static final class StubResponse {
+
+		static final StubResponse RESET = new StubResponse(0, null, false);
+
+		private final int status;
+
+		private final byte[] body;
+
+		private final boolean retryAfter;
+
+		private StubResponse(int status, byte[] body, boolean retryAfter) {
+			this.status = status;
+			this.body = body;
+			this.retryAfter = retryAfter;
+		}
+
+		static StubResponse ok(JsonNode body) {
+			return of(HttpResponseStatus.OK.code(), body);
+		}
+
+		static StubResponse noContent() {
+			return new StubResponse(HttpResponseStatus.NO_CONTENT.code(), null, false);
+		}
+
+		static StubResponse error(int status) {
+			boolean retryAfter = status == HttpResponseStatus.TOO_MANY_REQUESTS.code()
+					|| status == HttpResponseStatus.SERVICE_UNAVAILABLE.code();
+			return new StubResponse(status,
+					toBytes(json.objectNode().put("error", "The server is unable to handle the request.")), retryAfter);
+		}
+
+		static StubResponse of(int status, JsonNode body) {
+			return new StubResponse(status, toBytes(body), false);
+		}
+
+		private static byte[] toBytes(JsonNode body) {
+			try {
+				return objectMapper.writeValueAsBytes(body);
+			}
+			catch (JsonProcessingException ex) {
+				throw new IllegalStateException(ex);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.stub;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Encodes the ASN.1 DER values needed to build X.509 certificates.
+ *
+ * @author agent
+ */
+final class Der {
+
+	private static final int BOOLEAN = 0x01;
+
+	private static final int INTEGER = 0x02;
+
+	private static final int BIT_STRING = 0x03;
+
+	private static final int OCTET_STRING = 0x04;
+
+	private static final int NULL = 0x05;
+
+	private static final int OBJECT_IDENTIFIER = 0x06;
+
+	private static final int UTF8_STRING = 0x0c;
+
+	private static final int PRINTABLE_STRING = 0x13;
+
+	private static final int IA5_STRING = 0x16;
+
+	private static final int UTC_TIME = 0x17;
+
+	private static final int GENERALIZED_TIME = 0x18;
+
+	private static final int SEQUENCE = 0x30;
+
+	private static final int SET = 0x31;
+
+	private static final int UTC_TIME_MAX_YEAR = 2049;
+
+	private static final DateTimeFormatter UTC_TIME_FORMAT = DateTimeFormatter.ofPattern("yyMMddHHmmss'Z'");
+
+	private static final DateTimeFormatter GENERALIZED_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss'Z'");
+
+	private Der() {
+	}
+
+	static byte[] sequence(byte[]... contents) {
+		return tagged(SEQUENCE, contents);
+	}
+
+	static byte[] set(byte[]... contents) {
+		return tagged(SET, contents);
+	}
+
+	static byte[] integer(BigInteger value) {
+		return tagged(INTEGER, value.toByteArray());
+	}
+
+	static byte[] bool(boolean value) {
+		return tagged(BOOLEAN, new byte[] { (byte) (value ? 0xff : 0x00) });
+	}
+
+	static byte[] nul() {
+		return tagged(NULL);
+	}
+
+	static byte[] octetString(byte[] value) {
+		return tagged(OCTET_STRING, value);
+	}
+
+	/**
+	 * Encode a bit string.
+	 * @param value the bits, most significant bit first
+	 * @param unusedBits the number of unused bits in the last byte
+	 * @return the encoded bit string
+	 */
+	static byte[] bitString(byte[] value, int unusedBits) {
+		return tagged(BIT_STRING, new byte[] { (byte) unusedBits }, value);
+	}
+
+	static byte[] utf8String(String value) {
+		return tagged(UTF8_STRING, value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	static byte[] printableString(String value) {
+		return tagged(PRINTABLE_STRING, value.getBytes(StandardCharsets.US_ASCII));
+	}
+
+	static byte[] ia5String(String value) {
+		return tagged(IA5_STRING, value.getBytes(StandardCharsets.US_ASCII));
+	}
+
+	/**
+	 * Encode a time as a {@literal UTCTime} before 2050 and as a
+	 * {@literal GeneralizedTime} from 2050, as required for X.509 validity periods.
+	 * @param instant the time
+	 * @return the encoded time
+	 */
+	static byte[] time(Instant instant) {
+		ZonedDateTime time = instant.atZone(ZoneOffset.UTC);
+		if (time.getYear() <= UTC_TIME_MAX_YEAR) {
+			return tagged(UTC_TIME, UTC_TIME_FORMAT.format(time).getBytes(StandardCharsets.US_ASCII));
+		}
+		return tagged(GENERALIZED_TIME, GENERALIZED_TIME_FORMAT.format(time).getBytes(StandardCharsets.US_ASCII));
+	}
+
+	static byte[] objectIdentifier(String oid) {
+		String[] arcs = oid.split("\\.");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		writeBase128(out, Long.parseLong(arcs[0]) * 40 + Long.parseLong(arcs[1]));
+		for (int i = 2; i < arcs.length; i++) {
+			writeBase128(out, Long.parseLong(arcs[i]));
+		}
+		return tagged(OBJECT_IDENTIFIER, out.toByteArray());
+	}
+
+	/**
+	 * Encode a value with a tag, which may be a context-specific tag such as
+	 * {@literal 0xa0}.
+	 * @param tag the tag
+	 * @param contents the encoded contents
+	 * @return the encoded value
+	 */
+	static byte[] tagged(int tag, byte[]... contents) {
+		int length = 0;
+		for (byte[] content : contents) {
+			length += content.length;
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream(length + 6);
+		out.write(tag);
+		writeLength(out, length);
+		for (byte[] content : contents) {
+			out.writeBytes(content);
+		}
+		return out.toByteArray();
+	}
+
+	private static void writeLength(ByteArrayOutputStream out, int length) {
+		if (length < 0x80) {
+			out.write(length);
+			return;
+		}
+		int bytes = (32 - Integer.numberOfLeadingZeros(length) + 7) / 8;
+		out.write(0x80 | bytes);
+		for (int i = bytes - 1; i >= 0; i--) {
+			out.write(length >>> (8 * i));
+		}
+	}
+
+	private static void writeBase128(ByteArrayOutputStream out, long value) {
+		int groups = Math.max(1, (64 - Long.numberOfLeadingZeros(value) + 6) / 7);
+		for (int i = groups - 1; i >= 0; i--) {
+			int group = (int) ((value >>> (7 * i)) & 0x7f);
+			out.write((i > 0) ? (group | 0x80) : group);
+		}
+	}
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.stub;
+
+import java.util.random.RandomGenerator;
+
+import org.springframework.util.Assert;
+
+/**
+ * A distribution of non-negative values, used by the {@link CredHubStubServer} to vary
+ * response latencies and the sizes of stored values.
+ *
+ * @author agent
+ */
+@FunctionalInterface
+public interface Distribution {
+
+	/**
+	 * Take a sample from the distribution.
+	 * @param random the source of randomness
+	 * @return a non-negative sample
+	 */
+	double sample(RandomGenerator random);
+
+	/**
+	 * A distribution that always returns the provided value.
+	 * @param value the value; must not be negative
+	 * @return the distribution
+	 */
+	static Distribution constant(double value) {
+		Assert.isTrue(value >= 0, "value must not be negative");
+		return (random) -> value;
+	}
+
+	/**
+	 * A distribution of values evenly spread between a minimum and a maximum.
+	 * @param min the minimum value; must not be negative
+	 * @param max the maximum value; must not be less than {@literal min}
+	 * @return the distribution
+	 */
+	static Distribution uniform(double min, double max) {
+		Assert.isTrue(min >= 0, "min must not be negative");
+		Assert.isTrue(max >= min, "max must not be less than min");
+		return (random) -> (max > min) ? random.nextDouble(min, max) : min;
+	}
+
+	/**
+	 * An exponential distribution with the provided mean, which models the time between
+	 * independent events.
+	 * @param mean the mean value; must be greater than {@literal 0}
+	 * @return the distribution
+	 */
+	static Distribution exponential(double mean) {
+		Assert.isTrue(mean > 0, "mean must be greater than 0");
+		return (random) -> random.nextExponential() * mean;
+	}
+
+	/**
+	 * A log-normal distribution with the provided median and 99th percentile, which
+	 * models the long tail of real service latencies.
+	 * @param median the median value; must be greater than {@literal 0}
+	 * @param p99 the 99th percentile value; must not be less than {@literal median}
+	 * @return the distribution
+	 */
+	static Distribution logNormal(double median, double p99) {
+		Assert.isTrue(median > 0, "median must be greater than 0");
+		Assert.isTrue(p99 >= median, "p99 must not be less than median");
+		// 2.326 is the 99th percentile of the standard normal distribution
+		double sigma = Math.log(p99 / median) / 2.326;
+		double mu = Math.log(median);
+		return (random) -> Math.exp(mu + sigma * random.nextGaussian());
+	}
+
+}
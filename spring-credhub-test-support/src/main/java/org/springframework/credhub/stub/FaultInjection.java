@@ -0,0 +1,225 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.stub;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * The faults a {@link CredHubStubServer} injects to reproduce the behavior of an
+ * unhealthy CredHub server:
+ * <ul>
+ * <li>connection resets, where the connection is closed with a TCP reset instead of a
+ * response</li>
+ * <li>bursts of error responses, for example {@literal 503 Service Unavailable} or
+ * {@literal 429 Too Many Requests}, where each burst fails a number of consecutive
+ * requests</li>
+ * <li>slow responses, where the response body trickles to the client in small chunks</li>
+ * <li>connection delays, where the first bytes received on each new connection are held
+ * back, which delays the TLS handshake when the server uses TLS</li>
+ * </ul>
+ *
+ * Faults are decided independently for each request, and connection resets take
+ * precedence over error bursts.
+ *
+ * @author agent
+ */
+public final class FaultInjection {
+
+	/**
+	 * Injects no faults.
+	 */
+	public static final FaultInjection NONE = builder().build();
+
+	private final double connectionResetProbability;
+
+	private final List<ErrorBurst> errorBursts;
+
+	private final int slowBodyChunkSize;
+
+	private final Duration slowBodyInterval;
+
+	private final Distribution connectionDelay;
+
+	private FaultInjection(Builder builder) {
+		this.connectionResetProbability = builder.connectionResetProbability;
+		this.errorBursts = List.copyOf(builder.errorBursts);
+		this.slowBodyChunkSize = builder.slowBodyChunkSize;
+		this.slowBodyInterval = builder.slowBodyInterval;
+		this.connectionDelay = builder.connectionDelay;
+	}
+
+	/**
+	 * Create a builder for a {@link FaultInjection}.
+	 * @return the builder
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	double getConnectionResetProbability() {
+		return this.connectionResetProbability;
+	}
+
+	List<ErrorBurst> getErrorBursts() {
+		return this.errorBursts;
+	}
+
+	boolean isSlowBody() {
+		return this.slowBodyInterval != null;
+	}
+
+	int getSlowBodyChunkSize() {
+		return this.slowBodyChunkSize;
+	}
+
+	Duration getSlowBodyInterval() {
+		return this.slowBodyInterval;
+	}
+
+	Distribution getConnectionDelay() {
+		return this.connectionDelay;
+	}
+
+	/**
+	 * Builder for a {@link FaultInjection}.
+	 */
+	public static final class Builder {
+
+		private double connectionResetProbability;
+
+		private final List<ErrorBurst> errorBursts = new ArrayList<>();
+
+		private int slowBodyChunkSize;
+
+		private Duration slowBodyInterval;
+
+		private Distribution connectionDelay;
+
+		private Builder() {
+		}
+
+		/**
+		 * Reset the connection instead of responding to a request with the provided
+		 * probability.
+		 * @param probability the probability of a connection reset, between {@literal 0}
+		 * and {@literal 1}
+		 * @return the builder
+		 */
+		public Builder connectionResets(double probability) {
+			assertProbability(probability);
+			this.connectionResetProbability = probability;
+			return this;
+		}
+
+		/**
+		 * Start a burst of error responses with the provided probability for each request
+		 * that is not already part of a burst. Responses with a status of
+		 * {@literal 429 Too Many Requests} or {@literal 503 Service Unavailable} include
+		 * a {@literal Retry-After} header. Can be called more than once to add several
+		 * kinds of bursts.
+		 * @param status the HTTP status of the error responses; must be {@literal 4xx} or
+		 * {@literal 5xx}
+		 * @param probability the probability that a request starts a burst, between
+		 * {@literal 0} and {@literal 1}
+		 * @param length the number of consecutive requests that fail in each burst; must
+		 * be greater than {@literal 0}
+		 * @return the builder
+		 */
+		public Builder errorBursts(int status, double probability, int length) {
+			Assert.isTrue(status >= 400 && status < 600, "status must be a 4xx or 5xx status");
+			assertProbability(probability);
+			Assert.isTrue(length > 0, "length must be greater than 0");
+			this.errorBursts.add(new ErrorBurst(status, probability, length));
+			return this;
+		}
+
+		/**
+		 * Send response bodies in chunks of the provided size, with the provided interval
+		 * before each chunk.
+		 * @param chunkSize the size of each chunk in bytes; must be greater than
+		 * {@literal 0}
+		 * @param interval the interval before each chunk; must not be {@literal null}
+		 * @return the builder
+		 */
+		public Builder slowBody(int chunkSize, Duration interval) {
+			Assert.isTrue(chunkSize > 0, "chunkSize must be greater than 0");
+			Assert.notNull(interval, "interval must not be null");
+			this.slowBodyChunkSize = chunkSize;
+			this.slowBodyInterval = interval;
+			return this;
+		}
+
+		/**
+		 * Hold back the first bytes received on each new connection for a sample of the
+		 * provided distribution in milliseconds. When the server uses TLS this delays the
+		 * TLS handshake.
+		 * @param delay the connection delay distribution; must not be {@literal null}
+		 * @return the builder
+		 */
+		public Builder connectionDelay(Distribution delay) {
+			Assert.notNull(delay, "delay must not be null");
+			this.connectionDelay = delay;
+			return this;
+		}
+
+		/**
+		 * Build the {@link FaultInjection}.
+		 * @return the fault injection
+		 */
+		public FaultInjection build() {
+			return new FaultInjection(this);
+		}
+
+		private static void assertProbability(double probability) {
+			Assert.isTrue(probability >= 0 && probability <= 1, "probability must be between 0 and 1");
+		}
+
+	}
+
+	static final class ErrorBurst {
+
+		private final int status;
+
+		private final double probability;
+
+		private final int length;
+
+		private ErrorBurst(int status, double probability, int length) {
+			this.status = status;
+			this.probability = probability;
+			this.length = length;
+		}
+
+		int getStatus() {
+			return this.status;
+		}
+
+		double getProbability() {
+			return this.probability;
+		}
+
+		int getLength() {
+			return this.length;
+		}
+
+	}
+
+}
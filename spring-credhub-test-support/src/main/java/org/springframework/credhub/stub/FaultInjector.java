@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.stub;
+
+import java.util.random.RandomGenerator;
+
+import org.springframework.credhub.stub.FaultInjection.ErrorBurst;
+
+/**
+ * Decides which faults to inject for each request received by a
+ * {@link CredHubStubServer}, keeping track of the error burst in progress.
+ *
+ * @author agent
+ */
+final class FaultInjector {
+
+	private final FaultInjection faults;
+
+	private int burstStatus;
+
+	private int burstRemaining;
+
+	FaultInjector(FaultInjection faults) {
+		this.faults = faults;
+	}
+
+	FaultInjection getFaults() {
+		return this.faults;
+	}
+
+	/**
+	 * Determine whether the connection should be reset instead of responding to a
+	 * request.
+	 * @param random the source of randomness
+	 * @return {@literal true} if the connection should be reset
+	 */
+	boolean resetConnection(RandomGenerator random) {
+		double probability = this.faults.getConnectionResetProbability();
+		return probability > 0 && random.nextDouble() < probability;
+	}
+
+	/**
+	 * Get the status of the error response for a request, continuing the burst in
+	 * progress or possibly starting a new burst.
+	 * @param random the source of randomness
+	 * @return the HTTP status of the error response, or {@literal 0} if the request
+	 * should be handled normally
+	 */
+	synchronized int nextErrorStatus(RandomGenerator random) {
+		if (this.burstRemaining > 0) {
+			this.burstRemaining--;
+			return this.burstStatus;
+		}
+		for (ErrorBurst burst : this.faults.getErrorBursts()) {
+			if (random.nextDouble() < burst.getProbability()) {
+				this.burstStatus = burst.getStatus();
+				this.burstRemaining = burst.getLength() - 1;
+				return this.burstStatus;
+			}
+		}
+		return 0;
+	}
+
+}
@@ -0,0 +1,465 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.stub;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.springframework.credhub.core.CredHubException;
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialDetailsData;
+import org.springframework.credhub.support.CredentialName;
+import org.springframework.credhub.support.CredentialPermission;
+import org.springframework.credhub.support.CredentialPermissions;
+import org.springframework.credhub.support.CredentialRequest;
+import org.springframework.credhub.support.CredentialSummary;
+import org.springframework.credhub.support.CredentialSummaryData;
+import org.springframework.credhub.support.ParametersRequest;
+import org.springframework.credhub.support.ServicesData;
+import org.springframework.credhub.support.certificate.CertificateCredentialDetails;
+import org.springframework.credhub.support.certificate.CertificateSummary;
+import org.springframework.credhub.support.certificate.CertificateSummaryData;
+import org.springframework.credhub.support.info.VersionInfo;
+import org.springframework.credhub.support.permissions.Actor;
+import org.springframework.credhub.support.permissions.Operation;
+import org.springframework.credhub.support.permissions.Permission;
+import org.springframework.credhub.support.utils.JsonUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.Assert;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * The operations shared by {@link InMemoryCredHubTemplate} and
+ * {@link InMemoryReactiveCredHubTemplate}. Requests are converted to the JSON documents
+ * of the CredHub API and applied to a {@link StubCredentialStore}, and the responses are
+ * converted back with the same {@link ObjectMapper} configuration the CredHub templates
+ * use, so that the results match those of a CredHub server.
+ *
+ * When an actor is set, every operation is checked against the permissions of the actor,
+ * as CredHub does for an authenticated client: reads of credentials the actor may not read
+ * fail as not found, and other operations that are not permitted fail as forbidden.
+ * Errors are thrown as {@link CredHubException}s with the status and error body CredHub
+ * would return.
+ *
+ * @author agent
+ */
+final class InMemoryCredHub {
+
+	private static final ObjectMapper objectMapper = JsonUtils.buildObjectMapper();
+
+	private static final ObjectMapper rawObjectMapper = new ObjectMapper();
+
+	private static final JsonNodeFactory json = JsonNodeFactory.instance;
+
+	private static final TypeReference<CredentialDetails<Object>> DETAILS = new TypeReference<>() {
+	};
+
+	private static final TypeReference<CredentialDetailsData<Object>> DETAILS_DATA = new TypeReference<>() {
+	};
+
+	private static final TypeReference<List<CertificateCredentialDetails>> CERTIFICATE_DETAILS = new TypeReference<>() {
+	};
+
+	private static final TypeReference<Map<String, List<CredentialName>>> REGENERATED = new TypeReference<>() {
+	};
+
+	private static final String CREDENTIALS_FIELD = "credentials";
+
+	private static final String CERTIFICATES_FIELD = "certificates";
+
+	private static final String REFERENCE_FIELD = "credhub-ref";
+
+	private final StubCredentialStore store;
+
+	private final String version;
+
+	private final Actor actor;
+
+	InMemoryCredHub(StubCredentialStore store, String version, Actor actor) {
+		this.store = store;
+		this.version = version;
+		this.actor = actor;
+	}
+
+	/**
+	 * Create a view of the same credentials that enforces the permissions of an actor.
+	 * @param actor the actor, or {@literal null} to permit all operations
+	 * @return the view
+	 */
+	InMemoryCredHub withActor(Actor actor) {
+		return new InMemoryCredHub(this.store, this.version, actor);
+	}
+
+	void reset() {
+		this.store.clear();
+	}
+
+	int getCredentialCount() {
+		return this.store.size();
+	}
+
+	// credentials
+
+	@SuppressWarnings("unchecked")
+	<T> CredentialDetails<T> write(CredentialRequest<T> credentialRequest) {
+		Assert.notNull(credentialRequest, "credentialRequest must not be null");
+
+		return call(() -> {
+			JsonNode request = objectMapper.valueToTree(credentialRequest);
+			requirePermitted(request.path("name").asText(null), Operation.WRITE);
+			return (CredentialDetails<T>) details(this.store.write(request));
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	<T, P> CredentialDetails<T> generate(ParametersRequest<P> parametersRequest) {
+		Assert.notNull(parametersRequest, "parametersRequest must not be null");
+
+		return call(() -> {
+			JsonNode request = objectMapper.valueToTree(parametersRequest);
+			requirePermitted(request.path("name").asText(null), Operation.WRITE);
+			return (CredentialDetails<T>) details(this.store.generate(request));
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	<T> CredentialDetails<T> regenerate(CredentialName name) {
+		Assert.notNull(name, "credential name must not be null");
+
+		return call(() -> {
+			requirePermitted(name.getName(), Operation.WRITE);
+			ObjectNode request = json.objectNode().put("name", name.getName());
+			return (CredentialDetails<T>) details(this.store.regenerate(request));
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	<T> CredentialDetails<T> getById(String id) {
+		Assert.notNull(id, "credential id must not be null");
+
+		return call(() -> {
+			JsonNode details = this.store.getById(id);
+			requireVisible(details.path("name").asText(), Operation.READ);
+			return (CredentialDetails<T>) details(details);
+		});
+	}
+
+	<T> CredentialDetails<T> getByName(CredentialName name) {
+		Assert.notNull(name, "credential name must not be null");
+
+		return this.<T>getByName(name, true, null).get(0);
+	}
+
+	@SuppressWarnings("unchecked")
+	<T> List<CredentialDetails<T>> getByName(CredentialName name, boolean current, Integer versions) {
+		Assert.notNull(name, "credential name must not be null");
+
+		return call(() -> {
+			requireVisible(name.getName(), Operation.READ);
+			CredentialDetailsData<Object> data = objectMapper
+				.convertValue(this.store.getByName(name.getName(), current, versions), DETAILS_DATA);
+			return (List<CredentialDetails<T>>) (List<?>) data.getData();
+		});
+	}
+
+	List<CredentialSummary> findByName(CredentialName name) {
+		Assert.notNull(name, "credential name must not be null");
+
+		return call(() -> summaries(this.store.findByNameLike(name.getName())));
+	}
+
+	List<CredentialSummary> findByPath(String path) {
+		Assert.notNull(path, "credential path must not be null");
+
+		return call(() -> summaries(this.store.findByPath(path)));
+	}
+
+	void deleteByName(CredentialName name) {
+		Assert.notNull(name, "credential name must not be null");
+
+		call(() -> {
+			requirePermitted(name.getName(), Operation.DELETE);
+			this.store.delete(name.getName());
+			return null;
+		});
+	}
+
+	// certificates
+
+	List<CertificateSummary> getAllCertificates() {
+		return call(() -> objectMapper
+			.convertValue(readableOnly(this.store.getCertificates(null), CERTIFICATES_FIELD),
+					CertificateSummaryData.class)
+			.getCertificates());
+	}
+
+	CertificateSummary getCertificateByName(CredentialName name) {
+		Assert.notNull(name, "certificate name must not be null");
+
+		return call(() -> {
+			requireVisible(name.getName(), Operation.READ);
+			return objectMapper.convertValue(this.store.getCertificates(name.getName()), CertificateSummaryData.class)
+				.getCertificates()
+				.get(0);
+		});
+	}
+
+	CertificateCredentialDetails regenerateCertificate(String id, boolean setAsTransitional) {
+		Assert.notNull(id, "credential ID must not be null");
+
+		return call(() -> {
+			requirePermitted(this.store.getCertificateName(id), Operation.WRITE);
+			ObjectNode request = json.objectNode().put("set_as_transitional", setAsTransitional);
+			return objectMapper.convertValue(this.store.regenerateCertificate(id, request),
+					CertificateCredentialDetails.class);
+		});
+	}
+
+	CertificateCredentialDetails regenerateCertificate(CredentialName name, boolean setAsTransitional) {
+		Assert.notNull(name, "certificate name must not be null");
+
+		return regenerateCertificate(getCertificateByName(name).getId(), setAsTransitional);
+	}
+
+	List<CredentialName> regenerateSignedBy(CredentialName certificateName) {
+		Assert.notNull(certificateName, "certificate name must not be null");
+
+		return call(() -> {
+			requireVisible(certificateName.getName(), Operation.READ);
+			ObjectNode request = json.objectNode().put("signed_by", certificateName.getName());
+			JsonNode response = this.store.bulkRegenerate(request, (name) -> isPermitted(name, Operation.WRITE));
+			return objectMapper.convertValue(response, REGENERATED).get("regenerated_credentials");
+		});
+	}
+
+	List<CertificateCredentialDetails> updateTransitionalVersion(String id, String versionId) {
+		Assert.notNull(id, "credential ID must not be null");
+
+		return call(() -> {
+			requirePermitted(this.store.getCertificateName(id), Operation.WRITE);
+			ObjectNode request = json.objectNode().put("version", versionId);
+			return objectMapper.convertValue(this.store.updateTransitionalVersion(id, request),
+					CERTIFICATE_DETAILS);
+		});
+	}
+
+	List<CertificateCredentialDetails> updateTransitionalVersion(CredentialName name, String versionId) {
+		Assert.notNull(name, "certificate name must not be null");
+
+		return updateTransitionalVersion(getCertificateByName(name).getId(), versionId);
+	}
+
+	// permissions
+
+	List<Permission> getPermissions(CredentialName name) {
+		Assert.notNull(name, "credential name must not be null");
+
+		return call(() -> {
+			requirePermitted(name.getName(), Operation.READ_ACL);
+			return objectMapper.convertValue(this.store.getPermissions(name.getName()), CredentialPermissions.class)
+				.getPermissions();
+		});
+	}
+
+	void addPermissions(CredentialName name, Permission... permissions) {
+		Assert.notNull(name, "credential name must not be null");
+
+		call(() -> {
+			requirePermitted(name.getName(), Operation.WRITE_ACL);
+			this.store.addPermissions(objectMapper.valueToTree(new CredentialPermissions(name, permissions)));
+			return null;
+		});
+	}
+
+	void deletePermission(CredentialName name, Actor actor) {
+		Assert.notNull(name, "credential name must not be null");
+		Assert.notNull(actor, "actor must not be null");
+
+		call(() -> {
+			requirePermitted(name.getName(), Operation.WRITE_ACL);
+			this.store.deletePermission(name.getName(), actor.getIdentity());
+			return null;
+		});
+	}
+
+	CredentialPermission getPermission(String id) {
+		Assert.notNull(id, "permission ID must not be null");
+
+		return call(() -> {
+			JsonNode permission = this.store.getPermission(id);
+			requireVisible(permission.path("path").asText(), Operation.READ_ACL);
+			return objectMapper.convertValue(permission, CredentialPermission.class);
+		});
+	}
+
+	CredentialPermission getPermission(CredentialName path, Actor actor) {
+		Assert.notNull(path, "path must not be null");
+		Assert.notNull(actor, "actor must not be null");
+
+		return call(() -> {
+			requireVisible(path.getName(), Operation.READ_ACL);
+			return objectMapper.convertValue(this.store.getPermission(path.getName(), actor.getIdentity()),
+					CredentialPermission.class);
+		});
+	}
+
+	CredentialPermission addPermission(CredentialName path, Permission permission) {
+		Assert.notNull(path, "path must not be null");
+		Assert.notNull(permission, "permission must not be null");
+
+		return call(() -> {
+			requirePermitted(path.getName(), Operation.WRITE_ACL);
+			JsonNode request = objectMapper.valueToTree(new CredentialPermission(path, permission));
+			return objectMapper.convertValue(this.store.addPermission(request), CredentialPermission.class);
+		});
+	}
+
+	CredentialPermission updatePermission(String id, CredentialName path, Permission permission) {
+		Assert.notNull(id, "ID must not be null");
+		Assert.notNull(path, "path must not be null");
+		Assert.notNull(permission, "permission must not be null");
+
+		return call(() -> {
+			requirePermitted(this.store.getPermission(id).path("path").asText(), Operation.WRITE_ACL);
+			requirePermitted(path.getName(), Operation.WRITE_ACL);
+			JsonNode request = objectMapper.valueToTree(new CredentialPermission(path, permission));
+			return objectMapper.convertValue(this.store.updatePermission(id, request), CredentialPermission.class);
+		});
+	}
+
+	void deletePermission(String id) {
+		Assert.notNull(id, "ID must not be null");
+
+		call(() -> {
+			requirePermitted(this.store.getPermission(id).path("path").asText(), Operation.WRITE_ACL);
+			this.store.deletePermission(id);
+			return null;
+		});
+	}
+
+	// interpolation
+
+	ServicesData interpolateServiceData(ServicesData serviceData) {
+		Assert.notNull(serviceData, "serviceData must not be null");
+
+		return call(() -> objectMapper.convertValue(interpolate(objectMapper.valueToTree(serviceData)),
+				ServicesData.class));
+	}
+
+	byte[] interpolateServiceData(byte[] serviceData) {
+		Assert.notNull(serviceData, "serviceData must not be null");
+
+		if (!new String(serviceData, StandardCharsets.UTF_8).contains(REFERENCE_FIELD)) {
+			return serviceData;
+		}
+		return call(() -> {
+			try {
+				return rawObjectMapper.writeValueAsBytes(interpolate(rawObjectMapper.readTree(serviceData)));
+			}
+			catch (IOException ex) {
+				throw StubException.badRequest("The request could not be fulfilled because the request path or body "
+						+ "did not meet expectation. Please check the documentation for required formatting and "
+						+ "retry your request.");
+			}
+		});
+	}
+
+	private JsonNode interpolate(JsonNode serviceData) {
+		return this.store.interpolate(serviceData, (name) -> isPermitted(name, Operation.READ));
+	}
+
+	// info
+
+	VersionInfo version() {
+		return new VersionInfo(this.version);
+	}
+
+	// permission checks
+
+	private boolean isPermitted(String name, Operation operation) {
+		return this.actor == null || this.store.isPermitted(this.actor.getIdentity(), name, operation.operation());
+	}
+
+	/**
+	 * Check that a read operation is permitted, reporting a denied operation as not found
+	 * so that the existence of the credential is not revealed.
+	 * @param name the credential name or permission path
+	 * @param operation the operation
+	 */
+	private void requireVisible(String name, Operation operation) {
+		if (!isPermitted(name, operation)) {
+			throw StubException.notFound();
+		}
+	}
+
+	private void requirePermitted(String name, Operation operation) {
+		if (name != null && !isPermitted(name, operation)) {
+			throw StubException.forbidden();
+		}
+	}
+
+	// JSON
+
+	private static CredentialDetails<Object> details(JsonNode details) {
+		return objectMapper.convertValue(details, DETAILS);
+	}
+
+	private List<CredentialSummary> summaries(JsonNode response) {
+		return objectMapper.convertValue(readableOnly(response, CREDENTIALS_FIELD), CredentialSummaryData.class)
+			.getCredentials();
+	}
+
+	private JsonNode readableOnly(JsonNode response, String field) {
+		if (this.actor == null) {
+			return response;
+		}
+		ArrayNode readable = json.arrayNode();
+		for (JsonNode entry : response.path(field)) {
+			if (isPermitted(entry.path("name").asText(), Operation.READ)) {
+				readable.add(entry);
+			}
+		}
+		return json.objectNode().set(field, readable);
+	}
+
+	private static <T> T call(Supplier<T> operation) {
+		try {
+			return operation.get();
+		}
+		catch (StubException ex) {
+			HttpHeaders headers = new HttpHeaders();
+			headers.setContentType(MediaType.APPLICATION_JSON);
+			String body = json.objectNode().put("error", ex.getMessage()).toString();
+			HttpStatus status = HttpStatus.valueOf(ex.getStatus());
+			throw new CredHubException(HttpClientErrorException.create(status, status.getReasonPhrase(), headers,
+					body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+		}
+	}
+
+}
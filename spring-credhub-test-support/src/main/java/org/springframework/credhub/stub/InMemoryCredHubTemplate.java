@@ -0,0 +1,469 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.stub;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.springframework.credhub.core.CredHubOperations;
+import org.springframework.credhub.core.RestOperationsCallback;
+import org.springframework.credhub.core.certificate.CredHubCertificateOperations;
+import org.springframework.credhub.core.credential.CredHubCredentialOperations;
+import org.springframework.credhub.core.info.CredHubInfoOperations;
+import org.springframework.credhub.core.interpolation.CredHubInterpolationOperations;
+import org.springframework.credhub.core.permission.CredHubPermissionOperations;
+import org.springframework.credhub.core.permissionV2.CredHubPermissionV2Operations;
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialName;
+import org.springframework.credhub.support.CredentialPermission;
+import org.springframework.credhub.support.CredentialRequest;
+import org.springframework.credhub.support.CredentialSummary;
+import org.springframework.credhub.support.ParametersRequest;
+import org.springframework.credhub.support.ServicesData;
+import org.springframework.credhub.support.certificate.CertificateCredentialDetails;
+import org.springframework.credhub.support.certificate.CertificateSummary;
+import org.springframework.credhub.support.info.VersionInfo;
+import org.springframework.credhub.support.permissions.Actor;
+import org.springframework.credhub.support.permissions.Permission;
+import org.springframework.util.Assert;
+
+/**
+ * An in-memory implementation of {@link CredHubOperations} for fast application tests,
+ * which keeps all credentials and permissions in memory and makes no HTTP requests. It
+ * can also be used as a zero-latency baseline in benchmarks.
+ *
+ * The template follows the behavior of a CredHub server:
+ * <ul>
+ * <li>every write creates a new credential version, honoring the
+ * {@link org.springframework.credhub.support.WriteMode} of the request, and all versions
+ * are kept</li>
+ * <li>passwords, users, RSA and SSH keys and certificates are generated with the JDK
+ * crypto APIs, and certificates are signed by the certificate authority named in the
+ * parameters</li>
+ * <li>certificates can be regenerated individually or in bulk by their signing
+ * certificate authority, and transitional versions can be set</li>
+ * <li>permissions can be managed with the V1 and V2 permission APIs, and are enforced
+ * for a view of the template {@link #withActor(Actor) acting as an actor}</li>
+ * </ul>
+ *
+ * Errors are thrown as {@link org.springframework.credhub.core.CredHubException}s with
+ * the status CredHub would return. The template is thread-safe, and an
+ * {@link InMemoryReactiveCredHubTemplate} sharing the same credentials can be created with
+ * {@link #reactive()}.
+ *
+ * @author agent
+ */
+public class InMemoryCredHubTemplate implements CredHubOperations {
+
+	private final InMemoryCredHub credHub;
+
+	private final CredHubCredentialOperations credentialOperations;
+
+	private final CredHubPermissionOperations permissionOperations;
+
+	private final CredHubPermissionV2Operations permissionV2Operations;
+
+	private final CredHubCertificateOperations certificateOperations;
+
+	private final CredHubInterpolationOperations interpolationOperations;
+
+	private final CredHubInfoOperations infoOperations;
+
+	/**
+	 * Create a new {@link InMemoryCredHubTemplate} with no credentials, which generates
+	 * real key material.
+	 */
+	public InMemoryCredHubTemplate() {
+		this(builder().createCredHub());
+	}
+
+	InMemoryCredHubTemplate(InMemoryCredHub credHub) {
+		this.credHub = credHub;
+		this.credentialOperations = new Credentials(credHub);
+		this.permissionOperations = new Permissions(credHub);
+		this.permissionV2Operations = new PermissionsV2(credHub);
+		this.certificateOperations = new Certificates(credHub);
+		this.interpolationOperations = new Interpolation(credHub);
+		this.infoOperations = credHub::version;
+	}
+
+	/**
+	 * Create a builder for an {@link InMemoryCredHubTemplate}.
+	 * @return the builder
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	@Override
+	public CredHubCredentialOperations credentials() {
+		return this.credentialOperations;
+	}
+
+	@Override
+	public CredHubPermissionOperations permissions() {
+		return this.permissionOperations;
+	}
+
+	@Override
+	public CredHubPermissionV2Operations permissionsV2() {
+		return this.permissionV2Operations;
+	}
+
+	@Override
+	public CredHubCertificateOperations certificates() {
+		return this.certificateOperations;
+	}
+
+	@Override
+	public CredHubInterpolationOperations interpolation() {
+		return this.interpolationOperations;
+	}
+
+	@Override
+	public CredHubInfoOperations info() {
+		return this.infoOperations;
+	}
+
+	/**
+	 * Not supported, since the template makes no HTTP requests.
+	 * @param callback the callback
+	 * @param <T> the type of the return value
+	 * @return never returns
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public <T> T doWithRest(RestOperationsCallback<T> callback) {
+		throw new UnsupportedOperationException("An in-memory CredHub template does not use a RestTemplate");
+	}
+
+	/**
+	 * Create a view of the same credentials that enforces the permissions of an actor, as
+	 * CredHub does for a client authenticated as the actor. Reading a credential the actor
+	 * has no {@literal read} permission for fails as not found, and other operations the
+	 * actor has no permission for fail as forbidden. Permissions granted to a path ending
+	 * in {@literal /*} apply to all credentials under the path.
+	 * @param actor the actor; must not be {@literal null}
+	 * @return the view
+	 */
+	public InMemoryCredHubTemplate withActor(Actor actor) {
+		Assert.notNull(actor, "actor must not be null");
+		return new InMemoryCredHubTemplate(this.credHub.withActor(actor));
+	}
+
+	/**
+	 * Create an {@link InMemoryReactiveCredHubTemplate} that shares the credentials and
+	 * permissions of this template, and the actor if one is set.
+	 * @return the reactive template
+	 */
+	public InMemoryReactiveCredHubTemplate reactive() {
+		return new InMemoryReactiveCredHubTemplate(this.credHub);
+	}
+
+	/**
+	 * Get the number of credentials stored by the template.
+	 * @return the number of credentials
+	 */
+	public int getCredentialCount() {
+		return this.credHub.getCredentialCount();
+	}
+
+	/**
+	 * Remove all credentials and permissions.
+	 */
+	public void reset() {
+		this.credHub.reset();
+	}
+
+	/**
+	 * A builder for in-memory CredHub templates.
+	 */
+	public static final class Builder {
+
+		private static final String DEFAULT_VERSION = "2.12.0";
+
+		private String version = DEFAULT_VERSION;
+
+		private boolean placeholderKeyMaterial;
+
+		private Builder() {
+		}
+
+		/**
+		 * Set the CredHub version returned by the info operations.
+		 * @param version the version; must not be empty
+		 * @return this builder
+		 */
+		public Builder version(String version) {
+			Assert.hasText(version, "version must not be empty");
+			this.version = version;
+			return this;
+		}
+
+		/**
+		 * Generate RSA and SSH keys and certificates as random placeholder PEM blocks
+		 * instead of real key material. Placeholders are much cheaper to generate, but
+		 * can not be parsed or used for cryptographic operations.
+		 * @return this builder
+		 */
+		public Builder placeholderKeyMaterial() {
+			this.placeholderKeyMaterial = true;
+			return this;
+		}
+
+		/**
+		 * Build an {@link InMemoryCredHubTemplate}.
+		 * @return the template
+		 */
+		public InMemoryCredHubTemplate build() {
+			return new InMemoryCredHubTemplate(createCredHub());
+		}
+
+		/**
+		 * Build an {@link InMemoryReactiveCredHubTemplate}.
+		 * @return the reactive template
+		 */
+		public InMemoryReactiveCredHubTemplate buildReactive() {
+			return new InMemoryReactiveCredHubTemplate(createCredHub());
+		}
+
+		InMemoryCredHub createCredHub() {
+			Distribution valueSize = Distribution.constant(1024);
+			SecureRandom random = new SecureRandom();
+			KeyMaterialGenerator keyMaterial = this.placeholderKeyMaterial
+					? new PlaceholderKeyMaterialGenerator(valueSize, random) : new JdkKeyMaterialGenerator();
+			StubCredentialStore store = new StubCredentialStore(valueSize, random, keyMaterial, Integer.MAX_VALUE);
+			return new InMemoryCredHub(store, this.version, null);
+		}
+
+	}
+
+	private static final class Credentials implements CredHubCredentialOperations {
+
+		private final InMemoryCredHub credHub;
+
+		private Credentials(InMemoryCredHub credHub) {
+			this.credHub = credHub;
+		}
+
+		@Override
+		public <T> CredentialDetails<T> write(CredentialRequest<T> credentialRequest) {
+			return this.credHub.write(credentialRequest);
+		}
+
+		@Override
+		public <T, P> CredentialDetails<T> generate(ParametersRequest<P> parametersRequest) {
+			return this.credHub.generate(parametersRequest);
+		}
+
+		@Override
+		public <T> CredentialDetails<T> regenerate(CredentialName name, Class<T> credentialType) {
+			Assert.notNull(credentialType, "credential type must not be null");
+			return this.credHub.regenerate(name);
+		}
+
+		@Override
+		public <T> CredentialDetails<T> getById(String id, Class<T> credentialType) {
+			Assert.notNull(credentialType, "credential type must not be null");
+			return this.credHub.getById(id);
+		}
+
+		@Override
+		public <T> CredentialDetails<T> getByName(CredentialName name, Class<T> credentialType) {
+			Assert.notNull(credentialType, "credential type must not be null");
+			return this.credHub.getByName(name);
+		}
+
+		@Override
+		public <T> List<CredentialDetails<T>> getByNameWithHistory(CredentialName name, Class<T> credentialType) {
+			Assert.notNull(credentialType, "credential type must not be null");
+			return this.credHub.getByName(name, false, null);
+		}
+
+		@Override
+		public <T> List<CredentialDetails<T>> getByNameWithHistory(CredentialName name, int versions,
+				Class<T> credentialType) {
+			Assert.notNull(credentialType, "credential type must not be null");
+			return this.credHub.getByName(name, false, versions);
+		}
+
+		@Override
+		public List<CredentialSummary> findByName(CredentialName name) {
+			return this.credHub.findByName(name);
+		}
+
+		@Override
+		public List<CredentialSummary> findByPath(String path) {
+			return this.credHub.findByPath(path);
+		}
+
+		@Override
+		public void deleteByName(CredentialName name) {
+			this.credHub.deleteByName(name);
+		}
+
+	}
+
+	private static final class Certificates implements CredHubCertificateOperations {
+
+		private final InMemoryCredHub credHub;
+
+		private Certificates(InMemoryCredHub credHub) {
+			this.credHub = credHub;
+		}
+
+		@Override
+		public List<CertificateSummary> getAll() {
+			return this.credHub.getAllCertificates();
+		}
+
+		@Override
+		public CertificateSummary getByName(CredentialName name) {
+			return this.credHub.getCertificateByName(name);
+		}
+
+		@Override
+		public CertificateCredentialDetails regenerate(String id, boolean setAsTransitional) {
+			return this.credHub.regenerateCertificate(id, setAsTransitional);
+		}
+
+		@Override
+		public CertificateCredentialDetails regenerate(CredentialName name, boolean setAsTransitional) {
+			return this.credHub.regenerateCertificate(name, setAsTransitional);
+		}
+
+		@Override
+		public List<CredentialName> regenerate(CredentialName certificateName) {
+			return this.credHub.regenerateSignedBy(certificateName);
+		}
+
+		@Override
+		public List<CertificateCredentialDetails> updateTransitionalVersion(String id, String versionId) {
+			return this.credHub.updateTransitionalVersion(id, versionId);
+		}
+
+		@Override
+		public List<CertificateCredentialDetails> updateTransitionalVersion(CredentialName name, String versionId) {
+			return this.credHub.updateTransitionalVersion(name, versionId);
+		}
+
+	}
+
+	private static final class Permissions implements CredHubPermissionOperations {
+
+		private final InMemoryCredHub credHub;
+
+		private Permissions(InMemoryCredHub credHub) {
+			this.credHub = credHub;
+		}
+
+		@Override
+		public List<Permission> getPermissions(CredentialName name) {
+			return this.credHub.getPermissions(name);
+		}
+
+		@Override
+		public void addPermissions(CredentialName name, Permission... permissions) {
+			this.credHub.addPermissions(name, permissions);
+		}
+
+		@Override
+		public void deletePermission(CredentialName name, Actor actor) {
+			this.credHub.deletePermission(name, actor);
+		}
+
+	}
+
+	private static final class PermissionsV2 implements CredHubPermissionV2Operations {
+
+		private final InMemoryCredHub credHub;
+
+		private PermissionsV2(InMemoryCredHub credHub) {
+			this.credHub = credHub;
+		}
+
+		@Override
+		public CredentialPermission getPermissions(String id) {
+			return this.credHub.getPermission(id);
+		}
+
+		@Override
+		public CredentialPermission getPermissionsByPathAndActor(CredentialName path, Actor actor) {
+			return this.credHub.getPermission(path, actor);
+		}
+
+		@Override
+		public CredentialPermission addPermissions(CredentialName path, Permission permission) {
+			return this.credHub.addPermission(path, permission);
+		}
+
+		@Override
+		public CredentialPermission updatePermissions(String id, CredentialName path, Permission permission) {
+			return this.credHub.updatePermission(id, path, permission);
+		}
+
+		@Override
+		public void deletePermission(String id) {
+			this.credHub.deletePermission(id);
+		}
+
+	}
+
+	private static final class Interpolation implements CredHubInterpolationOperations {
+
+		private final InMemoryCredHub credHub;
+
+		private Interpolation(InMemoryCredHub credHub) {
+			this.credHub = credHub;
+		}
+
+		@Override
+		public ServicesData interpolateServiceData(ServicesData serviceData) {
+			return this.credHub.interpolateServiceData(serviceData);
+		}
+
+		/**
+		 * Interpolate service data in a single operation, since there is no request size
+		 * to bound in memory.
+		 * @param serviceData the service data to interpolate
+		 * @param chunkSize ignored
+		 * @param executor ignored
+		 * @return the interpolated service data
+		 */
+		@Override
+		public ServicesData interpolateServiceData(ServicesData serviceData, int chunkSize, Executor executor) {
+			Assert.notNull(executor, "executor must not be null");
+			return this.credHub.interpolateServiceData(serviceData);
+		}
+
+		@Override
+		public String interpolateServiceData(String serviceData) {
+			Assert.notNull(serviceData, "serviceData must not be null");
+			return new String(this.credHub.interpolateServiceData(serviceData.getBytes(StandardCharsets.UTF_8)),
+					StandardCharsets.UTF_8);
+		}
+
+		@Override
+		public byte[] interpolateServiceData(byte[] serviceData) {
+			return this.credHub.interpolateServiceData(serviceData);
+		}
+
+	}
+
+}
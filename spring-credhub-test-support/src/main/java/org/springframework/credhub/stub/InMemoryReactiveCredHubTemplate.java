@@ -0,0 +1,381 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.stub;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.credhub.core.ReactiveCredHubOperations;
+import org.springframework.credhub.core.certificate.ReactiveCredHubCertificateOperations;
+import org.springframework.credhub.core.credential.ReactiveCredHubCredentialOperations;
+import org.springframework.credhub.core.info.ReactiveCredHubInfoOperations;
+import org.springframework.credhub.core.interpolation.ReactiveCredHubInterpolationOperations;
+import org.springframework.credhub.core.permission.ReactiveCredHubPermissionOperations;
+import org.springframework.credhub.core.permissionV2.ReactiveCredHubPermissionV2Operations;
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialName;
+import org.springframework.credhub.support.CredentialPermission;
+import org.springframework.credhub.support.CredentialRequest;
+import org.springframework.credhub.support.CredentialSummary;
+import org.springframework.credhub.support.ParametersRequest;
+import org.springframework.credhub.support.ServicesData;
+import org.springframework.credhub.support.certificate.CertificateCredentialDetails;
+import org.springframework.credhub.support.certificate.CertificateSummary;
+import org.springframework.credhub.support.permissions.Actor;
+import org.springframework.credhub.support.permissions.Permission;
+import org.springframework.util.Assert;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * An in-memory implementation of {@link ReactiveCredHubOperations} for fast application
+ * tests. The template behaves as {@link InMemoryCredHubTemplate} does, and each operation
+ * is applied in memory when the returned publisher is subscribed to.
+ *
+ * @author agent
+ * @see InMemoryCredHubTemplate
+ */
+public class InMemoryReactiveCredHubTemplate implements ReactiveCredHubOperations {
+
+	private final InMemoryCredHub credHub;
+
+	private final ReactiveCredHubCredentialOperations credentialOperations;
+
+	private final ReactiveCredHubPermissionOperations permissionOperations;
+
+	private final ReactiveCredHubPermissionV2Operations permissionV2Operations;
+
+	private final ReactiveCredHubCertificateOperations certificateOperations;
+
+	private final ReactiveCredHubInterpolationOperations interpolationOperations;
+
+	private final ReactiveCredHubInfoOperations infoOperations;
+
+	/**
+	 * Create a new {@link InMemoryReactiveCredHubTemplate} with no credentials, which
+	 * generates real key material.
+	 */
+	public InMemoryReactiveCredHubTemplate() {
+		this(InMemoryCredHubTemplate.builder().createCredHub());
+	}
+
+	InMemoryReactiveCredHubTemplate(InMemoryCredHub credHub) {
+		this.credHub = credHub;
+		this.credentialOperations = new Credentials(credHub);
+		this.permissionOperations = new Permissions(credHub);
+		this.permissionV2Operations = new PermissionsV2(credHub);
+		this.certificateOperations = new Certificates(credHub);
+		this.interpolationOperations = new Interpolation(credHub);
+		this.infoOperations = () -> Mono.fromCallable(credHub::version);
+	}
+
+	@Override
+	public ReactiveCredHubCredentialOperations credentials() {
+		return this.credentialOperations;
+	}
+
+	@Override
+	public ReactiveCredHubPermissionOperations permissions() {
+		return this.permissionOperations;
+	}
+
+	@Override
+	public ReactiveCredHubPermissionV2Operations permissionsV2() {
+		return this.permissionV2Operations;
+	}
+
+	@Override
+	public ReactiveCredHubCertificateOperations certificates() {
+		return this.certificateOperations;
+	}
+
+	@Override
+	public ReactiveCredHubInterpolationOperations interpolation() {
+		return this.interpolationOperations;
+	}
+
+	@Override
+	public ReactiveCredHubInfoOperations info() {
+		return this.infoOperations;
+	}
+
+	/**
+	 * Not supported, since the template makes no HTTP requests.
+	 * @param callback the callback
+	 * @param <V> the type of the values emitted by the publisher
+	 * @param <T> the type of the publisher
+	 * @return never returns
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public <V, T extends Publisher<V>> T doWithWebClient(Function<WebClient, ? extends T> callback) {
+		throw new UnsupportedOperationException("An in-memory CredHub template does not use a WebClient");
+	}
+
+	/**
+	 * Create a view of the same credentials that enforces the permissions of an actor.
+	 * @param actor the actor; must not be {@literal null}
+	 * @return the view
+	 * @see InMemoryCredHubTemplate#withActor(Actor)
+	 */
+	public InMemoryReactiveCredHubTemplate withActor(Actor actor) {
+		Assert.notNull(actor, "actor must not be null");
+		return new InMemoryReactiveCredHubTemplate(this.credHub.withActor(actor));
+	}
+
+	/**
+	 * Create an {@link InMemoryCredHubTemplate} that shares the credentials and
+	 * permissions of this template, and the actor if one is set.
+	 * @return the template
+	 */
+	public InMemoryCredHubTemplate blocking() {
+		return new InMemoryCredHubTemplate(this.credHub);
+	}
+
+	/**
+	 * Get the number of credentials stored by the template.
+	 * @return the number of credentials
+	 */
+	public int getCredentialCount() {
+		return this.credHub.getCredentialCount();
+	}
+
+	/**
+	 * Remove all credentials and permissions.
+	 */
+	public void reset() {
+		this.credHub.reset();
+	}
+
+	private static final class Credentials implements ReactiveCredHubCredentialOperations {
+
+		private final InMemoryCredHub credHub;
+
+		private Credentials(InMemoryCredHub credHub) {
+			this.credHub = credHub;
+		}
+
+		@Override
+		public <T> Mono<CredentialDetails<T>> write(CredentialRequest<T> credentialRequest) {
+			return Mono.fromCallable(() -> this.credHub.write(credentialRequest));
+		}
+
+		@Override
+		public <T, P> Mono<CredentialDetails<T>> generate(ParametersRequest<P> parametersRequest,
+				Class<T> credentialType) {
+			Assert.notNull(credentialType, "credential type must not be null");
+			return Mono.fromCallable(() -> this.credHub.<T, P>generate(parametersRequest));
+		}
+
+		@Override
+		public <T> Mono<CredentialDetails<T>> regenerate(CredentialName name, Class<T> credentialType) {
+			Assert.notNull(credentialType, "credential type must not be null");
+			return Mono.fromCallable(() -> this.credHub.<T>regenerate(name));
+		}
+
+		@Override
+		public <T> Mono<CredentialDetails<T>> getById(String id, Class<T> credentialType) {
+			Assert.notNull(credentialType, "credential type must not be null");
+			return Mono.fromCallable(() -> this.credHub.<T>getById(id));
+		}
+
+		@Override
+		public <T> Mono<CredentialDetails<T>> getByName(CredentialName name, Class<T> credentialType) {
+			Assert.notNull(credentialType, "credential type must not be null");
+			return Mono.fromCallable(() -> this.credHub.<T>getByName(name));
+		}
+
+		@Override
+		public <T> Flux<CredentialDetails<T>> getByNameWithHistory(CredentialName name, Class<T> credentialType) {
+			Assert.notNull(credentialType, "credential type must not be null");
+			return Flux.defer(() -> Flux.fromIterable(this.credHub.<T>getByName(name, false, null)));
+		}
+
+		@Override
+		public <T> Flux<CredentialDetails<T>> getByNameWithHistory(CredentialName name, int versions,
+				Class<T> credentialType) {
+			Assert.notNull(credentialType, "credential type must not be null");
+			return Flux.defer(() -> Flux.fromIterable(this.credHub.<T>getByName(name, false, versions)));
+		}
+
+		@Override
+		public Flux<CredentialSummary> findByName(CredentialName name) {
+			return Flux.defer(() -> Flux.fromIterable(this.credHub.findByName(name)));
+		}
+
+		@Override
+		public Flux<CredentialSummary> findByPath(String path) {
+			return Flux.defer(() -> Flux.fromIterable(this.credHub.findByPath(path)));
+		}
+
+		@Override
+		public Mono<Void> deleteByName(CredentialName name) {
+			return Mono.fromRunnable(() -> this.credHub.deleteByName(name));
+		}
+
+	}
+
+	private static final class Certificates implements ReactiveCredHubCertificateOperations {
+
+		private final InMemoryCredHub credHub;
+
+		private Certificates(InMemoryCredHub credHub) {
+			this.credHub = credHub;
+		}
+
+		@Override
+		public Flux<CertificateSummary> getAll() {
+			return Flux.defer(() -> Flux.fromIterable(this.credHub.getAllCertificates()));
+		}
+
+		@Override
+		public Mono<CertificateSummary> getByName(CredentialName name) {
+			return Mono.fromCallable(() -> this.credHub.getCertificateByName(name));
+		}
+
+		@Override
+		public Mono<CertificateCredentialDetails> regenerate(String id, boolean setAsTransitional) {
+			return Mono.fromCallable(() -> this.credHub.regenerateCertificate(id, setAsTransitional));
+		}
+
+		@Override
+		public Mono<CertificateCredentialDetails> regenerate(CredentialName name, boolean setAsTransitional) {
+			return Mono.fromCallable(() -> this.credHub.regenerateCertificate(name, setAsTransitional));
+		}
+
+		@Override
+		public Flux<CredentialName> regenerate(CredentialName certificateName) {
+			return Flux.defer(() -> Flux.fromIterable(this.credHub.regenerateSignedBy(certificateName)));
+		}
+
+		@Override
+		public Flux<CertificateCredentialDetails> updateTransitionalVersion(String id, String versionId) {
+			return Flux.defer(() -> Flux.fromIterable(this.credHub.updateTransitionalVersion(id, versionId)));
+		}
+
+		@Override
+		public Flux<CertificateCredentialDetails> updateTransitionalVersion(CredentialName name, String versionId) {
+			return Flux.defer(() -> Flux.fromIterable(this.credHub.updateTransitionalVersion(name, versionId)));
+		}
+
+	}
+
+	private static final class Permissions implements ReactiveCredHubPermissionOperations {
+
+		private final InMemoryCredHub credHub;
+
+		private Permissions(InMemoryCredHub credHub) {
+			this.credHub = credHub;
+		}
+
+		@Override
+		public Flux<Permission> getPermissions(CredentialName name) {
+			return Flux.defer(() -> Flux.fromIterable(this.credHub.getPermissions(name)));
+		}
+
+		@Override
+		public Mono<Void> addPermissions(CredentialName name, Permission... permissions) {
+			return Mono.fromRunnable(() -> this.credHub.addPermissions(name, permissions));
+		}
+
+		@Override
+		public Mono<Void> deletePermission(CredentialName name, Actor actor) {
+			return Mono.fromRunnable(() -> this.credHub.deletePermission(name, actor));
+		}
+
+	}
+
+	private static final class PermissionsV2 implements ReactiveCredHubPermissionV2Operations {
+
+		private final InMemoryCredHub credHub;
+
+		private PermissionsV2(InMemoryCredHub credHub) {
+			this.credHub = credHub;
+		}
+
+		@Override
+		public Mono<CredentialPermission> getPermissions(String id) {
+			return Mono.fromCallable(() -> this.credHub.getPermission(id));
+		}
+
+		@Override
+		public Mono<CredentialPermission> getPermissionsByPathAndActor(CredentialName path, Actor actor) {
+			return Mono.fromCallable(() -> this.credHub.getPermission(path, actor));
+		}
+
+		@Override
+		public Mono<CredentialPermission> addPermissions(CredentialName path, Permission permission) {
+			return Mono.fromCallable(() -> this.credHub.addPermission(path, permission));
+		}
+
+		@Override
+		public Mono<CredentialPermission> updatePermissions(String id, CredentialName path, Permission permission) {
+			return Mono.fromCallable(() -> this.credHub.updatePermission(id, path, permission));
+		}
+
+		@Override
+		public Mono<Void> deletePermission(String id) {
+			return Mono.fromRunnable(() -> this.credHub.deletePermission(id));
+		}
+
+	}
+
+	private static final class Interpolation implements ReactiveCredHubInterpolationOperations {
+
+		private final InMemoryCredHub credHub;
+
+		private Interpolation(InMemoryCredHub credHub) {
+			this.credHub = credHub;
+		}
+
+		@Override
+		public Mono<ServicesData> interpolateServiceData(ServicesData serviceData) {
+			return Mono.fromCallable(() -> this.credHub.interpolateServiceData(serviceData));
+		}
+
+		/**
+		 * Interpolate service data in a single operation, since there is no request size
+		 * to bound in memory.
+		 * @param serviceData the service data to interpolate
+		 * @param chunkSize ignored
+		 * @return the interpolated service data
+		 */
+		@Override
+		public Mono<ServicesData> interpolateServiceData(ServicesData serviceData, int chunkSize) {
+			Assert.isTrue(chunkSize > 0, "chunkSize must be greater than zero");
+			return Mono.fromCallable(() -> this.credHub.interpolateServiceData(serviceData));
+		}
+
+		@Override
+		public Mono<String> interpolateServiceData(String serviceData) {
+			Assert.notNull(serviceData, "serviceData must not be null");
+			return Mono.fromCallable(() -> new String(
+					this.credHub.interpolateServiceData(serviceData.getBytes(StandardCharsets.UTF_8)),
+					StandardCharsets.UTF_8));
+		}
+
+		@Override
+		public Mono<byte[]> interpolateServiceData(byte[] serviceData) {
+			return Mono.fromCallable(() -> this.credHub.interpolateServiceData(serviceData));
+		}
+
+	}
+
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.stub;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+import org.springframework.credhub.support.utils.PemUtils;
+
+/**
+ * A {@link KeyMaterialGenerator} that generates real RSA keys and X.509 certificates with
+ * the JDK crypto APIs, honoring the key length, subject, alternative names, duration, key
+ * usage and certificate authority parameters. Certificates are signed with SHA-256, by
+ * the private key of the signing certificate authority or by their own key if they are
+ * self-signed.
+ *
+ * @author agent
+ */
+final class JdkKeyMaterialGenerator implements KeyMaterialGenerator {
+
+	private static final JsonNodeFactory json = JsonNodeFactory.instance;
+
+	private static final int DEFAULT_KEY_LENGTH = 2048;
+
+	private static final int DEFAULT_DURATION_DAYS = 365;
+
+	private static final Pattern IPV4_ADDRESS = Pattern.compile("\\d{1,3}(\\.\\d{1,3}){3}");
+
+	private static final String[] KEY_USAGES = { "digital_signature", "non_repudiation", "key_encipherment",
+			"data_encipherment", "key_agreement", "key_cert_sign", "crl_sign", "encipher_only", "decipher_only" };
+
+	private static final Map<String, String> EXTENDED_KEY_USAGES = Map.of("server_auth", "1.3.6.1.5.5.7.3.1",
+			"client_auth", "1.3.6.1.5.5.7.3.2", "code_signing", "1.3.6.1.5.5.7.3.3", "email_protection",
+			"1.3.6.1.5.5.7.3.4", "timestamping", "1.3.6.1.5.5.7.3.8");
+
+	private static final String SHA256_WITH_RSA = "1.2.840.113549.1.1.11";
+
+	private static final String SHA256_WITH_ECDSA = "1.2.840.10045.4.3.2";
+
+	private final SecureRandom random = new SecureRandom();
+
+	@Override
+	public JsonNode rsa(JsonNode parameters) {
+		KeyPair keyPair = generateKeyPair(parameters);
+		return json.objectNode()
+			.put("public_key", pem("PUBLIC KEY", keyPair.getPublic().getEncoded()))
+			.put("private_key", pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+	}
+
+	@Override
+	public JsonNode ssh(JsonNode parameters) {
+		KeyPair keyPair = generateKeyPair(parameters);
+		byte[] publicKey = openSshPublicKey((RSAPublicKey) keyPair.getPublic());
+		String comment = parameters.path("ssh_comment").asText("");
+		String fingerprint = Base64.getEncoder().withoutPadding().encodeToString(sha("SHA-256", publicKey));
+		return json.objectNode()
+			.put("public_key", ("ssh-rsa " + Base64.getEncoder().encodeToString(publicKey) + " " + comment).trim())
+			.put("private_key", pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()))
+			.put("public_key_fingerprint", fingerprint);
+	}
+
+	@Override
+	public JsonNode certificate(JsonNode parameters, JsonNode authority) {
+		KeyPair keyPair = generateKeyPair(parameters);
+		byte[] subject = name(parameters);
+
+		byte[] issuer = subject;
+		PublicKey issuerPublicKey = keyPair.getPublic();
+		PrivateKey signingKey = keyPair.getPrivate();
+		String ca = null;
+		if (authority != null) {
+			ca = authority.path("certificate").asText();
+			X509Certificate authorityCertificate = PemUtils.parseCertificates(ca).get(0);
+			issuer = authorityCertificate.getSubjectX500Principal().getEncoded();
+			issuerPublicKey = authorityCertificate.getPublicKey();
+			signingKey = PemUtils.parsePrivateKey(authority.path("private_key").asText());
+		}
+
+		Instant notBefore = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+		Instant notAfter = notBefore.plus(Duration.ofDays(parameters.path("duration").asInt(DEFAULT_DURATION_DAYS)));
+		byte[] algorithm = signatureAlgorithm(signingKey);
+		byte[] tbsCertificate = Der.sequence(Der.tagged(0xa0, Der.integer(BigInteger.valueOf(2))),
+				Der.integer(new BigInteger(1, randomBytes(16))), algorithm, issuer,
+				Der.sequence(Der.time(notBefore), Der.time(notAfter)), subject, keyPair.getPublic().getEncoded(),
+				Der.tagged(0xa3, Der.sequence(extensions(parameters, keyPair.getPublic(), issuerPublicKey))));
+		byte[] signature = sign(tbsCertificate, signingKey);
+		byte[] certificate = Der.sequence(tbsCertificate, algorithm, Der.bitString(signature, 0));
+
+		String certificatePem = pem("CERTIFICATE", certificate);
+		return json.objectNode()
+			.put("ca", (ca != null) ? ca : certificatePem)
+			.put("certificate", certificatePem)
+			.put("private_key", pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+	}
+
+	private KeyPair generateKeyPair(JsonNode parameters) {
+		try {
+			KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+			generator.initialize(parameters.path("key_length").asInt(DEFAULT_KEY_LENGTH), this.random);
+			return generator.generateKeyPair();
+		}
+		catch (GeneralSecurityException ex) {
+			throw new IllegalStateException("Unable to generate an RSA key pair", ex);
+		}
+	}
+
+	private static byte[] name(JsonNode parameters) {
+		List<byte[]> attributes = new ArrayList<>();
+		if (parameters.hasNonNull("country")) {
+			attributes.add(attribute("2.5.4.6", Der.printableString(parameters.get("country").asText())));
+		}
+		addAttribute(attributes, "2.5.4.8", parameters, "state");
+		addAttribute(attributes, "2.5.4.7", parameters, "locality");
+		addAttribute(attributes, "2.5.4.10", parameters, "organization");
+		addAttribute(attributes, "2.5.4.11", parameters, "organization_unit");
+		addAttribute(attributes, "2.5.4.3", parameters, "common_name");
+		return Der.sequence(attributes.toArray(new byte[0][]));
+	}
+
+	private static void addAttribute(List<byte[]> attributes, String oid, JsonNode parameters, String field) {
+		if (parameters.hasNonNull(field)) {
+			attributes.add(attribute(oid, Der.utf8String(parameters.get(field).asText())));
+		}
+	}
+
+	private static byte[] attribute(String oid, byte[] value) {
+		return Der.set(Der.sequence(Der.objectIdentifier(oid), value));
+	}
+
+	private static byte[][] extensions(JsonNode parameters, PublicKey publicKey, PublicKey issuerPublicKey) {
+		boolean certificateAuthority = parameters.path("is_ca").asBoolean(false);
+		List<byte[]> extensions = new ArrayList<>();
+		extensions.add(extension("2.5.29.19", true,
+				certificateAuthority ? Der.sequence(Der.bool(true)) : Der.sequence()));
+		extensions.add(extension("2.5.29.14", false, Der.octetString(keyIdentifier(publicKey))));
+		extensions.add(extension("2.5.29.35", false, Der.sequence(Der.tagged(0x80, keyIdentifier(issuerPublicKey)))));
+
+		List<String> keyUsages = strings(parameters.path("key_usage"));
+		if (keyUsages.isEmpty() && certificateAuthority) {
+			keyUsages = List.of("key_cert_sign", "crl_sign");
+		}
+		if (!keyUsages.isEmpty()) {
+			extensions.add(extension("2.5.29.15", true, keyUsage(keyUsages)));
+		}
+
+		List<byte[]> extendedKeyUsages = new ArrayList<>();
+		for (String extendedKeyUsage : strings(parameters.path("extended_key_usage"))) {
+			String oid = EXTENDED_KEY_USAGES.get(extendedKeyUsage);
+			if (oid == null) {
+				throw StubException.badRequest("The provided extended key usage is not supported. Valid values include "
+						+ String.join(", ", EXTENDED_KEY_USAGES.keySet()) + ".");
+			}
+			extendedKeyUsages.add(Der.objectIdentifier(oid));
+		}
+		if (!extendedKeyUsages.isEmpty()) {
+			extensions.add(extension("2.5.29.37", false, Der.sequence(extendedKeyUsages.toArray(new byte[0][]))));
+		}
+
+		List<byte[]> alternativeNames = new ArrayList<>();
+		for (String alternativeName : strings(parameters.path("alternative_names"))) {
+			alternativeNames.add(generalName(alternativeName));
+		}
+		if (!alternativeNames.isEmpty()) {
+			extensions.add(extension("2.5.29.17", false, Der.sequence(alternativeNames.toArray(new byte[0][]))));
+		}
+		return extensions.toArray(new byte[0][]);
+	}
+
+	private static byte[] extension(String oid, boolean critical, byte[] value) {
+		if (critical) {
+			return Der.sequence(Der.objectIdentifier(oid), Der.bool(true), Der.octetString(value));
+		}
+		return Der.sequence(Der.objectIdentifier(oid), Der.octetString(value));
+	}
+
+	private static byte[] keyUsage(List<String> keyUsages) {
+		int bits = 0;
+		int highestBit = 0;
+		for (String keyUsage : keyUsages) {
+			int bit = List.of(KEY_USAGES).indexOf(keyUsage);
+			if (bit < 0) {
+				throw StubException.badRequest("The provided key usage is not supported. Valid values include "
+						+ String.join(", ", KEY_USAGES) + ".");
+			}
+			bits |= 1 << bit;
+			highestBit = Math.max(highestBit, bit);
+		}
+		byte[] value = new byte[highestBit / 8 + 1];
+		for (int bit = 0; bit <= highestBit; bit++) {
+			if ((bits & (1 << bit)) != 0) {
+				value[bit / 8] |= (byte) (0x80 >>> (bit % 8));
+			}
+		}
+		return Der.bitString(value, 7 - highestBit % 8);
+	}
+
+	private static byte[] generalName(String name) {
+		if (IPV4_ADDRESS.matcher(name).matches() || name.contains(":")) {
+			try {
+				return Der.tagged(0x87, InetAddress.getByName(name).getAddress());
+			}
+			catch (UnknownHostException ex) {
+				throw StubException.badRequest("The provided alternative name '" + name + "' is not valid.");
+			}
+		}
+		return Der.tagged(0x82, name.getBytes(StandardCharsets.US_ASCII));
+	}
+
+	private static List<String> strings(JsonNode array) {
+		List<String> values = new ArrayList<>();
+		array.forEach((value) -> values.add(value.asText()));
+		return values;
+	}
+
+	private static byte[] keyIdentifier(PublicKey publicKey) {
+		return sha("SHA-1", publicKey.getEncoded());
+	}
+
+	private static byte[] signatureAlgorithm(PrivateKey signingKey) {
+		if ("EC".equals(signingKey.getAlgorithm())) {
+			return Der.sequence(Der.objectIdentifier(SHA256_WITH_ECDSA));
+		}
+		return Der.sequence(Der.objectIdentifier(SHA256_WITH_RSA), Der.nul());
+	}
+
+	private byte[] sign(byte[] data, PrivateKey signingKey) {
+		String algorithm = "EC".equals(signingKey.getAlgorithm()) ? "SHA256withECDSA" : "SHA256withRSA";
+		try {
+			Signature signature = Signature.getInstance(algorithm);
+			signature.initSign(signingKey, this.random);
+			signature.update(data);
+			return signature.sign();
+		}
+		catch (GeneralSecurityException ex) {
+			throw new IllegalStateException("Unable to sign the certificate", ex);
+		}
+	}
+
+	/**
+	 * Encode an RSA public key in the OpenSSH wire format.
+	 * @param publicKey the public key
+	 * @return the encoded key
+	 */
+	private static byte[] openSshPublicKey(RSAPublicKey publicKey) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		writeBytes(out, "ssh-rsa".getBytes(StandardCharsets.US_ASCII));
+		writeBytes(out, publicKey.getPublicExponent().toByteArray());
+		writeBytes(out, publicKey.getModulus().toByteArray());
+		return out.toByteArray();
+	}
+
+	private static void writeBytes(ByteArrayOutputStream out, byte[] value) {
+		out.write(value.length >>> 24);
+		out.write(value.length >>> 16);
+		out.write(value.length >>> 8);
+		out.write(value.length);
+		out.writeBytes(value);
+	}
+
+	private static byte[] sha(String algorithm, byte[] value) {
+		try {
+			return MessageDigest.getInstance(algorithm).digest(value);
+		}
+		catch (GeneralSecurityException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private byte[] randomBytes(int length) {
+		byte[] bytes = new byte[length];
+		this.random.nextBytes(bytes);
+		return bytes;
+	}
+
+	private static String pem(String type, byte[] der) {
+		String encoded = Base64.getMimeEncoder(64, new byte[] { '\n' }).encodeToString(der);
+		return "-----BEGIN " + type + "-----\n" + encoded + "\n-----END " + type + "-----\n";
+	}
+
+}
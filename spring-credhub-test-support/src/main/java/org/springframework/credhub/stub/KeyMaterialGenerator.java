@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Generates the values of RSA, SSH and certificate credentials for a
+ * {@link StubCredentialStore}. Parameters and values are the JSON documents of the
+ * CredHub API.
+ *
+ * @author agent
+ */
+interface KeyMaterialGenerator {
+
+	/**
+	 * Generate the value of an RSA credential.
+	 * @param parameters the generation parameters
+	 * @return the value, with {@literal public_key} and {@literal private_key} fields
+	 */
+	JsonNode rsa(JsonNode parameters);
+
+	/**
+	 * Generate the value of an SSH credential.
+	 * @param parameters the generation parameters
+	 * @return the value, with {@literal public_key}, {@literal private_key} and
+	 * {@literal public_key_fingerprint} fields
+	 */
+	JsonNode ssh(JsonNode parameters);
+
+	/**
+	 * Generate the value of a certificate credential.
+	 * @param parameters the generation parameters
+	 * @param authority the value of the certificate authority credential that signs the
+	 * certificate, or {@literal null} if the certificate is self-signed
+	 * @return the value, with {@literal ca}, {@literal certificate} and
+	 * {@literal private_key} fields
+	 */
+	JsonNode certificate(JsonNode parameters, JsonNode authority);
+
+}
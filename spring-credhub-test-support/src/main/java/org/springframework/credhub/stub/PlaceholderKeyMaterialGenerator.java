@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.stub;
+
+import java.util.Base64;
+import java.util.random.RandomGenerator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+/**
+ * A {@link KeyMaterialGenerator} that generates random placeholder PEM blocks with a size
+ * taken from a value size distribution. The values are not valid cryptographic material,
+ * but are cheap to generate.
+ *
+ * @author agent
+ */
+final class PlaceholderKeyMaterialGenerator implements KeyMaterialGenerator {
+
+	private static final JsonNodeFactory json = JsonNodeFactory.instance;
+
+	private static final String CERTIFICATE = "certificate";
+
+	private final Distribution valueSize;
+
+	private final RandomGenerator random;
+
+	PlaceholderKeyMaterialGenerator(Distribution valueSize, RandomGenerator random) {
+		this.valueSize = valueSize;
+		this.random = random;
+	}
+
+	@Override
+	public JsonNode rsa(JsonNode parameters) {
+		return json.objectNode()
+			.put("public_key", pem("PUBLIC KEY", 294))
+			.put("private_key", pem("RSA PRIVATE KEY", sampleSize()));
+	}
+
+	@Override
+	public JsonNode ssh(JsonNode parameters) {
+		return json.objectNode()
+			.put("public_key", "ssh-rsa " + Base64.getEncoder().encodeToString(randomBytes(279)))
+			.put("private_key", pem("RSA PRIVATE KEY", sampleSize()))
+			.put("public_key_fingerprint", Base64.getEncoder().withoutPadding().encodeToString(randomBytes(32)));
+	}
+
+	@Override
+	public JsonNode certificate(JsonNode parameters, JsonNode authority) {
+		String certificate = pem("CERTIFICATE", sampleSize());
+		String ca = (authority != null) ? authority.path(CERTIFICATE).asText() : certificate;
+		return json.objectNode()
+			.put("ca", ca)
+			.put(CERTIFICATE, certificate)
+			.put("private_key", pem("RSA PRIVATE KEY", sampleSize()));
+	}
+
+	private String pem(String type, int length) {
+		String encoded = Base64.getMimeEncoder(64, new byte[] { '\n' }).encodeToString(randomBytes(length));
+		return "-----BEGIN " + type + "-----\n" + encoded + "\n-----END " + type + "-----\n";
+	}
+
+	private byte[] randomBytes(int length) {
+		byte[] bytes = new byte[length];
+		this.random.nextBytes(bytes);
+		return bytes;
+	}
+
+	private int sampleSize() {
+		return Math.max(1, (int) Math.round(this.valueSize.sample(this.random)));
+	}
+
+}
@@ -0,0 +1,758 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.stub;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.random.RandomGenerator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * The in-memory state of a {@link CredHubStubServer}: credential versions, certificate
+ * ids and permissions. Every operation takes a JSON request document and returns the JSON
+ * response document CredHub would return, or throws a {@link StubException}.
+ *
+ * Keys and certificates are generated by a {@link KeyMaterialGenerator}. By default they
+ * are random placeholder PEM blocks with a size taken from the value size distribution,
+ * which are not valid cryptographic material.
+ *
+ * By default at most the {@value #MAX_VERSIONS} most recent versions of each credential
+ * are kept, together with any transitional certificate version.
+ *
+ * @author agent
+ */
+final class StubCredentialStore {
+
+	private static final JsonNodeFactory json = JsonNodeFactory.instance;
+
+	private static final Set<String> TYPES = Set.of("value", "json", "password", "user", "certificate", "rsa", "ssh");
+
+	private static final Set<String> GENERATED_TYPES = Set.of("password", "user", "certificate", "rsa", "ssh");
+
+	private static final String CERTIFICATE = "certificate";
+
+	private static final String WILDCARD = "*";
+
+	private static final String UPPER = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+	private static final String LOWER = "abcdefghijklmnopqrstuvwxyz";
+
+	private static final String NUMBERS = "0123456789";
+
+	private static final String SPECIAL = "!\"#$%&'()*+,-./:;<=>?@[\\]^_`{|}~";
+
+	private static final int DEFAULT_PASSWORD_LENGTH = 30;
+
+	private static final String REFERENCE_PREFIX = "((";
+
+	private static final String REFERENCE_SUFFIX = "))";
+
+	/**
+	 * The default number of versions kept for each credential, so that write-heavy load
+	 * tests run in bounded memory.
+	 */
+	private static final int MAX_VERSIONS = 20;
+
+	private final Distribution valueSize;
+
+	private final RandomGenerator random;
+
+	private final KeyMaterialGenerator keyMaterial;
+
+	private final int maxVersions;
+
+	private final Map<String, List<CredentialVersion>> credentials = new HashMap<>();
+
+	private final Map<String, CredentialVersion> versions = new HashMap<>();
+
+	private final Map<String, String> certificateIds = new HashMap<>();
+
+	private final Map<String, String> certificateNames = new HashMap<>();
+
+	private final Map<String, PermissionEntry> permissions = new LinkedHashMap<>();
+
+	StubCredentialStore(Distribution valueSize, RandomGenerator random) {
+		this(valueSize, random, new PlaceholderKeyMaterialGenerator(valueSize, random), MAX_VERSIONS);
+	}
+
+	StubCredentialStore(Distribution valueSize, RandomGenerator random, KeyMaterialGenerator keyMaterial,
+			int maxVersions) {
+		this.valueSize = valueSize;
+		this.random = random;
+		this.keyMaterial = keyMaterial;
+		this.maxVersions = maxVersions;
+	}
+
+	synchronized void clear() {
+		this.credentials.clear();
+		this.versions.clear();
+		this.certificateIds.clear();
+		this.certificateNames.clear();
+		this.permissions.clear();
+	}
+
+	synchronized int size() {
+		return this.credentials.size();
+	}
+
+	/**
+	 * Add a value credential with a random value whose size is taken from the value size
+	 * distribution.
+	 * @param name the credential name
+	 * @return the credential details
+	 */
+	synchronized JsonNode seed(String name) {
+		return details(addVersion(normalize(name), "value", json.textNode(randomText(sampleSize())), null, null));
+	}
+
+	// credentials
+
+	synchronized JsonNode write(JsonNode request) {
+		String name = normalize(requireText(request, "name"));
+		String type = requireType(request);
+		JsonNode value = request.get("value");
+		if (value == null || value.isNull()) {
+			throw StubException.badRequest("A non-empty value must be specified for the credential. "
+					+ "Please validate and retry your request.");
+		}
+
+		CredentialVersion latest = latest(name);
+		String mode = text(request, "mode");
+		if (latest != null && ("no-overwrite".equals(mode)
+				|| ("converge".equals(mode) && latest.type.equals(type) && value.equals(latest.value)))) {
+			return details(latest);
+		}
+		return details(addVersion(name, type, value.deepCopy(), null, null));
+	}
+
+	synchronized JsonNode generate(JsonNode request) {
+		String name = normalize(requireText(request, "name"));
+		String type = requireType(request);
+		JsonNode parameters = request.hasNonNull("parameters") ? request.get("parameters").deepCopy()
+				: json.objectNode();
+		if (request.path("value").hasNonNull("username")) {
+			((ObjectNode) parameters).put("username", request.path("value").path("username").asText());
+		}
+
+		CredentialVersion latest = latest(name);
+		String mode = Objects.requireNonNullElse(text(request, "mode"), "converge");
+		if (latest != null && ("no-overwrite".equals(mode)
+				|| ("converge".equals(mode) && latest.type.equals(type) && parameters.equals(latest.parameters)))) {
+			return details(latest);
+		}
+		return details(generateVersion(name, type, parameters));
+	}
+
+	synchronized JsonNode regenerate(JsonNode request) {
+		return details(regenerate(normalize(requireText(request, "name"))));
+	}
+
+	synchronized JsonNode getById(String id) {
+		CredentialVersion version = this.versions.get(id);
+		if (version == null) {
+			throw StubException.notFound();
+		}
+		return details(version);
+	}
+
+	synchronized JsonNode getByName(String name, boolean current, Integer versions) {
+		List<CredentialVersion> history = requireHistory(normalize(name));
+		int count = current ? 1 : (versions != null) ? Math.min(versions, history.size()) : history.size();
+
+		ArrayNode data = json.arrayNode();
+		for (int i = history.size() - 1; i >= history.size() - count; i--) {
+			data.add(details(history.get(i)));
+		}
+		return json.objectNode().set("data", data);
+	}
+
+	synchronized JsonNode findByNameLike(String fragment) {
+		String lowerCaseFragment = fragment.toLowerCase(Locale.ROOT);
+		return summaries((name) -> name.toLowerCase(Locale.ROOT).contains(lowerCaseFragment));
+	}
+
+	synchronized JsonNode findByPath(String path) {
+		String prefix = normalize(path).endsWith("/") ? normalize(path) : normalize(path) + "/";
+		return summaries((name) -> name.startsWith(prefix));
+	}
+
+	synchronized void delete(String name) {
+		String normalized = normalize(name);
+		List<CredentialVersion> history = this.credentials.remove(normalized);
+		if (history == null) {
+			throw StubException.notFound();
+		}
+		history.forEach((version) -> this.versions.remove(version.id));
+		String certificateId = this.certificateIds.remove(normalized);
+		if (certificateId != null) {
+			this.certificateNames.remove(certificateId);
+		}
+	}
+
+	// certificates
+
+	synchronized JsonNode getCertificates(String name) {
+		ArrayNode certificates = json.arrayNode();
+		if (name != null) {
+			String normalized = normalize(name);
+			CredentialVersion latest = latest(normalized);
+			if (latest == null || !CERTIFICATE.equals(latest.type)) {
+				throw StubException.notFound();
+			}
+			certificates.add(certificateSummary(normalized, latest));
+		}
+		else {
+			this.credentials.forEach((certificateName, history) -> {
+				CredentialVersion latest = history.get(history.size() - 1);
+				if (CERTIFICATE.equals(latest.type)) {
+					certificates.add(certificateSummary(certificateName, latest));
+				}
+			});
+		}
+		return json.objectNode().set("certificates", certificates);
+	}
+
+	synchronized String getCertificateName(String id) {
+		return requireCertificateName(id);
+	}
+
+	synchronized JsonNode regenerateCertificate(String id, JsonNode request) {
+		String name = requireCertificateName(id);
+		CredentialVersion version = regenerate(name);
+		if (request.path("set_as_transitional").asBoolean(false)) {
+			setTransitional(name, version.id);
+		}
+		return details(version);
+	}
+
+	synchronized JsonNode updateTransitionalVersion(String id, JsonNode request) {
+		String name = requireCertificateName(id);
+		String versionId = text(request, "version");
+		if (versionId != null) {
+			CredentialVersion version = this.versions.get(versionId);
+			if (version == null || !version.name.equals(name)) {
+				throw StubException.badRequest("The provided certificate version is not a valid version of this "
+						+ "certificate. Please validate and retry your request.");
+			}
+		}
+		setTransitional(name, versionId);
+
+		ArrayNode response = json.arrayNode();
+		List<CredentialVersion> history = this.credentials.get(name);
+		CredentialVersion latest = history.get(history.size() - 1);
+		response.add(details(latest));
+		for (CredentialVersion version : history) {
+			if (version.transitional && version != latest) {
+				response.add(details(version));
+			}
+		}
+		return response;
+	}
+
+	synchronized JsonNode bulkRegenerate(JsonNode request) {
+		return bulkRegenerate(request, (name) -> true);
+	}
+
+	/**
+	 * Regenerate all certificates signed by a certificate authority.
+	 * @param request the bulk regenerate request
+	 * @param writable whether a certificate may be regenerated; if any certificate may
+	 * not be regenerated, none are
+	 * @return the names of the regenerated certificates
+	 */
+	synchronized JsonNode bulkRegenerate(JsonNode request, Predicate<String> writable) {
+		String signedBy = normalize(requireText(request, "signed_by"));
+		requireHistory(signedBy);
+
+		List<String> names = new ArrayList<>();
+		this.credentials.forEach((name, history) -> {
+			if (signedBy.equals(history.get(history.size() - 1).signedBy) && !name.equals(signedBy)) {
+				names.add(name);
+			}
+		});
+		if (!names.stream().allMatch(writable)) {
+			throw StubException.forbidden();
+		}
+
+		ArrayNode regenerated = json.arrayNode();
+		for (String name : names) {
+			regenerate(name);
+			regenerated.add(name);
+		}
+		return json.objectNode().set("regenerated_credentials", regenerated);
+	}
+
+	// interpolation
+
+	synchronized JsonNode interpolate(JsonNode servicesData) {
+		return interpolate(servicesData, (name) -> true);
+	}
+
+	/**
+	 * Replace the credential references in service data with the referenced JSON
+	 * credentials.
+	 * @param servicesData the service data
+	 * @param readable whether a credential may be read; references to credentials that
+	 * may not be read are reported as not found
+	 * @return the interpolated service data
+	 */
+	synchronized JsonNode interpolate(JsonNode servicesData, Predicate<String> readable) {
+		if (!servicesData.isObject()) {
+			throw StubException.badRequest("The request could not be fulfilled because the request path or body "
+					+ "did not meet expectation. Please check the documentation for required formatting and retry "
+					+ "your request.");
+		}
+		ObjectNode interpolated = servicesData.deepCopy();
+		for (JsonNode bindings : interpolated) {
+			for (JsonNode binding : bindings) {
+				JsonNode reference = binding.path("credentials").path("credhub-ref");
+				if (reference.isTextual()) {
+					((ObjectNode) binding).set("credentials", resolveReference(reference.asText(), readable));
+				}
+			}
+		}
+		return interpolated;
+	}
+
+	private JsonNode resolveReference(String reference, Predicate<String> readable) {
+		String name = reference;
+		if (name.startsWith(REFERENCE_PREFIX) && name.endsWith(REFERENCE_SUFFIX)) {
+			name = name.substring(REFERENCE_PREFIX.length(), name.length() - REFERENCE_SUFFIX.length());
+		}
+		CredentialVersion latest = latest(normalize(name));
+		if (latest == null || !readable.test(latest.name)) {
+			throw StubException.notFound();
+		}
+		if (!"json".equals(latest.type)) {
+			throw StubException.badRequest("The credential '" + latest.name
+					+ "' does not have the correct type to be interpolated. Only JSON credentials may be interpolated.");
+		}
+		return latest.value.deepCopy();
+	}
+
+	// permissions
+
+	synchronized JsonNode getPermissions(String credentialName) {
+		String name = normalize(credentialName);
+		requireHistory(name);
+
+		ArrayNode entries = json.arrayNode();
+		for (PermissionEntry entry : this.permissions.values()) {
+			if (entry.path.equals(name)) {
+				entries.add(json.objectNode().put("actor", entry.actor).set("operations", entry.operationsNode()));
+			}
+		}
+		return json.objectNode().put("credential_name", name).set("permissions", entries);
+	}
+
+	synchronized JsonNode addPermissions(JsonNode request) {
+		String name = normalize(requireText(request, "credential_name"));
+		requireHistory(name);
+
+		for (JsonNode permission : request.path("permissions")) {
+			String actor = requireText(permission, "actor");
+			PermissionEntry entry = findPermission(name, actor);
+			if (entry == null) {
+				entry = new PermissionEntry(UUID.randomUUID().toString(), name, actor);
+				this.permissions.put(entry.uuid, entry);
+			}
+			for (JsonNode operation : permission.path("operations")) {
+				entry.operations.add(operation.asText());
+			}
+		}
+		return getPermissions(name);
+	}
+
+	synchronized void deletePermission(String credentialName, String actor) {
+		PermissionEntry entry = findPermission(normalize(credentialName), actor);
+		if (entry == null) {
+			throw StubException.notFound();
+		}
+		this.permissions.remove(entry.uuid);
+	}
+
+	synchronized JsonNode getPermission(String uuid) {
+		return requirePermission(uuid).toJson();
+	}
+
+	synchronized JsonNode getPermission(String path, String actor) {
+		PermissionEntry entry = findPermission(normalize(path), actor);
+		if (entry == null) {
+			throw StubException.notFound();
+		}
+		return entry.toJson();
+	}
+
+	synchronized JsonNode addPermission(JsonNode request) {
+		String path = normalize(requireText(request, "path"));
+		String actor = requireText(request, "actor");
+		if (findPermission(path, actor) != null) {
+			throw new StubException(409, "A permission entry for this actor and path already exists.");
+		}
+		PermissionEntry entry = new PermissionEntry(UUID.randomUUID().toString(), path, actor);
+		request.path("operations").forEach((operation) -> entry.operations.add(operation.asText()));
+		this.permissions.put(entry.uuid, entry);
+		return entry.toJson();
+	}
+
+	synchronized JsonNode updatePermission(String uuid, JsonNode request) {
+		PermissionEntry existing = requirePermission(uuid);
+		PermissionEntry entry = new PermissionEntry(uuid,
+				request.hasNonNull("path") ? normalize(request.get("path").asText()) : existing.path,
+				request.hasNonNull("actor") ? request.get("actor").asText() : existing.actor);
+		request.path("operations").forEach((operation) -> entry.operations.add(operation.asText()));
+		this.permissions.put(uuid, entry);
+		return entry.toJson();
+	}
+
+	synchronized JsonNode deletePermission(String uuid) {
+		PermissionEntry entry = requirePermission(uuid);
+		this.permissions.remove(uuid);
+		return entry.toJson();
+	}
+
+	/**
+	 * Determine whether an actor is granted an operation on a credential, by a permission
+	 * for the credential name or for a path ending in {@literal /*} that contains it.
+	 * @param actor the actor identity
+	 * @param name the credential name or permission path
+	 * @param operation the operation, for example {@literal read}
+	 * @return whether the operation is permitted
+	 */
+	synchronized boolean isPermitted(String actor, String name, String operation) {
+		String normalized = normalize(name);
+		for (PermissionEntry entry : this.permissions.values()) {
+			if (entry.actor.equals(actor) && entry.operations.contains(operation)
+					&& pathMatches(entry.path, normalized)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean pathMatches(String path, String name) {
+		if (path.endsWith("/" + WILDCARD)) {
+			return name.startsWith(path.substring(0, path.length() - WILDCARD.length()));
+		}
+		return path.equals(name);
+	}
+
+	private PermissionEntry findPermission(String path, String actor) {
+		for (PermissionEntry entry : this.permissions.values()) {
+			if (entry.path.equals(path) && entry.actor.equals(actor)) {
+				return entry;
+			}
+		}
+		return null;
+	}
+
+	private PermissionEntry requirePermission(String uuid) {
+		PermissionEntry entry = this.permissions.get(uuid);
+		if (entry == null) {
+			throw StubException.notFound();
+		}
+		return entry;
+	}
+
+	// versions
+
+	private CredentialVersion regenerate(String name) {
+		CredentialVersion latest = latest(name);
+		if (latest == null) {
+			throw StubException.notFound();
+		}
+		return generateVersion(name, latest.type, latest.parameters);
+	}
+
+	private CredentialVersion generateVersion(String name, String type, JsonNode parameters) {
+		if (!GENERATED_TYPES.contains(type)) {
+			throw StubException.badRequest("Credentials of this type cannot be generated. "
+					+ "Please adjust the credential type and retry your request.");
+		}
+
+		String signedBy = CERTIFICATE.equals(type) ? signedBy(name, parameters) : null;
+		JsonNode value = switch (type) {
+			case "password" -> json.textNode(password(parameters));
+			case "user" -> json.objectNode()
+				.put("username",
+						parameters.hasNonNull("username") ? parameters.get("username").asText() : randomText(20))
+				.put("password", password(parameters))
+				.put("password_hash", "$6$" + randomText(16) + "$" + randomText(86));
+			case "rsa" -> this.keyMaterial.rsa(parameters);
+			case "ssh" -> this.keyMaterial.ssh(parameters);
+			default -> certificate(name, parameters, signedBy);
+		};
+		return addVersion(name, type, value, parameters, signedBy);
+	}
+
+	private String signedBy(String name, JsonNode parameters) {
+		if (parameters.hasNonNull("ca")) {
+			return normalize(parameters.get("ca").asText());
+		}
+		if (parameters.path("is_ca").asBoolean(false) || parameters.path("self_sign").asBoolean(false)) {
+			return name;
+		}
+		return null;
+	}
+
+	private JsonNode certificate(String name, JsonNode parameters, String signedBy) {
+		if (signedBy == null || signedBy.equals(name)) {
+			return this.keyMaterial.certificate(parameters, null);
+		}
+		CredentialVersion authority = latest(signedBy);
+		if (authority == null || !CERTIFICATE.equals(authority.type)) {
+			throw StubException.notFound();
+		}
+		return this.keyMaterial.certificate(parameters, authority.value);
+	}
+
+	private CredentialVersion addVersion(String name, String type, JsonNode value, JsonNode parameters,
+			String signedBy) {
+		CredentialVersion version = new CredentialVersion(UUID.randomUUID().toString(), name, type, value, parameters,
+				signedBy);
+		List<CredentialVersion> history = this.credentials.computeIfAbsent(name, (key) -> new ArrayList<>());
+		if (!history.isEmpty() && !history.get(history.size() - 1).type.equals(type)) {
+			throw StubException.badRequest("The credential type cannot be modified. "
+					+ "Please delete the credential if you wish to create it with a different type.");
+		}
+		history.add(version);
+		this.versions.put(version.id, version);
+		if (history.size() > this.maxVersions) {
+			CredentialVersion evicted = history.get(0).transitional ? history.remove(1) : history.remove(0);
+			this.versions.remove(evicted.id);
+		}
+		if (CERTIFICATE.equals(type)) {
+			this.certificateIds.computeIfAbsent(name, (key) -> {
+				String id = UUID.randomUUID().toString();
+				this.certificateNames.put(id, key);
+				return id;
+			});
+		}
+		return version;
+	}
+
+	private void setTransitional(String name, String versionId) {
+		for (CredentialVersion version : this.credentials.get(name)) {
+			version.transitional = version.id.equals(versionId);
+		}
+	}
+
+	private CredentialVersion latest(String name) {
+		List<CredentialVersion> history = this.credentials.get(name);
+		return (history != null) ? history.get(history.size() - 1) : null;
+	}
+
+	private List<CredentialVersion> requireHistory(String name) {
+		List<CredentialVersion> history = this.credentials.get(name);
+		if (history == null) {
+			throw StubException.notFound();
+		}
+		return history;
+	}
+
+	private String requireCertificateName(String id) {
+		String name = this.certificateNames.get(id);
+		if (name == null) {
+			throw StubException.notFound();
+		}
+		return name;
+	}
+
+	// JSON
+
+	private JsonNode summaries(Predicate<String> filter) {
+		List<CredentialVersion> matches = new ArrayList<>();
+		this.credentials.forEach((name, history) -> {
+			if (filter.test(name)) {
+				matches.add(history.get(history.size() - 1));
+			}
+		});
+		matches.sort(Comparator.comparing((CredentialVersion version) -> version.createdAt).reversed());
+
+		ArrayNode summaries = json.arrayNode();
+		for (CredentialVersion version : matches) {
+			summaries.add(json.objectNode().put("name", version.name).put("version_created_at", version.createdAt));
+		}
+		return json.objectNode().set("credentials", summaries);
+	}
+
+	private JsonNode certificateSummary(String name, CredentialVersion latest) {
+		ObjectNode summary = json.objectNode().put("id", this.certificateIds.get(name)).put("name", name);
+		if (latest.signedBy != null) {
+			summary.put("signed_by", latest.signedBy);
+		}
+		return summary;
+	}
+
+	private static JsonNode details(CredentialVersion version) {
+		ObjectNode details = json.objectNode()
+			.put("type", version.type)
+			.put("version_created_at", version.createdAt)
+			.put("id", version.id)
+			.put("name", version.name);
+		details.set("value", version.value.deepCopy());
+		if (CERTIFICATE.equals(version.type)) {
+			details.put("transitional", version.transitional);
+		}
+		return details;
+	}
+
+	private static String requireType(JsonNode request) {
+		String type = requireText(request, "type");
+		if (!TYPES.contains(type)) {
+			throw StubException.badRequest("The request does not include a valid type. Valid values include "
+					+ "'value', 'json', 'password', 'user', 'certificate', 'ssh' and 'rsa'.");
+		}
+		return type;
+	}
+
+	private static String requireText(JsonNode request, String field) {
+		String value = text(request, field);
+		if (value == null || value.isEmpty()) {
+			throw StubException.badRequest("The request does not include a valid " + field.replace('_', ' ')
+					+ ". Please validate your input and retry your request.");
+		}
+		return value;
+	}
+
+	private static String text(JsonNode request, String field) {
+		JsonNode value = (request != null) ? request.get(field) : null;
+		return (value != null && !value.isNull()) ? value.asText() : null;
+	}
+
+	private static String normalize(String name) {
+		return name.startsWith("/") ? name : "/" + name;
+	}
+
+	// random values
+
+	private String password(JsonNode parameters) {
+		StringBuilder characters = new StringBuilder();
+		if (!parameters.path("exclude_upper").asBoolean(false)) {
+			characters.append(UPPER);
+		}
+		if (!parameters.path("exclude_lower").asBoolean(false)) {
+			characters.append(LOWER);
+		}
+		if (!parameters.path("exclude_number").asBoolean(false)) {
+			characters.append(NUMBERS);
+		}
+		if (parameters.path("include_special").asBoolean(false)) {
+			characters.append(SPECIAL);
+		}
+		if (characters.length() == 0) {
+			throw StubException.badRequest("The combination of parameters in the request is not allowed. "
+					+ "Please validate your input and retry your request.");
+		}
+		return randomText(parameters.path("length").asInt(DEFAULT_PASSWORD_LENGTH), characters);
+	}
+
+	private String randomText(int length) {
+		return randomText(length, UPPER + LOWER + NUMBERS);
+	}
+
+	private String randomText(int length, CharSequence characters) {
+		StringBuilder text = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			text.append(characters.charAt(this.random.nextInt(characters.length())));
+		}
+		return text.toString();
+	}
+
+	private int sampleSize() {
+		return Math.max(1, (int) Math.round(this.valueSize.sample(this.random)));
+	}
+
+	private static final class CredentialVersion {
+
+		private final String id;
+
+		private final String name;
+
+		private final String type;
+
+		private final JsonNode value;
+
+		private final JsonNode parameters;
+
+		private final String signedBy;
+
+		private final String createdAt = Instant.now().truncatedTo(ChronoUnit.MILLIS).toString();
+
+		private boolean transitional;
+
+		private CredentialVersion(String id, String name, String type, JsonNode value, JsonNode parameters,
+				String signedBy) {
+			this.id = id;
+			this.name = name;
+			this.type = type;
+			this.value = value;
+			this.parameters = parameters;
+			this.signedBy = signedBy;
+		}
+
+	}
+
+	private static final class PermissionEntry {
+
+		private final String uuid;
+
+		private final String path;
+
+		private final String actor;
+
+		private final Set<String> operations = new LinkedHashSet<>();
+
+		private PermissionEntry(String uuid, String path, String actor) {
+			this.uuid = uuid;
+			this.path = path;
+			this.actor = actor;
+		}
+
+		private ArrayNode operationsNode() {
+			ArrayNode node = json.arrayNode();
+			this.operations.forEach(node::add);
+			return node;
+		}
+
+		private JsonNode toJson() {
+			return json.objectNode()
+				.put("uuid", this.uuid)
+				.put("path", this.path)
+				.put("actor", this.actor)
+				.set("operations", operationsNode());
+		}
+
+	}
+
+}
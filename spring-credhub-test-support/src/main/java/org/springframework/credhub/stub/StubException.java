@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.stub;
+
+/**
+ * An error response of the {@link CredHubStubServer}, with the status code and message
+ * CredHub would return.
+ *
+ * @author agent
+ */
+class StubException extends RuntimeException {
+
+	static final String NOT_FOUND_MESSAGE = "The request could not be completed because the credential does not exist "
+			+ "or you do not have sufficient authorization.";
+
+	private final int status;
+
+	StubException(int status, String message) {
+		super(message);
+		this.status = status;
+	}
+
+	static StubException notFound() {
+		return new StubException(404, NOT_FOUND_MESSAGE);
+	}
+
+	static StubException forbidden() {
+		return new StubException(403, NOT_FOUND_MESSAGE);
+	}
+
+	static StubException badRequest(String message) {
+		return new StubException(400, message);
+	}
+
+	int getStatus() {
+		return this.status;
+	}
+
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.stub;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import org.springframework.credhub.core.CredHubException;
+import org.springframework.credhub.core.CredHubOperations;
+import org.springframework.credhub.core.CredHubProperties;
+import org.springframework.credhub.core.CredHubTemplate;
+import org.springframework.credhub.core.ReactiveCredHubOperations;
+import org.springframework.credhub.core.ReactiveCredHubTemplate;
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialPermission;
+import org.springframework.credhub.support.CredentialSummary;
+import org.springframework.credhub.support.ServicesData;
+import org.springframework.credhub.support.SimpleCredentialName;
+import org.springframework.credhub.support.certificate.CertificateCredential;
+import org.springframework.credhub.support.certificate.CertificateCredentialDetails;
+import org.springframework.credhub.support.certificate.CertificateParameters;
+import org.springframework.credhub.support.certificate.CertificateParametersRequest;
+import org.springframework.credhub.support.certificate.CertificateSummary;
+import org.springframework.credhub.support.json.JsonCredentialRequest;
+import org.springframework.credhub.support.password.PasswordCredential;
+import org.springframework.credhub.support.password.PasswordParameters;
+import org.springframework.credhub.support.password.PasswordParametersRequest;
+import org.springframework.credhub.support.permissions.Operation;
+import org.springframework.credhub.support.permissions.Permission;
+import org.springframework.credhub.support.value.ValueCredential;
+import org.springframework.credhub.support.value.ValueCredentialRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link CredHubStubServer} using the {@link CredHubTemplate} and
+ * {@link ReactiveCredHubTemplate} as clients.
+ *
+ * @author agent
+ */
+public class CredHubStubServerTests {
+
+	private static final SimpleCredentialName NAME = new SimpleCredentialName("example", "credential");
+
+	private CredHubStubServer server;
+
+	private CredHubOperations credHub;
+
+	private ReactiveCredHubOperations reactiveCredHub;
+
+	@BeforeEach
+	public void setUp() {
+		this.server = CredHubStubServer.builder().credentials(3).seed(42).start();
+
+		CredHubProperties properties = new CredHubProperties();
+		properties.setUrl(this.server.getUrl());
+		this.credHub = new CredHubTemplate(properties, new SimpleClientHttpRequestFactory());
+		this.reactiveCredHub = new ReactiveCredHubTemplate(properties, new ReactorClientHttpConnector());
+	}
+
+	@AfterEach
+	public void tearDown() {
+		this.server.close();
+	}
+
+	@Test
+	public void writeAndRetrieveCredential() {
+		CredentialDetails<ValueCredential> written = this.credHub.credentials()
+			.write(ValueCredentialRequest.builder().name(NAME).value("secret").build());
+		assertThat(written.getName().getName()).isEqualTo(NAME.getName());
+		assertThat(written.getId()).isNotNull();
+
+		CredentialDetails<ValueCredential> byName = this.credHub.credentials().getByName(NAME, ValueCredential.class);
+		assertThat(byName.getId()).isEqualTo(written.getId());
+		assertThat(byName.getValue().getValue()).isEqualTo("secret");
+
+		CredentialDetails<ValueCredential> byId = this.credHub.credentials()
+			.getById(written.getId(), ValueCredential.class);
+		assertThat(byId.getValue().getValue()).isEqualTo("secret");
+
+		this.credHub.credentials().write(ValueCredentialRequest.builder().name(NAME).value("new-secret").build());
+		List<CredentialDetails<ValueCredential>> history = this.credHub.credentials()
+			.getByNameWithHistory(NAME, ValueCredential.class);
+		assertThat(history).extracting((details) -> details.getValue().getValue())
+			.containsExactly("new-secret", "secret");
+	}
+
+	@Test
+	public void findCredentials() {
+		this.credHub.credentials().write(ValueCredentialRequest.builder().name(NAME).value("secret").build());
+
+		List<CredentialSummary> byPath = this.credHub.credentials().findByPath("/stub");
+		assertThat(byPath).extracting((summary) -> summary.getName().getName())
+			.containsExactlyInAnyOrder("/stub/credential-0", "/stub/credential-1", "/stub/credential-2");
+
+		List<CredentialSummary> byName = this.credHub.credentials().findByName(new SimpleCredentialName("cred"));
+		assertThat(byName).hasSize(4);
+	}
+
+	@Test
+	public void deleteCredential() {
+		this.credHub.credentials().write(ValueCredentialRequest.builder().name(NAME).value("secret").build());
+		this.credHub.credentials().deleteByName(NAME);
+
+		assertThatExceptionOfType(CredHubException.class)
+			.isThrownBy(() -> this.credHub.credentials().getByName(NAME, ValueCredential.class))
+			.satisfies((ex) -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+	}
+
+	@Test
+	public void generatePassword() {
+		PasswordParametersRequest request = PasswordParametersRequest.builder()
+			.name(NAME)
+			.parameters(PasswordParameters.builder()
+				.length(12)
+				.excludeUpper(true)
+				.excludeLower(false)
+				.excludeNumber(true)
+				.includeSpecial(false)
+				.build())
+			.build();
+
+		CredentialDetails<PasswordCredential> generated = this.credHub.credentials().generate(request);
+		assertThat(generated.getValue().getPassword()).hasSize(12).matches("[a-z]+");
+
+		CredentialDetails<PasswordCredential> regenerated = this.credHub.credentials()
+			.regenerate(NAME, PasswordCredential.class);
+		assertThat(regenerated.getId()).isNotEqualTo(generated.getId());
+		assertThat(regenerated.getValue().getPassword()).hasSize(12).matches("[a-z]+");
+	}
+
+	@Test
+	public void manageCertificates() {
+		CredentialDetails<CertificateCredential> generated = this.credHub.credentials()
+			.generate(CertificateParametersRequest.builder()
+				.name(NAME)
+				.parameters(CertificateParameters.builder().commonName("example.com").selfSign(true).build())
+				.build());
+		assertThat(generated.getValue().getCertificate()).startsWith("-----BEGIN CERTIFICATE-----");
+
+		CertificateSummary summary = this.credHub.certificates().getByName(NAME);
+		assertThat(summary.getName()).isEqualTo(NAME.getName());
+		assertThat(this.credHub.certificates().getAll()).extracting(CertificateSummary::getId)
+			.containsExactly(summary.getId());
+
+		CertificateCredentialDetails regenerated = this.credHub.certificates().regenerate(summary.getId(), true);
+		assertThat(regenerated.isTransitional()).isTrue();
+
+		List<CertificateCredentialDetails> versions = this.credHub.certificates()
+			.updateTransitionalVersion(summary.getId(), generated.getId());
+		assertThat(versions).extracting(CertificateCredentialDetails::getId)
+			.containsExactly(regenerated.getId(), generated.getId());
+	}
+
+	@Test
+	public void managePermissions() {
+		Permission permission = Permission.builder().app("app-id").operations(Operation.READ).build();
+
+		CredentialPermission added = this.credHub.permissionsV2().addPermissions(NAME, permission);
+		assertThat(added.getId()).isNotNull();
+		assertThat(added.getPath()).isEqualTo(NAME.getName());
+
+		assertThatExceptionOfType(CredHubException.class)
+			.isThrownBy(() -> this.credHub.permissionsV2().addPermissions(NAME, permission))
+			.satisfies((ex) -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+
+		Permission updated = Permission.builder().app("app-id").operations(Operation.READ, Operation.WRITE).build();
+		this.credHub.permissionsV2().updatePermissions(added.getId(), NAME, updated);
+		assertThat(this.credHub.permissionsV2().getPermissions(added.getId()).getPermission().getOperations())
+			.containsExactlyInAnyOrder(Operation.READ, Operation.WRITE);
+
+		this.credHub.permissionsV2().deletePermission(added.getId());
+		assertThatExceptionOfType(CredHubException.class)
+			.isThrownBy(() -> this.credHub.permissionsV2().getPermissions(added.getId()));
+	}
+
+	@Test
+	public void interpolateServiceData() {
+		this.credHub.credentials()
+			.write(JsonCredentialRequest.builder().name(NAME).value(Map.of("password", "secret")).build());
+
+		ServicesData servicesData = new ServicesData();
+		servicesData.put("service-offering",
+				List.of(Map.of("credentials", Map.of("credhub-ref", "((" + NAME.getName() + "))"))));
+
+		ServicesData interpolated = this.credHub.interpolation().interpolateServiceData(servicesData);
+		assertThat(interpolated.get("service-offering").get(0)).containsEntry("credentials",
+				Map.of("password", "secret"));
+	}
+
+	@Test
+	public void version() {
+		assertThat(this.credHub.info().version().getVersion()).isEqualTo("2.12.0");
+	}
+
+	@Test
+	public void reactiveWriteAndRetrieveCredential() {
+		StepVerifier
+			.create(this.reactiveCredHub.credentials()
+				.write(ValueCredentialRequest.builder().name(NAME).value("secret").build())
+				.then(this.reactiveCredHub.credentials().getByName(NAME, ValueCredential.class)))
+			.assertNext((details) -> assertThat(details.getValue().getValue()).isEqualTo("secret"))
+			.verifyComplete();
+
+		StepVerifier.create(this.reactiveCredHub.credentials().findByPath("/stub")).expectNextCount(3).verifyComplete();
+	}
+
+	@Test
+	public void putCredentialAndReset() {
+		this.server.putCredential(NAME.getName(), "value", "secret");
+		assertThat(this.credHub.credentials().getByName(NAME, ValueCredential.class).getValue().getValue())
+			.isEqualTo("secret");
+		assertThat(this.server.getCredentialCount()).isEqualTo(4);
+		assertThat(this.server.getRequestCount()).isEqualTo(1);
+
+		this.server.reset();
+		assertThat(this.server.getCredentialCount()).isZero();
+		assertThat(this.server.getRequestCount()).isZero();
+	}
+
+	@Test
+	public void latency() {
+		try (CredHubStubServer slowServer = CredHubStubServer.builder()
+			.latency(Distribution.constant(200))
+			.credentials(1)
+			.start()) {
+			CredHubProperties properties = new CredHubProperties();
+			properties.setUrl(slowServer.getUrl());
+			CredHubOperations slowCredHub = new CredHubTemplate(properties, new SimpleClientHttpRequestFactory());
+
+			long start = System.nanoTime();
+			slowCredHub.credentials().findByPath("/stub");
+			assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+		}
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.stub;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import org.springframework.credhub.configuration.ClientHttpConnectorFactory;
+import org.springframework.credhub.core.CredHubException;
+import org.springframework.credhub.core.CredHubOperations;
+import org.springframework.credhub.core.CredHubProperties;
+import org.springframework.credhub.core.CredHubTemplate;
+import org.springframework.credhub.core.ReactiveCredHubOperations;
+import org.springframework.credhub.core.ReactiveCredHubTemplate;
+import org.springframework.credhub.support.ClientOptions;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.ResourceAccessException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for the faults injected by a {@link CredHubStubServer}.
+ *
+ * @author agent
+ */
+public class FaultInjectionTests {
+
+	@Test
+	public void errorBurstFailsConsecutiveRequests() {
+		FaultInjection faults = FaultInjection.builder().errorBursts(503, 1, 3).build();
+		try (CredHubStubServer server = CredHubStubServer.builder().credentials(1).faults(faults).start()) {
+			CredHubOperations credHub = credHub(server);
+
+			for (int i = 0; i < 3; i++) {
+				assertThatExceptionOfType(CredHubException.class)
+					.isThrownBy(() -> credHub.credentials().findByPath("/stub"))
+					.satisfies((ex) -> {
+						assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+						assertThat(ex.getResponseHeaders().getFirst("Retry-After")).isEqualTo("1");
+					});
+			}
+
+			server.setFaultInjection(FaultInjection.NONE);
+			assertThat(credHub.credentials().findByPath("/stub")).hasSize(1);
+		}
+	}
+
+	@Test
+	public void connectionResetFailsRequest() {
+		FaultInjection faults = FaultInjection.builder().connectionResets(1).build();
+		try (CredHubStubServer server = CredHubStubServer.builder().credentials(1).faults(faults).start()) {
+			CredHubOperations credHub = credHub(server);
+
+			assertThatExceptionOfType(ResourceAccessException.class)
+				.isThrownBy(() -> credHub.credentials().findByPath("/stub"));
+		}
+	}
+
+	@Test
+	public void slowBodyTricklesResponse() {
+		FaultInjection faults = FaultInjection.builder().slowBody(16, Duration.ofMillis(20)).build();
+		try (CredHubStubServer server = CredHubStubServer.builder().credentials(1).faults(faults).start()) {
+			CredHubOperations credHub = credHub(server);
+
+			long start = System.nanoTime();
+			assertThat(credHub.credentials().findByPath("/stub")).hasSize(1);
+			assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+		}
+	}
+
+	@Test
+	public void connectionDelayDelaysTlsHandshake() {
+		FaultInjection faults = FaultInjection.builder().connectionDelay(Distribution.constant(300)).build();
+		try (CredHubStubServer server = CredHubStubServer.builder().credentials(1).faults(faults).tls().start()) {
+			assertThat(server.getUrl()).startsWith("https://localhost:");
+
+			CredHubProperties properties = new CredHubProperties();
+			properties.setUrl(server.getUrl());
+			ClientOptions options = new ClientOptions();
+			options.setCaCertFiles(new String[] { server.getCaCertificateFile() });
+			ReactiveCredHubOperations credHub = new ReactiveCredHubTemplate(properties,
+					ClientHttpConnectorFactory.create(options));
+
+			long start = System.nanoTime();
+			StepVerifier.create(credHub.credentials().findByPath("/stub")).expectNextCount(1).verifyComplete();
+			assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(300));
+		}
+	}
+
+	private static CredHubOperations credHub(CredHubStubServer server) {
+		CredHubProperties properties = new CredHubProperties();
+		properties.setUrl(server.getUrl());
+		return new CredHubTemplate(properties, new SimpleClientHttpRequestFactory());
+	}
+
+}
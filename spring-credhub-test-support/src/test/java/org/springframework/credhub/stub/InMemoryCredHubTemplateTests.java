@@ -0,0 +1,296 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.credhub.stub;
+
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import org.springframework.credhub.core.CredHubException;
+import org.springframework.credhub.core.CredHubOperations;
+import org.springframework.credhub.core.permissionV2.PathPermission;
+import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialName;
+import org.springframework.credhub.support.ServicesData;
+import org.springframework.credhub.support.SimpleCredentialName;
+import org.springframework.credhub.support.WriteMode;
+import org.springframework.credhub.support.certificate.CertificateCredential;
+import org.springframework.credhub.support.certificate.CertificateCredentialDetails;
+import org.springframework.credhub.support.certificate.CertificateParameters;
+import org.springframework.credhub.support.certificate.CertificateParametersRequest;
+import org.springframework.credhub.support.json.JsonCredentialRequest;
+import org.springframework.credhub.support.password.PasswordCredential;
+import org.springframework.credhub.support.password.PasswordParameters;
+import org.springframework.credhub.support.password.PasswordParametersRequest;
+import org.springframework.credhub.support.permissions.Actor;
+import org.springframework.credhub.support.permissions.Operation;
+import org.springframework.credhub.support.permissions.Permission;
+import org.springframework.credhub.support.rsa.RsaCredential;
+import org.springframework.credhub.support.rsa.RsaParametersRequest;
+import org.springframework.credhub.support.ssh.SshCredential;
+import org.springframework.credhub.support.ssh.SshParameters;
+import org.springframework.credhub.support.ssh.SshParametersRequest;
+import org.springframework.credhub.support.utils.PemUtils;
+import org.springframework.credhub.support.value.ValueCredential;
+import org.springframework.credhub.support.value.ValueCredentialRequest;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link InMemoryCredHubTemplate} and {@link InMemoryReactiveCredHubTemplate}.
+ *
+ * @author agent
+ */
+public class InMemoryCredHubTemplateTests {
+
+	private static final SimpleCredentialName NAME = new SimpleCredentialName("app", "credential");
+
+	private static final SimpleCredentialName CA_NAME = new SimpleCredentialName("ca");
+
+	private static final Actor APP = Actor.app("app-id");
+
+	private final InMemoryCredHubTemplate credHub = InMemoryCredHubTemplate.builder().build();
+
+	@Test
+	public void writeModes() {
+		CredentialDetails<ValueCredential> written = this.credHub.credentials().write(valueRequest("secret", null));
+
+		CredentialDetails<ValueCredential> notOverwritten = this.credHub.credentials()
+			.write(valueRequest("other", WriteMode.NO_OVERWRITE));
+		assertThat(notOverwritten.getId()).isEqualTo(written.getId());
+
+		CredentialDetails<ValueCredential> converged = this.credHub.credentials()
+			.write(valueRequest("secret", WriteMode.CONVERGE));
+		assertThat(converged.getId()).isEqualTo(written.getId());
+
+		CredentialDetails<ValueCredential> overwritten = this.credHub.credentials()
+			.write(valueRequest("secret", WriteMode.OVERWRITE));
+		assertThat(overwritten.getId()).isNotEqualTo(written.getId());
+
+		List<CredentialDetails<ValueCredential>> history = this.credHub.credentials()
+			.getByNameWithHistory(NAME, ValueCredential.class);
+		assertThat(history).extracting(CredentialDetails::getId).containsExactly(overwritten.getId(), written.getId());
+		assertThat(this.credHub.getCredentialCount()).isEqualTo(1);
+
+		this.credHub.credentials().deleteByName(NAME);
+		assertThatExceptionOfType(CredHubException.class)
+			.isThrownBy(() -> this.credHub.credentials().getByName(NAME, ValueCredential.class))
+			.satisfies((ex) -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+	}
+
+	@Test
+	public void generatePassword() {
+		CredentialDetails<PasswordCredential> generated = this.credHub.credentials()
+			.generate(PasswordParametersRequest.builder()
+				.name(NAME)
+				.parameters(PasswordParameters.builder().length(20).excludeNumber(true).build())
+				.build());
+		assertThat(generated.getValue().getPassword()).hasSize(20).doesNotContainPattern("[0-9]");
+
+		CredentialDetails<PasswordCredential> regenerated = this.credHub.credentials()
+			.regenerate(NAME, PasswordCredential.class);
+		assertThat(regenerated.getValue().getPassword()).hasSize(20)
+			.isNotEqualTo(generated.getValue().getPassword());
+	}
+
+	@Test
+	public void generateKeys() {
+		CredentialDetails<RsaCredential> rsa = this.credHub.credentials()
+			.generate(RsaParametersRequest.builder().name(NAME).build());
+		assertThat(rsa.getValue().getDecodedPublicKey().getAlgorithm()).isEqualTo("RSA");
+		assertThat(rsa.getValue().getDecodedPrivateKey().getAlgorithm()).isEqualTo("RSA");
+
+		SimpleCredentialName sshName = new SimpleCredentialName("app", "ssh");
+		CredentialDetails<SshCredential> ssh = this.credHub.credentials()
+			.generate(SshParametersRequest.builder().name(sshName).parameters(new SshParameters("app@host")).build());
+		assertThat(ssh.getValue().getPublicKey()).startsWith("ssh-rsa ").endsWith(" app@host");
+		assertThat(ssh.getValue().getPublicKeyFingerprint()).isEqualTo(ssh.getValue().getSha256Fingerprint());
+	}
+
+	@Test
+	public void generateSignedCertificates() throws Exception {
+		CredentialDetails<CertificateCredential> ca = generateCertificateAuthority();
+		CredentialDetails<CertificateCredential> certificate = generateCertificate(NAME);
+
+		X509Certificate caCertificate = PemUtils.parseCertificates(ca.getValue().getCertificate()).get(0);
+		X509Certificate leafCertificate = PemUtils.parseCertificates(certificate.getValue().getCertificate()).get(0);
+		caCertificate.verify(caCertificate.getPublicKey());
+		leafCertificate.verify(caCertificate.getPublicKey());
+		assertThat(caCertificate.getBasicConstraints()).isGreaterThanOrEqualTo(0);
+		assertThat(leafCertificate.getBasicConstraints()).isEqualTo(-1);
+		assertThat(leafCertificate.getSubjectX500Principal().getName()).isEqualTo("CN=app.example.com");
+		assertThat(leafCertificate.getIssuerX500Principal()).isEqualTo(caCertificate.getSubjectX500Principal());
+		assertThat(leafCertificate.getSubjectAlternativeNames()).containsExactly(List.of(2, "app.example.com"));
+		assertThat(certificate.getValue().getCertificateAuthority()).isEqualTo(ca.getValue().getCertificate());
+	}
+
+	@Test
+	public void regenerateCertificatesSignedByAuthority() {
+		generateCertificateAuthority();
+		CredentialDetails<CertificateCredential> first = generateCertificate(NAME);
+		generateCertificate(new SimpleCredentialName("app", "other"));
+
+		List<CredentialName> regenerated = this.credHub.certificates().regenerate(CA_NAME);
+		assertThat(regenerated).extracting(CredentialName::getName)
+			.containsExactlyInAnyOrder(NAME.getName(), "/app/other");
+		assertThat(this.credHub.credentials().getByName(NAME, CertificateCredential.class).getId())
+			.isNotEqualTo(first.getId());
+	}
+
+	@Test
+	public void transitionalVersions() {
+		generateCertificateAuthority();
+		CredentialDetails<CertificateCredential> original = generateCertificate(NAME);
+
+		CertificateCredentialDetails transitional = this.credHub.certificates().regenerate(NAME, true);
+		assertThat(transitional.isTransitional()).isTrue();
+
+		List<CertificateCredentialDetails> versions = this.credHub.certificates()
+			.updateTransitionalVersion(NAME, original.getId());
+		assertThat(versions).filteredOn(CertificateCredentialDetails::isTransitional)
+			.extracting(CertificateCredentialDetails::getId)
+			.containsExactly(original.getId());
+	}
+
+	@Test
+	public void permissionsAreEnforcedForActor() {
+		this.credHub.credentials().write(valueRequest("secret", null));
+		this.credHub.credentials()
+			.write(ValueCredentialRequest.builder().name(new SimpleCredentialName("other")).value("other").build());
+		CredHubOperations app = this.credHub.withActor(APP);
+
+		assertThatExceptionOfType(CredHubException.class)
+			.isThrownBy(() -> app.credentials().getByName(NAME, ValueCredential.class))
+			.satisfies((ex) -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+
+		this.credHub.permissionsV2()
+			.addPermissions(new SimpleCredentialName("/app/*"),
+					Permission.builder().app("app-id").operation(Operation.READ).build());
+		assertThat(app.credentials().getByName(NAME, ValueCredential.class).getValue().getValue())
+			.isEqualTo("secret");
+		assertThat(app.credentials().findByPath("/")).extracting((summary) -> summary.getName().getName())
+			.containsExactly(NAME.getName());
+
+		assertThatExceptionOfType(CredHubException.class)
+			.isThrownBy(() -> app.credentials().write(valueRequest("changed", null)))
+			.satisfies((ex) -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN));
+
+		this.credHub.permissions()
+			.addPermissions(NAME, Permission.builder().app("app-id").operation(Operation.WRITE).build());
+		app.credentials().write(valueRequest("changed", null));
+		assertThat(this.credHub.credentials().getByName(NAME, ValueCredential.class).getValue().getValue())
+			.isEqualTo("changed");
+
+		this.credHub.permissions().deletePermission(NAME, APP);
+		assertThatExceptionOfType(CredHubException.class)
+			.isThrownBy(() -> app.credentials().deleteByName(NAME))
+			.satisfies((ex) -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN));
+	}
+
+	@Test
+	public void bulkPermissions() {
+		Permission permission = Permission.builder().app("app-id").operation(Operation.READ).build();
+		Permission otherPermission = Permission.builder().app("other-app-id").operation(Operation.READ).build();
+		List<PathPermission> permissions = List.of(new PathPermission(NAME, permission),
+				new PathPermission(NAME, otherPermission),
+				new PathPermission(new SimpleCredentialName("app", "other"), permission));
+
+		assertThat(this.credHub.permissionsV2().addPermissions(permissions, Runnable::run, 2))
+			.allMatch((result) -> result.isSuccessful() && !result.isAlreadyApplied());
+		assertThat(this.credHub.permissionsV2().addPermissions(permissions, Runnable::run, 2))
+			.allMatch((result) -> result.isSuccessful() && result.isAlreadyApplied());
+		assertThat(this.credHub.permissionsV2().getPermissionsByPathAndActor(NAME, APP).getPermission())
+			.isEqualTo(permission);
+
+		StepVerifier.create(this.credHub.reactive().permissionsV2().deletePermissions(permissions, 2))
+			.expectNextMatches((result) -> result.getPath().equals(NAME) && !result.isAlreadyApplied())
+			.expectNextMatches((result) -> result.getPermission().equals(otherPermission) && !result.isAlreadyApplied())
+			.expectNextMatches((result) -> result.isSuccessful() && !result.isAlreadyApplied())
+			.verifyComplete();
+		StepVerifier.create(this.credHub.reactive().permissionsV2().deletePermissions(permissions, 2))
+			.expectNextMatches((result) -> result.isSuccessful() && result.isAlreadyApplied())
+			.expectNextMatches((result) -> result.isSuccessful() && result.isAlreadyApplied())
+			.expectNextMatches((result) -> result.isSuccessful() && result.isAlreadyApplied())
+			.verifyComplete();
+	}
+
+	@Test
+	public void interpolateServiceData() {
+		this.credHub.credentials()
+			.write(JsonCredentialRequest.builder().name(NAME).value(Map.of("password", "secret")).build());
+
+		ServicesData servicesData = new ServicesData();
+		servicesData.put("service-offering",
+				List.of(Map.of("credentials", Map.of("credhub-ref", "((" + NAME.getName() + "))"))));
+
+		ServicesData interpolated = this.credHub.interpolation().interpolateServiceData(servicesData);
+		assertThat(interpolated.get("service-offering").get(0)).containsEntry("credentials",
+				Map.of("password", "secret"));
+
+		assertThatExceptionOfType(CredHubException.class)
+			.isThrownBy(() -> this.credHub.withActor(APP).interpolation().interpolateServiceData(servicesData))
+			.satisfies((ex) -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+	}
+
+	@Test
+	public void reactiveTemplateSharesCredentials() {
+		InMemoryReactiveCredHubTemplate reactiveCredHub = this.credHub.reactive();
+
+		StepVerifier.create(reactiveCredHub.credentials().write(valueRequest("secret", null)))
+			.assertNext((details) -> assertThat(details.getValue().getValue()).isEqualTo("secret"))
+			.verifyComplete();
+		assertThat(this.credHub.credentials().getByName(NAME, ValueCredential.class).getValue().getValue())
+			.isEqualTo("secret");
+
+		StepVerifier.create(reactiveCredHub.withActor(APP).credentials().getByName(NAME, ValueCredential.class))
+			.expectErrorSatisfies((ex) -> assertThat(ex).isInstanceOf(CredHubException.class))
+			.verify();
+		StepVerifier.create(reactiveCredHub.info().version())
+			.assertNext((version) -> assertThat(version.getVersion()).isEqualTo("2.12.0"))
+			.verifyComplete();
+	}
+
+	private ValueCredentialRequest valueRequest(String value, WriteMode mode) {
+		return ValueCredentialRequest.builder().name(NAME).value(value).mode(mode).build();
+	}
+
+	private CredentialDetails<CertificateCredential> generateCertificateAuthority() {
+		return this.credHub.credentials()
+			.generate(CertificateParametersRequest.builder()
+				.name(CA_NAME)
+				.parameters(CertificateParameters.builder().commonName("Example CA").certificateAuthority(true).build())
+				.build());
+	}
+
+	private CredentialDetails<CertificateCredential> generateCertificate(CredentialName name) {
+		return this.credHub.credentials()
+			.generate(CertificateParametersRequest.builder()
+				.name(name)
+				.parameters(CertificateParameters.builder()
+					.commonName("app.example.com")
+					.alternateNames("app.example.com")
+					.certificateAuthorityCredential(CA_NAME)
+					.build())
+				.build());
+	}
+
+}